@@ -0,0 +1,194 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.query.SelectResults;
+
+/**
+ * {@link AsyncGemfireOperations} defines the asynchronous counterpart of the {@link GemfireOperations}
+ * {@link Region} data access operations, returning a {@link CompletableFuture} for each operation.
+ *
+ * The returned {@link CompletableFuture} completes exceptionally with a translated
+ * {@link org.springframework.dao.DataAccessException} if the operation fails with an Apache Geode exception.
+ * Operations run on a different {@link Thread} than the caller and therefore do not take part in a cache transaction
+ * bound to the calling {@link Thread}.
+ *
+ * @author John Blum
+ * @see java.util.concurrent.CompletableFuture
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.data.gemfire.AsyncGemfireTemplate
+ * @see org.springframework.data.gemfire.GemfireOperations
+ * @since 2.7.0
+ */
+public interface AsyncGemfireOperations {
+
+	/**
+	 * Asynchronously determines whether the {@link Region} contains the given key.
+	 *
+	 * @param key key to evaluate.
+	 * @return a {@link CompletableFuture} completed with a boolean value indicating whether the key is present.
+	 * @see GemfireOperations#containsKey(Object)
+	 */
+	CompletableFuture<Boolean> containsKey(Object key);
+
+	/**
+	 * Asynchronously determines whether the {@link Region} contains the given key on the server.
+	 *
+	 * @param key key to evaluate.
+	 * @return a {@link CompletableFuture} completed with a boolean value indicating whether the key is present
+	 * on the server.
+	 * @see GemfireOperations#containsKeyOnServer(Object)
+	 */
+	CompletableFuture<Boolean> containsKeyOnServer(Object key);
+
+	/**
+	 * Asynchronously gets the value mapped to the given key.
+	 *
+	 * @param <K> type parameter specifying the key type.
+	 * @param <V> type parameter specifying the value type.
+	 * @param key key of the value to get.
+	 * @return a {@link CompletableFuture} completed with the value, or {@literal null} if the key is not present.
+	 * @see GemfireOperations#get(Object)
+	 */
+	<K, V> CompletableFuture<V> get(K key);
+
+	/**
+	 * Asynchronously gets the values mapped to the given keys.
+	 *
+	 * @param <K> type parameter specifying the key type.
+	 * @param <V> type parameter specifying the value type.
+	 * @param keys {@link Collection} of keys of the values to get.
+	 * @return a {@link CompletableFuture} completed with a {@link Map} of the keys to their values.
+	 * @see GemfireOperations#getAll(Collection)
+	 */
+	<K, V> CompletableFuture<Map<K, V>> getAll(Collection<?> keys);
+
+	/**
+	 * Asynchronously puts the given value mapped to the given key.
+	 *
+	 * @param <K> type parameter specifying the key type.
+	 * @param <V> type parameter specifying the value type.
+	 * @param key key to map the value to.
+	 * @param value value to put.
+	 * @return a {@link CompletableFuture} completed with the previous value, if any.
+	 * @see GemfireOperations#put(Object, Object)
+	 */
+	<K, V> CompletableFuture<V> put(K key, V value);
+
+	/**
+	 * Asynchronously puts all entries of the given {@link Map}.
+	 *
+	 * @param <K> type parameter specifying the key type.
+	 * @param <V> type parameter specifying the value type.
+	 * @param map {@link Map} of entries to put.
+	 * @return a {@link CompletableFuture} completed when all entries were put.
+	 * @see GemfireOperations#putAll(Map)
+	 */
+	<K, V> CompletableFuture<Void> putAll(Map<? extends K, ? extends V> map);
+
+	/**
+	 * Asynchronously puts the given value mapped to the given key if the key is not already present.
+	 *
+	 * @param <K> type parameter specifying the key type.
+	 * @param <V> type parameter specifying the value type.
+	 * @param key key to map the value to.
+	 * @param value value to put.
+	 * @return a {@link CompletableFuture} completed with the existing value, or {@literal null} if the value was put.
+	 * @see GemfireOperations#putIfAbsent(Object, Object)
+	 */
+	<K, V> CompletableFuture<V> putIfAbsent(K key, V value);
+
+	/**
+	 * Asynchronously removes the entry with the given key.
+	 *
+	 * @param <K> type parameter specifying the key type.
+	 * @param <V> type parameter specifying the value type.
+	 * @param key key of the entry to remove.
+	 * @return a {@link CompletableFuture} completed with the removed value, if any.
+	 * @see GemfireOperations#remove(Object)
+	 */
+	<K, V> CompletableFuture<V> remove(K key);
+
+	/**
+	 * Asynchronously removes the entries with the given keys.
+	 *
+	 * @param keys {@link Collection} of keys of the entries to remove.
+	 * @return a {@link CompletableFuture} completed when all entries were removed.
+	 * @see GemfireOperations#removeAll(Collection)
+	 */
+	CompletableFuture<Void> removeAll(Collection<?> keys);
+
+	/**
+	 * Asynchronously replaces the value mapped to the given key if the key is present.
+	 *
+	 * @param <K> type parameter specifying the key type.
+	 * @param <V> type parameter specifying the value type.
+	 * @param key key of the value to replace.
+	 * @param value new value.
+	 * @return a {@link CompletableFuture} completed with the replaced value, or {@literal null} if the key
+	 * was not present.
+	 * @see GemfireOperations#replace(Object, Object)
+	 */
+	<K, V> CompletableFuture<V> replace(K key, V value);
+
+	/**
+	 * Asynchronously executes the OQL query with the given (optional) parameters.
+	 *
+	 * @param <E> type parameter specifying the type of the select results.
+	 * @param query the OQL query statement to execute.
+	 * @param params an array of Object values used as arguments to bind to the OQL query parameters (such as $1).
+	 * @return a {@link CompletableFuture} completed with the {@link SelectResults}.
+	 * @see GemfireOperations#find(String, Object...)
+	 */
+	<E> CompletableFuture<SelectResults<E>> find(String query, Object... params);
+
+	/**
+	 * Asynchronously executes the OQL query with the given (optional) parameters, expecting a single result.
+	 *
+	 * @param <T> type parameter specifying the returned result type.
+	 * @param query the OQL query statement to execute.
+	 * @param params an array of Object values used as arguments to bind to the OQL query parameters (such as $1).
+	 * @return a {@link CompletableFuture} completed with the single result.
+	 * @see GemfireOperations#findUnique(String, Object...)
+	 */
+	<T> CompletableFuture<T> findUnique(String query, Object... params);
+
+	/**
+	 * Asynchronously filters the values of the {@link Region} using the given OQL query predicate.
+	 *
+	 * @param <E> type parameter specifying the type of the select results.
+	 * @param query an OQL Query language boolean query predicate.
+	 * @return a {@link CompletableFuture} completed with the {@link SelectResults}.
+	 * @see GemfireOperations#query(String)
+	 */
+	<E> CompletableFuture<SelectResults<E>> query(String query);
+
+	/**
+	 * Asynchronously executes the action specified by the given {@link GemfireCallback} within the {@link Region}.
+	 *
+	 * @param <T> type parameter specifying the returned result type.
+	 * @param action callback object that specifies the Apache Geode action to execute.
+	 * @return a {@link CompletableFuture} completed with the result returned by the action.
+	 * @see GemfireOperations#execute(GemfireCallback)
+	 */
+	<T> CompletableFuture<T> execute(GemfireCallback<T> action);
+
+}
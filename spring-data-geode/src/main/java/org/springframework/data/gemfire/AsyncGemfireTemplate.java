@@ -0,0 +1,295 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire;
+
+import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalStateException;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.apache.geode.GemFireException;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.query.SelectResults;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * {@link AsyncGemfireTemplate} implements {@link AsyncGemfireOperations} by running the data access operations
+ * of a {@link GemfireTemplate} on an {@link Executor}.
+ *
+ * By default, operations run on virtual threads when running on a Java runtime supporting virtual threads
+ * (Java 21 or later), and on a shared, bounded pool of daemon {@link Thread Threads} otherwise.
+ *
+ * Operations run on a different {@link Thread} than the caller and therefore cannot take part in a cache transaction
+ * bound to the calling {@link Thread}. Operations invoked while a cache transaction is in progress on the calling
+ * {@link Thread} are rejected with an {@link IllegalStateException}.
+ *
+ * Apache Geode exceptions are translated with the {@link GemfireTemplate GemfireTemplate's}
+ * {@link GemfireAccessor#convertGemFireAccessException(GemFireException) exception translation}, and the returned
+ * {@link CompletableFuture} completes exceptionally with the translated
+ * {@link org.springframework.dao.DataAccessException}.
+ *
+ * @author John Blum
+ * @see java.util.concurrent.CompletableFuture
+ * @see java.util.concurrent.Executor
+ * @see org.springframework.data.gemfire.AsyncGemfireOperations
+ * @see org.springframework.data.gemfire.GemfireTemplate
+ * @since 2.7.0
+ */
+public class AsyncGemfireTemplate implements AsyncGemfireOperations {
+
+	public static final int DEFAULT_EXECUTOR_MAX_THREADS = 256;
+	public static final int DEFAULT_EXECUTOR_QUEUE_CAPACITY = 10000;
+
+	private static final Executor DEFAULT_EXECUTOR = newDefaultExecutor();
+
+	private final Executor executor;
+
+	private final GemfireTemplate template;
+
+	/**
+	 * Returns the default {@link Executor} used to run asynchronous data access operations, creating a new
+	 * {@link Thread virtual thread} per operation if supported by the Java runtime, or using a pool of at most
+	 * {@value #DEFAULT_EXECUTOR_MAX_THREADS} daemon {@link Thread Threads} otherwise, which queues at most
+	 * {@value #DEFAULT_EXECUTOR_QUEUE_CAPACITY} operations and rejects further operations with
+	 * a {@link RejectedExecutionException}.
+	 *
+	 * @return the default {@link Executor}.
+	 */
+	public static @NonNull Executor defaultExecutor() {
+		return DEFAULT_EXECUTOR;
+	}
+
+	private static Executor newDefaultExecutor() {
+
+		return newVirtualThreadPerTaskExecutor().orElseGet(() -> {
+
+			ThreadPoolExecutor executor = new ThreadPoolExecutor(DEFAULT_EXECUTOR_MAX_THREADS,
+				DEFAULT_EXECUTOR_MAX_THREADS, 60L, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<>(DEFAULT_EXECUTOR_QUEUE_CAPACITY), runnable -> {
+
+					Thread thread = new Thread(runnable, "SDG-Async-Operation");
+
+					thread.setDaemon(true);
+
+					return thread;
+				});
+
+			executor.allowCoreThreadTimeOut(true);
+
+			return executor;
+		});
+	}
+
+	private static Optional<Executor> newVirtualThreadPerTaskExecutor() {
+
+		return Optional.ofNullable(ReflectionUtils.findMethod(Executors.class,
+				"newVirtualThreadPerTaskExecutor"))
+			.map(method -> (Executor) ReflectionUtils.invokeMethod(method, null));
+	}
+
+	/**
+	 * Constructs a new {@link AsyncGemfireTemplate} running the operations of the given {@link GemfireTemplate}
+	 * on the {@link #defaultExecutor() default Executor}.
+	 *
+	 * @param template {@link GemfireTemplate} performing the data access operations; must not be {@literal null}.
+	 * @throws IllegalArgumentException if {@link GemfireTemplate} is {@literal null}.
+	 * @see #AsyncGemfireTemplate(GemfireTemplate, Executor)
+	 */
+	public AsyncGemfireTemplate(@NonNull GemfireTemplate template) {
+		this(template, null);
+	}
+
+	/**
+	 * Constructs a new {@link AsyncGemfireTemplate} running the operations of the given {@link GemfireTemplate}
+	 * on the given {@link Executor}.
+	 *
+	 * @param template {@link GemfireTemplate} performing the data access operations; must not be {@literal null}.
+	 * @param executor {@link Executor} running the data access operations; {@literal null} uses
+	 * the {@link #defaultExecutor() default Executor}.
+	 * @throws IllegalArgumentException if {@link GemfireTemplate} is {@literal null}.
+	 */
+	public AsyncGemfireTemplate(@NonNull GemfireTemplate template, @Nullable Executor executor) {
+
+		Assert.notNull(template, "GemfireTemplate must not be null");
+
+		this.template = template;
+		this.executor = executor != null ? executor : defaultExecutor();
+	}
+
+	/**
+	 * Returns the {@link Executor} running the data access operations.
+	 *
+	 * @return the {@link Executor} running the data access operations.
+	 */
+	public @NonNull Executor getExecutor() {
+		return this.executor;
+	}
+
+	/**
+	 * Returns the {@link GemfireTemplate} performing the data access operations.
+	 *
+	 * @return the {@link GemfireTemplate} performing the data access operations.
+	 */
+	public @NonNull GemfireTemplate getTemplate() {
+		return this.template;
+	}
+
+	/**
+	 * Returns the {@link Region} on which the data access operations are performed.
+	 *
+	 * @param <K> {@link Class type} of the {@link Region} key.
+	 * @param <V> {@link Class type} of the {@link Region} value.
+	 * @return the {@link Region} on which the data access operations are performed.
+	 */
+	public <K, V> Region<K, V> getRegion() {
+		return getTemplate().getRegion();
+	}
+
+	@Override
+	public CompletableFuture<Boolean> containsKey(Object key) {
+		return supplyAsync(() -> getTemplate().containsKey(key));
+	}
+
+	@Override
+	public CompletableFuture<Boolean> containsKeyOnServer(Object key) {
+		return supplyAsync(() -> getTemplate().containsKeyOnServer(key));
+	}
+
+	@Override
+	public <K, V> CompletableFuture<V> get(K key) {
+		return supplyAsync(() -> getTemplate().<K, V>get(key));
+	}
+
+	@Override
+	public <K, V> CompletableFuture<Map<K, V>> getAll(Collection<?> keys) {
+		return supplyAsync(() -> getTemplate().<K, V>getAll(keys));
+	}
+
+	@Override
+	public <K, V> CompletableFuture<V> put(K key, V value) {
+		return supplyAsync(() -> getTemplate().put(key, value));
+	}
+
+	@Override
+	public <K, V> CompletableFuture<Void> putAll(Map<? extends K, ? extends V> map) {
+
+		return supplyAsync(() -> {
+			getTemplate().<K, V>putAll(map);
+			return null;
+		});
+	}
+
+	@Override
+	public <K, V> CompletableFuture<V> putIfAbsent(K key, V value) {
+		return supplyAsync(() -> getTemplate().putIfAbsent(key, value));
+	}
+
+	@Override
+	public <K, V> CompletableFuture<V> remove(K key) {
+		return supplyAsync(() -> getTemplate().<K, V>remove(key));
+	}
+
+	@Override
+	public CompletableFuture<Void> removeAll(Collection<?> keys) {
+
+		return supplyAsync(() -> {
+			getTemplate().removeAll(keys);
+			return null;
+		});
+	}
+
+	@Override
+	public <K, V> CompletableFuture<V> replace(K key, V value) {
+		return supplyAsync(() -> getTemplate().replace(key, value));
+	}
+
+	@Override
+	public <E> CompletableFuture<SelectResults<E>> find(String query, Object... params) {
+		return supplyAsync(() -> getTemplate().<E>find(query, params));
+	}
+
+	@Override
+	public <T> CompletableFuture<T> findUnique(String query, Object... params) {
+		return supplyAsync(() -> getTemplate().<T>findUnique(query, params));
+	}
+
+	@Override
+	public <E> CompletableFuture<SelectResults<E>> query(String query) {
+		return supplyAsync(() -> getTemplate().<E>query(query));
+	}
+
+	@Override
+	public <T> CompletableFuture<T> execute(GemfireCallback<T> action) {
+		return supplyAsync(() -> getTemplate().execute(action));
+	}
+
+	/**
+	 * Runs the given data access operation on the configured {@link Executor}, translating any Apache Geode
+	 * {@link GemFireException} not already translated by the {@link GemfireTemplate}.
+	 *
+	 * @param <T> {@link Class type} of the operation result.
+	 * @param operation data access operation to run.
+	 * @return a {@link CompletableFuture} completed with the result of the operation, or completed exceptionally
+	 * with an {@link IllegalStateException} if a cache transaction is in progress on the calling {@link Thread},
+	 * or with a {@link RejectedExecutionException} if the {@link Executor} rejected the operation.
+	 */
+	protected <T> CompletableFuture<T> supplyAsync(@NonNull Supplier<T> operation) {
+
+		GemfireTemplate template = getTemplate();
+
+		if (template.isTransactionPresent(template.getRegion())) {
+			return failedFuture(newIllegalStateException("Asynchronous data access operations on Region [%s] cannot"
+				+ " take part in the cache transaction in progress on the calling Thread",
+					template.getRegion().getFullPath()));
+		}
+
+		try {
+			return CompletableFuture.supplyAsync(() -> {
+				try {
+					return operation.get();
+				}
+				catch (GemFireException cause) {
+					throw template.convertGemFireAccessException(cause);
+				}
+			}, getExecutor());
+		}
+		catch (RejectedExecutionException cause) {
+			return failedFuture(cause);
+		}
+	}
+
+	private static <T> CompletableFuture<T> failedFuture(Throwable cause) {
+
+		CompletableFuture<T> future = new CompletableFuture<>();
+
+		future.completeExceptionally(cause);
+
+		return future;
+	}
+}
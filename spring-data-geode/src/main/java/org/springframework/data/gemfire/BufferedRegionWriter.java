@@ -0,0 +1,595 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire;
+
+import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalStateException;
+
+import java.io.Flushable;
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.geode.cache.Region;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link BufferedRegionWriter} buffers and coalesces {@link Region} puts and removes performed through
+ * a {@link GemfireTemplate}, writing them to the {@link Region} in batches with {@link Region#putAll(Map)}
+ * and {@link Region#removeAll(java.util.Collection)}.
+ *
+ * Only the last write for each key is kept; a put or remove of a key that is already buffered replaces
+ * the buffered write. Buffered writes are flushed when the number of buffered keys reaches the batch size,
+ * when the flush interval elapses, or when {@link #flush()} or {@link #close()} is called. Size- and time-based
+ * flushes run on the configured {@link Executor}, one at a time, so that the writes for a given key are applied
+ * to the {@link Region} in order.
+ *
+ * The number of buffered writes, including writes being flushed, is bounded by the capacity. Callers writing
+ * a new key block while the buffer is full, until a flush completes.
+ *
+ * A {@link BufferedRegionWriter} should be {@link #close() closed} when no longer used, or declared as a bean
+ * so that it is closed when the Spring container is shut down. An unreachable {@link BufferedRegionWriter} that was
+ * never closed stops its time-based flushes once garbage collected, dropping any writes that were still buffered.
+ *
+ * Buffered writes are not visible to reads from the {@link Region} until flushed. Writes from a size- or time-based
+ * flush that fails are dropped and counted by {@link #getFailedWriteCount()}; an explicit {@link #flush()} throws
+ * the translated {@link org.springframework.dao.DataAccessException}.
+ *
+ * @author John Blum
+ * @param <K> {@link Class type} of the {@link Region} key.
+ * @param <V> {@link Class type} of the {@link Region} value.
+ * @see java.io.Flushable
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.data.gemfire.GemfireTemplate
+ * @since 2.7.0
+ */
+public class BufferedRegionWriter<K, V> implements AutoCloseable, DisposableBean, Flushable {
+
+	public static final int DEFAULT_BATCH_SIZE = 1000;
+	public static final int DEFAULT_CAPACITY = 10 * DEFAULT_BATCH_SIZE;
+
+	public static final Duration DEFAULT_FLUSH_INTERVAL = Duration.ofMillis(5);
+
+	private static final Object REMOVE = new Object();
+
+	private static final ScheduledExecutorService FLUSH_SCHEDULER =
+		Executors.newSingleThreadScheduledExecutor(runnable -> {
+
+			Thread thread = new Thread(runnable, "SDG-BufferedRegionWriter-Scheduler");
+
+			thread.setDaemon(true);
+
+			return thread;
+		});
+
+	private final AtomicBoolean closed = new AtomicBoolean(false);
+	private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+
+	private final Condition notFull;
+
+	private final Executor flushExecutor;
+
+	private final GemfireTemplate template;
+
+	private final int batchSize;
+	private final int capacity;
+
+	// guarded by lock
+	private int flushingWriteCount;
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	private final LongAdder blockedWriteCount = new LongAdder();
+	private final LongAdder coalescedWriteCount = new LongAdder();
+	private final LongAdder failedWriteCount = new LongAdder();
+	private final LongAdder flushCount = new LongAdder();
+	private final LongAdder flushedPutCount = new LongAdder();
+	private final LongAdder flushedRemoveCount = new LongAdder();
+	private final LongAdder writeCount = new LongAdder();
+
+	// guarded by lock
+	private Map<K, Object> buffer = new LinkedHashMap<>();
+
+	private final ReentrantLock flushLock = new ReentrantLock();
+	private final ReentrantLock lock = new ReentrantLock();
+
+	private final ScheduledFuture<?> scheduledFlush;
+
+	/**
+	 * Constructs a new {@link BufferedRegionWriter} writing to the {@link Region} of the given {@link GemfireTemplate}
+	 * with the {@link #DEFAULT_BATCH_SIZE default batch size}, {@link #DEFAULT_CAPACITY default capacity}
+	 * and {@link #DEFAULT_FLUSH_INTERVAL default flush interval}.
+	 *
+	 * @param template {@link GemfireTemplate} used to write to the {@link Region}; must not be {@literal null}.
+	 * @throws IllegalArgumentException if {@link GemfireTemplate} is {@literal null}.
+	 * @see #BufferedRegionWriter(GemfireTemplate, int, int, Duration, Executor)
+	 */
+	public BufferedRegionWriter(@NonNull GemfireTemplate template) {
+		this(template, DEFAULT_BATCH_SIZE, DEFAULT_CAPACITY, DEFAULT_FLUSH_INTERVAL, null);
+	}
+
+	/**
+	 * Constructs a new {@link BufferedRegionWriter} writing to the {@link Region} of the given {@link GemfireTemplate}.
+	 *
+	 * @param template {@link GemfireTemplate} used to write to the {@link Region}; must not be {@literal null}.
+	 * @param batchSize {@link Integer number} of buffered keys triggering a flush; must be greater than {@literal 0}.
+	 * @param capacity {@link Integer maximum number} of buffered and flushing writes; must not be less than
+	 * the batch size.
+	 * @param flushInterval {@link Duration} after which buffered writes are flushed; {@literal null},
+	 * {@literal zero} or negative disables time-based flushes.
+	 * @param flushExecutor {@link Executor} running size- and time-based flushes; {@literal null} uses
+	 * the {@link AsyncGemfireTemplate#defaultExecutor() default asynchronous Executor}.
+	 * @throws IllegalArgumentException if {@link GemfireTemplate} is {@literal null}, or the batch size
+	 * or capacity are invalid.
+	 */
+	public BufferedRegionWriter(@NonNull GemfireTemplate template, int batchSize, int capacity,
+			@Nullable Duration flushInterval, @Nullable Executor flushExecutor) {
+
+		Assert.notNull(template, "GemfireTemplate must not be null");
+		Assert.isTrue(batchSize > 0, String.format("Batch size [%d] must be greater than 0", batchSize));
+		Assert.isTrue(capacity >= batchSize,
+			String.format("Capacity [%1$d] must be greater than or equal to batch size [%2$d]", capacity, batchSize));
+
+		this.template = template;
+		this.batchSize = batchSize;
+		this.capacity = capacity;
+		this.flushExecutor = flushExecutor != null ? flushExecutor : AsyncGemfireTemplate.defaultExecutor();
+		this.notFull = this.lock.newCondition();
+
+		long flushIntervalNanos = flushInterval != null ? flushInterval.toNanos() : 0L;
+
+		this.scheduledFlush = flushIntervalNanos > 0L
+			? TimedFlushTask.schedule(this, flushIntervalNanos)
+			: null;
+	}
+
+	/**
+	 * Returns the {@link Integer number} of buffered keys triggering a flush.
+	 *
+	 * @return the {@link Integer number} of buffered keys triggering a flush.
+	 */
+	public int getBatchSize() {
+		return this.batchSize;
+	}
+
+	/**
+	 * Returns the {@link Integer maximum number} of buffered and flushing writes.
+	 *
+	 * @return the {@link Integer maximum number} of buffered and flushing writes.
+	 */
+	public int getCapacity() {
+		return this.capacity;
+	}
+
+	/**
+	 * Returns the {@link GemfireTemplate} used to write to the {@link Region}.
+	 *
+	 * @return the {@link GemfireTemplate} used to write to the {@link Region}.
+	 */
+	public @NonNull GemfireTemplate getTemplate() {
+		return this.template;
+	}
+
+	/**
+	 * Determines whether this {@link BufferedRegionWriter} has been {@link #close() closed}.
+	 *
+	 * @return a boolean value indicating whether this {@link BufferedRegionWriter} has been closed.
+	 */
+	public boolean isClosed() {
+		return this.closed.get();
+	}
+
+	/**
+	 * Buffers a put of the given key and value, replacing any buffered write for the key.
+	 *
+	 * Blocks while the buffer is full and the key is not already buffered.
+	 *
+	 * @param key key to put; must not be {@literal null}.
+	 * @param value value to put; must not be {@literal null}.
+	 * @throws IllegalArgumentException if the key or value is {@literal null}.
+	 * @throws IllegalStateException if this {@link BufferedRegionWriter} is closed, or the calling {@link Thread}
+	 * is interrupted while waiting for space in the buffer.
+	 */
+	public void put(@NonNull K key, @NonNull V value) {
+
+		Assert.notNull(value, "Value must not be null");
+
+		write(key, value);
+	}
+
+	/**
+	 * Buffers a remove of the given key, replacing any buffered write for the key.
+	 *
+	 * Blocks while the buffer is full and the key is not already buffered.
+	 *
+	 * @param key key to remove; must not be {@literal null}.
+	 * @throws IllegalArgumentException if the key is {@literal null}.
+	 * @throws IllegalStateException if this {@link BufferedRegionWriter} is closed, or the calling {@link Thread}
+	 * is interrupted while waiting for space in the buffer.
+	 */
+	public void remove(@NonNull K key) {
+		write(key, REMOVE);
+	}
+
+	private void write(K key, Object value) {
+
+		Assert.notNull(key, "Key must not be null");
+
+		boolean flush;
+
+		this.lock.lock();
+
+		try {
+
+			assertOpen();
+
+			if (!this.buffer.containsKey(key) && isFull()) {
+
+				this.blockedWriteCount.increment();
+
+				while (!this.buffer.containsKey(key) && isFull()) {
+					this.notFull.await();
+					assertOpen();
+				}
+			}
+
+			if (this.buffer.put(key, value) != null) {
+				this.coalescedWriteCount.increment();
+			}
+
+			this.writeCount.increment();
+
+			flush = this.buffer.size() >= getBatchSize();
+		}
+		catch (InterruptedException cause) {
+			Thread.currentThread().interrupt();
+			throw newIllegalStateException(cause, "Interrupted while waiting to buffer write for key [%s]", key);
+		}
+		finally {
+			this.lock.unlock();
+		}
+
+		if (flush) {
+			scheduleFlush();
+		}
+	}
+
+	private void assertOpen() {
+		Assert.state(!isClosed(), "BufferedRegionWriter is closed");
+	}
+
+	// must be called while holding lock
+	private boolean isFull() {
+		return this.buffer.size() + this.flushingWriteCount >= getCapacity();
+	}
+
+	private void scheduleTimedFlush() {
+
+		if (getBufferedWriteCount() > 0) {
+			scheduleFlush();
+		}
+	}
+
+	private void scheduleFlush() {
+
+		if (this.flushScheduled.compareAndSet(false, true)) {
+			try {
+				this.flushExecutor.execute(this::runScheduledFlush);
+			}
+			catch (RuntimeException cause) {
+				this.flushScheduled.set(false);
+				this.logger.warn("Failed to schedule flush of buffered writes to Region [{}]",
+					getTemplate().getRegion().getFullPath(), cause);
+			}
+		}
+	}
+
+	private void runScheduledFlush() {
+
+		try {
+			flush();
+		}
+		catch (RuntimeException cause) {
+			this.logger.warn("Failed to flush buffered writes to Region [{}]",
+				getTemplate().getRegion().getFullPath(), cause);
+		}
+		finally {
+			this.flushScheduled.set(false);
+		}
+
+		if (getBufferedWriteCount() >= getBatchSize()) {
+			scheduleFlush();
+		}
+	}
+
+	/**
+	 * Writes all buffered puts and removes to the {@link Region} with {@link Region#putAll(Map)}
+	 * and {@link Region#removeAll(java.util.Collection)}.
+	 *
+	 * Waits for any flush in progress to complete first.
+	 *
+	 * @throws org.springframework.dao.DataAccessException if writing to the {@link Region} fails;
+	 * the writes of the failed flush are dropped.
+	 */
+	@Override
+	public void flush() {
+
+		this.flushLock.lock();
+
+		try {
+
+			Map<K, Object> writes = drain();
+
+			try {
+				write(writes);
+			}
+			catch (RuntimeException cause) {
+				this.failedWriteCount.add(writes.size());
+				throw cause;
+			}
+			finally {
+				release(writes.size());
+			}
+		}
+		finally {
+			this.flushLock.unlock();
+		}
+	}
+
+	private Map<K, Object> drain() {
+
+		this.lock.lock();
+
+		try {
+
+			Map<K, Object> writes = this.buffer;
+
+			this.buffer = new LinkedHashMap<>();
+			this.flushingWriteCount += writes.size();
+
+			return writes;
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private void write(Map<K, Object> writes) {
+
+		if (!writes.isEmpty()) {
+
+			Map<K, V> puts = new LinkedHashMap<>(writes.size());
+
+			List<K> removes = new ArrayList<>();
+
+			writes.forEach((key, value) -> {
+				if (value == REMOVE) {
+					removes.add(key);
+				}
+				else {
+					puts.put(key, (V) value);
+				}
+			});
+
+			this.flushCount.increment();
+
+			if (!puts.isEmpty()) {
+				getTemplate().putAll(puts);
+				this.flushedPutCount.add(puts.size());
+			}
+
+			if (!removes.isEmpty()) {
+				getTemplate().removeAll(removes);
+				this.flushedRemoveCount.add(removes.size());
+			}
+		}
+	}
+
+	private void release(int flushedWriteCount) {
+
+		if (flushedWriteCount > 0) {
+
+			this.lock.lock();
+
+			try {
+				this.flushingWriteCount -= flushedWriteCount;
+				this.notFull.signalAll();
+			}
+			finally {
+				this.lock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * Stops time-based flushes, flushes all buffered writes and rejects further writes.
+	 *
+	 * Callers blocked waiting for space in the buffer fail with an {@link IllegalStateException}.
+	 *
+	 * @throws org.springframework.dao.DataAccessException if writing the buffered writes to the {@link Region} fails.
+	 * @see #destroy()
+	 */
+	@Override
+	public void close() {
+
+		if (this.closed.compareAndSet(false, true)) {
+
+			if (this.scheduledFlush != null) {
+				this.scheduledFlush.cancel(false);
+			}
+
+			this.lock.lock();
+
+			try {
+				this.notFull.signalAll();
+			}
+			finally {
+				this.lock.unlock();
+			}
+
+			flush();
+		}
+	}
+
+	/**
+	 * {@link #close() Closes} this {@link BufferedRegionWriter} when declared as a bean and the Spring container
+	 * is shut down, flushing all buffered writes.
+	 *
+	 * @see #close()
+	 */
+	@Override
+	public void destroy() {
+		close();
+	}
+
+	/**
+	 * Returns the {@link Integer number} of keys with a buffered write not yet flushed.
+	 *
+	 * @return the {@link Integer number} of keys with a buffered write not yet flushed.
+	 */
+	public int getBufferedWriteCount() {
+
+		this.lock.lock();
+
+		try {
+			return this.buffer.size();
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Returns the {@link Long number} of writes that blocked waiting for space in the buffer.
+	 *
+	 * @return the {@link Long number} of writes that blocked waiting for space in the buffer.
+	 */
+	public long getBlockedWriteCount() {
+		return this.blockedWriteCount.sum();
+	}
+
+	/**
+	 * Returns the {@link Long number} of writes that replaced a buffered write for the same key.
+	 *
+	 * @return the {@link Long number} of writes that replaced a buffered write for the same key.
+	 */
+	public long getCoalescedWriteCount() {
+		return this.coalescedWriteCount.sum();
+	}
+
+	/**
+	 * Returns the {@link Long number} of buffered writes dropped because a flush failed.
+	 *
+	 * @return the {@link Long number} of buffered writes dropped because a flush failed.
+	 */
+	public long getFailedWriteCount() {
+		return this.failedWriteCount.sum();
+	}
+
+	/**
+	 * Returns the {@link Long number} of flushes writing to the {@link Region}.
+	 *
+	 * @return the {@link Long number} of flushes writing to the {@link Region}.
+	 */
+	public long getFlushCount() {
+		return this.flushCount.sum();
+	}
+
+	/**
+	 * Returns the {@link Long number} of puts written to the {@link Region}.
+	 *
+	 * @return the {@link Long number} of puts written to the {@link Region}.
+	 */
+	public long getFlushedPutCount() {
+		return this.flushedPutCount.sum();
+	}
+
+	/**
+	 * Returns the {@link Long number} of removes written to the {@link Region}.
+	 *
+	 * @return the {@link Long number} of removes written to the {@link Region}.
+	 */
+	public long getFlushedRemoveCount() {
+		return this.flushedRemoveCount.sum();
+	}
+
+	/**
+	 * Returns the {@link Long number} of puts and removes buffered by this {@link BufferedRegionWriter}.
+	 *
+	 * @return the {@link Long number} of puts and removes buffered by this {@link BufferedRegionWriter}.
+	 */
+	public long getWriteCount() {
+		return this.writeCount.sum();
+	}
+
+	/**
+	 * Time-based flush scheduled on the shared {@link #FLUSH_SCHEDULER} that references the
+	 * {@link BufferedRegionWriter} weakly, so that an unreachable {@link BufferedRegionWriter} that was never
+	 * {@link #close() closed} can be garbage collected, after which the task cancels itself.
+	 */
+	private static final class TimedFlushTask implements Runnable {
+
+		private static ScheduledFuture<?> schedule(BufferedRegionWriter<?, ?> writer, long flushIntervalNanos) {
+
+			TimedFlushTask task = new TimedFlushTask(writer);
+
+			task.scheduledFlush = FLUSH_SCHEDULER.scheduleWithFixedDelay(task, flushIntervalNanos, flushIntervalNanos,
+				TimeUnit.NANOSECONDS);
+
+			return task.scheduledFlush;
+		}
+
+		private final WeakReference<BufferedRegionWriter<?, ?>> writerReference;
+
+		private volatile ScheduledFuture<?> scheduledFlush;
+
+		private TimedFlushTask(BufferedRegionWriter<?, ?> writer) {
+			this.writerReference = new WeakReference<>(writer);
+		}
+
+		@Override
+		public void run() {
+
+			BufferedRegionWriter<?, ?> writer = this.writerReference.get();
+
+			if (writer != null) {
+				writer.scheduleTimedFlush();
+			}
+			else if (this.scheduledFlush != null) {
+				this.scheduledFlush.cancel(false);
+			}
+		}
+	}
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+import org.apache.geode.cache.Region;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link CollapsingRegionReader} collapses concurrent reads of a {@link Region}.
+ *
+ * Concurrent reads of the same key share a single, in-flight {@link Region#get(Object)}. When a batching window
+ * is configured, reads of different keys arriving within the window are combined into a single
+ * {@link Region#getAll(Collection)}, sent by the first reader once the window elapses, or earlier if the first
+ * reader is interrupted.
+ *
+ * All callers sharing a read receive the same value instance, which must not be modified by any caller.
+ *
+ * A write {@link #forget(Object) forgets} the in-flight read of the written key, so that reads started after
+ * the write do not share a read started before it.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.Region#get(Object)
+ * @see org.apache.geode.cache.Region#getAll(Collection)
+ * @see org.springframework.data.gemfire.GemfireTemplate#setReadCollapsingEnabled(boolean)
+ * @since 2.7.0
+ */
+class CollapsingRegionReader {
+
+	private final ConcurrentMap<Object, CompletableFuture<Object>> inFlightReads = new ConcurrentHashMap<>();
+
+	private final Function<Object, Object> get;
+
+	private final Function<Collection<Object>, Map<Object, Object>> getAll;
+
+	private final long batchingWindowNanos;
+
+	private final LongAdder batchedReadCount = new LongAdder();
+	private final LongAdder collapsedReadCount = new LongAdder();
+
+	// guarded by this
+	private ReadBatch batch;
+
+	/**
+	 * Constructs a new {@link CollapsingRegionReader} reading with the given {@link Region#get(Object)}
+	 * and {@link Region#getAll(Collection)} operations.
+	 *
+	 * @param get {@link Function} reading the value of a single key; must not be {@literal null}.
+	 * @param getAll {@link Function} reading the values of a batch of keys; must not be {@literal null}.
+	 * @param batchingWindowNanos time in nanoseconds during which reads of different keys are batched;
+	 * {@literal 0} disables batching.
+	 */
+	CollapsingRegionReader(@NonNull Function<Object, Object> get,
+			@NonNull Function<Collection<Object>, Map<Object, Object>> getAll, long batchingWindowNanos) {
+
+		Assert.notNull(get, "Get Function must not be null");
+		Assert.notNull(getAll, "GetAll Function must not be null");
+
+		this.get = get;
+		this.getAll = getAll;
+		this.batchingWindowNanos = Math.max(batchingWindowNanos, 0L);
+	}
+
+	long getBatchingWindowNanos() {
+		return this.batchingWindowNanos;
+	}
+
+	long getBatchedReadCount() {
+		return this.batchedReadCount.sum();
+	}
+
+	long getCollapsedReadCount() {
+		return this.collapsedReadCount.sum();
+	}
+
+	@Nullable Object get(@NonNull Object key) {
+
+		CompletableFuture<Object> read = new CompletableFuture<>();
+
+		CompletableFuture<Object> inFlightRead = this.inFlightReads.putIfAbsent(key, read);
+
+		if (inFlightRead != null) {
+			this.collapsedReadCount.increment();
+			return await(inFlightRead);
+		}
+
+		read.whenComplete((value, cause) -> this.inFlightReads.remove(key, read));
+
+		if (getBatchingWindowNanos() > 0L) {
+			readInBatch(key, read);
+		}
+		else {
+			try {
+				read.complete(this.get.apply(key));
+			}
+			catch (Throwable cause) {
+				read.completeExceptionally(cause);
+			}
+		}
+
+		return await(read);
+	}
+
+	/**
+	 * Forgets the in-flight read of the given key, if any, so that the next read of the key is sent
+	 * to the {@link Region} rather than sharing a read that may have started before a write of the key.
+	 *
+	 * Callers already sharing the forgotten read still receive its value.
+	 *
+	 * @param key key written to the {@link Region}.
+	 */
+	void forget(@Nullable Object key) {
+
+		if (key != null) {
+			this.inFlightReads.remove(key);
+		}
+	}
+
+	private void readInBatch(Object key, CompletableFuture<Object> read) {
+
+		ReadBatch batch;
+
+		boolean leader;
+
+		synchronized (this) {
+
+			leader = this.batch == null;
+
+			if (leader) {
+				this.batch = new ReadBatch();
+			}
+
+			batch = this.batch;
+
+			// a forgotten read of the key still waiting in the batch has not been sent yet and sees the write
+			CompletableFuture<Object> batchedRead = batch.reads.putIfAbsent(key, read);
+
+			if (batchedRead != null) {
+				batchedRead.whenComplete((value, cause) -> {
+					if (cause != null) {
+						read.completeExceptionally(cause);
+					}
+					else {
+						read.complete(value);
+					}
+				});
+			}
+		}
+
+		if (leader) {
+
+			long deadline = System.nanoTime() + getBatchingWindowNanos();
+
+			for (long remaining = getBatchingWindowNanos(); remaining > 0L && !Thread.currentThread().isInterrupted();
+					remaining = deadline - System.nanoTime()) {
+
+				LockSupport.parkNanos(this, remaining);
+			}
+
+			synchronized (this) {
+				this.batch = null;
+			}
+
+			batch.read();
+		}
+	}
+
+	private Object await(CompletableFuture<Object> read) {
+
+		try {
+			return read.join();
+		}
+		catch (CompletionException cause) {
+
+			if (cause.getCause() instanceof Error) {
+				throw (Error) cause.getCause();
+			}
+
+			throw cause.getCause() instanceof RuntimeException ? (RuntimeException) cause.getCause() : cause;
+		}
+	}
+
+	private class ReadBatch {
+
+		// guarded by CollapsingRegionReader.this until the batch is read
+		private final Map<Object, CompletableFuture<Object>> reads = new LinkedHashMap<>();
+
+		void read() {
+
+			try {
+				if (this.reads.size() == 1) {
+					this.reads.forEach((key, read) -> read.complete(get.apply(key)));
+				}
+				else {
+
+					batchedReadCount.add(this.reads.size());
+
+					Map<Object, Object> values = getAll.apply(new ArrayList<>(this.reads.keySet()));
+
+					this.reads.forEach((key, read) -> read.complete(values != null ? values.get(key) : null));
+				}
+			}
+			catch (Throwable cause) {
+				this.reads.values().forEach(read -> read.completeExceptionally(cause));
+			}
+		}
+	}
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.dao.UncategorizedDataAccessException;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+/**
+ * Apache Geode-specific {@link UncategorizedDataAccessException} thrown when one or more chunks of a bulk
+ * data access operation, such as a chunked {@link org.apache.geode.cache.Region#putAll(java.util.Map)}, failed.
+ *
+ * Each {@link ChunkFailure} records the keys of the failed chunk along with the cause. The keys of chunks not listed
+ * by {@link #getFailures()} were successfully processed.
+ *
+ * @author John Blum
+ * @see org.springframework.dao.UncategorizedDataAccessException
+ * @see org.springframework.data.gemfire.GemfireTemplate#putAll(java.util.Map, int)
+ * @since 2.7.0
+ */
+@SuppressWarnings("serial")
+public class GemfireBulkOperationException extends UncategorizedDataAccessException {
+
+	private final List<ChunkFailure> failures;
+
+	/**
+	 * Constructs a new {@link GemfireBulkOperationException} initialized with the given {@link String message}
+	 * and {@link List} of {@link ChunkFailure ChunkFailures}.
+	 *
+	 * The cause of the first {@link ChunkFailure} is used as the cause of this exception; the causes of
+	 * the remaining {@link ChunkFailure ChunkFailures} are added as {@link #getSuppressed() suppressed} exceptions.
+	 *
+	 * @param message {@link String} describing the failed bulk operation.
+	 * @param failures {@link List} of {@link ChunkFailure ChunkFailures}; must not be {@literal null} or empty.
+	 * @throws IllegalArgumentException if the {@link List} of {@link ChunkFailure ChunkFailures} is empty.
+	 */
+	public GemfireBulkOperationException(String message, @NonNull List<ChunkFailure> failures) {
+
+		super(message, firstCause(failures));
+
+		this.failures = Collections.unmodifiableList(new ArrayList<>(failures));
+
+		this.failures.stream()
+			.skip(1)
+			.map(ChunkFailure::getCause)
+			.filter(cause -> cause != getCause())
+			.forEach(this::addSuppressed);
+	}
+
+	private static Throwable firstCause(List<ChunkFailure> failures) {
+
+		Assert.notEmpty(failures, "ChunkFailures must not be empty");
+
+		return failures.get(0).getCause();
+	}
+
+	/**
+	 * Returns the {@link List} of {@link ChunkFailure ChunkFailures}, one per failed chunk.
+	 *
+	 * @return the {@link List} of {@link ChunkFailure ChunkFailures}.
+	 */
+	public @NonNull List<ChunkFailure> getFailures() {
+		return this.failures;
+	}
+
+	/**
+	 * Returns the keys of all failed chunks.
+	 *
+	 * @return a {@link Set} containing the keys of all failed chunks.
+	 */
+	public @NonNull Set<Object> getFailedKeys() {
+
+		Set<Object> failedKeys = new LinkedHashSet<>();
+
+		this.failures.forEach(failure -> failedKeys.addAll(failure.getKeys()));
+
+		return failedKeys;
+	}
+
+	/**
+	 * Failure of a single chunk of a bulk data access operation.
+	 */
+	public static class ChunkFailure {
+
+		private final Set<Object> keys;
+
+		private final Throwable cause;
+
+		/**
+		 * Constructs a new {@link ChunkFailure} initialized with the keys of the failed chunk and the cause.
+		 *
+		 * @param keys {@link Collection} of keys in the failed chunk; must not be {@literal null}.
+		 * @param cause {@link Throwable} causing the chunk to fail; must not be {@literal null}.
+		 * @throws IllegalArgumentException if keys or cause are {@literal null}.
+		 */
+		public ChunkFailure(@NonNull Collection<?> keys, @NonNull Throwable cause) {
+
+			Assert.notNull(keys, "Keys must not be null");
+			Assert.notNull(cause, "Cause must not be null");
+
+			this.keys = Collections.unmodifiableSet(new LinkedHashSet<>(keys));
+			this.cause = cause;
+		}
+
+		/**
+		 * Returns the keys in the failed chunk.
+		 *
+		 * @return the {@link Set} of keys in the failed chunk.
+		 */
+		public @NonNull Set<Object> getKeys() {
+			return this.keys;
+		}
+
+		/**
+		 * Returns the {@link Throwable} causing the chunk to fail.
+		 *
+		 * @return the {@link Throwable} causing the chunk to fail.
+		 */
+		public @NonNull Throwable getCause() {
+			return this.cause;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("[%1$d] keys failed with [%2$s]", this.keys.size(), this.cause);
+		}
+	}
+}
@@ -16,6 +16,7 @@ import java.util.Collection;
 import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.query.Query;
@@ -98,6 +99,30 @@ public interface GemfireOperations {
 	 */
 	<E> SelectResults<E> find(String query, Object... params) throws InvalidDataAccessApiUsageException;
 
+	/**
+	 * Executes the OQL query with the given (optional) parameters and returns the results as a {@link Stream}.
+	 *
+	 * Unlike {@link #find(String, Object...)}, implementations may fetch the results incrementally as the
+	 * {@link Stream} is consumed. The {@link Stream} should be closed when no longer needed, to release
+	 * the resources held by the query.
+	 *
+	 * The default implementation streams the fully materialized {@link SelectResults} of
+	 * {@link #find(String, Object...)}.
+	 *
+	 * @param <T> type parameter specifying the type of the query results.
+	 * @param query the OQL query statement to execute.
+	 * @param params an array of Object values used as arguments to bind to the OQL query parameters (such as $1).
+	 * @return a {@link Stream} over the query results.
+	 * @see #find(String, Object...)
+	 * @see java.util.stream.Stream
+	 */
+	default <T> Stream<T> stream(String query, Object... params) {
+
+		SelectResults<T> results = find(query, params);
+
+		return results != null ? results.asList().stream() : Stream.empty();
+	}
+
 	/**
 	 * Executes a GemFire query with the given (optional) parameters and returns the result. Note this method expects the query to return a single result; for queries that return multiple
 	 * elements use {@link #find(String, Object...)}.
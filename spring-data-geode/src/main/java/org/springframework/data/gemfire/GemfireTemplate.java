@@ -19,27 +19,56 @@ import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.apache.geode.GemFireCheckedException;
 import org.apache.geode.GemFireException;
+import org.apache.geode.cache.CacheTransactionManager;
+import org.apache.geode.cache.GemFireCache;
 import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionService;
 import org.apache.geode.cache.Scope;
 import org.apache.geode.cache.client.ClientCache;
+import org.apache.geode.cache.client.Pool;
+import org.apache.geode.cache.client.PoolManager;
+import org.apache.geode.cache.execute.Execution;
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.cache.execute.FunctionService;
 import org.apache.geode.cache.query.IndexInvalidException;
 import org.apache.geode.cache.query.Query;
 import org.apache.geode.cache.query.QueryInvalidException;
 import org.apache.geode.cache.query.QueryService;
 import org.apache.geode.cache.query.SelectResults;
+import org.apache.geode.pdx.PdxInstance;
 
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.gemfire.function.StreamingOqlQueryFunction;
+import org.springframework.data.gemfire.function.StreamingResultCollector;
+import org.springframework.data.gemfire.mapping.PdxInstanceEntityProxy;
+import org.springframework.data.gemfire.mapping.PdxInstanceEntityProxyFactory;
+import org.springframework.data.gemfire.mapping.PdxReadProjection;
 import org.springframework.data.gemfire.util.RegionUtils;
 import org.springframework.data.gemfire.util.SpringUtils;
 import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.ReflectionUtils;
@@ -77,8 +106,58 @@ import org.springframework.util.StringUtils;
 @SuppressWarnings("unused")
 public class GemfireTemplate extends GemfireAccessor implements GemfireOperations {
 
+	public static final int DEFAULT_COMPILED_QUERY_CACHE_SIZE = 256;
+	public static final int DEFAULT_MAX_IN_FLIGHT_PUT_ALL_CHUNKS = 4;
+	public static final int DEFAULT_PUT_ALL_CHUNK_SIZE = 0;
+
+	private static final ExecutorService BULK_OPERATION_EXECUTOR =
+		Executors.newFixedThreadPool(Math.max(Runtime.getRuntime().availableProcessors(), 2), runnable -> {
+
+			Thread thread = new Thread(runnable, "SDG-Bulk-Operation");
+
+			thread.setDaemon(true);
+
+			return thread;
+		});
+
+	private static final ExecutorService STREAMING_QUERY_EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+
+		Thread thread = new Thread(runnable, "SDG-Streaming-OQL-Query");
+
+		thread.setDaemon(true);
+
+		return thread;
+	});
+
 	private boolean exposeNativeRegion = false;
 
+	private volatile int compiledQueryCacheSize = DEFAULT_COMPILED_QUERY_CACHE_SIZE;
+	private volatile int maxInFlightPutAllChunks = DEFAULT_MAX_IN_FLIGHT_PUT_ALL_CHUNKS;
+	private volatile int putAllChunkSize = DEFAULT_PUT_ALL_CHUNK_SIZE;
+	private volatile int streamFetchSize = StreamingOqlQueryFunction.DEFAULT_CHUNK_SIZE;
+
+	private Executor bulkOperationExecutor = BULK_OPERATION_EXECUTOR;
+
+	private volatile Executor streamingQueryExecutor = STREAMING_QUERY_EXECUTOR;
+
+	private volatile CollapsingRegionReader collapsingRegionReader;
+
+	private Duration readBatchingWindow = Duration.ZERO;
+
+	private volatile Duration streamAbandonTimeout =
+		Duration.ofMillis(StreamingResultCollector.DEFAULT_ABANDON_TIMEOUT_MILLISECONDS);
+
+	private final Map<String, Query> compiledQueries = Collections.synchronizedMap(
+		new LinkedHashMap<String, Query>(16, 0.75f, true) {
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Query> eldest) {
+				return size() > getCompiledQueryCacheSize();
+			}
+		});
+
+	private PdxInstanceEntityProxyFactory pdxInstanceEntityProxyFactory;
+
 	private Region<?, ?> regionProxy;
 
 	/**
@@ -113,9 +192,315 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 
 		super.afterPropertiesSet();
 
+		this.compiledQueries.clear();
 		this.regionProxy = createRegionProxy(getRegion());
 	}
 
+	/**
+	 * Configures the maximum number of {@link Query compiled queries} cached by this template.
+	 *
+	 * <p>Default is {@value #DEFAULT_COMPILED_QUERY_CACHE_SIZE}. The least recently used {@link Query} is evicted
+	 * once the limit is reached. Setting the size to {@literal 0} disables caching, and every {@link String OQL query}
+	 * is then parsed on each execution.
+	 *
+	 * <p>{@link String OQL queries} should pass values as bind parameters (e.g. {@literal $1}) rather than inline
+	 * the values in the {@link String OQL query} to benefit from caching.
+	 *
+	 * @param compiledQueryCacheSize {@link Integer maximum number} of {@link Query compiled queries} to cache.
+	 * @see #find(String, Object...)
+	 * @see #findUnique(String, Object...)
+	 */
+	public void setCompiledQueryCacheSize(int compiledQueryCacheSize) {
+
+		this.compiledQueryCacheSize = Math.max(compiledQueryCacheSize, 0);
+
+		if (this.compiledQueryCacheSize == 0) {
+			this.compiledQueries.clear();
+		}
+	}
+
+	/**
+	 * Returns the maximum number of {@link Query compiled queries} cached by this template.
+	 *
+	 * @return the {@link Integer maximum number} of {@link Query compiled queries} cached by this template.
+	 * @see #setCompiledQueryCacheSize(int)
+	 */
+	public int getCompiledQueryCacheSize() {
+		return this.compiledQueryCacheSize;
+	}
+
+	/**
+	 * Configures the {@link Executor} used to dispatch the chunks of a chunked {@link #putAll(Map)} in parallel.
+	 *
+	 * <p>Default is a shared, fixed-size pool of daemon {@link Thread Threads} sized to the number of
+	 * available processors.
+	 *
+	 * @param bulkOperationExecutor {@link Executor} used to dispatch chunks; {@literal null} resets to the default.
+	 * @see #setMaxInFlightPutAllChunks(int)
+	 */
+	public void setBulkOperationExecutor(@Nullable Executor bulkOperationExecutor) {
+		this.bulkOperationExecutor = bulkOperationExecutor != null ? bulkOperationExecutor : BULK_OPERATION_EXECUTOR;
+	}
+
+	/**
+	 * Returns the {@link Executor} used to dispatch the chunks of a chunked {@link #putAll(Map)} in parallel.
+	 *
+	 * @return the {@link Executor} used to dispatch chunks.
+	 * @see #setBulkOperationExecutor(Executor)
+	 */
+	public @NonNull Executor getBulkOperationExecutor() {
+		return this.bulkOperationExecutor;
+	}
+
+	/**
+	 * Configures the maximum number of chunks of a single {@link #putAll(Map)} sent to the {@link Region}
+	 * concurrently.
+	 *
+	 * <p>Default is {@value #DEFAULT_MAX_IN_FLIGHT_PUT_ALL_CHUNKS}. Setting the value to {@literal 1} sends
+	 * the chunks sequentially from the calling {@link Thread}.
+	 *
+	 * @param maxInFlightPutAllChunks {@link Integer maximum number} of chunks in flight; must be greater than 0.
+	 * @throws IllegalArgumentException if the value is less than {@literal 1}.
+	 * @see #setPutAllChunkSize(int)
+	 */
+	public void setMaxInFlightPutAllChunks(int maxInFlightPutAllChunks) {
+
+		Assert.isTrue(maxInFlightPutAllChunks > 0,
+			String.format("Max in-flight putAll chunks [%d] must be greater than 0", maxInFlightPutAllChunks));
+
+		this.maxInFlightPutAllChunks = maxInFlightPutAllChunks;
+	}
+
+	/**
+	 * Returns the maximum number of chunks of a single {@link #putAll(Map)} sent to the {@link Region} concurrently.
+	 *
+	 * @return the {@link Integer maximum number} of chunks in flight.
+	 * @see #setMaxInFlightPutAllChunks(int)
+	 */
+	public int getMaxInFlightPutAllChunks() {
+		return this.maxInFlightPutAllChunks;
+	}
+
+	/**
+	 * Configures the maximum number of entries sent to the {@link Region} in a single {@link Region#putAll(Map)}.
+	 *
+	 * <p>Default is {@value #DEFAULT_PUT_ALL_CHUNK_SIZE}, which disables chunking; {@link #putAll(Map)} then sends
+	 * the entire {@link Map} in a single {@link Region#putAll(Map)}. When enabled, larger {@link Map Maps} are split
+	 * into chunks, bounding the size of each message sent to the servers or other members, which are put
+	 * in parallel and independently of each other; a failed chunk does not prevent the other chunks
+	 * from being put.
+	 *
+	 * @param putAllChunkSize {@link Integer maximum number} of entries per {@link Region#putAll(Map)}.
+	 * @see #putAll(Map, int)
+	 */
+	public void setPutAllChunkSize(int putAllChunkSize) {
+		this.putAllChunkSize = Math.max(putAllChunkSize, 0);
+	}
+
+	/**
+	 * Returns the maximum number of entries sent to the {@link Region} in a single {@link Region#putAll(Map)}.
+	 *
+	 * @return the {@link Integer maximum number} of entries per {@link Region#putAll(Map)}.
+	 * @see #setPutAllChunkSize(int)
+	 */
+	public int getPutAllChunkSize() {
+		return this.putAllChunkSize;
+	}
+
+	/**
+	 * Configures the maximum number of query results sent from the server in a single chunk
+	 * by {@link #stream(String, Object...)}.
+	 *
+	 * <p>Default is {@value StreamingOqlQueryFunction#DEFAULT_CHUNK_SIZE}.
+	 *
+	 * @param streamFetchSize {@link Integer maximum number} of query results per chunk; must be greater than 0.
+	 * @throws IllegalArgumentException if the fetch size is less than {@literal 1}.
+	 * @see #stream(String, Object...)
+	 */
+	public void setStreamFetchSize(int streamFetchSize) {
+
+		Assert.isTrue(streamFetchSize > 0,
+			String.format("Stream fetch size [%d] must be greater than 0", streamFetchSize));
+
+		this.streamFetchSize = streamFetchSize;
+	}
+
+	/**
+	 * Returns the maximum number of query results sent from the server in a single chunk
+	 * by {@link #stream(String, Object...)}.
+	 *
+	 * @return the {@link Integer maximum number} of query results per chunk.
+	 * @see #setStreamFetchSize(int)
+	 */
+	public int getStreamFetchSize() {
+		return this.streamFetchSize;
+	}
+
+	/**
+	 * Configures the {@link Duration} after which a {@link Stream} returned by {@link #stream(String, Object...)}
+	 * is discarded when no query result chunk was consumed while the client buffer is full.
+	 *
+	 * <p>Default is {@value StreamingResultCollector#DEFAULT_ABANDON_TIMEOUT_MILLISECONDS} milliseconds.
+	 *
+	 * @param streamAbandonTimeout {@link Duration} after which an unconsumed {@link Stream} is discarded;
+	 * must not be {@literal null} and must be positive.
+	 * @throws IllegalArgumentException if the {@link Duration} is {@literal null} or not positive.
+	 * @see #stream(String, Object[], int)
+	 */
+	public void setStreamAbandonTimeout(@NonNull Duration streamAbandonTimeout) {
+
+		Assert.isTrue(streamAbandonTimeout != null && !streamAbandonTimeout.isNegative()
+			&& !streamAbandonTimeout.isZero(), () -> String.format("Stream abandon timeout [%s] must be positive",
+				streamAbandonTimeout));
+
+		this.streamAbandonTimeout = streamAbandonTimeout;
+	}
+
+	/**
+	 * Returns the {@link Duration} after which an unconsumed {@link Stream} returned by
+	 * {@link #stream(String, Object...)} is discarded.
+	 *
+	 * @return the {@link Duration} after which an unconsumed {@link Stream} is discarded.
+	 * @see #setStreamAbandonTimeout(Duration)
+	 */
+	public @NonNull Duration getStreamAbandonTimeout() {
+		return this.streamAbandonTimeout;
+	}
+
+	/**
+	 * Configures the {@link Executor} running the {@link StreamingOqlQueryFunction} executions that produce
+	 * the results of the {@link Stream Streams} returned by {@link #stream(String, Object...)}.
+	 *
+	 * <p>Each producer occupies a {@link Thread} until its {@link Stream} is consumed, closed or abandoned.
+	 * The {@link Executor} must therefore not be shared with the consumers of the {@link Stream Streams},
+	 * which could otherwise wait forever for producers queued behind them. Default is a dedicated, unbounded pool
+	 * of daemon {@link Thread Threads}.
+	 *
+	 * @param streamingQueryExecutor {@link Executor} running the streaming query producers;
+	 * {@literal null} resets to the default.
+	 * @see #stream(String, Object[], int)
+	 */
+	public void setStreamingQueryExecutor(@Nullable Executor streamingQueryExecutor) {
+		this.streamingQueryExecutor = streamingQueryExecutor != null ? streamingQueryExecutor
+			: STREAMING_QUERY_EXECUTOR;
+	}
+
+	/**
+	 * Returns the {@link Executor} running the streaming query producers.
+	 *
+	 * @return the {@link Executor} running the streaming query producers.
+	 * @see #setStreamingQueryExecutor(Executor)
+	 */
+	public @NonNull Executor getStreamingQueryExecutor() {
+		return this.streamingQueryExecutor;
+	}
+
+	/**
+	 * Configures whether concurrent {@link #get(Object) reads} of the same key share a single, in-flight
+	 * {@link Region#get(Object)}.
+	 *
+	 * <p>Read collapsing reduces the load on the servers when many {@link Thread Threads} read the same hot keys
+	 * of a {@literal client} {@link Region}, such as a {@literal PROXY} {@link Region}, at the same time.
+	 * Reads in a transaction are never collapsed. Default is {@literal false}.
+	 *
+	 * <p>Collapsed reads return the same value instance to all callers, unlike separate reads of a {@literal PROXY}
+	 * {@link Region}, which each deserialize a new instance. Values must therefore be treated as immutable, or copied
+	 * before being modified.
+	 *
+	 * <p>Writes through this template ({@link #put(Object, Object)}, {@link #putAll(Map)}, {@link #remove(Object)},
+	 * etc) forget the in-flight read of each written key once the write completes, so a {@link Thread} reading a key
+	 * after writing it through this template sees its own write. However, a read may still return the value prior
+	 * to a write made concurrently by another {@link Thread}, or made outside this template (e.g. directly on the
+	 * {@link Region} or by another client), when the read shares a {@link Region#get(Object)} started before
+	 * the write completed.
+	 *
+	 * @param readCollapsingEnabled boolean value indicating whether to collapse concurrent reads.
+	 * @see #setReadBatchingWindow(Duration)
+	 */
+	public void setReadCollapsingEnabled(boolean readCollapsingEnabled) {
+		configureCollapsingRegionReader(readCollapsingEnabled, getReadBatchingWindow());
+	}
+
+	/**
+	 * Determines whether concurrent {@link #get(Object) reads} of the same key are collapsed.
+	 *
+	 * @return a boolean value indicating whether concurrent reads are collapsed.
+	 * @see #setReadCollapsingEnabled(boolean)
+	 */
+	public boolean isReadCollapsingEnabled() {
+		return this.collapsingRegionReader != null;
+	}
+
+	/**
+	 * Configures the time window during which collapsed {@link #get(Object) reads} of different keys are combined
+	 * into a single {@link Region#getAll(Collection)}.
+	 *
+	 * <p>The first read waits for the window to elapse before sending the {@link Region#getAll(Collection)}
+	 * on behalf of all reads received in the meantime. Default is {@link Duration#ZERO}, which disables batching.
+	 * Only applies when {@link #setReadCollapsingEnabled(boolean) read collapsing} is enabled.
+	 *
+	 * @param readBatchingWindow {@link Duration} during which reads of different keys are batched;
+	 * {@literal null} disables batching.
+	 * @see #setReadCollapsingEnabled(boolean)
+	 */
+	public void setReadBatchingWindow(@Nullable Duration readBatchingWindow) {
+		configureCollapsingRegionReader(isReadCollapsingEnabled(), readBatchingWindow);
+	}
+
+	/**
+	 * Returns the time window during which collapsed {@link #get(Object) reads} of different keys are batched.
+	 *
+	 * @return the {@link Duration} during which reads of different keys are batched.
+	 * @see #setReadBatchingWindow(Duration)
+	 */
+	public @NonNull Duration getReadBatchingWindow() {
+
+		CollapsingRegionReader collapsingRegionReader = this.collapsingRegionReader;
+
+		return collapsingRegionReader != null
+			? Duration.ofNanos(collapsingRegionReader.getBatchingWindowNanos())
+			: this.readBatchingWindow;
+	}
+
+	private synchronized void configureCollapsingRegionReader(boolean readCollapsingEnabled,
+			@Nullable Duration readBatchingWindow) {
+
+		this.readBatchingWindow = readBatchingWindow != null && !readBatchingWindow.isNegative()
+			? readBatchingWindow
+			: Duration.ZERO;
+
+		this.collapsingRegionReader = readCollapsingEnabled
+			? new CollapsingRegionReader(key -> getRegion().get(key), keys -> getRegion().getAll(keys),
+				this.readBatchingWindow.toNanos())
+			: null;
+	}
+
+	/**
+	 * Returns the number of {@link #get(Object) reads} that shared an in-flight read of the same key.
+	 *
+	 * @return the {@link Long number} of collapsed reads.
+	 * @see #setReadCollapsingEnabled(boolean)
+	 */
+	public long getCollapsedReadCount() {
+
+		CollapsingRegionReader collapsingRegionReader = this.collapsingRegionReader;
+
+		return collapsingRegionReader != null ? collapsingRegionReader.getCollapsedReadCount() : 0L;
+	}
+
+	/**
+	 * Returns the number of {@link #get(Object) reads} combined into a batched {@link Region#getAll(Collection)}.
+	 *
+	 * @return the {@link Long number} of batched reads.
+	 * @see #setReadBatchingWindow(Duration)
+	 */
+	public long getBatchedReadCount() {
+
+		CollapsingRegionReader collapsingRegionReader = this.collapsingRegionReader;
+
+		return collapsingRegionReader != null ? collapsingRegionReader.getBatchedReadCount() : 0L;
+	}
+
 	/**
 	 * Configure whether to expose the native {@link Region} to {@link GemfireCallback} code.
 	 *
@@ -145,6 +530,57 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 		return this.exposeNativeRegion;
 	}
 
+	/**
+	 * Configures the {@link PdxInstanceEntityProxyFactory} used to return lazy, {@link PdxInstance}-backed
+	 * entity proxies from read operations when the {@link Region} is configured to {@literal read-serialized}.
+	 *
+	 * <p>Default is {@literal null}, in which case values are returned as read from the {@link Region}.
+	 *
+	 * <p>When configured, {@link PdxInstanceEntityProxy proxies} passed to write operations are unwrapped before
+	 * the value is stored in the {@link Region}, storing the unchanged {@link PdxInstance} if the proxy was never
+	 * written to.
+	 *
+	 * @param pdxInstanceEntityProxyFactory {@link PdxInstanceEntityProxyFactory} used to create lazy entity proxies.
+	 * @see org.springframework.data.gemfire.mapping.PdxInstanceEntityProxyFactory
+	 */
+	public void setPdxInstanceEntityProxyFactory(@Nullable PdxInstanceEntityProxyFactory pdxInstanceEntityProxyFactory) {
+		this.pdxInstanceEntityProxyFactory = pdxInstanceEntityProxyFactory;
+	}
+
+	/**
+	 * Returns the {@link PdxInstanceEntityProxyFactory} used to return lazy, {@link PdxInstance}-backed
+	 * entity proxies from read operations.
+	 *
+	 * @return the configured {@link PdxInstanceEntityProxyFactory}, or {@literal null} if lazy reads are disabled.
+	 * @see org.springframework.data.gemfire.mapping.PdxInstanceEntityProxyFactory
+	 * @see #setPdxInstanceEntityProxyFactory(PdxInstanceEntityProxyFactory)
+	 */
+	public @Nullable PdxInstanceEntityProxyFactory getPdxInstanceEntityProxyFactory() {
+		return this.pdxInstanceEntityProxyFactory;
+	}
+
+	/**
+	 * Returns a lazy {@link PdxInstanceEntityProxy} for the given value read from the {@link Region}
+	 * if a {@link PdxInstanceEntityProxyFactory} is configured and the value is a {@link PdxInstance}.
+	 *
+	 * @param <T> {@link Class type} of the value.
+	 * @param value value read from the {@link Region}.
+	 * @return a lazy {@link PdxInstanceEntityProxy} for the given value, or the value itself.
+	 * @see #setPdxInstanceEntityProxyFactory(PdxInstanceEntityProxyFactory)
+	 */
+	@SuppressWarnings("unchecked")
+	public @Nullable <T> T resolveReadValue(@Nullable Object value) {
+
+		PdxInstanceEntityProxyFactory proxyFactory = getPdxInstanceEntityProxyFactory();
+
+		return proxyFactory != null ? proxyFactory.proxyIfNecessary(value) : (T) value;
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> T resolveWriteValue(T value) {
+		return (T) PdxInstanceEntityProxy.unwrap(value);
+	}
+
 	@Override
 	public boolean containsKey(Object key) {
 		return getRegion().containsKey(key);
@@ -169,18 +605,31 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 	public <K, V> void create(K key, V value) {
 
 		try {
-			getRegion().create(key, value);
+			getRegion().create(key, resolveWriteValue(value));
 		}
 		catch (GemFireException cause) {
 			throw convertGemFireAccessException(cause);
 		}
+		finally {
+			forgetInFlightRead(key);
+		}
 	}
 
 	@Override
+	@SuppressWarnings("unchecked")
 	public <K, V> V get(K key) {
 
 		try {
-			return this.<K, V>getRegion().get(key);
+
+			Region<K, V> region = getRegion();
+
+			CollapsingRegionReader collapsingRegionReader = this.collapsingRegionReader;
+
+			V value = collapsingRegionReader != null && key != null && !isTransactionPresent(region)
+				? (V) collapsingRegionReader.get(key)
+				: region.get(key);
+
+			return resolveReadValue(value);
 		}
 		catch (GemFireException cause) {
 			throw convertGemFireAccessException(cause);
@@ -191,7 +640,18 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 	public <K, V> Map<K, V> getAll(Collection<?> keys) {
 
 		try {
-			return this.<K, V>getRegion().getAll(keys);
+			Map<K, V> keysValues = this.<K, V>getRegion().getAll(keys);
+
+			if (getPdxInstanceEntityProxyFactory() != null && keysValues != null) {
+
+				Map<K, V> resolvedKeysValues = new LinkedHashMap<>(keysValues.size());
+
+				keysValues.forEach((key, value) -> resolvedKeysValues.put(key, resolveReadValue(value)));
+
+				keysValues = resolvedKeysValues;
+			}
+
+			return keysValues;
 		}
 		catch (GemFireException cause) {
 			throw convertGemFireAccessException(cause);
@@ -202,33 +662,203 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 	public <K, V> V put(K key, V value) {
 
 		try {
-			return this.<K, V>getRegion().put(key, value);
+			return this.<K, V>getRegion().put(key, resolveWriteValue(value));
 		}
 		catch (GemFireException cause) {
 			throw convertGemFireAccessException(cause);
 		}
+		finally {
+			forgetInFlightRead(key);
+		}
 	}
 
 	@Override
 	public <K, V> void putAll(Map<? extends K, ? extends V> map) {
+		putAll(map, getPutAllChunkSize());
+	}
+
+	/**
+	 * Puts all entries in the given {@link Map} into the {@link Region} in chunks of at most the given size.
+	 *
+	 * <p>The chunks are dispatched in parallel on the {@link #getBulkOperationExecutor() bulk operation Executor},
+	 * with at most {@link #getMaxInFlightPutAllChunks()} chunks in flight. Chunks are sent sequentially from
+	 * the calling {@link Thread} when a transaction is in progress so that all puts take part in the transaction.
+	 *
+	 * <p>All chunks are attempted. If any chunk fails, a {@link GemfireBulkOperationException} listing the keys
+	 * of the failed chunks is thrown after the remaining chunks complete.
+	 *
+	 * @param <K> {@link Class type} of the keys.
+	 * @param <V> {@link Class type} of the values.
+	 * @param map {@link Map} of entries to put into the {@link Region}.
+	 * @param chunkSize {@link Integer maximum number} of entries per {@link Region#putAll(Map)};
+	 * {@literal 0} disables chunking.
+	 * @throws GemfireBulkOperationException if one or more chunks failed.
+	 * @see org.springframework.data.gemfire.GemfireBulkOperationException
+	 * @see #setPutAllChunkSize(int)
+	 */
+	public <K, V> void putAll(Map<? extends K, ? extends V> map, int chunkSize) {
 
 		try {
-			this.<K, V>getRegion().putAll(map);
+			if (map == null || chunkSize < 1 || map.size() <= chunkSize) {
+				try {
+					this.<K, V>getRegion().putAll(resolveWriteValues(map));
+				}
+				catch (GemFireException cause) {
+					throw convertGemFireAccessException(cause);
+				}
+			}
+			else {
+				doPutAllInChunks(this.<K, V>getRegion(), resolveWriteValues(map), chunkSize);
+			}
 		}
-		catch (GemFireException cause) {
-			throw convertGemFireAccessException(cause);
+		finally {
+			forgetInFlightReads(map != null ? map.keySet() : null);
+		}
+	}
+
+	private <K, V> void doPutAllInChunks(Region<K, V> region, Map<? extends K, ? extends V> map, int chunkSize) {
+
+		List<Map<K, V>> chunks = new ArrayList<>(map.size() / chunkSize + 1);
+
+		Map<K, V> chunk = new LinkedHashMap<>(chunkSize);
+
+		for (Map.Entry<? extends K, ? extends V> entry : map.entrySet()) {
+
+			chunk.put(entry.getKey(), entry.getValue());
+
+			if (chunk.size() == chunkSize) {
+				chunks.add(chunk);
+				chunk = new LinkedHashMap<>(chunkSize);
+			}
+		}
+
+		if (!chunk.isEmpty()) {
+			chunks.add(chunk);
+		}
+
+		List<GemfireBulkOperationException.ChunkFailure> failures =
+			isTransactionPresent(region) || getMaxInFlightPutAllChunks() < 2
+				? chunks.stream().map(it -> doPutAllChunk(region, it)).filter(Objects::nonNull).collect(Collectors.toList())
+				: doPutAllChunksInParallel(region, chunks);
+
+		if (!failures.isEmpty()) {
+			throw new GemfireBulkOperationException(String.format("Failed to put [%1$d] of [%2$d] chunks into Region [%3$s]",
+				failures.size(), chunks.size(), region.getFullPath()), failures);
+		}
+	}
+
+	private <K, V> List<GemfireBulkOperationException.ChunkFailure> doPutAllChunksInParallel(Region<K, V> region,
+			List<Map<K, V>> chunks) {
+
+		Semaphore inFlightChunks = new Semaphore(getMaxInFlightPutAllChunks());
+
+		List<CompletableFuture<GemfireBulkOperationException.ChunkFailure>> results = new ArrayList<>(chunks.size());
+
+		for (Map<K, V> chunk : chunks) {
+			try {
+
+				inFlightChunks.acquire();
+
+				results.add(CompletableFuture.supplyAsync(() -> {
+					try {
+						return doPutAllChunk(region, chunk);
+					}
+					finally {
+						inFlightChunks.release();
+					}
+				}, getBulkOperationExecutor()));
+			}
+			catch (InterruptedException | RejectedExecutionException cause) {
+
+				if (cause instanceof InterruptedException) {
+					Thread.currentThread().interrupt();
+				}
+				else {
+					inFlightChunks.release();
+				}
+
+				results.add(CompletableFuture.completedFuture(
+					new GemfireBulkOperationException.ChunkFailure(chunk.keySet(), cause)));
+			}
+		}
+
+		return results.stream()
+			.map(CompletableFuture::join)
+			.filter(Objects::nonNull)
+			.collect(Collectors.toList());
+	}
+
+	private <K, V> GemfireBulkOperationException.ChunkFailure doPutAllChunk(Region<K, V> region, Map<K, V> chunk) {
+
+		try {
+			region.putAll(chunk);
+			return null;
+		}
+		catch (RuntimeException cause) {
+
+			RuntimeException resolvedCause = cause instanceof GemFireException
+				? convertGemFireAccessException((GemFireException) cause)
+				: cause;
+
+			return new GemfireBulkOperationException.ChunkFailure(chunk.keySet(), resolvedCause);
+		}
+	}
+
+	private void forgetInFlightRead(Object key) {
+
+		CollapsingRegionReader collapsingRegionReader = this.collapsingRegionReader;
+
+		if (collapsingRegionReader != null) {
+			collapsingRegionReader.forget(key);
+		}
+	}
+
+	private void forgetInFlightReads(Collection<?> keys) {
+
+		CollapsingRegionReader collapsingRegionReader = this.collapsingRegionReader;
+
+		if (collapsingRegionReader != null && keys != null) {
+			keys.forEach(collapsingRegionReader::forget);
+		}
+	}
+
+	boolean isTransactionPresent(Region<?, ?> region) {
+
+		RegionService regionService = region.getRegionService();
+
+		CacheTransactionManager cacheTransactionManager = regionService instanceof GemFireCache
+			? ((GemFireCache) regionService).getCacheTransactionManager()
+			: null;
+
+		return cacheTransactionManager != null && cacheTransactionManager.exists();
+	}
+
+	private <K, V> Map<? extends K, ? extends V> resolveWriteValues(Map<? extends K, ? extends V> map) {
+
+		if (map != null && map.values().stream().anyMatch(PdxInstanceEntityProxy.class::isInstance)) {
+
+			Map<K, V> resolvedMap = new LinkedHashMap<>(map.size());
+
+			map.forEach((key, value) -> resolvedMap.put(key, resolveWriteValue(value)));
+
+			return resolvedMap;
 		}
+
+		return map;
 	}
 
 	@Override
 	public <K, V> V putIfAbsent(K key, V value) {
 
 		try {
-			return this.<K, V>getRegion().putIfAbsent(key, value);
+			return this.<K, V>getRegion().putIfAbsent(key, resolveWriteValue(value));
 		}
 		catch (GemFireException cause) {
 			throw convertGemFireAccessException(cause);
 		}
+		finally {
+			forgetInFlightRead(key);
+		}
 	}
 
 	@Override
@@ -240,6 +870,9 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 		catch (GemFireException cause) {
 			throw convertGemFireAccessException(cause);
 		}
+		finally {
+			forgetInFlightRead(key);
+		}
 	}
 
 	@Override
@@ -251,28 +884,37 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 		catch (GemFireException cause) {
 			throw convertGemFireAccessException(cause);
 		}
+		finally {
+			forgetInFlightReads(keys);
+		}
 	}
 
 	@Override
 	public <K, V> V replace(K key, V value) {
 
 		try {
-			return this.<K, V>getRegion().replace(key, value);
+			return this.<K, V>getRegion().replace(key, resolveWriteValue(value));
 		}
 		catch (GemFireException cause) {
 			throw convertGemFireAccessException(cause);
 		}
+		finally {
+			forgetInFlightRead(key);
+		}
 	}
 
 	@Override
 	public <K, V> boolean replace(K key, V oldValue, V newValue) {
 
 		try {
-			return this.<K, V>getRegion().replace(key, oldValue, newValue);
+			return this.<K, V>getRegion().replace(key, resolveWriteValue(oldValue), resolveWriteValue(newValue));
 		}
 		catch (GemFireException cause) {
 			throw convertGemFireAccessException(cause);
 		}
+		finally {
+			forgetInFlightRead(key);
+		}
 	}
 
 	@Override
@@ -306,9 +948,7 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 
 		try {
 
-			QueryService queryService = resolveQueryService(getRegion());
-
-			Query compiledQuery = queryService.newQuery(query);
+			Query compiledQuery = compileQuery(query);
 
 			Object result = compiledQuery.execute(arguments);
 
@@ -343,15 +983,154 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 		}
 	}
 
+	/**
+	 * Executes the OQL query with the given (optional) arguments and returns the results as a {@link Stream}
+	 * fetched in chunks of at most {@link #getStreamFetchSize()} results.
+	 *
+	 * @see #stream(String, Object[], int)
+	 */
+	@Override
+	public <T> Stream<T> stream(String query, Object... arguments) {
+		return stream(query, arguments, getStreamFetchSize());
+	}
+
+	/**
+	 * Executes the OQL query with the given (optional) arguments and returns the results as a {@link Stream}
+	 * fetched in chunks of at most the given size.
+	 *
+	 * <p>For {@literal client} {@link Region Regions}, the OQL query is executed on the server by
+	 * the {@link StreamingOqlQueryFunction}, which sends the query results back in chunks that are consumed lazily
+	 * by the returned {@link Stream}. At most a few chunks are buffered on the client, and the server pauses sending
+	 * while the buffer is full, so that client memory is bounded by the fetch size rather than the number of results.
+	 * The query result is still materialized in full on the server.
+	 *
+	 * <p>The returned {@link Stream} should be closed. Closing the {@link Stream} discards the remaining chunks as they
+	 * arrive, but does not stop the server from sending them, since an Apache Geode
+	 * {@link org.apache.geode.cache.execute.Function} execution cannot be cancelled. A {@link Stream} that is neither
+	 * consumed nor closed is discarded once no chunk has been consumed for
+	 * {@link #setStreamAbandonTimeout(Duration) the stream abandon timeout}, after which the {@link Stream} fails with
+	 * an {@link IllegalStateException}.
+	 *
+	 * <p>If the {@link StreamingOqlQueryFunction} is not registered on the server, or the {@link Region} is not
+	 * a {@literal client} {@link Region}, then the query results are retrieved in full with
+	 * {@link #find(String, Object...)} and then streamed. Any other failure of the query execution is rethrown.
+	 *
+	 * <p>The results are produced on the {@link #getStreamingQueryExecutor() streaming query Executor}.
+	 * If the {@link Executor} rejects the execution, a {@link DataAccessResourceFailureException} is thrown.
+	 *
+	 * @param <T> {@link Class type} of the query results.
+	 * @param query {@link String OQL query} to execute.
+	 * @param arguments array of {@link Object} values used as arguments to bind to the OQL query parameters.
+	 * @param fetchSize {@link Integer maximum number} of query results per chunk; must be greater than 0.
+	 * @return a {@link Stream} over the query results.
+	 * @throws IllegalArgumentException if the fetch size is less than {@literal 1}.
+	 * @throws DataAccessResourceFailureException if the streaming query {@link Executor} rejected the execution.
+	 * @see org.springframework.data.gemfire.function.StreamingOqlQueryFunction
+	 * @see org.springframework.data.gemfire.function.StreamingResultCollector
+	 * @see java.util.stream.Stream
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> Stream<T> stream(String query, Object[] arguments, int fetchSize) {
+
+		Assert.isTrue(fetchSize > 0, String.format("Fetch size [%d] must be greater than 0", fetchSize));
+
+		Region<?, ?> region = getRegion();
+
+		if (RegionUtils.isClient(region)) {
+
+			StreamingResultCollector<T> resultCollector =
+				new StreamingResultCollector<>(getStreamAbandonTimeout());
+
+			Object[] functionArguments = { query, arguments, fetchSize };
+
+			Execution<Object[], Object, Stream<T>> execution =
+				newStreamingQueryExecution(region).setArguments(functionArguments).withCollector(resultCollector);
+
+			try {
+				getStreamingQueryExecutor().execute(PdxReadProjection.withCurrentProjection(() -> {
+					try {
+						execution.execute(StreamingOqlQueryFunction.ID);
+					}
+					catch (Throwable cause) {
+						resultCollector.addFailure(cause);
+					}
+					finally {
+						resultCollector.endResults();
+					}
+				}));
+
+				// block until the first chunk arrives, or the execution fails
+				resultCollector.hasNext();
+
+				return resultCollector.stream();
+			}
+			catch (RejectedExecutionException cause) {
+
+				resultCollector.close();
+
+				throw new DataAccessResourceFailureException(String.format(
+					"Streaming query [%s] was rejected by the streaming query Executor", query), cause);
+			}
+			catch (RuntimeException cause) {
+
+				resultCollector.close();
+
+				if (!isFunctionNotRegistered(cause, StreamingOqlQueryFunction.ID)) {
+					throw cause instanceof GemFireException
+						? convertGemFireAccessException((GemFireException) cause)
+						: cause;
+				}
+
+				// the StreamingOqlQueryFunction is not available on the server; retrieve the results in full
+			}
+		}
+
+		SelectResults<T> results = find(query, arguments);
+
+		return results != null ? results.asList().stream() : Stream.empty();
+	}
+
+	/**
+	 * Determines whether the given {@link Throwable} signals that the {@link org.apache.geode.cache.execute.Function}
+	 * with the given ID is not registered on the server.
+	 */
+	static boolean isFunctionNotRegistered(@Nullable Throwable cause, @NonNull String functionId) {
+
+		for (Throwable current = cause; current != null; current = current.getCause()) {
+
+			String message = current.getMessage();
+
+			if (current instanceof FunctionException && message != null
+					&& message.contains(functionId) && message.contains("not registered")) {
+
+				return true;
+			}
+
+			if (current.getCause() == current) {
+				break;
+			}
+		}
+
+		return false;
+	}
+
+	@SuppressWarnings("rawtypes")
+	Execution newStreamingQueryExecution(Region<?, ?> region) {
+
+		Pool pool = PoolManager.find(region.getAttributes().getPoolName());
+
+		return pool != null
+			? FunctionService.onServer(pool)
+			: FunctionService.onServer(region.getRegionService());
+	}
+
 	@Override
 	@SuppressWarnings("unchecked")
 	public <T> T findUnique(String query, Object... arguments) throws InvalidDataAccessApiUsageException {
 
 		try {
 
-			QueryService queryService = resolveQueryService(getRegion());
-
-			Query compiledQuery = queryService.newQuery(query);
+			Query compiledQuery = compileQuery(query);
 
 			Object result = compiledQuery.execute(arguments);
 
@@ -362,7 +1141,7 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 				List<T> results = selectResults.asList();
 
 				if (results.size() == 1) {
-					result = results.get(0);
+					result = resolveReadValue(results.get(0));
 				}
 				else {
 
@@ -394,6 +1173,31 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 		}
 	}
 
+	/**
+	 * Returns the {@link Query compiled query} for the given {@link String OQL query}, reusing a previously
+	 * {@link Query compiled query} from the cache when available.
+	 *
+	 * @param query {@link String} containing the OQL query to compile.
+	 * @return the {@link Query compiled query}.
+	 * @see org.apache.geode.cache.query.QueryService#newQuery(String)
+	 * @see #setCompiledQueryCacheSize(int)
+	 */
+	Query compileQuery(String query) {
+
+		Query compiledQuery = getCompiledQueryCacheSize() > 0 ? this.compiledQueries.get(query) : null;
+
+		if (compiledQuery == null) {
+
+			compiledQuery = resolveQueryService(getRegion()).newQuery(query);
+
+			if (getCompiledQueryCacheSize() > 0) {
+				this.compiledQueries.put(query, compiledQuery);
+			}
+		}
+
+		return compiledQuery;
+	}
+
 	/**
 	 * Returns the {@link QueryService} used by this template in its query/finder methods.
 	 *
@@ -16,13 +16,34 @@
  */
 package org.springframework.data.gemfire.cache;
 
+import java.time.Duration;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
+import org.apache.geode.cache.AttributesMutator;
+import org.apache.geode.cache.EntryEvent;
+import org.apache.geode.cache.ExpirationAttributes;
 import org.apache.geode.cache.GemFireCache;
 import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
+import org.apache.geode.cache.RegionEvent;
+import org.apache.geode.cache.util.CacheListenerAdapter;
+import org.apache.geode.distributed.DistributedLockService;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import org.springframework.cache.Cache;
 import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.gemfire.AsyncGemfireTemplate;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
@@ -37,6 +58,37 @@ import org.springframework.util.Assert;
 @SuppressWarnings("rawtypes")
 public class GemfireCache implements Cache {
 
+	public static final long DEFAULT_DISTRIBUTED_LOCK_LEASE_TIMEOUT = TimeUnit.MINUTES.toMillis(1);
+	public static final long DEFAULT_DISTRIBUTED_LOCK_WAIT_TIMEOUT = TimeUnit.SECONDS.toMillis(30);
+
+	private final ConcurrentMap<Object, CompletableFuture<Object>> inFlightLoads = new ConcurrentHashMap<>();
+	private final ConcurrentMap<Object, CompletableFuture<Object>> inFlightRetrievals = new ConcurrentHashMap<>();
+
+	private DistributedLockService distributedLockService;
+
+	private long distributedLockLeaseTimeout = DEFAULT_DISTRIBUTED_LOCK_LEASE_TIMEOUT;
+	private long distributedLockWaitTimeout = DEFAULT_DISTRIBUTED_LOCK_WAIT_TIMEOUT;
+
+	private double refreshAheadFactor = 0.0d;
+
+	private Duration staleGracePeriod = Duration.ZERO;
+
+	private Executor executor = AsyncGemfireTemplate.defaultExecutor();
+	private Executor refreshExecutor = RefreshAheadLoader.DEFAULT_REFRESH_EXECUTOR;
+
+	private ExpirationAttributes timeToLive;
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	private final GemfireCacheStatistics statistics = new GemfireCacheStatistics();
+
+	private final RefreshAheadLoader refreshAheadLoader = new RefreshAheadLoader();
+
+	private final StoredValueForgettingCacheListener storedValueForgettingCacheListener =
+		new StoredValueForgettingCacheListener();
+
+	private volatile boolean storedValueForgettingCacheListenerRegistered;
+
 	private final Region region;
 
 	/**
@@ -66,6 +118,301 @@ public class GemfireCache implements Cache {
 		this.region = region;
 	}
 
+	/**
+	 * Configures the {@link DistributedLockService} used to ensure only one member in the cluster loads
+	 * the value for a given key in {@link #get(Object, Callable)}.
+	 *
+	 * The {@link DistributedLockService} is only available to peer members; keys must be {@link java.io.Serializable}.
+	 *
+	 * @param distributedLockService {@link DistributedLockService} used to lock keys while loading values;
+	 * {@literal null} disables distributed locking.
+	 * @see org.apache.geode.distributed.DistributedLockService
+	 */
+	public void setDistributedLockService(DistributedLockService distributedLockService) {
+		this.distributedLockService = distributedLockService;
+	}
+
+	/**
+	 * Returns the {@link DistributedLockService} used to lock keys while loading values.
+	 *
+	 * @return the {@link DistributedLockService} used to lock keys while loading values,
+	 * or {@literal null} if distributed locking is disabled.
+	 * @see #setDistributedLockService(DistributedLockService)
+	 */
+	public DistributedLockService getDistributedLockService() {
+		return this.distributedLockService;
+	}
+
+	/**
+	 * Determines whether values loaded by {@link #get(Object, Callable)} are guarded by a distributed lock.
+	 *
+	 * @return a boolean value indicating whether distributed locking is enabled.
+	 * @see #setDistributedLockService(DistributedLockService)
+	 */
+	public boolean isDistributedLockingEnabled() {
+		return getDistributedLockService() != null;
+	}
+
+	/**
+	 * Configures the time in milliseconds after which a distributed lock held while loading a value
+	 * is automatically released.
+	 *
+	 * @param distributedLockLeaseTimeout lease timeout in milliseconds; {@literal -1} never expires the lock.
+	 * @see org.apache.geode.distributed.DistributedLockService#lock(Object, long, long)
+	 */
+	public void setDistributedLockLeaseTimeout(long distributedLockLeaseTimeout) {
+		this.distributedLockLeaseTimeout = distributedLockLeaseTimeout;
+	}
+
+	/**
+	 * Returns the time in milliseconds after which a distributed lock held while loading a value
+	 * is automatically released.
+	 *
+	 * @return the lease timeout in milliseconds.
+	 */
+	public long getDistributedLockLeaseTimeout() {
+		return this.distributedLockLeaseTimeout;
+	}
+
+	/**
+	 * Configures the time in milliseconds to wait for the distributed lock before loading the value without it.
+	 *
+	 * @param distributedLockWaitTimeout wait timeout in milliseconds; {@literal -1} waits indefinitely.
+	 * @see org.apache.geode.distributed.DistributedLockService#lock(Object, long, long)
+	 */
+	public void setDistributedLockWaitTimeout(long distributedLockWaitTimeout) {
+		this.distributedLockWaitTimeout = distributedLockWaitTimeout;
+	}
+
+	/**
+	 * Returns the time in milliseconds to wait for the distributed lock before loading the value without it.
+	 *
+	 * @return the wait timeout in milliseconds.
+	 */
+	public long getDistributedLockWaitTimeout() {
+		return this.distributedLockWaitTimeout;
+	}
+
+	/**
+	 * Configures the {@link Executor} used to perform the blocking {@link Region} operations
+	 * of the asynchronous {@link #retrieve(Object)} and {@link #retrieve(Object, Supplier)} methods.
+	 *
+	 * @param executor {@link Executor} used to perform blocking {@link Region} operations;
+	 * {@literal null} resets the {@link Executor} to the {@link AsyncGemfireTemplate#defaultExecutor()}.
+	 * @see java.util.concurrent.Executor
+	 */
+	public void setExecutor(@Nullable Executor executor) {
+		this.executor = executor != null ? executor : AsyncGemfireTemplate.defaultExecutor();
+	}
+
+	/**
+	 * Returns the {@link Executor} used to perform the blocking {@link Region} operations
+	 * of the asynchronous {@link #retrieve(Object)} and {@link #retrieve(Object, Supplier)} methods.
+	 *
+	 * @return the {@link Executor} used to perform blocking {@link Region} operations.
+	 * @see java.util.concurrent.Executor
+	 */
+	public @NonNull Executor getExecutor() {
+		return this.executor;
+	}
+
+	/**
+	 * Configures refresh-ahead for values loaded by {@link #get(Object, Callable)}.
+	 *
+	 * When the value for a key is read after the given fraction of the entry's {@link #getTimeToLive() time-to-live}
+	 * has elapsed since the value was stored, the value is reloaded in the background on
+	 * the {@link #getRefreshExecutor() refresh Executor} while the current value is returned.
+	 *
+	 * @param refreshAheadFactor fraction of the time-to-live after which values are refreshed, greater than
+	 * {@literal 0.0} and at most {@literal 1.0}; {@literal 0.0} disables refresh-ahead.
+	 * @throws IllegalArgumentException if the refresh-ahead factor is less than {@literal 0.0}
+	 * or greater than {@literal 1.0}.
+	 * @see #setStaleGracePeriod(Duration)
+	 * @see #setTimeToLive(ExpirationAttributes)
+	 */
+	public void setRefreshAheadFactor(double refreshAheadFactor) {
+
+		Assert.isTrue(refreshAheadFactor >= 0.0d && refreshAheadFactor <= 1.0d,
+			String.format("Refresh-ahead factor [%s] must be between 0.0 and 1.0", refreshAheadFactor));
+
+		this.refreshAheadFactor = refreshAheadFactor;
+	}
+
+	/**
+	 * Returns the fraction of the entry's time-to-live after which values are refreshed in the background.
+	 *
+	 * @return the refresh-ahead factor; {@literal 0.0} if refresh-ahead is disabled.
+	 * @see #setRefreshAheadFactor(double)
+	 */
+	public double getRefreshAheadFactor() {
+		return this.refreshAheadFactor;
+	}
+
+	/**
+	 * Determines whether values loaded by {@link #get(Object, Callable)} are refreshed ahead of their expiration.
+	 *
+	 * @return a boolean value indicating whether refresh-ahead is enabled.
+	 * @see #setRefreshAheadFactor(double)
+	 */
+	public boolean isRefreshAheadEnabled() {
+		return getRefreshAheadFactor() > 0.0d;
+	}
+
+	/**
+	 * Configures the period after a value has expired during which {@link #get(Object, Callable)} returns
+	 * the stale value while the value is reloaded in the background.
+	 *
+	 * A stale value is only served when refresh-ahead is {@link #isRefreshAheadEnabled() enabled}, the value is
+	 * at least as old as the {@link #getTimeToLive() time-to-live}, and the value was not {@link #evict(Object)
+	 * evicted} or {@link #clear() cleared} from this cache. Values destroyed or invalidated in the {@link Region}
+	 * other than by expiration are not served either, provided this member receives the {@link Region} events;
+	 * client {@link Region Regions} only receive events for changes made by other clients when interest is
+	 * registered.
+	 *
+	 * Values are only retained for stale reads while a grace period is set, so values stored before the grace period
+	 * was set are not served stale.
+	 *
+	 * @param staleGracePeriod {@link Duration} during which stale values are served;
+	 * {@literal null} or {@link Duration#ZERO} disables serving stale values.
+	 * @see #setRefreshAheadFactor(double)
+	 */
+	public void setStaleGracePeriod(@Nullable Duration staleGracePeriod) {
+
+		this.staleGracePeriod = staleGracePeriod != null && !staleGracePeriod.isNegative()
+			? staleGracePeriod
+			: Duration.ZERO;
+
+		if (!this.staleGracePeriod.isZero()) {
+			registerStoredValueForgettingCacheListener();
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private synchronized void registerStoredValueForgettingCacheListener() {
+
+		AttributesMutator attributesMutator = getNativeCache().getAttributesMutator();
+
+		if (!this.storedValueForgettingCacheListenerRegistered && attributesMutator != null) {
+			attributesMutator.addCacheListener(this.storedValueForgettingCacheListener);
+			this.storedValueForgettingCacheListenerRegistered = true;
+		}
+	}
+
+	/**
+	 * Returns the period after a value has expired during which the stale value is served.
+	 *
+	 * @return the {@link Duration} during which stale values are served.
+	 * @see #setStaleGracePeriod(Duration)
+	 */
+	public @NonNull Duration getStaleGracePeriod() {
+		return this.staleGracePeriod;
+	}
+
+	/**
+	 * Configures the {@link Executor} used to reload values in the background.
+	 *
+	 * The {@link Executor} should be bounded; refreshes rejected by the {@link Executor} are skipped.
+	 *
+	 * @param refreshExecutor {@link Executor} used to reload values; {@literal null} resets the {@link Executor}
+	 * to a shared, bounded thread pool.
+	 * @see #setRefreshAheadFactor(double)
+	 */
+	public void setRefreshExecutor(@Nullable Executor refreshExecutor) {
+		this.refreshExecutor = refreshExecutor != null ? refreshExecutor : RefreshAheadLoader.DEFAULT_REFRESH_EXECUTOR;
+	}
+
+	/**
+	 * Returns the {@link Executor} used to reload values in the background.
+	 *
+	 * @return the {@link Executor} used to reload values.
+	 * @see #setRefreshExecutor(Executor)
+	 */
+	public @NonNull Executor getRefreshExecutor() {
+		return this.refreshExecutor;
+	}
+
+	/**
+	 * Configures the time-to-live of the entries in this cache used to determine when values are refreshed,
+	 * such as the {@link ExpirationAttributes} created by
+	 * an {@link org.springframework.data.gemfire.expiration.ExpirationAttributesFactoryBean}.
+	 *
+	 * If not set, the entry time-to-live of the {@link Region} is used.  The time-to-live must be set explicitly
+	 * for client {@link Region Regions} whose entries expire on the server.
+	 *
+	 * @param timeToLive {@link ExpirationAttributes} specifying the time-to-live of the entries in this cache.
+	 * @see org.apache.geode.cache.RegionAttributes#getEntryTimeToLive()
+	 */
+	public void setTimeToLive(@Nullable ExpirationAttributes timeToLive) {
+		this.timeToLive = timeToLive;
+	}
+
+	/**
+	 * Returns the time-to-live of the entries in this cache used to determine when values are refreshed.
+	 *
+	 * @return the {@link ExpirationAttributes} specifying the time-to-live of the entries in this cache,
+	 * or {@literal null} if the entries in this cache do not expire.
+	 * @see #setTimeToLive(ExpirationAttributes)
+	 */
+	public @Nullable ExpirationAttributes getTimeToLive() {
+
+		if (this.timeToLive != null) {
+			return this.timeToLive;
+		}
+
+		RegionAttributes regionAttributes = getNativeCache().getAttributes();
+
+		return regionAttributes != null ? regionAttributes.getEntryTimeToLive() : null;
+	}
+
+	long getTimeToLiveMillis() {
+
+		ExpirationAttributes timeToLive = getTimeToLive();
+
+		return timeToLive != null ? TimeUnit.SECONDS.toMillis(timeToLive.getTimeout()) : 0L;
+	}
+
+	/**
+	 * Returns the {@link Long number} of values reloaded in the background.
+	 *
+	 * @return the {@link Long number} of values reloaded in the background.
+	 * @see #setRefreshAheadFactor(double)
+	 */
+	public long getRefreshCount() {
+		return this.refreshAheadLoader.getRefreshCount();
+	}
+
+	/**
+	 * Returns the {@link Long number} of background reloads skipped because
+	 * the {@link #getRefreshExecutor() refresh Executor} rejected them.
+	 *
+	 * @return the {@link Long number} of rejected background reloads.
+	 * @see #setRefreshExecutor(Executor)
+	 */
+	public long getRejectedRefreshCount() {
+		return this.refreshAheadLoader.getRejectedRefreshCount();
+	}
+
+	/**
+	 * Returns the {@link Long number} of stale values returned during the {@link #getStaleGracePeriod() grace period}.
+	 *
+	 * @return the {@link Long number} of stale values returned.
+	 * @see #setStaleGracePeriod(Duration)
+	 */
+	public long getStaleReadCount() {
+		return this.refreshAheadLoader.getStaleReadCount();
+	}
+
+	/**
+	 * Returns the {@link GemfireCacheStatistics} recording the hits, misses, puts, explicit evictions and loads
+	 * of this Spring {@link Cache}.
+	 *
+	 * @return the {@link GemfireCacheStatistics} of this Spring {@link Cache}.
+	 * @see org.springframework.data.gemfire.cache.GemfireCacheStatistics
+	 */
+	public @NonNull GemfireCacheStatistics getStatistics() {
+		return this.statistics;
+	}
+
 	/**
 	 * Returns the GemFire {@link Region} used as the implementation for this Spring {@link Cache}.
 	 *
@@ -93,6 +440,8 @@ public class GemfireCache implements Cache {
 	 */
 	public void clear() {
 		getNativeCache().clear();
+		this.refreshAheadLoader.forgetAll();
+		this.statistics.recordClear();
 	}
 
 	/**
@@ -103,6 +452,50 @@ public class GemfireCache implements Cache {
 	 */
 	public void evict(Object key) {
 		getNativeCache().remove(key);
+		this.refreshAheadLoader.forget(key);
+		this.statistics.recordExplicitEviction();
+	}
+
+	/**
+	 * Looks up the value for the given key in this Spring {@link Cache}.
+	 *
+	 * All read operations of this {@link Cache} perform their lookups with this method.
+	 *
+	 * @param key key identifying the value to lookup.
+	 * @return the value for the given key or {@literal null} if this {@link Cache} contains no value for the key.
+	 * @see org.apache.geode.cache.Region#get(Object)
+	 */
+	protected @Nullable Object lookup(Object key) {
+		return getNativeCache().get(key);
+	}
+
+	/**
+	 * Looks up the value for the given key again before loading it, since another {@link Thread} or member
+	 * may have loaded the value after the initial {@link #lookup(Object) lookup} missed.
+	 *
+	 * The initial lookup already accounts for the read, therefore subclasses recording their lookups
+	 * should not record this lookup again.
+	 *
+	 * @param key key identifying the value to lookup.
+	 * @return the value for the given key or {@literal null} if this {@link Cache} contains no value for the key.
+	 * @see #lookup(Object)
+	 */
+	protected @Nullable Object lookupBeforeLoad(Object key) {
+		return lookup(key);
+	}
+
+	private Object lookupAndRecord(Object key) {
+
+		Object value = lookup(key);
+
+		if (value != null) {
+			this.statistics.recordHit();
+		}
+		else {
+			this.statistics.recordMiss();
+		}
+
+		return value;
 	}
 
 	/**
@@ -116,7 +509,7 @@ public class GemfireCache implements Cache {
 	 */
 	public ValueWrapper get(Object key) {
 
-		Object value = getNativeCache().get(key);
+		Object value = lookupAndRecord(key);
 
 		return value != null ? new SimpleValueWrapper(value) : null;
 	}
@@ -134,7 +527,7 @@ public class GemfireCache implements Cache {
 	@SuppressWarnings("unchecked")
 	public <T> T get(Object key, Class<T> type) {
 
-		Object value = getNativeCache().get(key);
+		Object value = lookupAndRecord(key);
 
 		if (value != null && type != null && !type.isInstance(value)) {
 			throw new IllegalStateException(String.format(
@@ -150,6 +543,16 @@ public class GemfireCache implements Cache {
 	 * {@link Callable} {@code valueLoader} will be called to obtain a value and add the entry
 	 * to this cache.
 	 *
+	 * Loads are coordinated per key: concurrent calls for the same key wait for, and share the result of,
+	 * a single in-flight load, while values for different keys are loaded in parallel. When
+	 * a {@link DistributedLockService} is {@link #setDistributedLockService(DistributedLockService) configured},
+	 * the in-flight load additionally holds a distributed lock on the key so that only one member
+	 * in the cluster loads the value for a given key at a time.
+	 *
+	 * When {@link #setRefreshAheadFactor(double) refresh-ahead} is enabled, values read near the end of their
+	 * time-to-live are reloaded in the background, and a value that expired less than
+	 * the {@link #getStaleGracePeriod() grace period} ago is returned while it is reloaded.
+	 *
 	 * @param <T> {@link Class} type of the value.
 	 * @param key key identifying the the value to retrieve from the cache.
 	 * @param valueLoader {@link Callable} object used to load a value if the entry identified by the key
@@ -163,24 +566,142 @@ public class GemfireCache implements Cache {
 	@SuppressWarnings("unchecked")
 	public <T> T get(Object key, Callable<T> valueLoader) {
 
-		T value = (T) get(key, Object.class);
+		long timeToLive = isRefreshAheadEnabled() ? getTimeToLiveMillis() : 0L;
 
-		if (value == null) {
-			synchronized (getNativeCache()) {
-				value = (T) get(key, Object.class);
+		T value = (T) lookup(key);
 
-				if (value == null) {
-					try {
-						value = valueLoader.call();
-						put(key, value);
-					}
-					catch (Exception e) {
-						throw new ValueRetrievalException(key, valueLoader, e);
+		if (timeToLive > 0L) {
+
+			RefreshAheadLoader.StoredValue storedValue = this.refreshAheadLoader.storedValue(key);
+
+			if (storedValue != null) {
+
+				long age = storedValue.getAge();
+
+				if (value != null) {
+					if (age >= timeToLive * getRefreshAheadFactor()) {
+						refresh(key, valueLoader);
 					}
 				}
+				else if (storedValue.getValue() != null
+						&& age >= timeToLive && age < timeToLive + getStaleGracePeriod().toMillis()) {
+
+					refresh(key, valueLoader);
+					this.refreshAheadLoader.staleRead();
+					this.statistics.recordHit();
+					return (T) storedValue.getValue();
+				}
 			}
 		}
 
+		if (value != null) {
+			this.statistics.recordHit();
+			return value;
+		}
+
+		this.statistics.recordMiss();
+
+		return load(key, valueLoader);
+	}
+
+	private void refresh(Object key, Callable<?> valueLoader) {
+
+		this.refreshAheadLoader.refresh(key, () -> {
+			try {
+				loadAndPut(key, valueLoader);
+			}
+			catch (RuntimeException cause) {
+				this.logger.warn("Failed to refresh value for key [{}] in cache [{}]", key, getName(), cause);
+			}
+		}, getRefreshExecutor());
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> T load(Object key, Callable<T> valueLoader) {
+
+		CompletableFuture<Object> load = new CompletableFuture<>();
+
+		CompletableFuture<Object> inFlightLoad = this.inFlightLoads.putIfAbsent(key, load);
+
+		if (inFlightLoad != null) {
+			try {
+				return (T) inFlightLoad.join();
+			}
+			catch (CompletionException cause) {
+
+				if (cause.getCause() instanceof Error) {
+					throw (Error) cause.getCause();
+				}
+
+				throw cause.getCause() instanceof RuntimeException
+					? (RuntimeException) cause.getCause()
+					: new ValueRetrievalException(key, valueLoader, cause.getCause());
+			}
+		}
+
+		try {
+
+			T value = (T) lookupBeforeLoad(key);
+
+			if (value == null) {
+				value = isDistributedLockingEnabled()
+					? loadWithDistributedLock(key, valueLoader)
+					: loadAndPut(key, valueLoader);
+			}
+
+			load.complete(value);
+
+			return value;
+		}
+		catch (Throwable cause) {
+			load.completeExceptionally(cause);
+			throw cause;
+		}
+		finally {
+			this.inFlightLoads.remove(key, load);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> T loadWithDistributedLock(Object key, Callable<T> valueLoader) {
+
+		DistributedLockService distributedLockService = getDistributedLockService();
+
+		boolean locked = distributedLockService.lock(key, getDistributedLockWaitTimeout(),
+			getDistributedLockLeaseTimeout());
+
+		try {
+
+			// another member may have loaded the value while this member was waiting for the lock
+			T value = locked ? (T) lookupBeforeLoad(key) : null;
+
+			return value != null ? value : loadAndPut(key, valueLoader);
+		}
+		finally {
+			if (locked) {
+				distributedLockService.unlock(key);
+			}
+		}
+	}
+
+	private <T> T loadAndPut(Object key, Callable<T> valueLoader) {
+
+		long startTime = System.nanoTime();
+
+		T value;
+
+		try {
+			value = valueLoader.call();
+		}
+		catch (Exception cause) {
+			this.statistics.recordLoad(System.nanoTime() - startTime, false);
+			throw new ValueRetrievalException(key, valueLoader, cause);
+		}
+
+		this.statistics.recordLoad(System.nanoTime() - startTime, true);
+
+		put(key, value);
+
 		return value;
 	}
 
@@ -196,7 +717,14 @@ public class GemfireCache implements Cache {
 	public void put(Object key, Object value) {
 
 		if (value != null) {
+
 			getNativeCache().put(key, value);
+
+			this.statistics.recordPut();
+
+			if (isRefreshAheadEnabled()) {
+				this.refreshAheadLoader.stored(key, value, !getStaleGracePeriod().isZero());
+			}
 		}
 	}
 
@@ -216,4 +744,157 @@ public class GemfireCache implements Cache {
 
 		return (existingValue != null ? new SimpleValueWrapper(existingValue) : null);
 	}
+
+	/**
+	 * Asynchronously returns the cache value for the given key, satisfying the asynchronous retrieval extension
+	 * of the {@link Cache} interface in Spring 6.1. Don't add the {@link Override} annotation otherwise this will
+	 * break the compilation on earlier versions.
+	 *
+	 * The {@link Region} lookup is performed on the configured {@link #getExecutor() Executor}.
+	 *
+	 * @param key key identifying the value to retrieve from the cache.
+	 * @return a {@link CompletableFuture} completed with the cache value for the given key,
+	 * or {@literal null} if the cache contains no value for the key.
+	 * @see org.apache.geode.cache.Region#get(Object)
+	 * @see #getExecutor()
+	 */
+	public CompletableFuture<?> retrieve(Object key) {
+		return lookupAsync(key);
+	}
+
+	/**
+	 * Asynchronously returns the cache value for the given key, obtaining the value from the given
+	 * {@link Supplier} {@code valueLoader} if the cache contains no value for the key, satisfying
+	 * the asynchronous retrieval extension of the {@link Cache} interface in Spring 6.1.
+	 *
+	 * Concurrent retrievals for the same key share a single, in-flight lookup and load. The {@link Region}
+	 * lookup and the store of the loaded value are performed on the configured {@link #getExecutor() Executor},
+	 * so the calling thread is never blocked.
+	 *
+	 * @param <T> {@link Class} type of the value.
+	 * @param key key identifying the value to retrieve from the cache.
+	 * @param valueLoader {@link Supplier} of a {@link CompletableFuture} used to load a value
+	 * if the cache contains no value for the key.
+	 * @return a {@link CompletableFuture} completed with the cache value for the given key or the loaded value.
+	 * The {@link CompletableFuture} completes exceptionally with
+	 * a {@link org.springframework.cache.Cache.ValueRetrievalException} if the value could not be loaded.
+	 * @see #retrieve(Object)
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+
+		CompletableFuture<Object> retrieval = new CompletableFuture<>();
+
+		CompletableFuture<Object> inFlightRetrieval = this.inFlightRetrievals.putIfAbsent(key, retrieval);
+
+		if (inFlightRetrieval != null) {
+			return inFlightRetrieval.thenApply(value -> (T) value);
+		}
+
+		retrieval.whenComplete((value, cause) -> this.inFlightRetrievals.remove(key, retrieval));
+
+		lookupAsync(key)
+			.thenCompose(value -> value != null ? CompletableFuture.completedFuture(value) : loadAsync(key, valueLoader))
+			.whenComplete((value, cause) -> {
+				if (cause != null) {
+					retrieval.completeExceptionally(cause instanceof CompletionException ? cause.getCause() : cause);
+				}
+				else {
+					retrieval.complete(value);
+				}
+			});
+
+		return retrieval.thenApply(value -> (T) value);
+	}
+
+	private CompletableFuture<Object> lookupAsync(Object key) {
+		return CompletableFuture.supplyAsync(() -> lookupAndRecord(key), getExecutor());
+	}
+
+	private <T> CompletableFuture<Object> loadAsync(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+
+		long startTime = System.nanoTime();
+
+		CompletableFuture<T> load;
+
+		try {
+			load = valueLoader.get();
+		}
+		catch (RuntimeException cause) {
+			load = new CompletableFuture<>();
+			load.completeExceptionally(cause);
+		}
+
+		Assert.state(load != null, "Value loader must not return a null CompletableFuture");
+
+		return load.handle((value, cause) -> {
+
+			this.statistics.recordLoad(System.nanoTime() - startTime, cause == null);
+
+			if (cause != null) {
+				throw new ValueRetrievalException(key, null,
+					cause instanceof CompletionException ? cause.getCause() : cause);
+			}
+
+			return value;
+
+		}).thenApplyAsync(value -> {
+			put(key, value);
+			return value;
+		}, getExecutor());
+	}
+
+	/**
+	 * Unregisters the {@link org.apache.geode.cache.CacheListener} registered on the GemFire {@link Region}
+	 * by this Spring {@link Cache}, if any.
+	 */
+	@SuppressWarnings("unchecked")
+	public synchronized void close() {
+
+		Region region = getNativeCache();
+
+		if (this.storedValueForgettingCacheListenerRegistered && !region.isDestroyed()) {
+			region.getAttributesMutator().removeCacheListener(this.storedValueForgettingCacheListener);
+		}
+
+		this.storedValueForgettingCacheListenerRegistered = false;
+		this.refreshAheadLoader.forgetAll();
+	}
+
+	// forgets stored values that were removed from the Region other than by expiration so they are not served stale
+	private class StoredValueForgettingCacheListener extends CacheListenerAdapter<Object, Object> {
+
+		@Override
+		public void afterDestroy(EntryEvent<Object, Object> event) {
+			forget(event);
+		}
+
+		@Override
+		public void afterInvalidate(EntryEvent<Object, Object> event) {
+			forget(event);
+		}
+
+		@Override
+		public void afterRegionClear(RegionEvent<Object, Object> event) {
+			refreshAheadLoader.forgetAll();
+		}
+
+		@Override
+		public void afterRegionDestroy(RegionEvent<Object, Object> event) {
+			refreshAheadLoader.forgetAll();
+		}
+
+		@Override
+		public void afterRegionInvalidate(RegionEvent<Object, Object> event) {
+			if (!event.getOperation().isExpiration()) {
+				refreshAheadLoader.forgetAll();
+			}
+		}
+
+		private void forget(EntryEvent<Object, Object> event) {
+			if (!event.getOperation().isExpiration()) {
+				refreshAheadLoader.forget(event.getKey());
+			}
+		}
+	}
 }
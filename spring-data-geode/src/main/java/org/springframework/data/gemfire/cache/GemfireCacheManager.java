@@ -17,14 +17,23 @@
 
 package org.springframework.data.gemfire.cache;
 
+import java.time.Duration;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import org.apache.geode.StatisticsFactory;
+import org.apache.geode.cache.ExpirationAttributes;
 import org.apache.geode.cache.GemFireCache;
 import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionService;
+import org.apache.geode.distributed.DistributedLockService;
 
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.support.AbstractCacheManager;
@@ -47,10 +56,30 @@ import org.springframework.util.Assert;
  * @see org.apache.geode.cache.Region
  */
 @SuppressWarnings("unused")
-public class GemfireCacheManager extends AbstractCacheManager {
+public class GemfireCacheManager extends AbstractCacheManager implements DisposableBean {
+
+	protected static final String DISTRIBUTED_LOCK_SERVICE_NAME_PREFIX = "GemfireCacheManager";
 
 	private final AtomicBoolean dynamic = new AtomicBoolean(true);
 
+	private boolean distributedLockingEnabled = false;
+	private boolean localCacheEnabled = false;
+	private boolean localCacheInterestRegistrationEnabled = false;
+	private boolean statisticsEnabled = false;
+
+	private int localCacheMaximumSize = TwoLevelGemfireCache.DEFAULT_MAXIMUM_SIZE;
+
+	private Duration localCacheTimeToLive = TwoLevelGemfireCache.DEFAULT_LOCAL_TIME_TO_LIVE;
+
+	private double refreshAheadFactor = 0.0d;
+
+	private Duration staleGracePeriod;
+
+	private Executor executor;
+	private Executor refreshExecutor;
+
+	private ExpirationAttributes timeToLive;
+
 	private org.apache.geode.cache.GemFireCache gemfireCache;
 
 	private Set<Region<?, ?>> regions;
@@ -140,13 +169,113 @@ public class GemfireCacheManager extends AbstractCacheManager {
 	/**
 	 * Constructs a new instance of {@link GemfireCache} initialized with the given GemFire {@link Region}.
 	 *
+	 * When the {@link #setLocalCacheEnabled(boolean) local cache} is enabled, the {@link GemfireCache}
+	 * is a {@link TwoLevelGemfireCache} serving hot reads from a bounded, in-process cache.
+	 *
 	 * @param region GemFire {@link Region} to wrap (adapt).
 	 * @return an instance of {@link GemfireCache} initialized with the given GemFire {@link Region}.
 	 * @see GemfireCache
+	 * @see TwoLevelGemfireCache
 	 * @see org.apache.geode.cache.Region
 	 */
 	protected GemfireCache newGemfireCache(Region<?, ?> region) {
-		return GemfireCache.wrap(region);
+
+		GemfireCache cache = isLocalCacheEnabled() ? newTwoLevelGemfireCache(region) : GemfireCache.wrap(region);
+
+		cache.setExecutor(getExecutor());
+		cache.setRefreshAheadFactor(getRefreshAheadFactor());
+		cache.setRefreshExecutor(getRefreshExecutor());
+		cache.setStaleGracePeriod(getStaleGracePeriod());
+		cache.setTimeToLive(getTimeToLive());
+
+		if (isStatisticsEnabled()) {
+			registerStatistics(cache);
+		}
+
+		if (isDistributedLockingEnabled()) {
+			cache.setDistributedLockService(resolveDistributedLockService(region));
+		}
+
+		return cache;
+	}
+
+	private TwoLevelGemfireCache newTwoLevelGemfireCache(Region<?, ?> region) {
+
+		TwoLevelGemfireCache cache = new TwoLevelGemfireCache(region, getLocalCacheMaximumSize(),
+			isLocalCacheInterestRegistrationEnabled());
+
+		cache.setLocalTimeToLive(getLocalCacheTimeToLive());
+
+		return cache;
+	}
+
+	/**
+	 * Registers the {@link GemfireCacheStatistics} of the given {@link GemfireCache} with the Apache Geode
+	 * {@link StatisticsFactory} of the cache instance owning the {@link Region} backing the {@link GemfireCache}.
+	 *
+	 * @param cache {@link GemfireCache} whose statistics are registered.
+	 * @see org.springframework.data.gemfire.cache.GemfireCacheStatistics#register(StatisticsFactory, String)
+	 */
+	protected void registerStatistics(GemfireCache cache) {
+
+		RegionService regionService = cache.getNativeCache().getRegionService();
+
+		if (regionService instanceof GemFireCache) {
+
+			StatisticsFactory statisticsFactory = ((GemFireCache) regionService).getDistributedSystem();
+
+			cache.getStatistics().register(statisticsFactory, cache.getName());
+		}
+	}
+
+	/**
+	 * Closes the Apache Geode {@link org.apache.geode.Statistics} registered for the {@link GemfireCache GemfireCaches}
+	 * managed by this {@link CacheManager}, then {@link GemfireCache#close() closes} the {@link GemfireCache caches}.
+	 *
+	 * @see org.springframework.data.gemfire.cache.GemfireCache#close()
+	 * @see org.springframework.data.gemfire.cache.GemfireCacheStatistics#close()
+	 */
+	@Override
+	public void destroy() {
+
+		for (String cacheName : getCacheNames()) {
+
+			Cache cache = lookupCache(cacheName);
+
+			if (cache instanceof GemfireCache) {
+				((GemfireCache) cache).getStatistics().close();
+				((GemfireCache) cache).close();
+			}
+		}
+	}
+
+	/**
+	 * Resolves the {@link DistributedLockService} used by the {@link GemfireCache} for the given {@link Region}
+	 * to lock keys while loading values, creating the {@link DistributedLockService} if necessary.
+	 *
+	 * @param region GemFire {@link Region} backing the {@link GemfireCache}.
+	 * @return the {@link DistributedLockService} for the given {@link Region}.
+	 * @throws IllegalStateException if the {@link Region} does not belong to a peer cache.
+	 * @see org.apache.geode.distributed.DistributedLockService
+	 */
+	protected DistributedLockService resolveDistributedLockService(Region<?, ?> region) {
+
+		RegionService regionService = region.getRegionService();
+
+		Assert.state(regionService instanceof org.apache.geode.cache.Cache,
+			String.format("Distributed locking requires a peer cache; Region [%s] belongs to a client cache",
+				region.getFullPath()));
+
+		String serviceName = DISTRIBUTED_LOCK_SERVICE_NAME_PREFIX + region.getFullPath();
+
+		synchronized (DistributedLockService.class) {
+
+			DistributedLockService distributedLockService = DistributedLockService.getServiceNamed(serviceName);
+
+			return distributedLockService != null ? distributedLockService
+				: DistributedLockService.create(serviceName,
+					((org.apache.geode.cache.Cache) regionService).getDistributedSystem());
+		}
 	}
 
 	/* (non-Javadoc) */
@@ -184,6 +313,298 @@ public class GemfireCacheManager extends AbstractCacheManager {
 		return dynamic.get();
 	}
 
+	/**
+	 * Sets whether values loaded by {@link GemfireCache#get(Object, java.util.concurrent.Callable)} are guarded by
+	 * a cluster-wide lock on the key, so that only one member in the cluster loads the value for a given key.
+	 *
+	 * Distributed locking uses a {@link DistributedLockService} per {@link Region} and is only available
+	 * to peer caches.  Defaults to {@literal false}.
+	 *
+	 * @param distributedLockingEnabled boolean value indicating whether distributed locking is enabled.
+	 * @see org.springframework.data.gemfire.cache.GemfireCache#setDistributedLockService(DistributedLockService)
+	 */
+	public void setDistributedLockingEnabled(boolean distributedLockingEnabled) {
+		this.distributedLockingEnabled = distributedLockingEnabled;
+	}
+
+	/**
+	 * Determines whether values loaded by {@link GemfireCache#get(Object, java.util.concurrent.Callable)} are guarded by
+	 * a cluster-wide lock on the key.
+	 *
+	 * @return a boolean value indicating whether distributed locking is enabled.
+	 * @see #setDistributedLockingEnabled(boolean)
+	 */
+	public boolean isDistributedLockingEnabled() {
+		return this.distributedLockingEnabled;
+	}
+
+	/**
+	 * Sets whether each {@link Region} backed Spring {@link Cache} serves reads from a bounded, in-process (L1) cache
+	 * in front of the {@link Region} (L2).  Defaults to {@literal false}.
+	 *
+	 * @param localCacheEnabled boolean value indicating whether the local cache is enabled.
+	 * @see org.springframework.data.gemfire.cache.TwoLevelGemfireCache
+	 */
+	public void setLocalCacheEnabled(boolean localCacheEnabled) {
+		this.localCacheEnabled = localCacheEnabled;
+	}
+
+	/**
+	 * Determines whether each {@link Region} backed Spring {@link Cache} serves reads from a local (L1) cache.
+	 *
+	 * @return a boolean value indicating whether the local cache is enabled.
+	 * @see #setLocalCacheEnabled(boolean)
+	 */
+	public boolean isLocalCacheEnabled() {
+		return this.localCacheEnabled;
+	}
+
+	/**
+	 * Sets whether interest in all keys is registered for client {@link Region Regions} so that changes made
+	 * by other clients invalidate the local (L1) cache.  Requires a subscription enabled
+	 * {@link org.apache.geode.cache.client.Pool}.  Defaults to {@literal false}.
+	 *
+	 * @param localCacheInterestRegistrationEnabled boolean value indicating whether to register interest.
+	 * @see #setLocalCacheEnabled(boolean)
+	 */
+	public void setLocalCacheInterestRegistrationEnabled(boolean localCacheInterestRegistrationEnabled) {
+		this.localCacheInterestRegistrationEnabled = localCacheInterestRegistrationEnabled;
+	}
+
+	/**
+	 * Determines whether interest in all keys is registered for client {@link Region Regions}
+	 * backing a local (L1) cache.
+	 *
+	 * @return a boolean value indicating whether interest is registered.
+	 * @see #setLocalCacheInterestRegistrationEnabled(boolean)
+	 */
+	public boolean isLocalCacheInterestRegistrationEnabled() {
+		return this.localCacheInterestRegistrationEnabled;
+	}
+
+	/**
+	 * Sets the {@link Integer maximum number} of entries held in the local (L1) cache of each Spring {@link Cache}.
+	 *
+	 * @param localCacheMaximumSize {@link Integer maximum number} of entries; must be greater than {@literal 0}.
+	 * @throws IllegalArgumentException if the maximum size is less than {@literal 1}.
+	 * @see #setLocalCacheEnabled(boolean)
+	 */
+	public void setLocalCacheMaximumSize(int localCacheMaximumSize) {
+
+		Assert.isTrue(localCacheMaximumSize > 0,
+			String.format("Local cache maximum size [%d] must be greater than 0", localCacheMaximumSize));
+
+		this.localCacheMaximumSize = localCacheMaximumSize;
+	}
+
+	/**
+	 * Returns the {@link Integer maximum number} of entries held in the local (L1) cache of each Spring {@link Cache}.
+	 *
+	 * @return the {@link Integer maximum number} of entries held in the local cache.
+	 * @see #setLocalCacheMaximumSize(int)
+	 */
+	public int getLocalCacheMaximumSize() {
+		return this.localCacheMaximumSize;
+	}
+
+	/**
+	 * Sets the {@link Duration} after which an entry in the local (L1) cache of each Spring {@link Cache} expires,
+	 * bounded by the time-to-live of the {@link Region} entries.
+	 *
+	 * @param localCacheTimeToLive {@link Duration} after which an entry in the local cache expires;
+	 * must be positive.
+	 * @see TwoLevelGemfireCache#setLocalTimeToLive(Duration)
+	 * @see #setLocalCacheEnabled(boolean)
+	 */
+	public void setLocalCacheTimeToLive(Duration localCacheTimeToLive) {
+
+		Assert.isTrue(localCacheTimeToLive != null && !localCacheTimeToLive.isNegative()
+			&& !localCacheTimeToLive.isZero(), () -> String.format("Local cache time-to-live [%s] must be positive",
+				localCacheTimeToLive));
+
+		this.localCacheTimeToLive = localCacheTimeToLive;
+	}
+
+	/**
+	 * Returns the {@link Duration} after which an entry in the local (L1) cache of each Spring {@link Cache} expires.
+	 *
+	 * @return the {@link Duration} after which an entry in the local cache expires.
+	 * @see #setLocalCacheTimeToLive(Duration)
+	 */
+	public Duration getLocalCacheTimeToLive() {
+		return this.localCacheTimeToLive;
+	}
+
+	/**
+	 * Sets the {@link Executor} used by the {@link GemfireCache GemfireCaches} managed by this {@link CacheManager}
+	 * to perform the blocking {@link Region} operations of asynchronous cache retrievals.
+	 *
+	 * @param executor {@link Executor} used to perform blocking {@link Region} operations;
+	 * {@literal null} uses the {@link org.springframework.data.gemfire.AsyncGemfireTemplate#defaultExecutor()}.
+	 * @see org.springframework.data.gemfire.cache.GemfireCache#setExecutor(Executor)
+	 */
+	public void setExecutor(Executor executor) {
+		this.executor = executor;
+	}
+
+	/**
+	 * Returns the {@link Executor} used by the {@link GemfireCache GemfireCaches} managed by this {@link CacheManager}
+	 * to perform the blocking {@link Region} operations of asynchronous cache retrievals.
+	 *
+	 * @return the configured {@link Executor}, or {@literal null} if the default {@link Executor} is used.
+	 * @see #setExecutor(Executor)
+	 */
+	protected Executor getExecutor() {
+		return this.executor;
+	}
+
+	/**
+	 * Sets the fraction of an entry's time-to-live after which values loaded by the {@link GemfireCache GemfireCaches}
+	 * managed by this {@link CacheManager} are refreshed in the background.  Defaults to {@literal 0.0}, which
+	 * disables refresh-ahead.
+	 *
+	 * @param refreshAheadFactor fraction of the time-to-live after which values are refreshed,
+	 * between {@literal 0.0} and {@literal 1.0}.
+	 * @throws IllegalArgumentException if the refresh-ahead factor is less than {@literal 0.0}
+	 * or greater than {@literal 1.0}.
+	 * @see org.springframework.data.gemfire.cache.GemfireCache#setRefreshAheadFactor(double)
+	 */
+	public void setRefreshAheadFactor(double refreshAheadFactor) {
+
+		Assert.isTrue(refreshAheadFactor >= 0.0d && refreshAheadFactor <= 1.0d,
+			String.format("Refresh-ahead factor [%s] must be between 0.0 and 1.0", refreshAheadFactor));
+
+		this.refreshAheadFactor = refreshAheadFactor;
+	}
+
+	/**
+	 * Returns the fraction of an entry's time-to-live after which values are refreshed in the background.
+	 *
+	 * @return the refresh-ahead factor; {@literal 0.0} if refresh-ahead is disabled.
+	 * @see #setRefreshAheadFactor(double)
+	 */
+	protected double getRefreshAheadFactor() {
+		return this.refreshAheadFactor;
+	}
+
+	/**
+	 * Sets the bounded {@link Executor} used by the {@link GemfireCache GemfireCaches} managed by
+	 * this {@link CacheManager} to refresh values in the background.
+	 *
+	 * @param refreshExecutor {@link Executor} used to refresh values; {@literal null} uses a shared,
+	 * bounded thread pool.
+	 * @see org.springframework.data.gemfire.cache.GemfireCache#setRefreshExecutor(Executor)
+	 */
+	public void setRefreshExecutor(Executor refreshExecutor) {
+		this.refreshExecutor = refreshExecutor;
+	}
+
+	/**
+	 * Returns the {@link Executor} used to refresh values in the background.
+	 *
+	 * @return the configured {@link Executor}, or {@literal null} if the shared thread pool is used.
+	 * @see #setRefreshExecutor(Executor)
+	 */
+	protected Executor getRefreshExecutor() {
+		return this.refreshExecutor;
+	}
+
+	/**
+	 * Sets the period after a value has expired during which the stale value is returned
+	 * while the value is refreshed in the background.
+	 *
+	 * @param staleGracePeriod {@link Duration} during which stale values are served.
+	 * @see org.springframework.data.gemfire.cache.GemfireCache#setStaleGracePeriod(Duration)
+	 */
+	public void setStaleGracePeriod(Duration staleGracePeriod) {
+		this.staleGracePeriod = staleGracePeriod;
+	}
+
+	/**
+	 * Returns the period after a value has expired during which the stale value is returned.
+	 *
+	 * @return the {@link Duration} during which stale values are served.
+	 * @see #setStaleGracePeriod(Duration)
+	 */
+	protected Duration getStaleGracePeriod() {
+		return this.staleGracePeriod;
+	}
+
+	/**
+	 * Sets the time-to-live of the entries in the {@link Region Regions} backing the {@link GemfireCache GemfireCaches}
+	 * managed by this {@link CacheManager}, used to determine when values are refreshed.  Typically configured with
+	 * the {@link ExpirationAttributes} created by
+	 * an {@link org.springframework.data.gemfire.expiration.ExpirationAttributesFactoryBean}.
+	 *
+	 * If not set, the entry time-to-live of each {@link Region} is used.
+	 *
+	 * @param timeToLive {@link ExpirationAttributes} specifying the time-to-live of cache entries.
+	 * @see org.springframework.data.gemfire.cache.GemfireCache#setTimeToLive(ExpirationAttributes)
+	 */
+	public void setTimeToLive(ExpirationAttributes timeToLive) {
+		this.timeToLive = timeToLive;
+	}
+
+	/**
+	 * Returns the time-to-live of the entries in the {@link Region Regions} backing the {@link GemfireCache GemfireCaches}
+	 * managed by this {@link CacheManager}.
+	 *
+	 * @return the configured {@link ExpirationAttributes}, or {@literal null} if the time-to-live of each
+	 * {@link Region} is used.
+	 * @see #setTimeToLive(ExpirationAttributes)
+	 */
+	protected ExpirationAttributes getTimeToLive() {
+		return this.timeToLive;
+	}
+
+	/**
+	 * Sets whether the statistics of the {@link GemfireCache GemfireCaches} managed by this {@link CacheManager}
+	 * are registered with Apache Geode's {@link StatisticsFactory}, so that they are written to the statistics archive
+	 * when statistics sampling is enabled, for example with {@literal @EnableStatistics}.  Defaults to {@literal false}.
+	 *
+	 * Statistics are recorded regardless and are available from {@link #getStatisticsSnapshots()}.
+	 *
+	 * @param statisticsEnabled boolean value indicating whether to register statistics with Apache Geode.
+	 * @see org.springframework.data.gemfire.cache.GemfireCacheStatistics
+	 */
+	public void setStatisticsEnabled(boolean statisticsEnabled) {
+		this.statisticsEnabled = statisticsEnabled;
+	}
+
+	/**
+	 * Determines whether the statistics of the {@link GemfireCache GemfireCaches} managed by this {@link CacheManager}
+	 * are registered with Apache Geode's {@link StatisticsFactory}.
+	 *
+	 * @return a boolean value indicating whether statistics are registered with Apache Geode.
+	 * @see #setStatisticsEnabled(boolean)
+	 */
+	public boolean isStatisticsEnabled() {
+		return this.statisticsEnabled;
+	}
+
+	/**
+	 * Returns a point-in-time {@link GemfireCacheStatistics.Snapshot} of the statistics of every
+	 * {@link GemfireCache} managed by this {@link CacheManager}, keyed by cache name.
+	 *
+	 * @return a {@link Map} of cache names to {@link GemfireCacheStatistics.Snapshot statistics snapshots}.
+	 * @see org.springframework.data.gemfire.cache.GemfireCacheStatistics#snapshot()
+	 */
+	public Map<String, GemfireCacheStatistics.Snapshot> getStatisticsSnapshots() {
+
+		Map<String, GemfireCacheStatistics.Snapshot> statisticsSnapshots = new TreeMap<>();
+
+		for (String cacheName : getCacheNames()) {
+
+			Cache cache = lookupCache(cacheName);
+
+			if (cache instanceof GemfireCache) {
+				statisticsSnapshots.put(cacheName, ((GemfireCache) cache).getStatistics().snapshot());
+			}
+		}
+
+		return statisticsSnapshots;
+	}
+
 	/**
 	 * Sets the GemFire cache instance backing this {@link CacheManager}.
 	 *
@@ -0,0 +1,389 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.cache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import org.apache.geode.StatisticDescriptor;
+import org.apache.geode.Statistics;
+import org.apache.geode.StatisticsFactory;
+import org.apache.geode.StatisticsType;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link GemfireCacheStatistics} records the hits, misses, puts, explicit evictions and loads of
+ * a {@link GemfireCache}, along with a histogram of load latencies.
+ *
+ * Explicit evictions only count {@link GemfireCache#evict(Object)} calls; entries evicted or expired by the
+ * {@link org.apache.geode.cache.Region} itself are recorded in the {@link org.apache.geode.cache.Region Region's}
+ * own statistics. Stale values served while they are refreshed count as hits.
+ *
+ * Counters are {@link LongAdder LongAdders} so recording is cheap under contention. The statistics can be
+ * {@link #register(StatisticsFactory, String) registered} with an Apache Geode {@link StatisticsFactory},
+ * which samples the counters into the statistics archive, and read programmatically with {@link #snapshot()}.
+ *
+ * @author John Blum
+ * @see java.util.concurrent.atomic.LongAdder
+ * @see org.apache.geode.StatisticsFactory
+ * @see org.springframework.data.gemfire.cache.GemfireCache#getStatistics()
+ * @since 2.7.0
+ */
+public class GemfireCacheStatistics {
+
+	public static final String STATISTICS_TYPE_NAME = "GemfireCacheStatistics";
+
+	// upper bounds, in milliseconds, of the load latency histogram buckets; see getLoadTimeBucketBounds()
+	private static final long[] LOAD_TIME_BUCKET_BOUNDS = { 1L, 2L, 5L, 10L, 25L, 50L, 100L, 250L, 500L, 1000L,
+		2500L, 5000L, 10000L };
+
+	private final LongAdder clearCount = new LongAdder();
+	private final LongAdder explicitEvictionCount = new LongAdder();
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder loadFailureCount = new LongAdder();
+	private final LongAdder loadSuccessCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	private final LongAdder putCount = new LongAdder();
+	private final LongAdder totalLoadTimeNanos = new LongAdder();
+
+	private final LongAdder[] loadTimeBuckets = newLoadTimeBuckets();
+
+	private volatile Statistics statistics;
+
+	/**
+	 * Returns the upper bounds, in milliseconds, of the load latency histogram buckets; loads exceeding
+	 * the last bound are counted in an overflow bucket.
+	 *
+	 * @return a copy of the load latency histogram bucket upper bounds.
+	 * @see Snapshot#getLoadTimeHistogram()
+	 */
+	public static long[] getLoadTimeBucketBounds() {
+		return LOAD_TIME_BUCKET_BOUNDS.clone();
+	}
+
+	private static LongAdder[] newLoadTimeBuckets() {
+
+		LongAdder[] loadTimeBuckets = new LongAdder[LOAD_TIME_BUCKET_BOUNDS.length + 1];
+
+		for (int index = 0; index < loadTimeBuckets.length; index++) {
+			loadTimeBuckets[index] = new LongAdder();
+		}
+
+		return loadTimeBuckets;
+	}
+
+	void recordHit() {
+		this.hitCount.increment();
+	}
+
+	void recordMiss() {
+		this.missCount.increment();
+	}
+
+	void recordPut() {
+		this.putCount.increment();
+	}
+
+	void recordExplicitEviction() {
+		this.explicitEvictionCount.increment();
+	}
+
+	void recordClear() {
+		this.clearCount.increment();
+	}
+
+	void recordLoad(long loadTimeNanos, boolean success) {
+
+		(success ? this.loadSuccessCount : this.loadFailureCount).increment();
+
+		this.totalLoadTimeNanos.add(loadTimeNanos);
+
+		long loadTimeMillis = TimeUnit.NANOSECONDS.toMillis(loadTimeNanos);
+
+		int bucket = 0;
+
+		while (bucket < LOAD_TIME_BUCKET_BOUNDS.length && loadTimeMillis >= LOAD_TIME_BUCKET_BOUNDS[bucket]) {
+			bucket++;
+		}
+
+		this.loadTimeBuckets[bucket].increment();
+	}
+
+	/**
+	 * Registers these statistics with the given Apache Geode {@link StatisticsFactory} so that they are sampled
+	 * into the statistics archive, if statistics sampling is enabled.
+	 *
+	 * Registering again closes the previously registered {@link Statistics}.
+	 *
+	 * @param statisticsFactory Apache Geode {@link StatisticsFactory} used to create the {@link Statistics};
+	 * must not be {@literal null}.
+	 * @param textId {@link String} identifying these statistics in the archive, typically the cache name.
+	 * @return the registered Apache Geode {@link Statistics}.
+	 * @throws IllegalArgumentException if the {@link StatisticsFactory} is {@literal null}.
+	 * @see org.apache.geode.StatisticsFactory
+	 * @see #close()
+	 */
+	public synchronized @NonNull Statistics register(@NonNull StatisticsFactory statisticsFactory, String textId) {
+
+		Assert.notNull(statisticsFactory, "StatisticsFactory must not be null");
+
+		close();
+
+		StatisticsType statisticsType = resolveStatisticsType(statisticsFactory);
+
+		Statistics statistics = statisticsFactory.createAtomicStatistics(statisticsType, textId);
+
+		setLongSupplier(statistics, "hits", this.hitCount::sum);
+		setLongSupplier(statistics, "misses", this.missCount::sum);
+		setLongSupplier(statistics, "puts", this.putCount::sum);
+		setLongSupplier(statistics, "explicitEvictions", this.explicitEvictionCount::sum);
+		setLongSupplier(statistics, "clears", this.clearCount::sum);
+		setLongSupplier(statistics, "loadSuccesses", this.loadSuccessCount::sum);
+		setLongSupplier(statistics, "loadFailures", this.loadFailureCount::sum);
+		setLongSupplier(statistics, "loadTime", this.totalLoadTimeNanos::sum);
+
+		for (int index = 0; index < this.loadTimeBuckets.length; index++) {
+			setLongSupplier(statistics, loadTimeBucketName(index), this.loadTimeBuckets[index]::sum);
+		}
+
+		this.statistics = statistics;
+
+		return statistics;
+	}
+
+	private static StatisticsType resolveStatisticsType(StatisticsFactory statisticsFactory) {
+
+		synchronized (GemfireCacheStatistics.class) {
+
+			StatisticsType statisticsType = statisticsFactory.findType(STATISTICS_TYPE_NAME);
+
+			return statisticsType != null ? statisticsType : statisticsFactory.createType(STATISTICS_TYPE_NAME,
+				"Statistics for a Spring Cache backed by a Region",
+					newStatisticDescriptors(statisticsFactory));
+		}
+	}
+
+	private static StatisticDescriptor[] newStatisticDescriptors(StatisticsFactory statisticsFactory) {
+
+		List<StatisticDescriptor> statisticDescriptors = new ArrayList<>();
+
+		statisticDescriptors.add(statisticsFactory.createLongCounter("hits",
+			"Number of lookups that found a value, including stale values", "operations"));
+		statisticDescriptors.add(statisticsFactory.createLongCounter("misses",
+			"Number of lookups that found no value", "operations"));
+		statisticDescriptors.add(statisticsFactory.createLongCounter("puts",
+			"Number of values stored", "operations"));
+		statisticDescriptors.add(statisticsFactory.createLongCounter("explicitEvictions",
+			"Number of entries evicted with Cache#evict", "operations"));
+		statisticDescriptors.add(statisticsFactory.createLongCounter("clears",
+			"Number of times the cache was cleared", "operations"));
+		statisticDescriptors.add(statisticsFactory.createLongCounter("loadSuccesses",
+			"Number of values loaded successfully", "operations"));
+		statisticDescriptors.add(statisticsFactory.createLongCounter("loadFailures",
+			"Number of values that failed to load", "operations"));
+		statisticDescriptors.add(statisticsFactory.createLongCounter("loadTime",
+			"Total time spent loading values", "nanoseconds"));
+
+		for (int index = 0; index <= LOAD_TIME_BUCKET_BOUNDS.length; index++) {
+			statisticDescriptors.add(statisticsFactory.createLongCounter(loadTimeBucketName(index),
+				index < LOAD_TIME_BUCKET_BOUNDS.length
+					? String.format("Number of loads taking less than %d ms", LOAD_TIME_BUCKET_BOUNDS[index])
+					: String.format("Number of loads taking %d ms or more",
+						LOAD_TIME_BUCKET_BOUNDS[LOAD_TIME_BUCKET_BOUNDS.length - 1]),
+				"operations"));
+		}
+
+		return statisticDescriptors.toArray(new StatisticDescriptor[0]);
+	}
+
+	private static String loadTimeBucketName(int index) {
+
+		return index < LOAD_TIME_BUCKET_BOUNDS.length
+			? String.format("loadsUnder%dms", LOAD_TIME_BUCKET_BOUNDS[index])
+			: "loadsOverflow";
+	}
+
+	private static void setLongSupplier(Statistics statistics, String name, LongSupplier supplier) {
+		statistics.setLongSupplier(statistics.nameToId(name), supplier);
+	}
+
+	/**
+	 * Returns the Apache Geode {@link Statistics} these statistics are registered with.
+	 *
+	 * @return the registered Apache Geode {@link Statistics}, or {@literal null} if not registered.
+	 * @see #register(StatisticsFactory, String)
+	 */
+	public @Nullable Statistics getStatistics() {
+		return this.statistics;
+	}
+
+	/**
+	 * Closes the registered Apache Geode {@link Statistics}, if any.
+	 *
+	 * @see #register(StatisticsFactory, String)
+	 */
+	public synchronized void close() {
+
+		Statistics statistics = this.statistics;
+
+		this.statistics = null;
+
+		if (statistics != null && !statistics.isClosed()) {
+			statistics.close();
+		}
+	}
+
+	/**
+	 * Returns a point-in-time {@link Snapshot} of these statistics.
+	 *
+	 * @return a point-in-time {@link Snapshot} of these statistics.
+	 * @see Snapshot
+	 */
+	public @NonNull Snapshot snapshot() {
+
+		Map<Long, Long> loadTimeHistogram = new LinkedHashMap<>();
+
+		for (int index = 0; index < this.loadTimeBuckets.length; index++) {
+			loadTimeHistogram.put(index < LOAD_TIME_BUCKET_BOUNDS.length ? LOAD_TIME_BUCKET_BOUNDS[index]
+				: Long.MAX_VALUE, this.loadTimeBuckets[index].sum());
+		}
+
+		return new Snapshot(this.hitCount.sum(), this.missCount.sum(), this.putCount.sum(),
+			this.explicitEvictionCount.sum(), this.clearCount.sum(), this.loadSuccessCount.sum(),
+			this.loadFailureCount.sum(), this.totalLoadTimeNanos.sum(), Collections.unmodifiableMap(loadTimeHistogram));
+	}
+
+	/**
+	 * Immutable, point-in-time view of {@link GemfireCacheStatistics}.
+	 */
+	public static final class Snapshot {
+
+		private final long clearCount;
+		private final long explicitEvictionCount;
+		private final long hitCount;
+		private final long loadFailureCount;
+		private final long loadSuccessCount;
+		private final long missCount;
+		private final long putCount;
+		private final long totalLoadTimeNanos;
+
+		private final Map<Long, Long> loadTimeHistogram;
+
+		private Snapshot(long hitCount, long missCount, long putCount, long explicitEvictionCount, long clearCount,
+				long loadSuccessCount, long loadFailureCount, long totalLoadTimeNanos,
+				Map<Long, Long> loadTimeHistogram) {
+
+			this.hitCount = hitCount;
+			this.missCount = missCount;
+			this.putCount = putCount;
+			this.explicitEvictionCount = explicitEvictionCount;
+			this.clearCount = clearCount;
+			this.loadSuccessCount = loadSuccessCount;
+			this.loadFailureCount = loadFailureCount;
+			this.totalLoadTimeNanos = totalLoadTimeNanos;
+			this.loadTimeHistogram = loadTimeHistogram;
+		}
+
+		public long getClearCount() {
+			return this.clearCount;
+		}
+
+		public long getExplicitEvictionCount() {
+			return this.explicitEvictionCount;
+		}
+
+		public long getHitCount() {
+			return this.hitCount;
+		}
+
+		public long getMissCount() {
+			return this.missCount;
+		}
+
+		/**
+		 * Returns the ratio of lookups that found a value to all lookups.
+		 *
+		 * @return the hit ratio, between {@literal 0.0} and {@literal 1.0}.
+		 */
+		public double getHitRatio() {
+
+			long lookupCount = getHitCount() + getMissCount();
+
+			return lookupCount > 0L ? (double) getHitCount() / lookupCount : 0.0d;
+		}
+
+		public long getLoadCount() {
+			return getLoadSuccessCount() + getLoadFailureCount();
+		}
+
+		public long getLoadFailureCount() {
+			return this.loadFailureCount;
+		}
+
+		public long getLoadSuccessCount() {
+			return this.loadSuccessCount;
+		}
+
+		/**
+		 * Returns the number of loads per latency bucket, keyed by the bucket's exclusive upper bound
+		 * in milliseconds; the overflow bucket is keyed by {@link Long#MAX_VALUE}.
+		 *
+		 * @return an ordered {@link Map} of load latency bucket upper bounds to the number of loads.
+		 * @see GemfireCacheStatistics#getLoadTimeBucketBounds()
+		 */
+		public Map<Long, Long> getLoadTimeHistogram() {
+			return this.loadTimeHistogram;
+		}
+
+		public long getPutCount() {
+			return this.putCount;
+		}
+
+		public long getTotalLoadTimeNanos() {
+			return this.totalLoadTimeNanos;
+		}
+
+		/**
+		 * Returns the average time spent loading a value.
+		 *
+		 * @return the average load time in nanoseconds, or {@literal 0.0} if no value was loaded.
+		 */
+		public double getAverageLoadTimeNanos() {
+
+			long loadCount = getLoadCount();
+
+			return loadCount > 0L ? (double) getTotalLoadTimeNanos() / loadCount : 0.0d;
+		}
+
+		@Override
+		public String toString() {
+
+			return String.format("{ hits = %d, misses = %d, puts = %d, explicitEvictions = %d, clears = %d,"
+					+ " loadSuccesses = %d, loadFailures = %d, totalLoadTimeNanos = %d }",
+				getHitCount(), getMissCount(), getPutCount(), getExplicitEvictionCount(), getClearCount(),
+				getLoadSuccessCount(), getLoadFailureCount(), getTotalLoadTimeNanos());
+		}
+	}
+}
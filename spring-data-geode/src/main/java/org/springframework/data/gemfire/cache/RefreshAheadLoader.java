@@ -0,0 +1,214 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.cache;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link RefreshAheadLoader} tracks when the values of a {@link GemfireCache} were stored and reloads values
+ * in the background, at most once at a time per key.
+ *
+ * The store time of at most {@link #MAXIMUM_TRACKED_VALUES} keys is tracked, along with the most recently stored
+ * value when the {@link GemfireCache} serves stale values while the value is reloaded after the entry expired.
+ * When more keys are tracked, the least recently used keys are forgotten in a batch, so the number of tracked
+ * keys may briefly exceed the maximum.
+ *
+ * @author John Blum
+ * @see org.springframework.data.gemfire.cache.GemfireCache#setRefreshAheadFactor(double)
+ * @since 2.7.0
+ */
+class RefreshAheadLoader {
+
+	static final int MAXIMUM_TRACKED_VALUES = 10000;
+
+	static final Executor DEFAULT_REFRESH_EXECUTOR = newDefaultRefreshExecutor();
+
+	private static Executor newDefaultRefreshExecutor() {
+
+		AtomicInteger threadCount = new AtomicInteger(0);
+
+		int poolSize = Math.min(Runtime.getRuntime().availableProcessors(), 4);
+
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS,
+			new LinkedBlockingQueue<>(1024), runnable -> {
+				Thread thread = new Thread(runnable, "GemfireCache-refresh-" + threadCount.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			});
+
+		executor.allowCoreThreadTimeOut(true);
+
+		return executor;
+	}
+
+	private final ConcurrentMap<Object, StoredValue> storedValues = new ConcurrentHashMap<>();
+
+	private final Map<Object, Boolean> refreshingKeys = new ConcurrentHashMap<>();
+
+	private final LongAdder refreshCount = new LongAdder();
+	private final LongAdder rejectedRefreshCount = new LongAdder();
+	private final LongAdder staleReadCount = new LongAdder();
+
+	private final Lock evictionLock = new ReentrantLock();
+
+	long getRefreshCount() {
+		return this.refreshCount.sum();
+	}
+
+	long getRejectedRefreshCount() {
+		return this.rejectedRefreshCount.sum();
+	}
+
+	long getStaleReadCount() {
+		return this.staleReadCount.sum();
+	}
+
+	/**
+	 * Records that a value was stored for the given key, retaining the value itself only when it may be served
+	 * as a stale value.
+	 */
+	void stored(@NonNull Object key, @NonNull Object value, boolean retainValue) {
+
+		this.storedValues.put(key, new StoredValue(retainValue ? value : null, System.currentTimeMillis()));
+
+		forgetExcessValues();
+	}
+
+	private void forgetExcessValues() {
+
+		if (this.storedValues.size() > MAXIMUM_TRACKED_VALUES && this.evictionLock.tryLock()) {
+			try {
+
+				int excess = this.storedValues.size() - MAXIMUM_TRACKED_VALUES;
+
+				if (excess > 0) {
+
+					// forget an extra tenth of the maximum so that eviction does not run on every store
+					int evictions = excess + MAXIMUM_TRACKED_VALUES / 10;
+
+					List<Map.Entry<Object, StoredValue>> entries = new ArrayList<>(this.storedValues.entrySet());
+
+					entries.sort(Comparator.comparingLong(entry -> entry.getValue().getLastAccessTime()));
+
+					entries.subList(0, Math.min(evictions, entries.size()))
+						.forEach(entry -> this.storedValues.remove(entry.getKey(), entry.getValue()));
+				}
+			}
+			finally {
+				this.evictionLock.unlock();
+			}
+		}
+	}
+
+	@Nullable StoredValue storedValue(@NonNull Object key) {
+
+		StoredValue storedValue = this.storedValues.get(key);
+
+		if (storedValue != null) {
+			storedValue.access();
+		}
+
+		return storedValue;
+	}
+
+	void forget(@NonNull Object key) {
+		this.storedValues.remove(key);
+	}
+
+	void forgetAll() {
+		this.storedValues.clear();
+	}
+
+	void staleRead() {
+		this.staleReadCount.increment();
+	}
+
+	/**
+	 * Runs the given refresh on the given {@link Executor} unless a refresh of the key is already in progress
+	 * or the {@link Executor} rejects the refresh.
+	 */
+	void refresh(@NonNull Object key, @NonNull Runnable refresh, @NonNull Executor executor) {
+
+		if (this.refreshingKeys.putIfAbsent(key, Boolean.TRUE) == null) {
+			try {
+				executor.execute(() -> {
+					try {
+						this.refreshCount.increment();
+						refresh.run();
+					}
+					finally {
+						this.refreshingKeys.remove(key);
+					}
+				});
+			}
+			catch (RejectedExecutionException ignore) {
+				this.rejectedRefreshCount.increment();
+				this.refreshingKeys.remove(key);
+			}
+		}
+	}
+
+	static final class StoredValue {
+
+		private final Object value;
+
+		private final long storedAt;
+
+		private volatile long lastAccessTime;
+
+		private StoredValue(Object value, long storedAt) {
+			this.value = value;
+			this.storedAt = storedAt;
+			this.lastAccessTime = System.nanoTime();
+		}
+
+		/**
+		 * Returns the stored value, or {@literal null} if the value was not retained.
+		 */
+		@Nullable Object getValue() {
+			return this.value;
+		}
+
+		long getLastAccessTime() {
+			return this.lastAccessTime;
+		}
+
+		void access() {
+			this.lastAccessTime = System.nanoTime();
+		}
+
+		long getAge() {
+			return System.currentTimeMillis() - this.storedAt;
+		}
+	}
+}
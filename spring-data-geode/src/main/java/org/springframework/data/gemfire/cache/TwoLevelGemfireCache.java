@@ -0,0 +1,517 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.geode.cache.EntryEvent;
+import org.apache.geode.cache.InterestResultPolicy;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionEvent;
+import org.apache.geode.cache.util.CacheListenerAdapter;
+
+import org.springframework.data.gemfire.util.RegionUtils;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link GemfireCache} implementation that serves reads from a bounded, in-process (L1) cache in front of
+ * the GemFire {@link Region} (L2).
+ *
+ * The L1 cache is a {@link ConcurrentMap}, so reads served from the L1 cache do not contend on a shared lock.
+ * When the L1 cache grows beyond {@link #getMaximumSize()} entries, the least recently used entries are evicted
+ * in a batch, so the L1 cache may briefly hold slightly more entries than the maximum size.
+ *
+ * L1 entries are invalidated by the {@link Region Region's} entry and region events, which are received through
+ * a {@link org.apache.geode.cache.CacheListener} registered on the {@link Region}. Client {@link Region Regions}
+ * only receive events for changes made by other clients when interest is registered, therefore interest in all keys
+ * can optionally be registered on construction. L1 entries also expire after the
+ * {@link #getLocalTimeToLive() local time-to-live}, which is bounded by the {@link #getTimeToLive() time-to-live}
+ * of the {@link Region} entries. Without registered interest, changes made by other clients are therefore seen
+ * once the L1 entry expires.
+ *
+ * While a value is read from the {@link Region}, a pending L1 entry marks the key. Invalidating the key removes
+ * the pending entry, in which case the value read is not cached locally, since it may predate the invalidation.
+ * Invalidations of other keys do not prevent the value from being cached.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.Region
+ * @see org.apache.geode.cache.util.CacheListenerAdapter
+ * @see org.springframework.data.gemfire.cache.GemfireCache
+ * @see org.springframework.data.gemfire.cache.GemfireCacheManager#setLocalCacheEnabled(boolean)
+ * @since 2.7.0
+ */
+@SuppressWarnings("rawtypes")
+public class TwoLevelGemfireCache extends GemfireCache {
+
+	public static final int DEFAULT_MAXIMUM_SIZE = 10000;
+
+	public static final Duration DEFAULT_LOCAL_TIME_TO_LIVE = Duration.ofSeconds(30);
+
+	private final InvalidatingCacheListener invalidatingCacheListener = new InvalidatingCacheListener();
+
+	private final LongAdder l1EvictionCount = new LongAdder();
+	private final LongAdder l1HitCount = new LongAdder();
+	private final LongAdder l2HitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+
+	private final ConcurrentMap<Object, LocalEntry> localCache = new ConcurrentHashMap<>();
+
+	private final int maximumSize;
+
+	private final Lock evictionLock = new ReentrantLock();
+
+	private volatile Duration localTimeToLive = DEFAULT_LOCAL_TIME_TO_LIVE;
+
+	/**
+	 * Constructs a new instance of {@link TwoLevelGemfireCache} backed by the given GemFire {@link Region},
+	 * holding at most the given number of entries in the local (L1) cache.
+	 *
+	 * @param region GemFire {@link Region} backing the Spring {@link org.springframework.cache.Cache}.
+	 * @param maximumSize {@link Integer maximum number} of entries held in the local cache;
+	 * must be greater than {@literal 0}.
+	 * @throws IllegalArgumentException if {@link Region} is {@literal null} or the maximum size is less than 1.
+	 * @see #TwoLevelGemfireCache(Region, int, boolean)
+	 */
+	public TwoLevelGemfireCache(@NonNull Region<?, ?> region, int maximumSize) {
+		this(region, maximumSize, false);
+	}
+
+	/**
+	 * Constructs a new instance of {@link TwoLevelGemfireCache} backed by the given GemFire {@link Region},
+	 * holding at most the given number of entries in the local (L1) cache.
+	 *
+	 * @param region GemFire {@link Region} backing the Spring {@link org.springframework.cache.Cache}.
+	 * @param maximumSize {@link Integer maximum number} of entries held in the local cache;
+	 * must be greater than {@literal 0}.
+	 * @param registerInterest boolean value indicating whether to register interest in all keys when
+	 * the {@link Region} is a client {@link Region}; requires a subscription enabled
+	 * {@link org.apache.geode.cache.client.Pool}.
+	 * @throws IllegalArgumentException if {@link Region} is {@literal null} or the maximum size is less than 1.
+	 */
+	@SuppressWarnings("unchecked")
+	public TwoLevelGemfireCache(@NonNull Region<?, ?> region, int maximumSize, boolean registerInterest) {
+
+		super(region);
+
+		Assert.isTrue(maximumSize > 0, String.format("Maximum size [%d] must be greater than 0", maximumSize));
+
+		this.maximumSize = maximumSize;
+
+		region.getAttributesMutator().addCacheListener(this.invalidatingCacheListener);
+
+		if (registerInterest && RegionUtils.isClient(region)) {
+			region.registerInterestForAllKeys(InterestResultPolicy.NONE);
+		}
+	}
+
+	/**
+	 * Returns the {@link Integer maximum number} of entries held in the local (L1) cache.
+	 *
+	 * @return the {@link Integer maximum number} of entries held in the local cache.
+	 */
+	public int getMaximumSize() {
+		return this.maximumSize;
+	}
+
+	/**
+	 * Configures the {@link Duration} after which an entry in the local (L1) cache expires and is read again
+	 * from the GemFire {@link Region} (L2).  The local time-to-live never exceeds the {@link #getTimeToLive()
+	 * time-to-live} of the {@link Region} entries.  Defaults to {@link #DEFAULT_LOCAL_TIME_TO_LIVE 30 seconds}.
+	 *
+	 * @param localTimeToLive {@link Duration} after which an entry in the local cache expires; must be positive.
+	 * @throws IllegalArgumentException if the local time-to-live is {@literal null}, zero or negative.
+	 */
+	public void setLocalTimeToLive(@NonNull Duration localTimeToLive) {
+
+		Assert.isTrue(localTimeToLive != null && !localTimeToLive.isNegative() && !localTimeToLive.isZero(),
+			() -> String.format("Local time-to-live [%s] must be positive", localTimeToLive));
+
+		this.localTimeToLive = localTimeToLive;
+	}
+
+	/**
+	 * Returns the {@link Duration} after which an entry in the local (L1) cache expires, which is the configured
+	 * {@link #setLocalTimeToLive(Duration) local time-to-live} bounded by the {@link #getTimeToLive() time-to-live}
+	 * of the {@link Region} entries.
+	 *
+	 * @return the {@link Duration} after which an entry in the local cache expires.
+	 * @see #setLocalTimeToLive(Duration)
+	 */
+	public @NonNull Duration getLocalTimeToLive() {
+
+		Duration localTimeToLive = this.localTimeToLive;
+
+		long timeToLive = getTimeToLiveMillis();
+
+		return timeToLive > 0L && timeToLive < localTimeToLive.toMillis()
+			? Duration.ofMillis(timeToLive)
+			: localTimeToLive;
+	}
+
+	/**
+	 * Returns the {@link Integer number} of entries currently held in the local (L1) cache.
+	 *
+	 * @return the {@link Integer number} of entries currently held in the local cache.
+	 */
+	public int getLocalCacheSize() {
+		return this.localCache.size();
+	}
+
+	/**
+	 * Returns the {@link Long number} of entries evicted from the local (L1) cache to stay within
+	 * the {@link #getMaximumSize() maximum size}.
+	 *
+	 * @return the {@link Long number} of entries evicted from the local cache.
+	 */
+	public long getL1EvictionCount() {
+		return this.l1EvictionCount.sum();
+	}
+
+	/**
+	 * Returns the {@link Long number} of lookups served from the local (L1) cache.
+	 *
+	 * @return the {@link Long number} of lookups served from the local cache.
+	 */
+	public long getL1HitCount() {
+		return this.l1HitCount.sum();
+	}
+
+	/**
+	 * Returns the {@link Long number} of lookups that missed the local (L1) cache and were served
+	 * from the GemFire {@link Region} (L2).
+	 *
+	 * @return the {@link Long number} of lookups served from the {@link Region}.
+	 */
+	public long getL2HitCount() {
+		return this.l2HitCount.sum();
+	}
+
+	/**
+	 * Returns the {@link Long number} of lookups that found no value in either cache level.
+	 *
+	 * @return the {@link Long number} of lookups that found no value.
+	 */
+	public long getMissCount() {
+		return this.missCount.sum();
+	}
+
+	/**
+	 * Returns the ratio of lookups served from the local (L1) cache to all lookups.
+	 *
+	 * @return the L1 hit ratio, between {@literal 0.0} and {@literal 1.0}.
+	 */
+	public double getL1HitRatio() {
+		return ratio(getL1HitCount(), getL1HitCount() + getL2HitCount() + getMissCount());
+	}
+
+	/**
+	 * Returns the ratio of lookups served from the GemFire {@link Region} (L2) to all lookups
+	 * that missed the local (L1) cache.
+	 *
+	 * @return the L2 hit ratio, between {@literal 0.0} and {@literal 1.0}.
+	 */
+	public double getL2HitRatio() {
+		return ratio(getL2HitCount(), getL2HitCount() + getMissCount());
+	}
+
+	private double ratio(long count, long total) {
+		return total > 0L ? (double) count / total : 0.0d;
+	}
+
+	/**
+	 * Looks up the value for the given key in the local (L1) cache first, then in the GemFire {@link Region} (L2),
+	 * caching a value found in the {@link Region} locally.  Expired entries in the local cache are ignored.
+	 *
+	 * @param key key identifying the value to lookup.
+	 * @return the value for the given key or {@literal null} if neither cache level contains a value for the key.
+	 */
+	@Override
+	protected @Nullable Object lookup(Object key) {
+
+		long now = System.nanoTime();
+
+		LocalEntry localEntry = this.localCache.get(key);
+
+		if (localEntry != null && !localEntry.isPending()) {
+
+			if (!localEntry.isExpired(now)) {
+				localEntry.access(now);
+				this.l1HitCount.increment();
+				return localEntry.getValue();
+			}
+
+			this.localCache.remove(key, localEntry);
+
+			localEntry = null;
+		}
+
+		LocalEntry pendingEntry = localEntry != null ? localEntry : pending(key, now);
+
+		Object value;
+
+		try {
+			value = super.lookup(key);
+		}
+		catch (RuntimeException | Error cause) {
+			this.localCache.remove(key, pendingEntry);
+			throw cause;
+		}
+
+		if (value != null) {
+			this.l2HitCount.increment();
+			cacheLocally(key, value, pendingEntry);
+		}
+		else {
+			this.missCount.increment();
+			this.localCache.remove(key, pendingEntry);
+		}
+
+		return value;
+	}
+
+	private LocalEntry pending(Object key, long now) {
+
+		LocalEntry pendingEntry = new LocalEntry(key, LocalEntry.PENDING, now + getLocalTimeToLive().toNanos(), now);
+
+		LocalEntry existingEntry = this.localCache.putIfAbsent(key, pendingEntry);
+
+		// a concurrent lookup of the key either marked the key as pending or already cached a value
+		return existingEntry != null ? existingEntry : pendingEntry;
+	}
+
+	private void cacheLocally(Object key, Object value, LocalEntry pendingEntry) {
+
+		if (pendingEntry.isPending()) {
+
+			long now = System.nanoTime();
+
+			LocalEntry localEntry = new LocalEntry(key, value, now + getLocalTimeToLive().toNanos(), now);
+
+			// fails when the key was invalidated, removing the pending entry, after the lookup began
+			if (this.localCache.replace(key, pendingEntry, localEntry)) {
+				evictExcessEntries();
+			}
+		}
+	}
+
+	/**
+	 * Looks up the value for the given key in the GemFire {@link Region} (L2) only, without recording the lookup,
+	 * since {@link #lookup(Object)} already recorded the L1 and L2 miss.
+	 *
+	 * @param key key identifying the value to lookup.
+	 * @return the value for the given key or {@literal null} if the {@link Region} contains no value for the key.
+	 */
+	@Override
+	protected @Nullable Object lookupBeforeLoad(Object key) {
+		return super.lookup(key);
+	}
+
+	private void evictExcessEntries() {
+
+		if (this.localCache.size() > getMaximumSize() && this.evictionLock.tryLock()) {
+			try {
+
+				long now = System.nanoTime();
+
+				this.localCache.values().removeIf(localEntry -> localEntry.isExpired(now));
+
+				int excess = this.localCache.size() - getMaximumSize();
+
+				if (excess > 0) {
+
+					// evict an extra tenth of the maximum size so that eviction does not run on every put
+					int evictions = excess + getMaximumSize() / 10;
+
+					List<LocalEntry> localEntries = new ArrayList<>(this.localCache.values());
+
+					localEntries.sort(Comparator.comparingLong(LocalEntry::getLastAccessTime));
+
+					for (LocalEntry localEntry : localEntries.subList(0, Math.min(evictions, localEntries.size()))) {
+						if (this.localCache.remove(localEntry.getKey(), localEntry)) {
+							this.l1EvictionCount.increment();
+						}
+					}
+				}
+			}
+			finally {
+				this.evictionLock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public void clear() {
+		super.clear();
+		invalidateAll();
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public void evict(Object key) {
+		super.evict(key);
+		invalidate(key);
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public void put(Object key, Object value) {
+		super.put(key, value);
+		invalidate(key);
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public ValueWrapper putIfAbsent(Object key, Object value) {
+
+		ValueWrapper existingValue = super.putIfAbsent(key, value);
+
+		invalidate(key);
+
+		return existingValue;
+	}
+
+	/**
+	 * Invalidates the entry for the given key in the local (L1) cache.
+	 *
+	 * @param key key identifying the entry to invalidate.
+	 */
+	protected void invalidate(Object key) {
+		this.localCache.remove(key);
+	}
+
+	/**
+	 * Invalidates all entries in the local (L1) cache.
+	 */
+	protected void invalidateAll() {
+		this.localCache.clear();
+	}
+
+	/**
+	 * Unregisters the {@link org.apache.geode.cache.CacheListener CacheListeners} invalidating the local (L1) cache
+	 * from the GemFire {@link Region} and clears the local cache.
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public synchronized void close() {
+
+		super.close();
+
+		Region region = getNativeCache();
+
+		if (!region.isDestroyed()) {
+			region.getAttributesMutator().removeCacheListener(this.invalidatingCacheListener);
+		}
+
+		invalidateAll();
+	}
+
+	private class InvalidatingCacheListener extends CacheListenerAdapter<Object, Object> {
+
+		@Override
+		public void afterDestroy(EntryEvent<Object, Object> event) {
+			invalidate(event.getKey());
+		}
+
+		@Override
+		public void afterInvalidate(EntryEvent<Object, Object> event) {
+			invalidate(event.getKey());
+		}
+
+		@Override
+		public void afterUpdate(EntryEvent<Object, Object> event) {
+			invalidate(event.getKey());
+		}
+
+		@Override
+		public void afterRegionClear(RegionEvent<Object, Object> event) {
+			invalidateAll();
+		}
+
+		@Override
+		public void afterRegionDestroy(RegionEvent<Object, Object> event) {
+			invalidateAll();
+		}
+
+		@Override
+		public void afterRegionInvalidate(RegionEvent<Object, Object> event) {
+			invalidateAll();
+		}
+	}
+
+	private static final class LocalEntry {
+
+		// value of an entry marking a key whose value is being read from the Region
+		private static final Object PENDING = new Object();
+
+		private final long expirationTime;
+
+		private volatile long lastAccessTime;
+
+		private final Object key;
+		private final Object value;
+
+		private LocalEntry(Object key, Object value, long expirationTime, long lastAccessTime) {
+
+			this.key = key;
+			this.value = value;
+			this.expirationTime = expirationTime;
+			this.lastAccessTime = lastAccessTime;
+		}
+
+		Object getKey() {
+			return this.key;
+		}
+
+		long getLastAccessTime() {
+			return this.lastAccessTime;
+		}
+
+		Object getValue() {
+			return this.value;
+		}
+
+		void access(long now) {
+			this.lastAccessTime = now;
+		}
+
+		boolean isPending() {
+			return this.value == PENDING;
+		}
+
+		boolean isExpired(long now) {
+			return now - this.expirationTime >= 0L;
+		}
+	}
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.function;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheFactory;
+import org.apache.geode.cache.execute.Function;
+import org.apache.geode.cache.execute.FunctionContext;
+import org.apache.geode.cache.execute.ResultSender;
+import org.apache.geode.cache.query.Query;
+
+/**
+ * {@link StreamingOqlQueryFunction} is an Apache Geode {@link Function} executing an OQL query on the server
+ * and sending the query results back to the caller in bounded chunks.
+ *
+ * The {@link Function} arguments are an {@link Object} array containing the {@link String OQL query},
+ * an {@link Object} array of query bind arguments and the {@link Integer chunk size}.
+ *
+ * The {@link Function} must be registered on the servers for
+ * {@link org.springframework.data.gemfire.GemfireTemplate#stream(String, Object...)} and
+ * {@link java.util.stream.Stream}-returning {@link org.springframework.data.repository.Repository} query methods
+ * to stream results in chunks.
+ *
+ * The OQL query is executed in full on the server, so the server holds the entire query result while sending it.
+ * Chunking bounds the memory used by the client and the size of each message, not the work done by the server.
+ * The {@link Function} cannot be cancelled by the client and always sends all chunks.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.execute.Function
+ * @see org.apache.geode.cache.execute.ResultSender
+ * @see org.springframework.data.gemfire.function.StreamingResultCollector
+ * @since 2.7.0
+ */
+@SuppressWarnings("serial")
+public class StreamingOqlQueryFunction implements Function<Object[]> {
+
+	public static final int DEFAULT_CHUNK_SIZE = 1000;
+
+	public static final String ID = StreamingOqlQueryFunction.class.getName();
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.apache.geode.cache.execute.Function#execute(org.apache.geode.cache.execute.FunctionContext)
+	 */
+	@Override
+	public void execute(FunctionContext<Object[]> functionContext) {
+
+		Object[] arguments = functionContext.getArguments();
+
+		String queryString = String.valueOf(arguments[0]);
+
+		Object[] queryArguments = arguments.length > 1 && arguments[1] instanceof Object[]
+			? (Object[]) arguments[1]
+			: new Object[0];
+
+		int chunkSize = arguments.length > 2 && arguments[2] instanceof Integer
+			? Math.max((Integer) arguments[2], 1)
+			: DEFAULT_CHUNK_SIZE;
+
+		ResultSender<Object> resultSender = functionContext.getResultSender();
+
+		try {
+
+			Query query = getCache().getQueryService().newQuery(queryString);
+
+			Object result = query.execute(queryArguments);
+
+			Iterable<?> results = result instanceof Collection ? (Collection<?>) result
+				: Collections.singletonList(result);
+
+			List<Object> chunk = new ArrayList<>(chunkSize);
+
+			for (Object element : results) {
+
+				chunk.add(element);
+
+				if (chunk.size() == chunkSize) {
+					resultSender.sendResult(chunk);
+					chunk = new ArrayList<>(chunkSize);
+				}
+			}
+
+			resultSender.lastResult(chunk);
+		}
+		catch (Exception cause) {
+			resultSender.sendException(cause);
+		}
+	}
+
+	Cache getCache() {
+		return CacheFactory.getAnyInstance();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.apache.geode.cache.execute.Function#getId()
+	 */
+	@Override
+	public String getId() {
+		return ID;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.apache.geode.cache.execute.Function#hasResult()
+	 */
+	@Override
+	public boolean hasResult() {
+		return true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.apache.geode.cache.execute.Function#isHA()
+	 */
+	@Override
+	public boolean isHA() {
+		return false;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.apache.geode.cache.execute.Function#optimizeForWrite()
+	 */
+	@Override
+	public boolean optimizeForWrite() {
+		return false;
+	}
+}
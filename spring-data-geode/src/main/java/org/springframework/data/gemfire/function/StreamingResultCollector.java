@@ -0,0 +1,372 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.function;
+
+import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalStateException;
+import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newRuntimeException;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.cache.execute.ResultCollector;
+import org.apache.geode.distributed.DistributedMember;
+
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+/**
+ * {@link StreamingResultCollector} is an Apache Geode {@link ResultCollector} handing the chunks of results sent by
+ * the {@link StreamingOqlQueryFunction} to a consuming {@link Thread} through a bounded {@link BlockingQueue}.
+ *
+ * The producer (the {@link org.apache.geode.cache.execute.Function} execution) blocks once the configured number of
+ * chunks is buffered, bounding the memory used on the client to a few chunks regardless of the result set size.
+ *
+ * Apache Geode offers no way to cancel a {@link org.apache.geode.cache.execute.Function} execution from the client,
+ * therefore closing the {@link Stream} returned by {@link #stream()} does not stop the transfer. Once closed,
+ * remaining chunks are discarded as they arrive so that the producing {@link Thread} and the pooled connection
+ * are released as soon as the server has sent all chunks. A collector whose consumer takes no chunk for longer than
+ * the {@link #getAbandonTimeout() abandon timeout} while the buffer is full is considered abandoned and is closed
+ * the same way, so that an unconsumed, unclosed {@link Stream} does not hold the producing {@link Thread} forever.
+ * Likewise, a consumer waiting longer than the abandon timeout for the next chunk closes this collector and fails
+ * with an {@link IllegalStateException}, so that a stalled or lost producer does not block the consumer forever.
+ *
+ * @author John Blum
+ * @param <T> {@link Class type} of the streamed results.
+ * @see java.util.Iterator
+ * @see java.util.concurrent.BlockingQueue
+ * @see java.util.stream.Stream
+ * @see org.apache.geode.cache.execute.ResultCollector
+ * @see org.springframework.data.gemfire.function.StreamingOqlQueryFunction
+ * @since 2.7.0
+ */
+public class StreamingResultCollector<T> implements ResultCollector<Object, Stream<T>>, Iterator<T> {
+
+	protected static final int DEFAULT_BUFFERED_CHUNKS = 2;
+
+	public static final long DEFAULT_ABANDON_TIMEOUT_MILLISECONDS = 60000L;
+
+	private static final long OFFER_TIMEOUT_MILLISECONDS = 100L;
+
+	private static final Object END = new Object();
+
+	private final BlockingQueue<Object> chunks;
+
+	private final long abandonTimeoutNanos;
+
+	private volatile boolean abandoned;
+	private volatile boolean closed;
+	private volatile boolean timedOut;
+
+	private volatile long lastConsumedNanos;
+
+	private Iterator<?> currentChunk = Collections.emptyIterator();
+
+	/**
+	 * Constructs a new {@link StreamingResultCollector} buffering at most {@link #DEFAULT_BUFFERED_CHUNKS} chunks.
+	 */
+	public StreamingResultCollector() {
+		this(DEFAULT_BUFFERED_CHUNKS);
+	}
+
+	/**
+	 * Constructs a new {@link StreamingResultCollector} buffering at most {@link #DEFAULT_BUFFERED_CHUNKS} chunks
+	 * and closing itself when the consumer takes no chunk for longer than the given {@link Duration}.
+	 *
+	 * @param abandonTimeout {@link Duration} after which an unconsumed collector is closed; must not be
+	 * {@literal null} and must be positive.
+	 * @throws IllegalArgumentException if the abandon timeout is {@literal null} or not positive.
+	 * @see #StreamingResultCollector(int, Duration)
+	 */
+	public StreamingResultCollector(@NonNull Duration abandonTimeout) {
+		this(DEFAULT_BUFFERED_CHUNKS, abandonTimeout);
+	}
+
+	/**
+	 * Constructs a new {@link StreamingResultCollector} buffering at most the given number of chunks.
+	 *
+	 * @param bufferedChunks {@link Integer maximum number} of chunks buffered before the producer blocks.
+	 * @see #StreamingResultCollector(int, Duration)
+	 */
+	public StreamingResultCollector(int bufferedChunks) {
+		this(bufferedChunks, Duration.ofMillis(DEFAULT_ABANDON_TIMEOUT_MILLISECONDS));
+	}
+
+	/**
+	 * Constructs a new {@link StreamingResultCollector} buffering at most the given number of chunks and closing
+	 * itself when the consumer takes no chunk for longer than the given {@link Duration} while the buffer is full.
+	 *
+	 * @param bufferedChunks {@link Integer maximum number} of chunks buffered before the producer blocks.
+	 * @param abandonTimeout {@link Duration} after which an unconsumed collector is closed; must not be
+	 * {@literal null} and must be positive.
+	 * @throws IllegalArgumentException if the abandon timeout is {@literal null} or not positive.
+	 */
+	public StreamingResultCollector(int bufferedChunks, @NonNull Duration abandonTimeout) {
+
+		Assert.isTrue(abandonTimeout != null && !abandonTimeout.isNegative() && !abandonTimeout.isZero(),
+			() -> String.format("Abandon timeout [%s] must be positive", abandonTimeout));
+
+		// 1 additional slot for the end of stream marker
+		this.chunks = new ArrayBlockingQueue<>(Math.max(bufferedChunks, 1) + 1);
+		this.abandonTimeoutNanos = abandonTimeout.toNanos();
+		this.lastConsumedNanos = System.nanoTime();
+	}
+
+	/**
+	 * Returns the {@link Duration} after which this collector is closed when its consumer takes no chunk
+	 * while the buffer is full, or when its consumer receives no chunk while the buffer is empty.
+	 *
+	 * @return the abandon timeout.
+	 */
+	public @NonNull Duration getAbandonTimeout() {
+		return Duration.ofNanos(this.abandonTimeoutNanos);
+	}
+
+	/**
+	 * Determines whether this collector was closed because its consumer took no chunk for longer than
+	 * the {@link #getAbandonTimeout() abandon timeout}.
+	 *
+	 * @return a boolean value indicating whether this collector was abandoned.
+	 */
+	public boolean isAbandoned() {
+		return this.abandoned;
+	}
+
+	/**
+	 * Determines whether this collector has been {@link #close() closed}.
+	 *
+	 * @return a boolean value indicating whether this collector has been {@link #close() closed}.
+	 */
+	public boolean isClosed() {
+		return this.closed;
+	}
+
+	/**
+	 * Closes this collector, discarding any buffered chunks and unblocking the producer.
+	 *
+	 * Chunks still sent by the server are discarded as they arrive.
+	 */
+	public void close() {
+		this.closed = true;
+		this.chunks.clear();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.apache.geode.cache.execute.ResultCollector#addResult(org.apache.geode.distributed.DistributedMember, java.lang.Object)
+	 */
+	@Override
+	public void addResult(DistributedMember memberId, Object resultOfSingleExecution) {
+
+		if (resultOfSingleExecution instanceof Throwable) {
+			enqueue(new Failure((Throwable) resultOfSingleExecution));
+		}
+		else if (resultOfSingleExecution instanceof Collection) {
+			if (!((Collection<?>) resultOfSingleExecution).isEmpty()) {
+				enqueue(resultOfSingleExecution);
+			}
+		}
+		else if (resultOfSingleExecution != null) {
+			enqueue(Collections.singletonList(resultOfSingleExecution));
+		}
+	}
+
+	/**
+	 * Signals that the producer failed with the given {@link Throwable}.
+	 *
+	 * @param cause {@link Throwable} thrown by the producer.
+	 */
+	public void addFailure(@NonNull Throwable cause) {
+		enqueue(new Failure(cause));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.apache.geode.cache.execute.ResultCollector#endResults()
+	 */
+	@Override
+	public void endResults() {
+		enqueue(END);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.apache.geode.cache.execute.ResultCollector#clearResults()
+	 */
+	@Override
+	public void clearResults() {
+		this.chunks.clear();
+		this.currentChunk = Collections.emptyIterator();
+	}
+
+	private void enqueue(Object chunk) {
+
+		try {
+			while (!isClosed()) {
+
+				if (this.chunks.offer(chunk, OFFER_TIMEOUT_MILLISECONDS, TimeUnit.MILLISECONDS)) {
+					return;
+				}
+
+				if (System.nanoTime() - this.lastConsumedNanos > this.abandonTimeoutNanos) {
+					this.abandoned = true;
+					close();
+				}
+			}
+		}
+		catch (InterruptedException cause) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.Iterator#hasNext()
+	 */
+	@Override
+	public boolean hasNext() {
+
+		while (!this.currentChunk.hasNext()) {
+
+			if (isAbandoned()) {
+				throw newIllegalStateException("Query results were not consumed within [%d] ms and were discarded",
+					getAbandonTimeout().toMillis());
+			}
+
+			if (this.timedOut) {
+				throw newQueryResultsTimedOutException();
+			}
+
+			if (isClosed()) {
+				return false;
+			}
+
+			Object chunk = take();
+
+			if (chunk == END) {
+				// keep the end of stream marker so subsequent calls return false
+				this.chunks.offer(END);
+				return false;
+			}
+			else if (chunk instanceof Failure) {
+				throw ((Failure) chunk).toRuntimeException();
+			}
+
+			this.currentChunk = ((Collection<?>) chunk).iterator();
+		}
+
+		return true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.Iterator#next()
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public T next() {
+
+		if (!hasNext()) {
+			throw new NoSuchElementException("No more results");
+		}
+
+		return (T) this.currentChunk.next();
+	}
+
+	private Object take() {
+
+		try {
+
+			Object chunk = this.chunks.poll(this.abandonTimeoutNanos, TimeUnit.NANOSECONDS);
+
+			if (chunk == null) {
+				this.timedOut = true;
+				close();
+				throw newQueryResultsTimedOutException();
+			}
+
+			this.lastConsumedNanos = System.nanoTime();
+
+			return chunk;
+		}
+		catch (InterruptedException cause) {
+			Thread.currentThread().interrupt();
+			close();
+			throw newRuntimeException(cause, "Interrupted while waiting for query results");
+		}
+	}
+
+	private IllegalStateException newQueryResultsTimedOutException() {
+		return newIllegalStateException("No query results were received within [%d] ms",
+			getAbandonTimeout().toMillis());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.apache.geode.cache.execute.ResultCollector#getResult()
+	 */
+	@Override
+	public Stream<T> getResult() throws FunctionException {
+		return stream();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.apache.geode.cache.execute.ResultCollector#getResult(long, java.util.concurrent.TimeUnit)
+	 */
+	@Override
+	public Stream<T> getResult(long timeout, TimeUnit unit) throws FunctionException {
+		return stream();
+	}
+
+	/**
+	 * Returns a sequential {@link Stream} over the collected results, which {@link #close() closes} this collector
+	 * when the {@link Stream} is closed.
+	 *
+	 * @return a {@link Stream} over the collected results.
+	 * @see java.util.stream.Stream
+	 */
+	public @NonNull Stream<T> stream() {
+
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED), false)
+			.onClose(this::close);
+	}
+
+	private static final class Failure {
+
+		private final Throwable cause;
+
+		private Failure(Throwable cause) {
+			this.cause = cause;
+		}
+
+		private RuntimeException toRuntimeException() {
+
+			return this.cause instanceof RuntimeException ? (RuntimeException) this.cause
+				: newRuntimeException(this.cause, "Failed to stream query results");
+		}
+	}
+}
@@ -16,14 +16,15 @@
 package org.springframework.data.gemfire.mapping;
 
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Predicate;
-import java.util.function.Supplier;
 
 import org.apache.geode.pdx.PdxReader;
 import org.apache.geode.pdx.PdxSerializer;
@@ -39,7 +40,6 @@ import org.springframework.data.mapping.MappingException;
 import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
-import org.springframework.data.mapping.PropertyHandler;
 import org.springframework.data.mapping.model.ConvertingPropertyAccessor;
 import org.springframework.data.mapping.model.EntityInstantiator;
 import org.springframework.data.mapping.model.EntityInstantiators;
@@ -213,6 +213,10 @@ public class MappingPdxSerializer implements PdxSerializer, ApplicationContextAw
 
 	private final Map<Object, PdxSerializer> customPdxSerializers = new ConcurrentHashMap<>();
 
+	private volatile Map<Class<?>, PdxSerializationPlan> serializationPlans = new ConcurrentHashMap<>();
+
+	private volatile boolean typedPrimitiveFieldAccessEnabled = false;
+
 	private Predicate<Class<?>> excludeTypeFilters = TypeFilters.EXCLUDE_NULL_TYPES
 		.and(TypeFilters.EXCLUDE_JAVA_TYPES)
 		.and(TypeFilters.EXCLUDE_COM_GEMSTONE_GEMFIRE_TYPES)
@@ -221,6 +225,11 @@ public class MappingPdxSerializer implements PdxSerializer, ApplicationContextAw
 
 	private Predicate<Class<?>> includeTypeFilters = TypeFilters.EXCLUDE_ALL_TYPES;
 
+	private final LongAdder typeFilterCacheLookups = new LongAdder();
+	private final LongAdder typeFilterCacheMisses = new LongAdder();
+
+	private volatile ClassValue<Boolean> typeFilterDecisions;
+
 	// TODO remove? SpELContext is not used
 	private SpELContext spelContext;
 
@@ -300,6 +309,7 @@ public class MappingPdxSerializer implements PdxSerializer, ApplicationContextAw
 	 */
 	public void setCustomPdxSerializers(Map<?, PdxSerializer> customPdxSerializers) {
 		Optional.ofNullable(customPdxSerializers).ifPresent(this.customPdxSerializers::putAll);
+		invalidateSerializationPlans();
 	}
 
 	/**
@@ -421,6 +431,8 @@ public class MappingPdxSerializer implements PdxSerializer, ApplicationContextAw
 		this.excludeTypeFilters = excludeTypeFilters != null
 			? this.excludeTypeFilters.and(excludeTypeFilters)
 			: this.excludeTypeFilters;
+
+		invalidateTypeFilterDecisions();
 	}
 
 	/**
@@ -440,6 +452,8 @@ public class MappingPdxSerializer implements PdxSerializer, ApplicationContextAw
 		this.includeTypeFilters = includeTypeFilters != null
 			? this.includeTypeFilters.or(includeTypeFilters)
 			: this.includeTypeFilters;
+
+		invalidateTypeFilterDecisions();
 	}
 
 	/**
@@ -453,6 +467,105 @@ public class MappingPdxSerializer implements PdxSerializer, ApplicationContextAw
 		return this.excludeTypeFilters.or(TypeFilters.EXCLUDE_NULL_TYPES.and(this.includeTypeFilters));
 	}
 
+	/**
+	 * Determines whether the given {@link Class type} is accepted by the configured {@link #getTypeFilters()}.
+	 *
+	 * The decision is computed once per {@link Class type} and memoized until the {@link Predicate type filters}
+	 * are changed with {@link #setExcludeTypeFilters(Predicate)} or {@link #setIncludeTypeFilters(Predicate)}.
+	 * {@literal null} types are never accepted.
+	 *
+	 * @param type {@link Class} to evaluate.
+	 * @return a boolean value indicating whether the given {@link Class type} is serializable
+	 * by this {@link MappingPdxSerializer PDX serializer}.
+	 * @see #getTypeFilters()
+	 */
+	protected boolean isTypeAccepted(@Nullable Class<?> type) {
+
+		if (type == null) {
+			return false;
+		}
+
+		ClassValue<Boolean> typeFilterDecisions = this.typeFilterDecisions;
+
+		if (typeFilterDecisions == null) {
+			typeFilterDecisions = newTypeFilterDecisions();
+			this.typeFilterDecisions = typeFilterDecisions;
+		}
+
+		this.typeFilterCacheLookups.increment();
+
+		return typeFilterDecisions.get(type);
+	}
+
+	/**
+	 * Returns the number of {@link Class type} filter decisions served from the cache.
+	 *
+	 * @return the number of {@link Class type} filter decisions served from the cache.
+	 * @see #getTypeFilterCacheMisses()
+	 * @see #isTypeAccepted(Class)
+	 */
+	public long getTypeFilterCacheHits() {
+		return Math.max(this.typeFilterCacheLookups.sum() - this.typeFilterCacheMisses.sum(), 0L);
+	}
+
+	/**
+	 * Returns the number of {@link Class type} filter decisions computed by evaluating
+	 * the {@link Predicate type filters}.
+	 *
+	 * @return the number of {@link Class type} filter decisions computed by evaluating
+	 * the {@link Predicate type filters}.
+	 * @see #getTypeFilterCacheHits()
+	 * @see #isTypeAccepted(Class)
+	 */
+	public long getTypeFilterCacheMisses() {
+		return this.typeFilterCacheMisses.sum();
+	}
+
+	private void invalidateTypeFilterDecisions() {
+		this.typeFilterDecisions = null;
+	}
+
+	private ClassValue<Boolean> newTypeFilterDecisions() {
+
+		return new ClassValue<Boolean>() {
+
+			@Override
+			protected Boolean computeValue(Class<?> type) {
+				typeFilterCacheMisses.increment();
+				return getTypeFilters().test(type);
+			}
+		};
+	}
+
+	/**
+	 * Enables or disables typed, unboxed access to {@literal primitive} entity properties.
+	 *
+	 * When enabled, {@literal primitive} properties (e.g. {@literal int}, {@literal long}, {@literal double})
+	 * without a custom {@link PdxSerializer} are read from and written to PDX with the typed {@link PdxReader}
+	 * and {@link PdxWriter} methods (e.g. {@link PdxWriter#writeInt(String, int)}) through an exactly-typed
+	 * {@link java.lang.invoke.MethodHandle} to the property's accessor methods, or field, rather than
+	 * the {@link ConvertingPropertyAccessor}, which boxes the value. Properties that cannot be accessed
+	 * in this manner continue to use the reflection-based mapping. Disabled by default.
+	 *
+	 * @param typedPrimitiveFieldAccessEnabled boolean value indicating whether typed access
+	 * to {@literal primitive} properties is enabled.
+	 * @see #isTypedPrimitiveFieldAccessEnabled()
+	 */
+	public void setTypedPrimitiveFieldAccessEnabled(boolean typedPrimitiveFieldAccessEnabled) {
+		this.typedPrimitiveFieldAccessEnabled = typedPrimitiveFieldAccessEnabled;
+		invalidateSerializationPlans();
+	}
+
+	/**
+	 * Determines whether typed, unboxed access to {@literal primitive} entity properties is enabled.
+	 *
+	 * @return a boolean value indicating whether typed access to {@literal primitive} properties is enabled.
+	 * @see #setTypedPrimitiveFieldAccessEnabled(boolean)
+	 */
+	public boolean isTypedPrimitiveFieldAccessEnabled() {
+		return this.typedPrimitiveFieldAccessEnabled;
+	}
+
 	/**
 	 * Registers the given {@link PdxSerializerResolver}, which will be used to resolve a custom {@link PdxSerializer}
 	 * for a entity property.
@@ -467,6 +580,7 @@ public class MappingPdxSerializer implements PdxSerializer, ApplicationContextAw
 
 		if (pdxSerializerResolver != null) {
 			this.pdxSerializerResolvers.add(0, pdxSerializerResolver);
+			invalidateSerializationPlans();
 		}
 	}
 
@@ -480,13 +594,13 @@ public class MappingPdxSerializer implements PdxSerializer, ApplicationContextAw
 	 * of {@link Class} type cannot be deserialized from PDX.
 	 * @see org.apache.geode.pdx.PdxReader
 	 * @see #doFromData(Class, PdxReader)
-	 * @see #getTypeFilters()
+	 * @see #isTypeAccepted(Class)
 	 * @see java.lang.Class
 	 * @see java.lang.Object
 	 */
 	@Override
 	public Object fromData(@NonNull Class<?> type, @NonNull PdxReader pdxReader) {
-		return getTypeFilters().test(type) ? doFromData(type, pdxReader) : null;
+		return isTypeAccepted(type) ? doFromData(type, pdxReader) : null;
 	}
 
 	/**
@@ -504,8 +618,16 @@ public class MappingPdxSerializer implements PdxSerializer, ApplicationContextAw
 	@SuppressWarnings({ "rawtypes", "unchecked" })
 	Object doFromData(@NonNull Class<?> type, @NonNull PdxReader pdxReader) {
 
+		PdxReadProjection readProjection = PdxReadProjection.current(type);
+
+		if (readProjection != null) {
+			return doProjectedFromData(type, pdxReader, readProjection);
+		}
+
 		GemfirePersistentEntity<?> entity = getPersistentEntity(type);
 
+		PdxSerializationPlan serializationPlan = getSerializationPlan(entity);
+
 		Object instance = resolveEntityInstantiator(entity)
 			.createInstance(entity, new PersistentEntityParameterValueProvider<>(entity,
 				new GemfirePropertyValueProvider(pdxReader), null));
@@ -513,45 +635,129 @@ public class MappingPdxSerializer implements PdxSerializer, ApplicationContextAw
 		PersistentPropertyAccessor propertyAccessor =
 			new ConvertingPropertyAccessor(entity.getPropertyAccessor(instance), getConversionService());
 
-		entity.doWithProperties((PropertyHandler<GemfirePersistentProperty>) persistentProperty -> {
+		for (PdxSerializationPlan.PropertyPlan propertyPlan : serializationPlan.getWritableProperties()) {
 
-			if (isWritable(entity, persistentProperty)) {
+			Object value = null;
 
-				Object value = null;
+			PdxSerializer customPdxSerializer = propertyPlan.getCustomPdxSerializer();
 
-				PdxSerializer customPdxSerializer = resolveCustomPdxSerializer(persistentProperty);
+			try {
+				if (getLogger().isDebugEnabled()) {
+					getLogger().debug("Setting property [{}] for entity [{}] of type [{}] from PDX{}",
+						propertyPlan.getName(), instance, type, propertyPlan.toMessageSuffix());
+				}
 
-				Supplier<String> messageSuffix = () -> customPdxSerializer != null
-					? String.format(" using custom PdxSerializer [%s]", customPdxSerializer)
-					: "";
+				PrimitivePdxFieldAccessor primitiveFieldReader = propertyPlan.getPrimitiveFieldReader();
 
-				try {
-					if (getLogger().isDebugEnabled()) {
-						getLogger().debug("Setting property [{}] for entity [{}] of type [{}] from PDX{}",
-							persistentProperty.getName(), instance, type, messageSuffix.get());
-					}
+				if (primitiveFieldReader != null) {
+					primitiveFieldReader.read(propertyAccessor.getBean(), pdxReader);
+					continue;
+				}
 
-					value = customPdxSerializer != null
-						? customPdxSerializer.fromData(persistentProperty.getType(), pdxReader)
-						: pdxReader.readField(persistentProperty.getName());
+				value = customPdxSerializer != null
+					? customPdxSerializer.fromData(propertyPlan.getType(), pdxReader)
+					: pdxReader.readField(propertyPlan.getName());
 
-					if (getLogger().isDebugEnabled()) {
-						getLogger().debug("... with value [{}]", value);
-					}
+				if (getLogger().isDebugEnabled()) {
+					getLogger().debug("... with value [{}]", value);
+				}
+
+				propertyAccessor.setProperty(propertyPlan.getProperty(), value);
+			}
+			catch (Exception cause) {
+
+				String message = String.format("An error occurred while setting value [%1$s] of property [%2$s] for entity of type [%3$s] from PDX%4$s",
+					value, propertyPlan.getName(), type, propertyPlan.toMessageSuffix());
 
-					propertyAccessor.setProperty(persistentProperty, value);
+				throw new MappingException(message, cause);
+			}
+		}
+
+		return propertyAccessor.getBean();
+	}
+
+	/**
+	 * Deserializes (reads) only the PDX fields required by the given {@link PdxReadProjection}.
+	 *
+	 * For {@link PdxReadProjection#isInterfaceProjection() interface-based projections}, the entity is not
+	 * instantiated and the projected field values are returned in a {@link Map} keyed by property name, which
+	 * backs the projection proxy. Otherwise, the entity is instantiated and only the projected properties are set.
+	 *
+	 * The {@link PdxReadProjection} is suspended while reading so that nested objects are read in full.
+	 *
+	 * @param type desired {@link Class} type of the {@link Object}; must not be {@literal null}.
+	 * @param pdxReader {@link PdxReader} used to read the PDX fields; must not be {@literal null}.
+	 * @param readProjection {@link PdxReadProjection} describing the PDX fields to read; must not be {@literal null}.
+	 * @return a {@link Map} of projected field values, or an instance of the entity with only the projected
+	 * properties set.
+	 * @see org.springframework.data.gemfire.mapping.PdxReadProjection
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	Object doProjectedFromData(@NonNull Class<?> type, @NonNull PdxReader pdxReader,
+			@NonNull PdxReadProjection readProjection) {
+
+		PdxReadProjection suspendedProjection = PdxReadProjection.suspend();
+
+		try {
+
+			GemfirePersistentEntity<?> entity = getPersistentEntity(type);
+
+			PdxSerializationPlan serializationPlan = getSerializationPlan(entity);
+
+			if (readProjection.isInterfaceProjection()) {
+
+				Map<String, Object> projectedValues = new LinkedHashMap<>();
+
+				for (String fieldName : readProjection.getFieldNames()) {
+
+					PdxSerializationPlan.PropertyPlan propertyPlan = serializationPlan.getReadableProperty(fieldName);
+
+					if (propertyPlan != null) {
+						projectedValues.put(fieldName, readProjectedValue(type, pdxReader, propertyPlan));
+					}
 				}
-				catch (Exception cause) {
 
-					String message = String.format("An error occurred while setting value [%1$s] of property [%2$s] for entity of type [%3$s] from PDX%4$s",
-						value, persistentProperty.getName(), type, messageSuffix.get());
+				return projectedValues;
+			}
 
-					throw new MappingException(message, cause);
+			Object instance = resolveEntityInstantiator(entity)
+				.createInstance(entity, new PersistentEntityParameterValueProvider<>(entity,
+					new GemfirePropertyValueProvider(pdxReader), null));
+
+			PersistentPropertyAccessor propertyAccessor =
+				new ConvertingPropertyAccessor(entity.getPropertyAccessor(instance), getConversionService());
+
+			for (PdxSerializationPlan.PropertyPlan propertyPlan : serializationPlan.getWritableProperties()) {
+				if (readProjection.getFieldNames().contains(propertyPlan.getName())) {
+					propertyAccessor.setProperty(propertyPlan.getProperty(),
+						readProjectedValue(type, pdxReader, propertyPlan));
 				}
 			}
-		});
 
-		return propertyAccessor.getBean();
+			return propertyAccessor.getBean();
+		}
+		finally {
+			PdxReadProjection.restore(suspendedProjection);
+		}
+	}
+
+	private Object readProjectedValue(Class<?> type, PdxReader pdxReader,
+			PdxSerializationPlan.PropertyPlan propertyPlan) {
+
+		PdxSerializer customPdxSerializer = propertyPlan.getCustomPdxSerializer();
+
+		try {
+			return customPdxSerializer != null
+				? customPdxSerializer.fromData(propertyPlan.getType(), pdxReader)
+				: pdxReader.readField(propertyPlan.getName());
+		}
+		catch (Exception cause) {
+
+			String message = String.format("An error occurred while reading projected property [%1$s] for entity of type [%2$s] from PDX%3$s",
+				propertyPlan.getName(), type, propertyPlan.toMessageSuffix());
+
+			throw new MappingException(message, cause);
+		}
 	}
 
 	/**
@@ -585,12 +791,12 @@ public class MappingPdxSerializer implements PdxSerializer, ApplicationContextAw
 	 * the given {@link Object} to PDX.
 	 * @see org.apache.geode.pdx.PdxWriter
 	 * @see #doToData(Object, PdxWriter)
-	 * @see #getTypeFilters()
+	 * @see #isTypeAccepted(Class)
 	 * @see java.lang.Object
 	 */
 	@Override
 	public boolean toData(@Nullable Object value, @NonNull PdxWriter pdxWriter) {
-		return getTypeFilters().test(resolveType(value)) && doToData(value, pdxWriter);
+		return isTypeAccepted(resolveType(value)) && doToData(value, pdxWriter);
 	}
 
 	/**
@@ -611,56 +817,55 @@ public class MappingPdxSerializer implements PdxSerializer, ApplicationContextAw
 		// The entity will be null for primitive & wrapper types (e.g. int, Long, String, etc).
 		if (entity != null) {
 
+			PdxSerializationPlan serializationPlan = getSerializationPlan(entity);
+
 			PersistentPropertyAccessor propertyAccessor =
 				new ConvertingPropertyAccessor(entity.getPropertyAccessor(value), getConversionService());
 
-			entity.doWithProperties((PropertyHandler<GemfirePersistentProperty>) persistentProperty -> {
+			for (PdxSerializationPlan.PropertyPlan propertyPlan : serializationPlan.getReadableProperties()) {
 
-				if (isReadable(persistentProperty)) {
+				Object propertyValue = null;
 
-					Object propertyValue = null;
+				PdxSerializer customPdxSerializer = propertyPlan.getCustomPdxSerializer();
 
-					PdxSerializer customPdxSerializer = resolveCustomPdxSerializer(persistentProperty);
-
-					String propertyName = persistentProperty.getName();
+				try {
 
-					Supplier<String> messageSuffix = () -> customPdxSerializer != null
-						? String.format(" using custom PdxSerializer [%s]", customPdxSerializer)
-						: "";
+					PrimitivePdxFieldAccessor primitiveFieldWriter = propertyPlan.getPrimitiveFieldWriter();
 
-					try {
+					if (primitiveFieldWriter != null) {
+						primitiveFieldWriter.write(value, pdxWriter);
+						continue;
+					}
 
-						propertyValue = propertyAccessor.getProperty(persistentProperty);
+					propertyValue = propertyAccessor.getProperty(propertyPlan.getProperty());
 
-						if (getLogger().isDebugEnabled()) {
-							getLogger().debug("Serializing entity [{}] property [{}] value [{}] of type [{}] to PDX{}",
-								entity.getType().getName(), propertyName, propertyValue,
-								ObjectUtils.nullSafeClassName(propertyValue), messageSuffix.get());
-						}
+					if (getLogger().isDebugEnabled()) {
+						getLogger().debug("Serializing entity [{}] property [{}] value [{}] of type [{}] to PDX{}",
+							entity.getType().getName(), propertyPlan.getName(), propertyValue,
+							ObjectUtils.nullSafeClassName(propertyValue), propertyPlan.toMessageSuffix());
+					}
 
-						if (customPdxSerializer != null) {
-							customPdxSerializer.toData(propertyValue, pdxWriter);
-						}
-						else {
-							pdxWriter.writeField(propertyName, propertyValue,
-								(Class<Object>) persistentProperty.getType());
-						}
+					if (customPdxSerializer != null) {
+						customPdxSerializer.toData(propertyValue, pdxWriter);
+					}
+					else {
+						pdxWriter.writeField(propertyPlan.getName(), propertyValue, propertyPlan.getType());
 					}
-					catch (Exception cause) {
+				}
+				catch (Exception cause) {
 
-						String message = String.format("An error occurred while serializing entity [%1$s] property [%2$s] value [%3$s] of type [%4$s] to PDX%5$s",
-							entity.getType().getName(), persistentProperty.getName(), propertyValue,
-							ObjectUtils.nullSafeClassName(propertyValue), messageSuffix.get());
+					String message = String.format("An error occurred while serializing entity [%1$s] property [%2$s] value [%3$s] of type [%4$s] to PDX%5$s",
+						entity.getType().getName(), propertyPlan.getName(), propertyValue,
+						ObjectUtils.nullSafeClassName(propertyValue), propertyPlan.toMessageSuffix());
 
-						throw new MappingException(message, cause);
-					}
+					throw new MappingException(message, cause);
 				}
-			});
+			}
 
-			GemfirePersistentProperty idProperty = entity.getIdProperty();
+			String identityFieldName = serializationPlan.getIdentityFieldName();
 
-			if (idProperty != null) {
-				pdxWriter.markIdentityField(idProperty.getName());
+			if (identityFieldName != null) {
+				pdxWriter.markIdentityField(identityFieldName);
 			}
 
 			return true;
@@ -704,6 +909,55 @@ public class MappingPdxSerializer implements PdxSerializer, ApplicationContextAw
 			.orElse(null);
 	}
 
+	/**
+	 * Returns the {@link PdxSerializationPlan} for the given {@link GemfirePersistentEntity entity}, building
+	 * and caching the plan on first use.
+	 *
+	 * @param entity {@link GemfirePersistentEntity} for which the {@link PdxSerializationPlan} is resolved;
+	 * must not be {@literal null}.
+	 * @return the cached {@link PdxSerializationPlan} for the given {@link GemfirePersistentEntity entity}.
+	 * @see org.springframework.data.gemfire.mapping.PdxSerializationPlan
+	 * @see #newSerializationPlan(GemfirePersistentEntity)
+	 */
+	PdxSerializationPlan getSerializationPlan(@NonNull GemfirePersistentEntity<?> entity) {
+
+		Map<Class<?>, PdxSerializationPlan> serializationPlans = this.serializationPlans;
+
+		PdxSerializationPlan serializationPlan = serializationPlans.get(entity.getType());
+
+		if (serializationPlan == null || serializationPlan.getEntity() != entity) {
+			serializationPlan = newSerializationPlan(entity);
+			serializationPlans.put(entity.getType(), serializationPlan);
+		}
+
+		return serializationPlan;
+	}
+
+	/**
+	 * Constructs a new {@link PdxSerializationPlan} for the given {@link GemfirePersistentEntity entity} resolving
+	 * the readable and writable properties along with any custom {@link PdxSerializer PDX serializers}.
+	 *
+	 * @param entity {@link GemfirePersistentEntity} for which the {@link PdxSerializationPlan} is built.
+	 * @return a new {@link PdxSerializationPlan} for the given {@link GemfirePersistentEntity entity}.
+	 * @see #resolveCustomPdxSerializer(PersistentProperty)
+	 * @see #isReadable(GemfirePersistentProperty)
+	 * @see #isWritable(GemfirePersistentEntity, GemfirePersistentProperty)
+	 */
+	PdxSerializationPlan newSerializationPlan(@NonNull GemfirePersistentEntity<?> entity) {
+
+		return PdxSerializationPlan.from(entity, this::isReadable,
+			persistentProperty -> isWritable(entity, persistentProperty), this::resolveCustomPdxSerializer,
+			isTypedPrimitiveFieldAccessEnabled());
+	}
+
+	/**
+	 * Discards all cached {@link PdxSerializationPlan serialization plans} so they are rebuilt on next use
+	 * with the current configuration.
+	 */
+	void invalidateSerializationPlans() {
+		this.serializationPlans = new ConcurrentHashMap<>();
+	}
+
 	/**
 	 * Looks up and returns a registered {@link EntityInstantiator} used to construct and initialize an instance of
 	 * an object defined by the given {@link PersistentEntity} (meta-data).
@@ -0,0 +1,243 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.mapping;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+
+import org.apache.geode.pdx.PdxInstance;
+import org.apache.geode.pdx.PdxSerializer;
+
+import org.springframework.aop.support.AopUtils;
+import org.springframework.cglib.proxy.MethodInterceptor;
+import org.springframework.cglib.proxy.MethodProxy;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.mapping.MappingException;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * CGLIB {@link MethodInterceptor} backing a {@link PdxInstanceEntityProxy}.
+ *
+ * On first invocation of a persistent property getter, all PDX fields of the entity are decoded the same way
+ * {@link MappingPdxSerializer#fromData(Class, org.apache.geode.pdx.PdxReader)} decodes them, that is, with
+ * the custom {@link PdxSerializer} registered for the property, if any, and converted to the property type
+ * with the {@link ConversionService}. The decoded values are set on the fields of the proxy and the entity's own
+ * getter is invoked, so any logic in the getter applies, including logic reading the fields of other persistent
+ * properties. Fields that are not persistent properties are left uninitialized, therefore getters must only
+ * derive their value from persistent properties. If any PDX field is missing from the {@link PdxInstance},
+ * the entity is materialized instead.
+ *
+ * {@link Object#equals(Object)} and {@link Object#hashCode()} are invoked on the materialized entity, with
+ * a {@link PdxInstanceEntityProxy} argument replaced by its materialized entity, so that proxies compare equal
+ * to each other and to plain entities the same way the entities do.
+ *
+ * Any other method invocation materializes the entity with {@link PdxInstance#getObject()} and is then
+ * delegated to the materialized entity.
+ *
+ * @author John Blum
+ * @see org.apache.geode.pdx.PdxInstance
+ * @see org.springframework.cglib.proxy.MethodInterceptor
+ * @see org.springframework.data.gemfire.mapping.PdxInstanceEntityProxy
+ * @see org.springframework.data.gemfire.mapping.PdxSerializationPlan
+ * @since 2.7.0
+ */
+class PdxInstanceEntityMethodInterceptor implements MethodInterceptor {
+
+	private final ConversionService conversionService;
+
+	private final Collection<PdxSerializationPlan.PropertyPlan> decodedProperties;
+
+	private final Map<String, PdxSerializationPlan.PropertyPlan> getterProperties;
+
+	private final PdxInstance source;
+
+	// null until the fields are decoded; FALSE if the PdxInstance is missing a field and cannot be decoded
+	private volatile Boolean fieldsDecoded;
+
+	private volatile Object entity;
+
+	/**
+	 * Constructs a new instance of {@link PdxInstanceEntityMethodInterceptor} initialized with
+	 * the given {@link PdxInstance}, mapping of getter {@link String method names} to
+	 * {@link PdxSerializationPlan.PropertyPlan properties}, properties decoded into the proxy
+	 * and {@link ConversionService}.
+	 *
+	 * @param source {@link PdxInstance} backing the proxy; must not be {@literal null}.
+	 * @param getterProperties {@link Map} of getter {@link String method names} to
+	 * {@link PdxSerializationPlan.PropertyPlan properties}; must not be {@literal null}.
+	 * @param decodedProperties {@link Collection} of all {@link PdxSerializationPlan.PropertyPlan properties}
+	 * decoded into the proxy before a getter is invoked; must not be {@literal null}.
+	 * @param conversionService {@link ConversionService} used to convert decoded PDX field values
+	 * to the property type; must not be {@literal null}.
+	 * @throws IllegalArgumentException if any argument is {@literal null}.
+	 */
+	PdxInstanceEntityMethodInterceptor(@NonNull PdxInstance source,
+			@NonNull Map<String, PdxSerializationPlan.PropertyPlan> getterProperties,
+			@NonNull Collection<PdxSerializationPlan.PropertyPlan> decodedProperties,
+			@NonNull ConversionService conversionService) {
+
+		Assert.notNull(source, "Source PdxInstance must not be null");
+		Assert.notNull(getterProperties, "Getter properties must not be null");
+		Assert.notNull(decodedProperties, "Decoded properties must not be null");
+		Assert.notNull(conversionService, "ConversionService must not be null");
+
+		this.source = source;
+		this.getterProperties = getterProperties;
+		this.decodedProperties = decodedProperties;
+		this.conversionService = conversionService;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public Object intercept(Object proxy, Method method, Object[] arguments, MethodProxy methodProxy)
+			throws Throwable {
+
+		if (PdxInstanceEntityProxy.class.equals(method.getDeclaringClass())) {
+			return invokeProxyMethod(method);
+		}
+
+		if (ReflectionUtils.isEqualsMethod(method)) {
+			return materialize().equals(unwrapEntity(arguments[0]));
+		}
+
+		if (ReflectionUtils.isHashCodeMethod(method)) {
+			return materialize().hashCode();
+		}
+
+		if (this.entity == null && arguments.length == 0 && this.getterProperties.containsKey(method.getName())
+				&& decodeFields(proxy)) {
+
+			return methodProxy.invokeSuper(proxy, arguments);
+		}
+
+		return AopUtils.invokeJoinpointUsingReflection(materialize(), method, arguments);
+	}
+
+	private Object invokeProxyMethod(Method method) {
+
+		switch (method.getName()) {
+			case "getSourcePdxInstance":
+				return this.source;
+			case "isMaterialized":
+				return this.entity != null;
+			default:
+				return materialize();
+		}
+	}
+
+	private Object unwrapEntity(Object value) {
+
+		return value instanceof PdxInstanceEntityProxy
+			? ((PdxInstanceEntityProxy) value).getMaterializedEntity()
+			: value;
+	}
+
+	/**
+	 * Decodes all PDX fields into the fields of the proxy, once.
+	 *
+	 * Returns {@literal false} if the {@link PdxInstance} is missing a field or the entity was materialized
+	 * in the meantime, in which case the getter must be invoked on the materialized entity.
+	 */
+	private boolean decodeFields(Object proxy) {
+
+		Boolean fieldsDecoded = this.fieldsDecoded;
+
+		if (fieldsDecoded == null) {
+			synchronized (this) {
+
+				if (this.entity != null) {
+					return false;
+				}
+
+				fieldsDecoded = this.fieldsDecoded;
+
+				if (fieldsDecoded == null) {
+
+					fieldsDecoded = this.decodedProperties.stream()
+						.allMatch(propertyPlan -> this.source.hasField(propertyPlan.getName()));
+
+					if (fieldsDecoded) {
+						for (PdxSerializationPlan.PropertyPlan propertyPlan : this.decodedProperties) {
+
+							Object value = readField(propertyPlan);
+							Field field = propertyPlan.getProperty().getRequiredField();
+
+							if (value != null || !field.getType().isPrimitive()) {
+								ReflectionUtils.setField(field, proxy, value);
+							}
+						}
+					}
+
+					this.fieldsDecoded = fieldsDecoded;
+				}
+			}
+		}
+
+		return fieldsDecoded && this.entity == null;
+	}
+
+	private Object readField(PdxSerializationPlan.PropertyPlan propertyPlan) {
+
+		Class<?> type = propertyPlan.getType();
+
+		PdxSerializer customPdxSerializer = propertyPlan.getCustomPdxSerializer();
+
+		try {
+
+			Object value = customPdxSerializer != null
+				? customPdxSerializer.fromData(type, new PdxInstanceReader(this.source))
+				: this.source.getField(propertyPlan.getName());
+
+			if (value instanceof PdxInstance && !type.isInstance(value)) {
+				value = ((PdxInstance) value).getObject();
+			}
+
+			return value == null || ClassUtils.isAssignableValue(type, value) ? value
+				: this.conversionService.convert(value, type);
+		}
+		catch (Exception cause) {
+
+			String message = String.format("An error occurred while reading property [%1$s] for entity of type [%2$s] from PDX%3$s",
+				propertyPlan.getName(), this.source.getClassName(), propertyPlan.toMessageSuffix());
+
+			throw new MappingException(message, cause);
+		}
+	}
+
+	private Object materialize() {
+
+		Object entity = this.entity;
+
+		if (entity == null) {
+			synchronized (this) {
+				entity = this.entity;
+				if (entity == null) {
+					entity = this.source.getObject();
+					this.entity = entity;
+				}
+			}
+		}
+
+		return entity;
+	}
+}
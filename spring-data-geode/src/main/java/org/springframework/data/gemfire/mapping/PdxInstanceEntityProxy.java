@@ -0,0 +1,84 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.mapping;
+
+import org.apache.geode.pdx.PdxInstance;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * Interface implemented by lazy, {@link PdxInstance}-backed entity proxies created by
+ * the {@link PdxInstanceEntityProxyFactory}.
+ *
+ * Until the proxy is {@link #isMaterialized() materialized}, property getters are answered from
+ * the {@link PdxInstance} directly, decoding only the PDX fields that are accessed. Any other method invocation,
+ * such as a setter, materializes the entity by deserializing the {@link PdxInstance} and all subsequent invocations
+ * are delegated to the materialized entity.
+ *
+ * @author John Blum
+ * @see org.apache.geode.pdx.PdxInstance
+ * @see org.springframework.data.gemfire.mapping.PdxInstanceEntityProxyFactory
+ * @since 2.7.0
+ */
+public interface PdxInstanceEntityProxy {
+
+	/**
+	 * Unwraps the given {@link Object} if it is a {@link PdxInstanceEntityProxy}, returning the value that should be
+	 * stored in a {@link org.apache.geode.cache.Region}.
+	 *
+	 * If the proxy was {@link #isMaterialized() materialized}, the entity is returned. Otherwise, the unchanged
+	 * {@link PdxInstance} is returned so that the value is not re-serialized.
+	 *
+	 * @param value {@link Object} to unwrap.
+	 * @return the unwrapped value, or the given {@link Object} if it is not a {@link PdxInstanceEntityProxy}.
+	 */
+	static @Nullable Object unwrap(@Nullable Object value) {
+
+		if (value instanceof PdxInstanceEntityProxy) {
+
+			PdxInstanceEntityProxy proxy = (PdxInstanceEntityProxy) value;
+
+			return proxy.isMaterialized() ? proxy.getMaterializedEntity() : proxy.getSourcePdxInstance();
+		}
+
+		return value;
+	}
+
+	/**
+	 * Returns the {@link PdxInstance} backing this proxy.
+	 *
+	 * @return the {@link PdxInstance} backing this proxy.
+	 * @see org.apache.geode.pdx.PdxInstance
+	 */
+	@NonNull PdxInstance getSourcePdxInstance();
+
+	/**
+	 * Determines whether the entity has been deserialized from the {@link PdxInstance}.
+	 *
+	 * @return a boolean value indicating whether the entity has been deserialized from the {@link PdxInstance}.
+	 */
+	boolean isMaterialized();
+
+	/**
+	 * Returns the entity deserialized from the {@link PdxInstance}, deserializing the entity if necessary.
+	 *
+	 * @return the entity deserialized from the {@link PdxInstance}.
+	 * @see org.apache.geode.pdx.PdxInstance#getObject()
+	 */
+	@NonNull Object getMaterializedEntity();
+
+}
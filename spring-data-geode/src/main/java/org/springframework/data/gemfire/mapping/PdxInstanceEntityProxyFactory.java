@@ -0,0 +1,372 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.mapping;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.geode.pdx.PdxInstance;
+
+import org.springframework.cglib.proxy.Callback;
+import org.springframework.cglib.proxy.CallbackFilter;
+import org.springframework.cglib.proxy.Enhancer;
+import org.springframework.cglib.proxy.Factory;
+import org.springframework.cglib.proxy.MethodInterceptor;
+import org.springframework.cglib.proxy.NoOp;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.objenesis.SpringObjenesis;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Factory used to create lazy {@link PdxInstanceEntityProxy entity proxies} over {@link PdxInstance PdxInstances}
+ * returned from {@link org.apache.geode.cache.Region Regions} configured to {@literal read-serialized}.
+ *
+ * Rather than deserializing the entire entity, a proxy of the entity {@link Class type} is returned that decodes
+ * a PDX field only when the corresponding property getter is invoked. PDX fields are decoded with the custom
+ * {@link org.apache.geode.pdx.PdxSerializer PdxSerializers} and {@link org.springframework.core.convert.ConversionService}
+ * of the configured {@link MappingPdxSerializer}, as in {@link MappingPdxSerializer#fromData(Class, org.apache.geode.pdx.PdxReader)}.
+ * The proxy becomes a real entity, deserialized with {@link PdxInstance#getObject()}, on the first invocation
+ * of any other method, such as a setter.
+ *
+ * The proxy {@link Class} is generated once per entity {@link Class type} and cached. The {@link PdxInstance}
+ * is returned as is when the entity {@link Class type} cannot be resolved, and the entity is deserialized eagerly
+ * when the entity {@link Class type} cannot be proxied. Since the proxy is a subclass of the entity
+ * {@link Class type}, entities exposing state through {@literal public} fields or {@literal final} methods
+ * are not suited for lazy reads.
+ *
+ * @author John Blum
+ * @see org.apache.geode.pdx.PdxInstance
+ * @see org.springframework.cglib.proxy.Enhancer
+ * @see org.springframework.data.gemfire.mapping.MappingPdxSerializer
+ * @see org.springframework.data.gemfire.mapping.PdxInstanceEntityProxy
+ * @since 2.7.0
+ */
+public class PdxInstanceEntityProxyFactory {
+
+	// finalize() is not intercepted so that collecting an unused proxy does not materialize the entity
+	private static final CallbackFilter FINALIZE_CALLBACK_FILTER = method ->
+		"finalize".equals(method.getName()) && method.getParameterCount() == 0 ? 1 : 0;
+
+	private static final SpringObjenesis OBJENESIS = new SpringObjenesis();
+
+	private final ClassLoader beanClassLoader;
+
+	private final Map<Class<?>, Optional<ProxyType>> proxyTypes = new ConcurrentHashMap<>();
+
+	private final MappingPdxSerializer pdxSerializer;
+
+	/**
+	 * Constructs a new instance of {@link PdxInstanceEntityProxyFactory} initialized with
+	 * a default {@link MappingPdxSerializer}.
+	 *
+	 * @see #PdxInstanceEntityProxyFactory(MappingPdxSerializer)
+	 */
+	public PdxInstanceEntityProxyFactory() {
+		this(MappingPdxSerializer.newMappingPdxSerializer());
+	}
+
+	/**
+	 * Constructs a new instance of {@link PdxInstanceEntityProxyFactory} initialized with the given
+	 * {@link MappingContext} used to map property getters to PDX fields.
+	 *
+	 * PDX fields are decoded with a default {@link MappingPdxSerializer} using the given {@link MappingContext}
+	 * if it is a {@link GemfireMappingContext}.
+	 *
+	 * @param mappingContext {@link MappingContext} used to resolve {@link GemfirePersistentEntity entities};
+	 * must not be {@literal null}.
+	 * @throws IllegalArgumentException if {@link MappingContext} is {@literal null}.
+	 * @see org.springframework.data.mapping.context.MappingContext
+	 * @see #PdxInstanceEntityProxyFactory(MappingPdxSerializer)
+	 */
+	public PdxInstanceEntityProxyFactory(
+			@NonNull MappingContext<? extends GemfirePersistentEntity<?>, GemfirePersistentProperty> mappingContext) {
+
+		this(newMappingPdxSerializer(mappingContext));
+	}
+
+	/**
+	 * Constructs a new instance of {@link PdxInstanceEntityProxyFactory} initialized with the given
+	 * {@link MappingPdxSerializer} used to map property getters to PDX fields and to decode PDX fields.
+	 *
+	 * @param pdxSerializer {@link MappingPdxSerializer} used to decode PDX fields; must not be {@literal null}.
+	 * @throws IllegalArgumentException if {@link MappingPdxSerializer} is {@literal null}.
+	 * @see org.springframework.data.gemfire.mapping.MappingPdxSerializer
+	 */
+	public PdxInstanceEntityProxyFactory(@NonNull MappingPdxSerializer pdxSerializer) {
+
+		Assert.notNull(pdxSerializer, "MappingPdxSerializer must not be null");
+
+		this.pdxSerializer = pdxSerializer;
+		this.beanClassLoader = ClassUtils.getDefaultClassLoader();
+	}
+
+	private static MappingPdxSerializer newMappingPdxSerializer(
+			MappingContext<? extends GemfirePersistentEntity<?>, GemfirePersistentProperty> mappingContext) {
+
+		Assert.notNull(mappingContext, "MappingContext must not be null");
+
+		return mappingContext instanceof GemfireMappingContext
+			? MappingPdxSerializer.create((GemfireMappingContext) mappingContext)
+			: MappingPdxSerializer.newMappingPdxSerializer();
+	}
+
+	/**
+	 * Returns the {@link MappingContext} used to map property getters to PDX fields.
+	 *
+	 * @return the {@link MappingContext} used to map property getters to PDX fields.
+	 */
+	protected @NonNull MappingContext<? extends GemfirePersistentEntity<?>, GemfirePersistentProperty> getMappingContext() {
+		return getPdxSerializer().getMappingContext();
+	}
+
+	/**
+	 * Returns the {@link MappingPdxSerializer} used to decode PDX fields.
+	 *
+	 * @return the {@link MappingPdxSerializer} used to decode PDX fields.
+	 */
+	public @NonNull MappingPdxSerializer getPdxSerializer() {
+		return this.pdxSerializer;
+	}
+
+	/**
+	 * Returns a lazy {@link PdxInstanceEntityProxy} for the given value if the value is a {@link PdxInstance}
+	 * of a resolvable entity {@link Class type}.
+	 *
+	 * @param <T> {@link Class type} of the value.
+	 * @param value {@link Object} to proxy.
+	 * @return a lazy {@link PdxInstanceEntityProxy} for the given value, or the value itself if the value
+	 * is not a {@link PdxInstance}.
+	 * @see #newProxy(PdxInstance)
+	 */
+	@SuppressWarnings("unchecked")
+	public @Nullable <T> T proxyIfNecessary(@Nullable Object value) {
+
+		return value instanceof PdxInstance && !(value instanceof PdxInstanceEntityProxy)
+			? (T) newProxy((PdxInstance) value)
+			: (T) value;
+	}
+
+	/**
+	 * Creates a lazy {@link PdxInstanceEntityProxy} for the given {@link PdxInstance}.
+	 *
+	 * @param pdxInstance {@link PdxInstance} to proxy; must not be {@literal null}.
+	 * @return a lazy {@link PdxInstanceEntityProxy}, the entity deserialized from the {@link PdxInstance}
+	 * if the entity {@link Class type} cannot be proxied, or the {@link PdxInstance} if the entity
+	 * {@link Class type} cannot be resolved.
+	 * @throws IllegalArgumentException if {@link PdxInstance} is {@literal null}.
+	 */
+	protected @NonNull Object newProxy(@NonNull PdxInstance pdxInstance) {
+
+		Assert.notNull(pdxInstance, "PdxInstance must not be null");
+
+		Class<?> entityType = resolveEntityType(pdxInstance);
+
+		if (entityType == null) {
+			return pdxInstance;
+		}
+
+		Optional<ProxyType> proxyType = this.proxyTypes.computeIfAbsent(entityType, this::resolveProxyType);
+
+		if (!proxyType.isPresent()) {
+			return pdxInstance.getObject();
+		}
+
+		Object proxy = OBJENESIS.newInstance(proxyType.get().getProxyClass());
+
+		GetterProperties getterProperties = resolveGetterProperties(proxyType.get());
+
+		((Factory) proxy).setCallbacks(new Callback[] {
+			new PdxInstanceEntityMethodInterceptor(pdxInstance, getterProperties.propertiesByGetterName,
+				getterProperties.decodedProperties, getPdxSerializer().getConversionService()),
+			NoOp.INSTANCE
+		});
+
+		return proxy;
+	}
+
+	/**
+	 * Returns the {@link Class} of proxies created with {@link #newProxy(PdxInstance)} for
+	 * the given entity {@link Class type}.
+	 *
+	 * @param entityType entity {@link Class type}.
+	 * @return the proxy {@link Class}, or {@literal null} if the entity {@link Class type} cannot be proxied.
+	 */
+	@Nullable Class<?> getProxyClass(@NonNull Class<?> entityType) {
+
+		return this.proxyTypes.computeIfAbsent(entityType, this::resolveProxyType)
+			.map(ProxyType::getProxyClass)
+			.orElse(null);
+	}
+
+	private @Nullable Class<?> resolveEntityType(PdxInstance pdxInstance) {
+
+		if (pdxInstance.isEnum()) {
+			return null;
+		}
+
+		try {
+			return ClassUtils.forName(pdxInstance.getClassName(), this.beanClassLoader);
+		}
+		catch (ClassNotFoundException | LinkageError | RuntimeException ignore) {
+			return null;
+		}
+	}
+
+	private Optional<ProxyType> resolveProxyType(Class<?> entityType) {
+
+		if (Modifier.isFinal(entityType.getModifiers()) || entityType.isInterface()
+				|| getPdxSerializer().getPersistentEntity(entityType) == null) {
+
+			return Optional.empty();
+		}
+
+		try {
+
+			Enhancer enhancer = new Enhancer();
+
+			enhancer.setSuperclass(entityType);
+			enhancer.setInterfaces(new Class<?>[] { PdxInstanceEntityProxy.class });
+			enhancer.setCallbackFilter(FINALIZE_CALLBACK_FILTER);
+			enhancer.setCallbackTypes(new Class<?>[] { MethodInterceptor.class, NoOp.class });
+			enhancer.setClassLoader(entityType.getClassLoader());
+			enhancer.setUseFactory(true);
+
+			return Optional.of(new ProxyType(entityType, enhancer.createClass()));
+		}
+		catch (RuntimeException | LinkageError ignore) {
+			return Optional.empty();
+		}
+	}
+
+	private GetterProperties resolveGetterProperties(ProxyType proxyType) {
+
+		GemfirePersistentEntity<?> entity = getPdxSerializer().getPersistentEntity(proxyType.getEntityType());
+
+		PdxSerializationPlan serializationPlan = getPdxSerializer().getSerializationPlan(entity);
+
+		return proxyType.getGetterProperties(serializationPlan);
+	}
+
+	/**
+	 * Cached proxy {@link Class} of an entity {@link Class type} along with the properties of the getters
+	 * answered lazily, which are resolved again when the {@link PdxSerializationPlan} of the entity changes.
+	 */
+	private static final class ProxyType {
+
+		private final Class<?> entityType;
+		private final Class<?> proxyClass;
+
+		private volatile GetterProperties getterProperties;
+
+		private ProxyType(Class<?> entityType, Class<?> proxyClass) {
+			this.entityType = entityType;
+			this.proxyClass = proxyClass;
+		}
+
+		Class<?> getEntityType() {
+			return this.entityType;
+		}
+
+		Class<?> getProxyClass() {
+			return this.proxyClass;
+		}
+
+		GetterProperties getGetterProperties(PdxSerializationPlan serializationPlan) {
+
+			GetterProperties getterProperties = this.getterProperties;
+
+			if (getterProperties == null || getterProperties.serializationPlan != serializationPlan) {
+				getterProperties = new GetterProperties(serializationPlan);
+				this.getterProperties = getterProperties;
+			}
+
+			return getterProperties;
+		}
+	}
+
+	/**
+	 * Getters answered lazily along with the properties decoded into the proxy before any getter is invoked.
+	 *
+	 * Getters are only answered lazily when every PDX field of the entity can be decoded into a non-final field,
+	 * so that a getter reading the field of another property does not see that field uninitialized.
+	 */
+	private static final class GetterProperties {
+
+		private final List<PdxSerializationPlan.PropertyPlan> decodedProperties;
+
+		private final Map<String, PdxSerializationPlan.PropertyPlan> propertiesByGetterName;
+
+		private final PdxSerializationPlan serializationPlan;
+
+		private GetterProperties(PdxSerializationPlan serializationPlan) {
+
+			this.serializationPlan = serializationPlan;
+
+			List<PdxSerializationPlan.PropertyPlan> decodedProperties = new ArrayList<>();
+
+			for (PdxSerializationPlan.PropertyPlan propertyPlan : serializationPlan.getReadableProperties()) {
+
+				Field field = propertyPlan.getProperty().getField();
+
+				if (field == null || Modifier.isFinal(field.getModifiers())) {
+					this.decodedProperties = Collections.emptyList();
+					this.propertiesByGetterName = Collections.emptyMap();
+					return;
+				}
+
+				ReflectionUtils.makeAccessible(field);
+				decodedProperties.add(propertyPlan);
+			}
+
+			Map<String, PdxSerializationPlan.PropertyPlan> propertiesByGetterName = new HashMap<>();
+
+			GemfirePersistentEntity<?> entity = serializationPlan.getEntity();
+
+			entity.doWithProperties((PropertyHandler<GemfirePersistentProperty>) persistentProperty -> {
+
+				PdxSerializationPlan.PropertyPlan propertyPlan =
+					serializationPlan.getReadableProperty(persistentProperty.getName());
+
+				Method getter = persistentProperty.getGetter();
+
+				Field field = persistentProperty.getField();
+
+				if (propertyPlan != null && getter != null && !Modifier.isFinal(getter.getModifiers())
+						&& field != null && !Modifier.isFinal(field.getModifiers())) {
+
+					ReflectionUtils.makeAccessible(field);
+					propertiesByGetterName.put(getter.getName(), propertyPlan);
+				}
+			});
+
+			this.decodedProperties = Collections.unmodifiableList(decodedProperties);
+			this.propertiesByGetterName = Collections.unmodifiableMap(propertiesByGetterName);
+		}
+	}
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.mapping;
+
+import java.util.Date;
+
+import org.apache.geode.pdx.PdxInstance;
+import org.apache.geode.pdx.PdxReader;
+import org.apache.geode.pdx.PdxUnreadFields;
+
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+/**
+ * {@link PdxReader} reading PDX fields from a {@link PdxInstance}.
+ *
+ * Used to pass a {@link PdxInstance} to a custom {@link org.apache.geode.pdx.PdxSerializer} when a single
+ * entity property is decoded by a {@link PdxInstanceEntityProxy}. Like {@link PdxReader}, the {@literal primitive}
+ * read methods return the default value of the {@literal primitive} type when the field does not exist.
+ *
+ * @author John Blum
+ * @see org.apache.geode.pdx.PdxInstance
+ * @see org.apache.geode.pdx.PdxReader
+ * @see org.springframework.data.gemfire.mapping.PdxInstanceEntityMethodInterceptor
+ * @since 2.7.0
+ */
+class PdxInstanceReader implements PdxReader {
+
+	private final PdxInstance pdxInstance;
+
+	/**
+	 * Constructs a new instance of {@link PdxInstanceReader} reading PDX fields from the given {@link PdxInstance}.
+	 *
+	 * @param pdxInstance {@link PdxInstance} to read; must not be {@literal null}.
+	 * @throws IllegalArgumentException if {@link PdxInstance} is {@literal null}.
+	 */
+	PdxInstanceReader(@NonNull PdxInstance pdxInstance) {
+
+		Assert.notNull(pdxInstance, "PdxInstance must not be null");
+
+		this.pdxInstance = pdxInstance;
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> T read(String fieldName) {
+		return (T) this.pdxInstance.getField(fieldName);
+	}
+
+	private <T> T read(String fieldName, T defaultValue) {
+
+		T value = read(fieldName);
+
+		return value != null ? value : defaultValue;
+	}
+
+	@Override
+	public char readChar(String fieldName) {
+		return read(fieldName, Character.MIN_VALUE);
+	}
+
+	@Override
+	public boolean readBoolean(String fieldName) {
+		return read(fieldName, Boolean.FALSE);
+	}
+
+	@Override
+	public byte readByte(String fieldName) {
+		return read(fieldName, (byte) 0);
+	}
+
+	@Override
+	public short readShort(String fieldName) {
+		return read(fieldName, (short) 0);
+	}
+
+	@Override
+	public int readInt(String fieldName) {
+		return read(fieldName, 0);
+	}
+
+	@Override
+	public long readLong(String fieldName) {
+		return read(fieldName, 0L);
+	}
+
+	@Override
+	public float readFloat(String fieldName) {
+		return read(fieldName, 0.0f);
+	}
+
+	@Override
+	public double readDouble(String fieldName) {
+		return read(fieldName, 0.0d);
+	}
+
+	@Override
+	public String readString(String fieldName) {
+		return read(fieldName);
+	}
+
+	@Override
+	public Object readObject(String fieldName) {
+		return read(fieldName);
+	}
+
+	@Override
+	public char[] readCharArray(String fieldName) {
+		return read(fieldName);
+	}
+
+	@Override
+	public boolean[] readBooleanArray(String fieldName) {
+		return read(fieldName);
+	}
+
+	@Override
+	public byte[] readByteArray(String fieldName) {
+		return read(fieldName);
+	}
+
+	@Override
+	public short[] readShortArray(String fieldName) {
+		return read(fieldName);
+	}
+
+	@Override
+	public int[] readIntArray(String fieldName) {
+		return read(fieldName);
+	}
+
+	@Override
+	public long[] readLongArray(String fieldName) {
+		return read(fieldName);
+	}
+
+	@Override
+	public float[] readFloatArray(String fieldName) {
+		return read(fieldName);
+	}
+
+	@Override
+	public double[] readDoubleArray(String fieldName) {
+		return read(fieldName);
+	}
+
+	@Override
+	public String[] readStringArray(String fieldName) {
+		return read(fieldName);
+	}
+
+	@Override
+	public Object[] readObjectArray(String fieldName) {
+		return read(fieldName);
+	}
+
+	@Override
+	public byte[][] readArrayOfByteArrays(String fieldName) {
+		return read(fieldName);
+	}
+
+	@Override
+	public Date readDate(String fieldName) {
+		return read(fieldName);
+	}
+
+	@Override
+	public boolean hasField(String fieldName) {
+		return this.pdxInstance.hasField(fieldName);
+	}
+
+	@Override
+	public boolean isIdentityField(String fieldName) {
+		return this.pdxInstance.isIdentityField(fieldName);
+	}
+
+	@Override
+	public Object readField(String fieldName) {
+		return read(fieldName);
+	}
+
+	/**
+	 * Unread fields only apply to deserializing an entire object and are not supported.
+	 *
+	 * @throws UnsupportedOperationException always.
+	 */
+	@Override
+	public PdxUnreadFields readUnreadFields() {
+		throw new UnsupportedOperationException("Reading unread fields from a PdxInstance is not supported");
+	}
+}
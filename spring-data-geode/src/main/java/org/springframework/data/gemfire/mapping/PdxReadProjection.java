@@ -0,0 +1,213 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.mapping;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.apache.geode.pdx.PdxReader;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link PdxReadProjection} describes the subset of PDX fields that need to be read (deserialized) by
+ * the {@link MappingPdxSerializer} when the result of a read is only used to back a {@literal projection}
+ * of an entity, such as a DTO or interface-based projection returned by a {@literal Repository} query method.
+ *
+ * A {@link PdxReadProjection} is bound to the current {@link Thread} for the duration of a read operation with
+ * {@link #doWith(PdxReadProjection, Supplier)}. While bound, the {@link MappingPdxSerializer} reads only
+ * the {@link #getFieldNames() projected fields} for top-level objects of the {@link #getEntityType() entity type}.
+ * For {@link #isInterfaceProjection() interface-based projections}, the entity is not instantiated at all and
+ * the projected field values are returned in a {@link java.util.Map} instead, which backs the projection proxy.
+ *
+ * @author John Blum
+ * @see org.apache.geode.pdx.PdxReader
+ * @see org.springframework.data.gemfire.mapping.MappingPdxSerializer
+ * @since 2.7.0
+ */
+public final class PdxReadProjection {
+
+	private static final ThreadLocal<PdxReadProjection> CURRENT_PROJECTION = new ThreadLocal<>();
+
+	/**
+	 * Factory method used to construct a new {@link PdxReadProjection}.
+	 *
+	 * @param entityType {@link Class type} of the entity being projected; must not be {@literal null}.
+	 * @param fieldNames {@link Collection} of {@link String PDX field names} required by the projection;
+	 * must not be {@literal null} or empty.
+	 * @param interfaceProjection boolean value indicating whether the projection is interface-based, in which case
+	 * the entity is not instantiated.
+	 * @return a new {@link PdxReadProjection}.
+	 * @throws IllegalArgumentException if the entity {@link Class type} is {@literal null}
+	 * or no {@link String field names} were given.
+	 */
+	public static @NonNull PdxReadProjection of(@NonNull Class<?> entityType, @NonNull Collection<String> fieldNames,
+			boolean interfaceProjection) {
+
+		return new PdxReadProjection(entityType, fieldNames, interfaceProjection);
+	}
+
+	/**
+	 * Binds the given {@link PdxReadProjection} to the current {@link Thread} while invoking
+	 * the given {@link Supplier callback}.
+	 *
+	 * @param <T> {@link Class type} of the result.
+	 * @param projection {@link PdxReadProjection} to bind; if {@literal null}, the callback is simply invoked.
+	 * @param callback {@link Supplier} performing the read; must not be {@literal null}.
+	 * @return the result of the {@link Supplier callback}.
+	 */
+	public static <T> T doWith(@Nullable PdxReadProjection projection, @NonNull Supplier<T> callback) {
+
+		if (projection == null) {
+			return callback.get();
+		}
+
+		PdxReadProjection previousProjection = CURRENT_PROJECTION.get();
+
+		CURRENT_PROJECTION.set(projection);
+
+		try {
+			return callback.get();
+		}
+		finally {
+			restore(previousProjection);
+		}
+	}
+
+	/**
+	 * Decorates the given {@link Runnable task} to run with the {@link PdxReadProjection} bound to
+	 * the current {@link Thread}, if any, so that reads performed on another {@link Thread} apply
+	 * the same projection.
+	 *
+	 * @param task {@link Runnable} performing the read; must not be {@literal null}.
+	 * @return the decorated {@link Runnable}, or the given {@link Runnable} if no projection is bound.
+	 * @see #doWith(PdxReadProjection, Supplier)
+	 */
+	public static @NonNull Runnable withCurrentProjection(@NonNull Runnable task) {
+
+		PdxReadProjection projection = CURRENT_PROJECTION.get();
+
+		return projection != null
+			? () -> doWith(projection, () -> {
+				task.run();
+				return null;
+			})
+			: task;
+	}
+
+	/**
+	 * Returns the {@link PdxReadProjection} bound to the current {@link Thread} if the projection applies to
+	 * the given {@link Class type}.
+	 *
+	 * @param type {@link Class type} of the object being read.
+	 * @return the current {@link PdxReadProjection} applicable to the given {@link Class type},
+	 * or {@literal null} if no projection is bound or the projection does not apply.
+	 */
+	static @Nullable PdxReadProjection current(@Nullable Class<?> type) {
+
+		PdxReadProjection projection = CURRENT_PROJECTION.get();
+
+		return projection != null && projection.getEntityType().equals(type) ? projection : null;
+	}
+
+	/**
+	 * Unbinds the {@link PdxReadProjection} from the current {@link Thread} so that nested objects are read in full.
+	 *
+	 * @return the {@link PdxReadProjection} that was bound to the current {@link Thread}.
+	 * @see #restore(PdxReadProjection)
+	 */
+	static @Nullable PdxReadProjection suspend() {
+
+		PdxReadProjection projection = CURRENT_PROJECTION.get();
+
+		CURRENT_PROJECTION.remove();
+
+		return projection;
+	}
+
+	/**
+	 * Rebinds the given {@link PdxReadProjection} to the current {@link Thread}.
+	 *
+	 * @param projection {@link PdxReadProjection} to rebind.
+	 * @see #suspend()
+	 */
+	static void restore(@Nullable PdxReadProjection projection) {
+
+		if (projection != null) {
+			CURRENT_PROJECTION.set(projection);
+		}
+		else {
+			CURRENT_PROJECTION.remove();
+		}
+	}
+
+	private final boolean interfaceProjection;
+
+	private final Class<?> entityType;
+
+	private final Set<String> fieldNames;
+
+	private PdxReadProjection(Class<?> entityType, Collection<String> fieldNames, boolean interfaceProjection) {
+
+		Assert.notNull(entityType, "Entity type must not be null");
+		Assert.notEmpty(fieldNames, "Field names must not be empty");
+
+		this.entityType = entityType;
+		this.fieldNames = Collections.unmodifiableSet(new LinkedHashSet<>(fieldNames));
+		this.interfaceProjection = interfaceProjection;
+	}
+
+	/**
+	 * Returns the {@link Class type} of the entity being projected.
+	 *
+	 * @return the {@link Class type} of the entity being projected.
+	 */
+	public @NonNull Class<?> getEntityType() {
+		return this.entityType;
+	}
+
+	/**
+	 * Returns the {@link Set} of {@link String PDX field names} read by the projection.
+	 *
+	 * @return the {@link Set} of {@link String PDX field names} read by the projection.
+	 * @see PdxReader#readField(String)
+	 */
+	public @NonNull Set<String> getFieldNames() {
+		return this.fieldNames;
+	}
+
+	/**
+	 * Determines whether the projection is interface-based, in which case the entity is not instantiated.
+	 *
+	 * @return a boolean value indicating whether the projection is interface-based.
+	 */
+	public boolean isInterfaceProjection() {
+		return this.interfaceProjection;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public String toString() {
+		return String.format("%1$s%2$s", getEntityType().getName(), getFieldNames());
+	}
+}
@@ -0,0 +1,273 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.mapping;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.apache.geode.pdx.PdxSerializer;
+
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Immutable, pre-computed plan used by the {@link MappingPdxSerializer} to read (deserialize) and write (serialize)
+ * an entity of a particular {@link Class type} from and to PDX.
+ *
+ * The plan is resolved once per {@link GemfirePersistentEntity entity type} and captures, for each
+ * {@link GemfirePersistentProperty persistent property}, the PDX field name, the resolved custom
+ * {@link PdxSerializer} (if any) and whether the property is the identity field so that serialization
+ * does not need to re-evaluate the mapping meta-data on every call.
+ *
+ * @author John Blum
+ * @see org.apache.geode.pdx.PdxSerializer
+ * @see org.springframework.data.gemfire.mapping.GemfirePersistentEntity
+ * @see org.springframework.data.gemfire.mapping.GemfirePersistentProperty
+ * @see org.springframework.data.gemfire.mapping.MappingPdxSerializer
+ * @since 2.7.0
+ */
+class PdxSerializationPlan {
+
+	/**
+	 * Factory method used to construct a new {@link PdxSerializationPlan} for the given
+	 * {@link GemfirePersistentEntity entity}.
+	 *
+	 * @param entity {@link GemfirePersistentEntity} for which the plan is built; must not be {@literal null}.
+	 * @param readable {@link Predicate} used to determine whether a {@link GemfirePersistentProperty} is serialized.
+	 * @param writable {@link Predicate} used to determine whether a {@link GemfirePersistentProperty} is deserialized.
+	 * @param customPdxSerializerResolver {@link Function} used to resolve a custom {@link PdxSerializer}
+	 * for a {@link GemfirePersistentProperty}.
+	 * @param typedPrimitiveFieldAccess boolean value indicating whether {@literal primitive} properties
+	 * without a custom {@link PdxSerializer} are accessed with a {@link PrimitivePdxFieldAccessor}.
+	 * @return a new {@link PdxSerializationPlan} for the given {@link GemfirePersistentEntity entity}.
+	 * @throws IllegalArgumentException if {@link GemfirePersistentEntity} is {@literal null}.
+	 */
+	static @NonNull PdxSerializationPlan from(@NonNull GemfirePersistentEntity<?> entity,
+			@NonNull Predicate<GemfirePersistentProperty> readable,
+			@NonNull Predicate<GemfirePersistentProperty> writable,
+			@NonNull Function<PersistentProperty<?>, PdxSerializer> customPdxSerializerResolver,
+			boolean typedPrimitiveFieldAccess) {
+
+		Assert.notNull(entity, "Entity must not be null");
+
+		GemfirePersistentProperty idProperty = entity.getIdProperty();
+
+		List<PropertyPlan> readableProperties = new ArrayList<>();
+		List<PropertyPlan> writableProperties = new ArrayList<>();
+
+		entity.doWithProperties((PropertyHandler<GemfirePersistentProperty>) persistentProperty -> {
+
+			boolean isReadable = readable.test(persistentProperty);
+			boolean isWritable = writable.test(persistentProperty);
+
+			if (isReadable || isWritable) {
+
+				PdxSerializer customPdxSerializer = customPdxSerializerResolver.apply(persistentProperty);
+
+				PrimitivePdxFieldAccessor primitiveFieldAccessor = typedPrimitiveFieldAccess && customPdxSerializer == null
+					? PrimitivePdxFieldAccessor.from(persistentProperty)
+					: null;
+
+				PropertyPlan propertyPlan = new PropertyPlan(persistentProperty, customPdxSerializer,
+					primitiveFieldAccessor, persistentProperty.equals(idProperty));
+
+				if (isReadable) {
+					readableProperties.add(propertyPlan);
+				}
+
+				if (isWritable) {
+					writableProperties.add(propertyPlan);
+				}
+			}
+		});
+
+		return new PdxSerializationPlan(entity,
+			readableProperties.toArray(new PropertyPlan[0]),
+			writableProperties.toArray(new PropertyPlan[0]),
+			idProperty != null ? idProperty.getName() : null);
+	}
+
+	private final GemfirePersistentEntity<?> entity;
+
+	private final Map<String, PropertyPlan> readablePropertiesByName;
+
+	private final PropertyPlan[] readableProperties;
+	private final PropertyPlan[] writableProperties;
+
+	private final String identityFieldName;
+
+	private PdxSerializationPlan(GemfirePersistentEntity<?> entity, PropertyPlan[] readableProperties,
+			PropertyPlan[] writableProperties, String identityFieldName) {
+
+		this.entity = entity;
+		this.readableProperties = readableProperties;
+		this.writableProperties = writableProperties;
+		this.identityFieldName = identityFieldName;
+
+		Map<String, PropertyPlan> readablePropertiesByName = new HashMap<>(readableProperties.length);
+
+		for (PropertyPlan readableProperty : readableProperties) {
+			readablePropertiesByName.put(readableProperty.getName(), readableProperty);
+		}
+
+		this.readablePropertiesByName = Collections.unmodifiableMap(readablePropertiesByName);
+	}
+
+	/**
+	 * Returns the {@link GemfirePersistentEntity} described by this plan.
+	 *
+	 * @return the {@link GemfirePersistentEntity} described by this plan.
+	 */
+	@NonNull GemfirePersistentEntity<?> getEntity() {
+		return this.entity;
+	}
+
+	/**
+	 * Returns the {@link String name} of the PDX identity field, or {@literal null} if the entity
+	 * does not declare an identifier.
+	 *
+	 * @return the {@link String name} of the PDX identity field.
+	 */
+	@Nullable String getIdentityFieldName() {
+		return this.identityFieldName;
+	}
+
+	/**
+	 * Returns the {@link PropertyPlan properties} written to PDX during serialization.
+	 *
+	 * The returned array is shared and must not be modified by the caller.
+	 *
+	 * @return the {@link PropertyPlan properties} written to PDX during serialization.
+	 */
+	@NonNull PropertyPlan[] getReadableProperties() {
+		return this.readableProperties;
+	}
+
+	/**
+	 * Returns the {@link PropertyPlan property} with the given {@link String name} written to PDX
+	 * during serialization.
+	 *
+	 * @param name {@link String} containing the name of the property.
+	 * @return the {@link PropertyPlan property} with the given {@link String name}, or {@literal null}
+	 * if the entity does not write a PDX field by that name.
+	 */
+	@Nullable PropertyPlan getReadableProperty(@Nullable String name) {
+		return this.readablePropertiesByName.get(name);
+	}
+
+	/**
+	 * Returns the {@link PropertyPlan properties} set from PDX during deserialization.
+	 *
+	 * The returned array is shared and must not be modified by the caller.
+	 *
+	 * @return the {@link PropertyPlan properties} set from PDX during deserialization.
+	 */
+	@NonNull PropertyPlan[] getWritableProperties() {
+		return this.writableProperties;
+	}
+
+	/**
+	 * Immutable handle for a single {@link GemfirePersistentProperty} of the planned entity.
+	 */
+	static final class PropertyPlan {
+
+		private final boolean identity;
+
+		private final Class<Object> type;
+
+		private final GemfirePersistentProperty property;
+
+		private final PdxSerializer customPdxSerializer;
+
+		private final PrimitivePdxFieldAccessor primitiveFieldAccessor;
+
+		private final String name;
+
+		@SuppressWarnings("unchecked")
+		PropertyPlan(@NonNull GemfirePersistentProperty property, @Nullable PdxSerializer customPdxSerializer,
+				@Nullable PrimitivePdxFieldAccessor primitiveFieldAccessor, boolean identity) {
+
+			this.property = property;
+			this.customPdxSerializer = customPdxSerializer;
+			this.primitiveFieldAccessor = primitiveFieldAccessor;
+			this.identity = identity;
+			this.name = property.getName();
+			this.type = (Class<Object>) property.getType();
+		}
+
+		@Nullable PdxSerializer getCustomPdxSerializer() {
+			return this.customPdxSerializer;
+		}
+
+		/**
+		 * Returns the {@link PrimitivePdxFieldAccessor} used to read the property from PDX without boxing,
+		 * or {@literal null} if the property must be set through the {@link PersistentPropertyAccessor}.
+		 *
+		 * @return the {@link PrimitivePdxFieldAccessor} used to read the property from PDX.
+		 */
+		@Nullable PrimitivePdxFieldAccessor getPrimitiveFieldReader() {
+
+			return this.primitiveFieldAccessor != null && this.primitiveFieldAccessor.isWritable()
+				? this.primitiveFieldAccessor
+				: null;
+		}
+
+		/**
+		 * Returns the {@link PrimitivePdxFieldAccessor} used to write the property to PDX without boxing,
+		 * or {@literal null} if the property must be read through the {@link PersistentPropertyAccessor}.
+		 *
+		 * @return the {@link PrimitivePdxFieldAccessor} used to write the property to PDX.
+		 */
+		@Nullable PrimitivePdxFieldAccessor getPrimitiveFieldWriter() {
+
+			return this.primitiveFieldAccessor != null && this.primitiveFieldAccessor.isReadable()
+				? this.primitiveFieldAccessor
+				: null;
+		}
+
+		boolean isIdentity() {
+			return this.identity;
+		}
+
+		@NonNull String getName() {
+			return this.name;
+		}
+
+		@NonNull GemfirePersistentProperty getProperty() {
+			return this.property;
+		}
+
+		@NonNull Class<Object> getType() {
+			return this.type;
+		}
+
+		@NonNull String toMessageSuffix() {
+
+			return this.customPdxSerializer != null
+				? String.format(" using custom PdxSerializer [%s]", this.customPdxSerializer)
+				: "";
+		}
+	}
+}
@@ -0,0 +1,385 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.mapping;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import org.apache.geode.pdx.PdxReader;
+import org.apache.geode.pdx.PdxWriter;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Accessor used to read and write a {@literal primitive} {@link GemfirePersistentProperty} directly from and to PDX
+ * using the typed {@link PdxReader} and {@link PdxWriter} methods (e.g. {@link PdxWriter#writeInt(String, int)}).
+ *
+ * The property value is accessed through an exactly-typed {@link MethodHandle} bound to the property's getter/setter,
+ * or field, and invoked with {@link MethodHandle#invokeExact(Object...)} so primitive values are never boxed.
+ *
+ * The typed PDX methods produce the same PDX field types as {@link PdxWriter#writeField(String, Object, Class)}
+ * given the primitive property type, so data written in either mode is readable by the other.
+ *
+ * @author John Blum
+ * @see java.lang.invoke.MethodHandle
+ * @see org.apache.geode.pdx.PdxReader
+ * @see org.apache.geode.pdx.PdxWriter
+ * @see org.springframework.data.gemfire.mapping.GemfirePersistentProperty
+ * @since 2.7.0
+ */
+abstract class PrimitivePdxFieldAccessor {
+
+	/**
+	 * Factory method used to construct a new {@link PrimitivePdxFieldAccessor} for the given
+	 * {@link GemfirePersistentProperty}.
+	 *
+	 * @param property {@link GemfirePersistentProperty} to access; must not be {@literal null}.
+	 * @return a new {@link PrimitivePdxFieldAccessor} for the given {@link GemfirePersistentProperty},
+	 * or {@literal null} if the property is not of a {@literal primitive} type or the property cannot be accessed
+	 * through a {@link MethodHandle}, in which case the reflection-based mapping must be used.
+	 */
+	static @Nullable PrimitivePdxFieldAccessor from(@NonNull GemfirePersistentProperty property) {
+
+		Class<?> type = property.getType();
+
+		if (!type.isPrimitive()) {
+			return null;
+		}
+
+		try {
+
+			MethodHandle getter = resolveGetter(property);
+			MethodHandle setter = resolveSetter(property);
+
+			if (getter == null && setter == null) {
+				return null;
+			}
+
+			String name = property.getName();
+
+			if (boolean.class.equals(type)) {
+				return new BooleanFieldAccessor(name, getter, setter);
+			}
+			else if (byte.class.equals(type)) {
+				return new ByteFieldAccessor(name, getter, setter);
+			}
+			else if (char.class.equals(type)) {
+				return new CharFieldAccessor(name, getter, setter);
+			}
+			else if (short.class.equals(type)) {
+				return new ShortFieldAccessor(name, getter, setter);
+			}
+			else if (int.class.equals(type)) {
+				return new IntFieldAccessor(name, getter, setter);
+			}
+			else if (long.class.equals(type)) {
+				return new LongFieldAccessor(name, getter, setter);
+			}
+			else if (float.class.equals(type)) {
+				return new FloatFieldAccessor(name, getter, setter);
+			}
+			else if (double.class.equals(type)) {
+				return new DoubleFieldAccessor(name, getter, setter);
+			}
+		}
+		catch (IllegalAccessException | RuntimeException ignore) {
+			// Fall back to the reflection-based mapping when the property cannot be accessed
+		}
+
+		return null;
+	}
+
+	private static @Nullable MethodHandle resolveGetter(GemfirePersistentProperty property)
+			throws IllegalAccessException {
+
+		Class<?> type = property.getType();
+
+		MethodType methodType = MethodType.methodType(type, Object.class);
+
+		Field field = property.getField();
+
+		// prefer field access unless property access is requested, consistent with Spring Data's property accessors
+		if (field != null && !property.usePropertyAccess()) {
+			ReflectionUtils.makeAccessible(field);
+			return MethodHandles.lookup().unreflectGetter(field).asType(methodType);
+		}
+
+		Method getter = property.getGetter();
+
+		if (getter != null) {
+			ReflectionUtils.makeAccessible(getter);
+			return MethodHandles.lookup().unreflect(getter).asType(methodType);
+		}
+
+		if (field != null) {
+			ReflectionUtils.makeAccessible(field);
+			return MethodHandles.lookup().unreflectGetter(field).asType(methodType);
+		}
+
+		return null;
+	}
+
+	private static @Nullable MethodHandle resolveSetter(GemfirePersistentProperty property)
+			throws IllegalAccessException {
+
+		Class<?> type = property.getType();
+
+		MethodType methodType = MethodType.methodType(void.class, Object.class, type);
+
+		Field field = property.getField();
+
+		boolean writableField = field != null && !Modifier.isFinal(field.getModifiers());
+
+		// prefer field access unless property access is requested, consistent with Spring Data's property accessors
+		if (writableField && !property.usePropertyAccess()) {
+			ReflectionUtils.makeAccessible(field);
+			return MethodHandles.lookup().unreflectSetter(field).asType(methodType);
+		}
+
+		Method setter = property.getSetter();
+
+		if (setter != null) {
+			ReflectionUtils.makeAccessible(setter);
+			return MethodHandles.lookup().unreflect(setter).asType(methodType);
+		}
+
+		if (writableField) {
+			ReflectionUtils.makeAccessible(field);
+			return MethodHandles.lookup().unreflectSetter(field).asType(methodType);
+		}
+
+		return null;
+	}
+
+	private static RuntimeException propagate(Throwable cause) {
+
+		if (cause instanceof RuntimeException) {
+			return (RuntimeException) cause;
+		}
+		else if (cause instanceof Error) {
+			throw (Error) cause;
+		}
+
+		return new IllegalStateException(cause);
+	}
+
+	protected final MethodHandle getter;
+	protected final MethodHandle setter;
+
+	protected final String name;
+
+	PrimitivePdxFieldAccessor(String name, MethodHandle getter, MethodHandle setter) {
+		this.name = name;
+		this.getter = getter;
+		this.setter = setter;
+	}
+
+	/**
+	 * Determines whether the property value can be read from the entity and written to PDX.
+	 *
+	 * @return a boolean value indicating whether the property can be serialized with this accessor.
+	 */
+	boolean isReadable() {
+		return this.getter != null;
+	}
+
+	/**
+	 * Determines whether the property value can be read from PDX and set on the entity.
+	 *
+	 * @return a boolean value indicating whether the property can be deserialized with this accessor.
+	 */
+	boolean isWritable() {
+		return this.setter != null;
+	}
+
+	/**
+	 * Reads the PDX field and sets the value on the given entity.
+	 *
+	 * @param entity entity on which the property is set.
+	 * @param pdxReader {@link PdxReader} used to read the PDX field.
+	 */
+	void read(Object entity, PdxReader pdxReader) {
+
+		try {
+			doRead(entity, pdxReader);
+		}
+		catch (Throwable cause) {
+			throw propagate(cause);
+		}
+	}
+
+	abstract void doRead(Object entity, PdxReader pdxReader) throws Throwable;
+
+	/**
+	 * Gets the property value from the given entity and writes the value to the PDX field.
+	 *
+	 * @param entity entity from which the property value is read.
+	 * @param pdxWriter {@link PdxWriter} used to write the PDX field.
+	 */
+	void write(Object entity, PdxWriter pdxWriter) {
+
+		try {
+			doWrite(entity, pdxWriter);
+		}
+		catch (Throwable cause) {
+			throw propagate(cause);
+		}
+	}
+
+	abstract void doWrite(Object entity, PdxWriter pdxWriter) throws Throwable;
+
+	static final class BooleanFieldAccessor extends PrimitivePdxFieldAccessor {
+
+		BooleanFieldAccessor(String name, MethodHandle getter, MethodHandle setter) {
+			super(name, getter, setter);
+		}
+
+		@Override
+		void doRead(Object entity, PdxReader pdxReader) throws Throwable {
+			this.setter.invokeExact(entity, pdxReader.readBoolean(this.name));
+		}
+
+		@Override
+		void doWrite(Object entity, PdxWriter pdxWriter) throws Throwable {
+			pdxWriter.writeBoolean(this.name, (boolean) this.getter.invokeExact(entity));
+		}
+	}
+
+	static final class ByteFieldAccessor extends PrimitivePdxFieldAccessor {
+
+		ByteFieldAccessor(String name, MethodHandle getter, MethodHandle setter) {
+			super(name, getter, setter);
+		}
+
+		@Override
+		void doRead(Object entity, PdxReader pdxReader) throws Throwable {
+			this.setter.invokeExact(entity, pdxReader.readByte(this.name));
+		}
+
+		@Override
+		void doWrite(Object entity, PdxWriter pdxWriter) throws Throwable {
+			pdxWriter.writeByte(this.name, (byte) this.getter.invokeExact(entity));
+		}
+	}
+
+	static final class CharFieldAccessor extends PrimitivePdxFieldAccessor {
+
+		CharFieldAccessor(String name, MethodHandle getter, MethodHandle setter) {
+			super(name, getter, setter);
+		}
+
+		@Override
+		void doRead(Object entity, PdxReader pdxReader) throws Throwable {
+			this.setter.invokeExact(entity, pdxReader.readChar(this.name));
+		}
+
+		@Override
+		void doWrite(Object entity, PdxWriter pdxWriter) throws Throwable {
+			pdxWriter.writeChar(this.name, (char) this.getter.invokeExact(entity));
+		}
+	}
+
+	static final class ShortFieldAccessor extends PrimitivePdxFieldAccessor {
+
+		ShortFieldAccessor(String name, MethodHandle getter, MethodHandle setter) {
+			super(name, getter, setter);
+		}
+
+		@Override
+		void doRead(Object entity, PdxReader pdxReader) throws Throwable {
+			this.setter.invokeExact(entity, pdxReader.readShort(this.name));
+		}
+
+		@Override
+		void doWrite(Object entity, PdxWriter pdxWriter) throws Throwable {
+			pdxWriter.writeShort(this.name, (short) this.getter.invokeExact(entity));
+		}
+	}
+
+	static final class IntFieldAccessor extends PrimitivePdxFieldAccessor {
+
+		IntFieldAccessor(String name, MethodHandle getter, MethodHandle setter) {
+			super(name, getter, setter);
+		}
+
+		@Override
+		void doRead(Object entity, PdxReader pdxReader) throws Throwable {
+			this.setter.invokeExact(entity, pdxReader.readInt(this.name));
+		}
+
+		@Override
+		void doWrite(Object entity, PdxWriter pdxWriter) throws Throwable {
+			pdxWriter.writeInt(this.name, (int) this.getter.invokeExact(entity));
+		}
+	}
+
+	static final class LongFieldAccessor extends PrimitivePdxFieldAccessor {
+
+		LongFieldAccessor(String name, MethodHandle getter, MethodHandle setter) {
+			super(name, getter, setter);
+		}
+
+		@Override
+		void doRead(Object entity, PdxReader pdxReader) throws Throwable {
+			this.setter.invokeExact(entity, pdxReader.readLong(this.name));
+		}
+
+		@Override
+		void doWrite(Object entity, PdxWriter pdxWriter) throws Throwable {
+			pdxWriter.writeLong(this.name, (long) this.getter.invokeExact(entity));
+		}
+	}
+
+	static final class FloatFieldAccessor extends PrimitivePdxFieldAccessor {
+
+		FloatFieldAccessor(String name, MethodHandle getter, MethodHandle setter) {
+			super(name, getter, setter);
+		}
+
+		@Override
+		void doRead(Object entity, PdxReader pdxReader) throws Throwable {
+			this.setter.invokeExact(entity, pdxReader.readFloat(this.name));
+		}
+
+		@Override
+		void doWrite(Object entity, PdxWriter pdxWriter) throws Throwable {
+			pdxWriter.writeFloat(this.name, (float) this.getter.invokeExact(entity));
+		}
+	}
+
+	static final class DoubleFieldAccessor extends PrimitivePdxFieldAccessor {
+
+		DoubleFieldAccessor(String name, MethodHandle getter, MethodHandle setter) {
+			super(name, getter, setter);
+		}
+
+		@Override
+		void doRead(Object entity, PdxReader pdxReader) throws Throwable {
+			this.setter.invokeExact(entity, pdxReader.readDouble(this.name));
+		}
+
+		@Override
+		void doWrite(Object entity, PdxWriter pdxWriter) throws Throwable {
+			pdxWriter.writeDouble(this.name, (double) this.getter.invokeExact(entity));
+		}
+	}
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.repository;
+
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+
+/**
+ * Apache Geode extension of the Spring Data {@link ReactiveCrudRepository} interface.
+ *
+ * @author John Blum
+ * @see org.springframework.data.repository.reactive.ReactiveCrudRepository
+ * @see org.springframework.data.gemfire.repository.support.SimpleReactiveGemfireRepository
+ * @since 2.7.0
+ */
+public interface ReactiveGemfireRepository<T, ID> extends ReactiveCrudRepository<T, ID> {
+
+}
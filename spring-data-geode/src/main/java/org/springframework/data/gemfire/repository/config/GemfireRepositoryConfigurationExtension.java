@@ -16,8 +16,8 @@
 package org.springframework.data.gemfire.repository.config;
 
 import java.lang.annotation.Annotation;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
 
 import org.springframework.beans.factory.support.BeanDefinitionBuilder;
 import org.springframework.beans.factory.support.BeanDefinitionRegistry;
@@ -26,6 +26,7 @@ import org.springframework.data.gemfire.config.xml.GemfireConstants;
 import org.springframework.data.gemfire.mapping.GemfireMappingContext;
 import org.springframework.data.gemfire.mapping.annotation.Region;
 import org.springframework.data.gemfire.repository.GemfireRepository;
+import org.springframework.data.gemfire.repository.ReactiveGemfireRepository;
 import org.springframework.data.gemfire.repository.support.GemfireRepositoryFactoryBean;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.repository.Repository;
@@ -34,6 +35,7 @@ import org.springframework.data.repository.config.RepositoryConfigurationExtensi
 import org.springframework.data.repository.config.RepositoryConfigurationExtensionSupport;
 import org.springframework.data.repository.config.RepositoryConfigurationSource;
 import org.springframework.data.repository.config.XmlRepositoryConfigurationSource;
+import org.springframework.data.repository.core.RepositoryMetadata;
 import org.springframework.lang.NonNull;
 
 /**
@@ -61,7 +63,19 @@ public class GemfireRepositoryConfigurationExtension extends RepositoryConfigura
 
 	@Override
 	protected Collection<Class<?>> getIdentifyingTypes() {
-		return Collections.singleton(GemfireRepository.class);
+		return Arrays.asList(GemfireRepository.class, ReactiveGemfireRepository.class);
+	}
+
+	/**
+	 * Allows both blocking and {@link ReactiveGemfireRepository reactive} {@link Repository Repositories}
+	 * to be configured; the {@link GemfireRepositoryFactoryBean} creates the appropriate {@link Repository} proxy.
+	 *
+	 * @param metadata {@link RepositoryMetadata} describing the {@link Repository}.
+	 * @return {@literal true}.
+	 */
+	@Override
+	protected boolean useRepositoryConfiguration(RepositoryMetadata metadata) {
+		return true;
 	}
 
 	@Override
@@ -16,11 +16,15 @@
 package org.springframework.data.gemfire.repository.query;
 
 import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Optional;
 
 import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
 import org.springframework.data.gemfire.mapping.GemfirePersistentProperty;
+import org.springframework.data.gemfire.mapping.PdxReadProjection;
 import org.springframework.data.gemfire.repository.Query;
+import org.springframework.data.gemfire.repository.query.annotation.CachedCount;
 import org.springframework.data.gemfire.repository.query.annotation.Hint;
 import org.springframework.data.gemfire.repository.query.annotation.Import;
 import org.springframework.data.gemfire.repository.query.annotation.Limit;
@@ -31,6 +35,8 @@ import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.core.RepositoryMetadata;
 import org.springframework.data.repository.query.QueryMethod;
 import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
+import org.springframework.data.repository.query.ReturnedType;
+import org.springframework.data.repository.util.ReactiveWrappers;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -54,6 +60,8 @@ public class GemfireQueryMethod extends QueryMethod {
 
 	private final Method method;
 
+	private volatile Optional<PdxReadProjection> pdxReadProjection;
+
 	@SuppressWarnings("unused")
 	private final QueryMethodEvaluationContextProvider evaluationContextProvider;
 
@@ -139,6 +147,49 @@ public class GemfireQueryMethod extends QueryMethod {
 		return this.entity;
 	}
 
+	/**
+	 * Returns the {@link PdxReadProjection} describing the PDX fields that must be read to satisfy
+	 * the {@literal projection} returned by this query method.
+	 *
+	 * A {@link PdxReadProjection} is only returned for closed, interface-based projections, which declare
+	 * the entity properties they require and are backed by the projected field values without instantiating
+	 * the entity. Open projections (e.g. using SpEL), DTO projections and query methods returning the entity type
+	 * require the full entity and therefore return {@literal null}.
+	 *
+	 * @return the {@link PdxReadProjection} for the {@literal projection} returned by this query method,
+	 * or {@literal null} if this query method does not return a {@literal projection} with known properties.
+	 * @see org.springframework.data.gemfire.mapping.PdxReadProjection
+	 * @see org.springframework.data.repository.query.ReturnedType
+	 * @see #getResultProcessor()
+	 */
+	public @Nullable PdxReadProjection getPdxReadProjection() {
+
+		Optional<PdxReadProjection> pdxReadProjection = this.pdxReadProjection;
+
+		if (pdxReadProjection == null) {
+			pdxReadProjection = resolvePdxReadProjection();
+			this.pdxReadProjection = pdxReadProjection;
+		}
+
+		return pdxReadProjection.orElse(null);
+	}
+
+	private Optional<PdxReadProjection> resolvePdxReadProjection() {
+
+		ReturnedType returnedType = getResultProcessor().getReturnedType();
+
+		if (returnedType.isProjecting() && returnedType.getReturnedType().isInterface()) {
+
+			List<String> inputProperties = returnedType.getInputProperties();
+
+			if (!inputProperties.isEmpty()) {
+				return Optional.of(PdxReadProjection.of(getDomainClass(), inputProperties, true));
+			}
+		}
+
+		return Optional.empty();
+	}
+
 	/**
 	 * Determines whether this query method specifies an annotated, non-empty query.
 	 *
@@ -205,6 +256,48 @@ public class GemfireQueryMethod extends QueryMethod {
 		return getMethod().isAnnotationPresent(Import.class);
 	}
 
+	/**
+	 * Determines whether this query method returns a reactive type emitting multiple results,
+	 * such as a {@literal Flux}.
+	 *
+	 * The results of reactive, multi-value query methods are streamed from the {@link org.apache.geode.cache.Region}
+	 * in chunks, like query methods returning a {@link java.util.stream.Stream}.
+	 *
+	 * @return a boolean value indicating whether this query method returns a reactive, multi-value type.
+	 * @see org.springframework.data.repository.util.ReactiveWrappers#isMultiValueType(Class)
+	 */
+	public boolean isReactiveStreamQuery() {
+		return ReactiveWrappers.isAvailable() && ReactiveWrappers.isMultiValueType(getMethod().getReturnType());
+	}
+
+	/**
+	 * Determines whether this query method allows the total number of results for a
+	 * {@link org.springframework.data.domain.Page} to be cached.
+	 *
+	 * @return a boolean value indicating whether this query method allows the total number of results to be cached.
+	 * @see org.springframework.data.gemfire.repository.query.annotation.CachedCount
+	 * @see java.lang.reflect.Method#isAnnotationPresent(Class)
+	 */
+	public boolean hasCachedCount() {
+		return getMethod().isAnnotationPresent(CachedCount.class);
+	}
+
+	/**
+	 * Gets the time in milliseconds for which the total number of results for a
+	 * {@link org.springframework.data.domain.Page} may be cached.
+	 *
+	 * @return the time in milliseconds to cache the total number of results, or {@literal 0}
+	 * if the total number of results must not be cached.
+	 * @see org.springframework.data.gemfire.repository.query.annotation.CachedCount
+	 * @see java.lang.reflect.Method#getAnnotation(Class)
+	 */
+	public long getCachedCountTimeToLive() {
+
+		CachedCount cachedCount = getMethod().getAnnotation(CachedCount.class);
+
+		return cachedCount != null ? Math.max(cachedCount.value(), 0L) : 0L;
+	}
+
 	/**
 	 * Gets the IMPORT statement for this query method.
 	 *
@@ -16,9 +16,13 @@
 package org.springframework.data.gemfire.repository.query;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.gemfire.GemfireTemplate;
 import org.springframework.data.repository.query.ParametersParameterAccessor;
@@ -44,6 +48,19 @@ import org.springframework.util.Assert;
  */
 public class PartTreeGemfireRepositoryQuery extends GemfireRepositoryQuery {
 
+	static final int REPOSITORY_QUERY_CACHE_SIZE = 32;
+
+	private final boolean wildcardParametersPresent;
+
+	private final Map<Sort, GemfireRepositoryQuery> repositoryQueries = Collections.synchronizedMap(
+		new LinkedHashMap<Sort, GemfireRepositoryQuery>(16, 0.75f, true) {
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Sort, GemfireRepositoryQuery> eldest) {
+				return size() > REPOSITORY_QUERY_CACHE_SIZE;
+			}
+		});
+
 	private final GemfireTemplate template;
 
 	private final PartTree tree;
@@ -68,6 +85,9 @@ public class PartTreeGemfireRepositoryQuery extends GemfireRepositoryQuery {
 
 		this.template = template;
 		this.tree = new PartTree(queryMethod.getName(), queryMethod.getEntityInformation().getJavaType());
+		this.wildcardParametersPresent = this.tree.getParts().stream().map(Part::getType).anyMatch(type ->
+			Part.Type.CONTAINING.equals(type) || Part.Type.STARTING_WITH.equals(type)
+				|| Part.Type.ENDING_WITH.equals(type));
 	}
 
 	/**
@@ -92,27 +112,52 @@ public class PartTreeGemfireRepositoryQuery extends GemfireRepositoryQuery {
 
 	/**
 	 * @inheritDoc
+	 *
+	 * The OQL query derived from the {@link PartTree} only varies by the dynamic {@link Sort} (which includes
+	 * the {@link Sort} of the {@link org.springframework.data.domain.Pageable}) passed to the {@link QueryMethod}.
+	 * Therefore, the {@link StringBasedGemfireRepositoryQuery} executing the derived OQL query is created once
+	 * for each {@link Sort} and then reused, binding only the arguments on each execution. The queries of at most
+	 * {@value #REPOSITORY_QUERY_CACHE_SIZE} of the most recently used {@link Sort Sorts} are retained.
 	 */
 	@Override
 	public Object execute(Object[] arguments) {
 
 		GemfireQueryMethod queryMethod = getGemfireQueryMethod();
 
-		QueryString query = newQueryString(queryMethod, getPartTree(), arguments);
+		Sort sort = new ParametersParameterAccessor(queryMethod.getParameters(), arguments).getSort();
 
-		GemfireRepositoryQuery repositoryQuery = newRepositoryQuery(queryMethod, query, getTemplate());
-
-		return repositoryQuery.execute(prepareStringParameters(arguments));
+		return resolveRepositoryQuery(sort).execute(prepareStringParameters(arguments));
 	}
 
-	private QueryString newQueryString(GemfireQueryMethod queryMethod, PartTree tree, Object[] arguments) {
+	/**
+	 * Returns the cached {@link GemfireRepositoryQuery} executing the OQL query derived for the given {@link Sort},
+	 * creating the {@link GemfireRepositoryQuery} if necessary.
+	 *
+	 * @param sort {@link Sort} of the derived OQL query.
+	 * @return the {@link GemfireRepositoryQuery} executing the OQL query derived for the given {@link Sort}.
+	 */
+	@NonNull GemfireRepositoryQuery resolveRepositoryQuery(@NonNull Sort sort) {
+
+		GemfireRepositoryQuery repositoryQuery = this.repositoryQueries.get(sort);
 
-		ParametersParameterAccessor parameterAccessor =
-			new ParametersParameterAccessor(queryMethod.getParameters(), arguments);
+		if (repositoryQuery == null) {
+
+			GemfireQueryMethod queryMethod = getGemfireQueryMethod();
+
+			repositoryQuery =
+				newRepositoryQuery(queryMethod, newQueryString(queryMethod, getPartTree(), sort), getTemplate());
+
+			this.repositoryQueries.put(sort, repositoryQuery);
+		}
+
+		return repositoryQuery;
+	}
+
+	private QueryString newQueryString(GemfireQueryMethod queryMethod, PartTree tree, Sort sort) {
 
 		GemfireQueryCreator queryCreator = new GemfireQueryCreator(tree, queryMethod.getPersistentEntity());
 
-		return queryCreator.createQuery(parameterAccessor.getSort());
+		return queryCreator.createQuery(sort);
 	}
 
 	private GemfireRepositoryQuery newRepositoryQuery(GemfireQueryMethod queryMethod,
@@ -129,24 +174,28 @@ public class PartTreeGemfireRepositoryQuery extends GemfireRepositoryQuery {
 
 	private Object[] prepareStringParameters(Object[] parameters) {
 
+		if (!this.wildcardParametersPresent) {
+			return parameters;
+		}
+
 		Iterator<Part> partsIterator = getPartTree().getParts().iterator();
 
 		List<Object> stringParameters = new ArrayList<>(parameters.length);
 
 		for (Object parameter : parameters) {
-			if (parameter == null || parameter instanceof Sort) {
+			if (parameter == null || parameter instanceof Sort || parameter instanceof Pageable) {
 				stringParameters.add(parameter);
 			}
 			else {
 				switch (partsIterator.next().getType()) {
 					case CONTAINING:
-						stringParameters.add(String.format("%%%s%%", parameter.toString()));
+						stringParameters.add("%" + parameter + "%");
 						break;
 					case STARTING_WITH:
-						stringParameters.add(String.format("%s%%", parameter.toString()));
+						stringParameters.add(parameter + "%");
 						break;
 					case ENDING_WITH:
-						stringParameters.add(String.format("%%%s", parameter.toString()));
+						stringParameters.add("%" + parameter);
 						break;
 					default:
 						stringParameters.add(parameter);
@@ -59,6 +59,14 @@ public class QueryString {
 	protected static final Pattern HINT_PATTERN = Pattern.compile("<HINT '\\w+'(, '\\w+')*>");
 	protected static final Pattern IMPORT_PATTERN = Pattern.compile("IMPORT .+;");
 	protected static final Pattern LIMIT_PATTERN = Pattern.compile("LIMIT \\d+");
+	protected static final Pattern ORDER_BY_PATTERN = Pattern.compile("\\sORDER BY\\s");
+	protected static final Pattern ORDER_BY_CLAUSE_PATTERN =
+		Pattern.compile("\\sORDER BY\\s.+?(?=\\sLIMIT\\s|$)", Pattern.DOTALL);
+	protected static final Pattern SELECT_CLAUSE_PATTERN =
+		Pattern.compile("SELECT\\s+(DISTINCT\\s+)?(.+?)\\sFROM\\s", Pattern.DOTALL);
+	protected static final Pattern WHERE_CLAUSE_PATTERN =
+		Pattern.compile("(?<=\\sWHERE\\s)(.+?)(?=\\sORDER BY\\s|\\sLIMIT\\s|$)", Pattern.DOTALL);
+	protected static final Pattern WHERE_CLAUSE_INSERTION_PATTERN = Pattern.compile("\\sORDER BY\\s|\\sLIMIT\\s");
 	protected static final Pattern TRACE_PATTERN = Pattern.compile("<TRACE>");
 
 	// OQL Query Templates
@@ -70,8 +78,10 @@ public class QueryString {
 
 	// OQL Query Regular Expression Patterns
 	protected static final String COUNT_PROJECTION = "count(*)";
+	protected static final String COUNT_DISTINCT_PROJECTION_TEMPLATE = "count(DISTINCT %s)";
 	protected static final String IN_PATTERN = "(?<=IN (SET|LIST) )\\$\\d";
 	protected static final String IN_PARAMETER_PATTERN = "(?<=IN (SET|LIST) \\$)\\d";
+	protected static final String IN_BIND_PARAMETER_PATTERN = "(?<=IN )(SET|LIST) (?=\\$\\d)";
 	protected static final String IN_VALUES_TEMPLATE = "(%s)";
 	protected static final String REGION_PATTERN = "\\/(\\/?\\w)+";
 	protected static final String STAR_PROJECTION = "*";
@@ -224,6 +234,20 @@ public class QueryString {
 		this(asQuery(domainType, asCountQuery));
 	}
 
+	/**
+	 * Determines whether the projection in the {@literal SELECT} clause of the OQL query is a {@literal count}.
+	 *
+	 * @return a boolean value determining whether the OQL query selects a {@literal count}.
+	 * @see #asCountQuery()
+	 */
+	public boolean isCountQuery() {
+
+		Matcher selectClauseMatcher = SELECT_CLAUSE_PATTERN.matcher(getQuery());
+
+		return selectClauseMatcher.find()
+			&& selectClauseMatcher.group(2).trim().regionMatches(true, 0, "count(", 0, 6);
+	}
+
 	/**
 	 * Determines whether a {@literal LIMIT} is present in the OQL query.
 	 *
@@ -234,6 +258,66 @@ public class QueryString {
 		return LIMIT_PATTERN.matcher(getQuery()).find();
 	}
 
+	/**
+	 * Determines whether an {@literal ORDER BY} clause is present in the OQL query.
+	 *
+	 * @return a boolean value determining whether an {@literal ORDER BY} clause is present in the OQL query.
+	 * @see #orderBy(Sort)
+	 */
+	public boolean isOrdered() {
+		return ORDER_BY_PATTERN.matcher(getQuery()).find();
+	}
+
+	/**
+	 * Determines whether the {@literal ORDER BY} clause of the OQL query orders the query results by the same
+	 * properties, in the same order and {@link Sort.Direction directions}, as the given {@link Sort}.
+	 *
+	 * A property in the {@literal ORDER BY} clause may be qualified with the alias of the {@link Region}
+	 * (e.g. {@literal x.lastname}) and defaults to {@literal ASC} when no direction is declared.
+	 *
+	 * @param sort {@link Sort} to compare with the {@literal ORDER BY} clause of the OQL query.
+	 * @return a boolean value determining whether the OQL query is ordered by the given {@link Sort}.
+	 * @see org.springframework.data.domain.Sort
+	 * @see #isOrdered()
+	 */
+	public boolean isOrderedBy(@Nullable Sort sort) {
+
+		Matcher orderByClauseMatcher = ORDER_BY_CLAUSE_PATTERN.matcher(getQuery());
+
+		if (!orderByClauseMatcher.find()) {
+			return !hasSort(sort);
+		}
+
+		String orderByClause = ORDER_BY_PATTERN.matcher(orderByClauseMatcher.group()).replaceFirst("").trim();
+
+		String[] orderByItems = orderByClause.split("\\s*,\\s*");
+
+		List<Sort.Order> orders = hasSort(sort) ? sort.toList() : new ArrayList<>();
+
+		if (orderByItems.length != orders.size()) {
+			return false;
+		}
+
+		for (int index = 0; index < orderByItems.length; index++) {
+
+			String[] orderByItem = orderByItems[index].trim().split("\\s+");
+
+			Sort.Order order = orders.get(index);
+
+			String orderByProperty = orderByItem[0];
+			String orderByDirection = orderByItem.length > 1 ? orderByItem[1] : Sort.Direction.ASC.name();
+
+			boolean sameProperty = orderByProperty.equals(order.getProperty())
+				|| orderByProperty.endsWith(".".concat(order.getProperty()));
+
+			if (!sameProperty || !order.getDirection().name().equalsIgnoreCase(orderByDirection)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
 	/**
 	 * Returns the parameter indexes used in this query.
 	 *
@@ -307,6 +391,100 @@ public class QueryString {
 			: this;
 	}
 
+	/**
+	 * Adds the given {@link String predicate} to the {@literal WHERE} clause of the OQL query.
+	 *
+	 * The existing {@literal WHERE} clause, if any, is combined with the given {@link String predicate}
+	 * using {@literal AND}; otherwise, a new {@literal WHERE} clause is added before the {@literal ORDER BY}
+	 * or {@literal LIMIT} clauses.
+	 *
+	 * @param predicate {@link String} containing the predicate to add; must not be {@literal null} or empty.
+	 * @return a new {@link QueryString} with the added {@link String predicate}.
+	 * @throws IllegalArgumentException if the {@link String predicate} is {@literal null} or empty.
+	 */
+	public @NonNull QueryString and(@NonNull String predicate) {
+
+		Assert.hasText(predicate, "Predicate must not be null or empty");
+
+		String query = getQuery();
+
+		Matcher whereClauseMatcher = WHERE_CLAUSE_PATTERN.matcher(query);
+
+		if (whereClauseMatcher.find()) {
+			return QueryString.of(new StringBuilder(query)
+				.replace(whereClauseMatcher.start(), whereClauseMatcher.end(),
+					String.format("(%1$s) AND (%2$s)", whereClauseMatcher.group(1).trim(), predicate))
+				.toString());
+		}
+
+		Matcher insertionMatcher = WHERE_CLAUSE_INSERTION_PATTERN.matcher(query);
+
+		int insertionIndex = insertionMatcher.find() ? insertionMatcher.start() : query.length();
+
+		return QueryString.of(new StringBuilder(query)
+			.insert(insertionIndex, String.format(" WHERE (%s)", predicate))
+			.toString());
+	}
+
+	/**
+	 * Rewrites the OQL query as a query counting the number of results matching the predicates
+	 * of the OQL query.
+	 *
+	 * The projection in the {@literal SELECT} clause is replaced with {@literal count(*)}, or with
+	 * {@literal count(DISTINCT <projection>)} when the OQL query selects a single {@literal DISTINCT} expression,
+	 * and any {@literal ORDER BY} and {@literal LIMIT} clauses are removed. Hints, imports and tracing are preserved.
+	 *
+	 * OQL cannot count the {@literal DISTINCT} combinations of several projected expressions, therefore such
+	 * an OQL query keeps its projection and only loses its {@literal ORDER BY} and {@literal LIMIT} clauses.
+	 * The caller must then count the results, which {@link #isCountQuery()} identifies.
+	 *
+	 * @return a new {@link QueryString} counting the number of results of the OQL query.
+	 * @see #COUNT_DISTINCT_PROJECTION_TEMPLATE
+	 * @see #COUNT_PROJECTION
+	 * @see #isCountQuery()
+	 */
+	public @NonNull QueryString asCountQuery() {
+
+		String query = withoutLimit().getQuery();
+
+		query = ORDER_BY_CLAUSE_PATTERN.matcher(query).replaceFirst("");
+
+		Matcher selectClauseMatcher = SELECT_CLAUSE_PATTERN.matcher(query);
+
+		String countProjection = COUNT_PROJECTION;
+
+		if (selectClauseMatcher.find() && selectClauseMatcher.group(1) != null) {
+
+			String projection = selectClauseMatcher.group(2).trim();
+
+			if (projection.contains(",") || projection.contains(":")) {
+				return QueryString.of(query.trim());
+			}
+			else if (!STAR_PROJECTION.equals(projection)) {
+				countProjection = String.format(COUNT_DISTINCT_PROJECTION_TEMPLATE, projection);
+			}
+		}
+
+		query = SELECT_CLAUSE_PATTERN.matcher(query)
+			.replaceFirst(Matcher.quoteReplacement(String.format("SELECT %s FROM ", countProjection)));
+
+		return QueryString.of(query.trim());
+	}
+
+	/**
+	 * Removes the {@literal LIMIT} from the OQL query.
+	 *
+	 * @return a new {@link QueryString} without a {@literal LIMIT}, or this {@link QueryString}
+	 * if the OQL query is not {@link #isLimited() limited}.
+	 * @see #isLimited()
+	 */
+	public @NonNull QueryString withoutLimit() {
+
+		return isLimited()
+			? QueryString.of(LIMIT_PATTERN.matcher(getQuery()).replaceAll("").trim())
+			: this;
+	}
+
 	/**
 	 * Replaces an OQL {@literal SELECT} query with an OQL {@literal SELECT DISTINCT} query if the {@link String query}
 	 * is not already {@literal distinct}; i.e. does not contain the {@literal DISTINCT} OQL keyword.
@@ -363,6 +541,26 @@ public class QueryString {
 		return this;
 	}
 
+	/**
+	 * Converts all {@literal IN} parameters of the OQL Query ({@link String}) into bind parameters, such that
+	 * the {@link Collection} of values is passed as the query argument rather than expanded into the OQL query.
+	 *
+	 * For example, {@literal x.name IN SET $1} becomes {@literal x.name IN $1}.
+	 *
+	 * Unlike {@link #bindIn(Collection)}, the resulting OQL query is the same regardless of the values,
+	 * which allows the {@link org.apache.geode.cache.query.Query compiled query} to be reused.
+	 *
+	 * @return a new {@link QueryString} with all {@literal IN} parameters converted into bind parameters
+	 * or returns this {@link QueryString} if the OQL query does not contain any {@literal IN} parameters.
+	 * @see #getInParameterIndexes()
+	 */
+	public @NonNull QueryString bindInAsParameters() {
+
+		String query = getQuery().replaceAll(IN_BIND_PARAMETER_PATTERN, "");
+
+		return query.equals(getQuery()) ? this : QueryString.of(query);
+	}
+
 	/**
 	 * Replaces the {@link Class domain classes} referenced inside the current {@link String query}
 	 * with the given {@link Region}.
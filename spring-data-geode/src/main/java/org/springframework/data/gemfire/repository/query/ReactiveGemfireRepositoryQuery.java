@@ -0,0 +1,127 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.repository.query;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.springframework.data.gemfire.AsyncGemfireTemplate;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.QueryMethod;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * {@link GemfireRepositoryQuery} adapting the result of a blocking {@link GemfireRepositoryQuery}
+ * to the {@link Mono} or {@link Flux} returned by a reactive {@link Repository} {@link QueryMethod}.
+ *
+ * The OQL query is executed on subscription, on a {@link Scheduler} backed by
+ * the {@link AsyncGemfireTemplate#defaultExecutor() default asynchronous Executor}. Query methods returning
+ * a {@link Flux} consume the query results as a {@link Stream}, which receives the results from the servers
+ * in chunks. The subscriber's demand only controls how fast the buffered chunks are consumed.
+ *
+ * Cancelling the {@link Flux} closes the {@link Stream}, which discards the chunks the servers still send.
+ * The OQL query is not cancelled on the servers, which still materialize and send all results; bound the results
+ * with a {@literal LIMIT} (or {@literal Top}/{@literal First}) when only some of the results are consumed.
+ *
+ * @author John Blum
+ * @see org.springframework.data.gemfire.repository.query.GemfireRepositoryQuery
+ * @see org.springframework.data.gemfire.repository.query.GemfireQueryMethod#isReactiveStreamQuery()
+ * @see reactor.core.publisher.Flux
+ * @see reactor.core.publisher.Mono
+ * @since 2.7.0
+ */
+@SuppressWarnings("rawtypes")
+public class ReactiveGemfireRepositoryQuery extends GemfireRepositoryQuery {
+
+	private static final Scheduler SCHEDULER = Schedulers.fromExecutor(AsyncGemfireTemplate.defaultExecutor());
+
+	private final GemfireRepositoryQuery delegate;
+
+	/**
+	 * Constructs a new instance of {@link ReactiveGemfireRepositoryQuery} adapting the results
+	 * of the given, blocking {@link GemfireRepositoryQuery}.
+	 *
+	 * @param delegate blocking {@link GemfireRepositoryQuery} executing the OQL query; must not be {@literal null}.
+	 * @throws IllegalArgumentException if the {@link GemfireRepositoryQuery} is {@literal null}.
+	 */
+	public ReactiveGemfireRepositoryQuery(@NonNull GemfireRepositoryQuery delegate) {
+
+		super(requireDelegate(delegate).getGemfireQueryMethod());
+
+		this.delegate = delegate;
+	}
+
+	private static GemfireRepositoryQuery requireDelegate(GemfireRepositoryQuery delegate) {
+
+		Assert.notNull(delegate, "GemfireRepositoryQuery must not be null");
+
+		return delegate;
+	}
+
+	/**
+	 * Returns the blocking {@link GemfireRepositoryQuery} executing the OQL query.
+	 *
+	 * @return the blocking {@link GemfireRepositoryQuery} executing the OQL query.
+	 */
+	protected @NonNull GemfireRepositoryQuery getDelegate() {
+		return this.delegate;
+	}
+
+	/**
+	 * Registers the given {@link QueryPostProcessor} with the blocking {@link GemfireRepositoryQuery}.
+	 *
+	 * @param queryPostProcessor {@link QueryPostProcessor} to register.
+	 * @return this {@link ReactiveGemfireRepositoryQuery}.
+	 */
+	@Override
+	public GemfireRepositoryQuery register(@Nullable QueryPostProcessor<Repository, String> queryPostProcessor) {
+		getDelegate().register(queryPostProcessor);
+		return this;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public Object execute(Object[] arguments) {
+
+		return getGemfireQueryMethod().isReactiveStreamQuery()
+			? Flux.defer(() -> toFlux(getDelegate().execute(arguments))).subscribeOn(SCHEDULER)
+			: Mono.defer(() -> toMono(getDelegate().execute(arguments))).subscribeOn(SCHEDULER);
+	}
+
+	@SuppressWarnings("unchecked")
+	private Flux<Object> toFlux(@Nullable Object result) {
+
+		return result instanceof Stream ? Flux.fromStream((Stream<Object>) result)
+			: result instanceof Iterable ? Flux.fromIterable((Iterable<Object>) result)
+			: Flux.justOrEmpty(result);
+	}
+
+	private Mono<Object> toMono(@Nullable Object result) {
+
+		return result instanceof Optional
+			? Mono.justOrEmpty((Optional<?>) result).cast(Object.class)
+			: Mono.justOrEmpty(result);
+	}
+}
@@ -18,27 +18,56 @@ package org.springframework.data.gemfire.repository.query;
 import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalStateException;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.apache.geode.cache.CacheTransactionManager;
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionService;
 import org.apache.geode.cache.query.SelectResults;
+import org.apache.geode.pdx.PdxInstance;
 
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.DirectFieldAccessor;
+import org.springframework.beans.PropertyAccessorFactory;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.gemfire.GemfireTemplate;
+import org.springframework.data.gemfire.function.StreamingOqlQueryFunction;
+import org.springframework.data.gemfire.mapping.PdxInstanceEntityProxy;
+import org.springframework.data.gemfire.mapping.PdxReadProjection;
 import org.springframework.data.gemfire.repository.Query;
+import org.springframework.data.gemfire.repository.query.support.KeysetPageRequest;
+import org.springframework.data.gemfire.repository.query.support.KeysetSlice;
 import org.springframework.data.gemfire.repository.query.support.OqlQueryExecutor;
 import org.springframework.data.gemfire.repository.query.support.PagingUtils;
 import org.springframework.data.gemfire.repository.query.support.TemplateBasedOqlQueryExecutor;
 import org.springframework.data.gemfire.util.CollectionUtils;
+import org.springframework.data.gemfire.util.RegionUtils;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.query.Parameters;
-import org.springframework.data.repository.query.ParametersParameterAccessor;
 import org.springframework.data.repository.query.QueryMethod;
 import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.data.repository.query.ResultProcessor;
+import org.springframework.data.repository.query.ReturnedType;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -66,6 +95,44 @@ public class StringBasedGemfireRepositoryQuery extends GemfireRepositoryQuery {
 
 	private static final String INVALID_QUERY = "Modifying queries are not supported";
 
+	private static final int MAX_CACHED_COUNTS = 1024;
+
+	protected static final int DEFAULT_COUNT_QUERY_POOL_SIZE = Math.max(2, Runtime.getRuntime().availableProcessors());
+	protected static final int DEFAULT_COUNT_QUERY_QUEUE_CAPACITY = 256;
+
+	private static final Executor DEFAULT_COUNT_QUERY_EXECUTOR = newDefaultCountQueryExecutor();
+
+	/**
+	 * Creates the default {@link Executor} running count queries, which is bounded in both the number of threads
+	 * and the number of queued count queries. When saturated, the count query runs on the calling thread.
+	 */
+	private static Executor newDefaultCountQueryExecutor() {
+
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(DEFAULT_COUNT_QUERY_POOL_SIZE,
+			DEFAULT_COUNT_QUERY_POOL_SIZE, 60L, TimeUnit.SECONDS,
+			new LinkedBlockingQueue<>(DEFAULT_COUNT_QUERY_QUEUE_CAPACITY), runnable -> {
+
+				Thread thread = new Thread(runnable, "SDG-OQL-Count-Query");
+
+				thread.setDaemon(true);
+
+				return thread;
+
+			}, new ThreadPoolExecutor.CallerRunsPolicy());
+
+		executor.allowCoreThreadTimeOut(true);
+
+		return executor;
+	}
+
+	private Executor countQueryExecutor = DEFAULT_COUNT_QUERY_EXECUTOR;
+
+	private int streamingChunkSize = StreamingOqlQueryFunction.DEFAULT_CHUNK_SIZE;
+
+	private final ConcurrentMap<CountCacheKey, CountCacheEntry> cachedCounts = new ConcurrentHashMap<>();
+
+	private final ConcurrentMap<PreparedQueryKey, String> preparedQueries = new ConcurrentHashMap<>();
+
 	private volatile boolean userDefinedQuery = false;
 
 	private final GemfireTemplate template;
@@ -182,6 +249,61 @@ public class StringBasedGemfireRepositoryQuery extends GemfireRepositoryQuery {
 		return this.userDefinedQuery;
 	}
 
+	/**
+	 * Sets the {@link Executor} running the count queries of {@link Page}-returning {@link QueryMethod query methods}
+	 * concurrently with the query for the requested {@link Page}.
+	 *
+	 * Defaults to a shared {@link Executor} bounded to {@link #DEFAULT_COUNT_QUERY_POOL_SIZE} threads
+	 * and {@link #DEFAULT_COUNT_QUERY_QUEUE_CAPACITY} queued count queries, which runs the count query
+	 * on the calling thread when saturated.
+	 *
+	 * @param countQueryExecutor {@link Executor} running count queries; {@literal null} resets the default.
+	 * @see #getCountQueryExecutor()
+	 */
+	public void setCountQueryExecutor(@Nullable Executor countQueryExecutor) {
+		this.countQueryExecutor = countQueryExecutor != null ? countQueryExecutor : DEFAULT_COUNT_QUERY_EXECUTOR;
+	}
+
+	/**
+	 * Returns the {@link Executor} running the count queries of {@link Page}-returning
+	 * {@link QueryMethod query methods}.
+	 *
+	 * @return the {@link Executor} running count queries.
+	 * @see #setCountQueryExecutor(Executor)
+	 */
+	protected @NonNull Executor getCountQueryExecutor() {
+		return this.countQueryExecutor;
+	}
+
+	/**
+	 * Sets the number of query results sent by the server in a single chunk when executing
+	 * {@link Stream}-returning {@link QueryMethod query methods}.
+	 *
+	 * Defaults to {@value StreamingOqlQueryFunction#DEFAULT_CHUNK_SIZE}.
+	 *
+	 * @param streamingChunkSize {@link Integer number} of query results sent in a single chunk; must be greater than 0.
+	 * @throws IllegalArgumentException if the chunk size is less than 1.
+	 * @see #getStreamingChunkSize()
+	 */
+	public void setStreamingChunkSize(int streamingChunkSize) {
+
+		Assert.isTrue(streamingChunkSize > 0,
+			() -> String.format("Streaming chunk size [%d] must be greater than 0", streamingChunkSize));
+
+		this.streamingChunkSize = streamingChunkSize;
+	}
+
+	/**
+	 * Returns the number of query results sent by the server in a single chunk when executing
+	 * {@link Stream}-returning {@link QueryMethod query methods}.
+	 *
+	 * @return the {@link Integer number} of query results sent in a single chunk.
+	 * @see #setStreamingChunkSize(int)
+	 */
+	protected int getStreamingChunkSize() {
+		return this.streamingChunkSize;
+	}
+
 	/**
 	 * Returns the configured {@link OqlQueryExecutor} (strategy) used to execute Apache Geode
 	 * {@link Page non-paged} {@link String OQL queries}.
@@ -238,49 +360,454 @@ public class StringBasedGemfireRepositoryQuery extends GemfireRepositoryQuery {
 
 		String preparedQuery = prepareQuery(queryMethod, query, arguments);
 
-		SelectResults<?> selectResults =
-			resolveOqlQueryExecutor(queryMethod).execute(queryMethod, preparedQuery, arguments);
+		Object[] queryArguments = bindInArguments(queryMethod, query, arguments);
+
+		KeysetPageRequest keysetPageRequest = resolveKeysetPageRequest(queryMethod, arguments);
+
+		if (keysetPageRequest != null) {
+			return processProjection(queryMethod,
+				executeKeysetQuery(queryMethod, preparedQuery, queryArguments, keysetPageRequest));
+		}
+
+		if (queryMethod.isStreamQuery() || isReactiveStreamQuery(queryMethod)) {
+			return processProjection(queryMethod, executeStreamQuery(queryMethod, preparedQuery, queryArguments));
+		}
+
+		CompletableFuture<Long> total = queryMethod.isPageQuery()
+			? countAsync(queryMethod, preparedQuery, queryArguments)
+			: null;
+
+		OqlQueryExecutor queryExecutor = resolveOqlQueryExecutor(queryMethod);
+
+		SelectResults<?> selectResults = PdxReadProjection.doWith(resolvePdxReadProjection(queryMethod),
+			() -> queryExecutor.execute(queryMethod, preparedQuery, queryArguments));
+
+		Object result = processQueryResults(queryMethod, selectResults, arguments);
+
+		return processProjection(queryMethod, total != null && result instanceof Page
+			? withTotal((Page<?>) result, total)
+			: result);
+	}
+
+	private boolean isReactiveStreamQuery(QueryMethod queryMethod) {
+		return queryMethod instanceof GemfireQueryMethod && ((GemfireQueryMethod) queryMethod).isReactiveStreamQuery();
+	}
+
+	/**
+	 * Asynchronously counts the total number of results for a {@link Page}-returning {@link QueryMethod},
+	 * concurrently with the execution of the OQL query for the requested {@link Page}.
+	 *
+	 * The count query is derived from the given, prepared OQL query with {@link QueryString#asCountQuery()}.
+	 * When OQL cannot count the results of the query (e.g. {@literal DISTINCT} projections of several expressions),
+	 * the results of the derived query are counted instead.
+	 * If the {@link QueryMethod} is annotated with
+	 * {@link org.springframework.data.gemfire.repository.query.annotation.CachedCount}, the total is reused
+	 * for the same arguments until the configured time expires.
+	 *
+	 * The count query runs on the calling thread when a cache transaction is in progress, since the transaction
+	 * is bound to the calling thread.
+	 *
+	 * @param queryMethod {@link QueryMethod} modeling the OQL query.
+	 * @param preparedQuery {@link String OQL query} for the requested {@link Page}.
+	 * @param arguments array of {@link Object} values containing the arguments for the OQL query bind parameters.
+	 * @return a {@link CompletableFuture} containing the total number of results.
+	 * @see QueryString#asCountQuery()
+	 * @see java.util.concurrent.CompletableFuture
+	 */
+	protected @NonNull CompletableFuture<Long> countAsync(@NonNull QueryMethod queryMethod,
+			@NonNull String preparedQuery, @NonNull Object[] arguments) {
+
+		long timeToLive = queryMethod instanceof GemfireQueryMethod
+			? ((GemfireQueryMethod) queryMethod).getCachedCountTimeToLive()
+			: 0L;
+
+		QueryString query = QueryString.of(preparedQuery);
+
+		QueryString countQueryString = query.asCountQuery();
+
+		String countQuery = countQueryString.toString();
+
+		boolean countedByQuery = countQueryString.isCountQuery();
+
+		CountCacheKey countCacheKey = timeToLive > 0L ? CountCacheKey.of(countQuery, arguments) : null;
+
+		CountCacheEntry cachedCount = countCacheKey != null ? this.cachedCounts.get(countCacheKey) : null;
+
+		if (cachedCount != null && !cachedCount.isExpired()) {
+			return CompletableFuture.completedFuture(cachedCount.getCount());
+		}
+
+		int limit = query.getLimit();
+
+		Supplier<Long> count = () -> {
+
+			SelectResults<?> countResults = getTemplate().find(countQuery, arguments);
+
+			long total = Math.min(countedByQuery ? toCount(countQuery, countResults) : countResults.size(), limit);
+
+			if (countCacheKey != null) {
+				cacheCount(countCacheKey, total, timeToLive);
+			}
+
+			return total;
+		};
+
+		if (isTransactionPresent()) {
+
+			CompletableFuture<Long> total = new CompletableFuture<>();
+
+			try {
+				total.complete(count.get());
+			}
+			catch (RuntimeException cause) {
+				total.completeExceptionally(cause);
+			}
+
+			return total;
+		}
+
+		return CompletableFuture.supplyAsync(count, getCountQueryExecutor());
+	}
+
+	private long toCount(String countQuery, SelectResults<?> countResults) {
 
-		return processQueryResults(queryMethod, selectResults, arguments);
+		Object countResult = countResults.isEmpty() ? 0 : countResults.iterator().next();
+
+		if (!(countResult instanceof Number)) {
+			throw newIllegalStateException("Count query [%1$s] returned [%2$s] instead of a number",
+				countQuery, countResult);
+		}
+
+		return ((Number) countResult).longValue();
+	}
+
+	private boolean isTransactionPresent() {
+
+		RegionService regionService = getTemplate().getRegion().getRegionService();
+
+		CacheTransactionManager cacheTransactionManager = regionService instanceof GemFireCache
+			? ((GemFireCache) regionService).getCacheTransactionManager()
+			: null;
+
+		return cacheTransactionManager != null && cacheTransactionManager.exists();
+	}
+
+	private void cacheCount(CountCacheKey countCacheKey, long count, long timeToLive) {
+
+		if (this.cachedCounts.size() >= MAX_CACHED_COUNTS) {
+			this.cachedCounts.values().removeIf(CountCacheEntry::isExpired);
+		}
+
+		if (this.cachedCounts.size() < MAX_CACHED_COUNTS) {
+			this.cachedCounts.put(countCacheKey, new CountCacheEntry(count, timeToLive));
+		}
+	}
+
+	private Page<?> withTotal(Page<?> page, CompletableFuture<Long> total) {
+
+		try {
+			return new PageImpl<>(page.getContent(), page.getPageable(), total.join());
+		}
+		catch (CompletionException cause) {
+
+			getLogger().warn(String.format("Failed to count the total number of results for query method [%s];"
+				+ " the Page total is unknown", getQueryMethod()), cause.getCause());
+
+			return page;
+		}
+	}
+
+	private @Nullable KeysetPageRequest resolveKeysetPageRequest(@NonNull QueryMethod queryMethod,
+			@NonNull Object[] arguments) {
+
+		Parameters<?, ?> queryMethodParameters = queryMethod.getParameters();
+
+		Object pageRequest = queryMethodParameters.hasPageableParameter()
+			? arguments[queryMethodParameters.getPageableIndex()]
+			: null;
+
+		return pageRequest instanceof KeysetPageRequest ? (KeysetPageRequest) pageRequest : null;
+	}
+
+	/**
+	 * Executes the OQL query using {@literal keyset} pagination for the given {@link KeysetPageRequest}.
+	 *
+	 * The {@link String OQL query} is ordered by the {@link Sort} of the {@link KeysetPageRequest}, unless
+	 * the {@link String OQL query} already declares an equivalent {@literal ORDER BY} clause, and continues after
+	 * the {@link KeysetPageRequest#getKeyset() keyset} of the previous {@link Slice}, which is passed to
+	 * the {@link String OQL query} as additional bind parameters. Only {@literal size + 1} results are retrieved
+	 * to determine whether another {@link Slice} follows.
+	 *
+	 * @param queryMethod {@link QueryMethod} modeling the OQL query; must return a {@link Slice}
+	 * or a {@link Collection}.
+	 * @param preparedQuery {@link String OQL query} to execute.
+	 * @param arguments array of {@link Object} values containing the arguments for the OQL query bind parameters.
+	 * @param pageRequest {@link KeysetPageRequest} identifying the requested {@link Slice}.
+	 * @return a {@link KeysetSlice} or the content of the {@link KeysetSlice}, depending on the return type
+	 * of the {@link QueryMethod}.
+	 * @throws IllegalStateException if the {@link QueryMethod} returns a {@link Page}.
+	 * @see org.springframework.data.gemfire.repository.query.support.KeysetPageRequest
+	 * @see org.springframework.data.gemfire.repository.query.support.KeysetSlice
+	 */
+	@SuppressWarnings("unchecked")
+	protected @NonNull Object executeKeysetQuery(@NonNull QueryMethod queryMethod, @NonNull String preparedQuery,
+			@NonNull Object[] arguments, @NonNull KeysetPageRequest pageRequest) {
+
+		if (queryMethod.isPageQuery()) {
+			throw newIllegalStateException("Keyset pagination is not supported for Page query method [%s];"
+				+ " declare a Slice return type", queryMethod);
+		}
+
+		Sort sort = pageRequest.getSort();
+
+		QueryString keysetQuery = QueryString.of(preparedQuery).withoutLimit();
+
+		if (keysetQuery.isOrdered() && !keysetQuery.isOrderedBy(sort)) {
+			throw newIllegalStateException("The ORDER BY clause of query [%1$s] must order the results by the Sort [%2$s]"
+				+ " of the KeysetPageRequest", preparedQuery, sort);
+		}
+
+		Object[] keysetArguments = arguments;
+
+		if (pageRequest.hasKeyset()) {
+
+			Object[] keyset = validateKeyset(pageRequest.getKeyset(), sort);
+
+			keysetQuery = keysetQuery.and(newKeysetPredicate(sort, arguments.length + 1));
+			keysetArguments = Arrays.copyOf(arguments, arguments.length + keyset.length);
+
+			System.arraycopy(keyset, 0, keysetArguments, arguments.length, keyset.length);
+		}
+
+		keysetQuery = keysetQuery.isOrdered() ? keysetQuery : keysetQuery.orderBy(sort);
+		keysetQuery = keysetQuery.withLimit(pageRequest.getPageSize() + 1);
+
+		String keysetQueryString = keysetQuery.toString();
+
+		Object[] keysetQueryArguments = keysetArguments;
+
+		SelectResults<?> selectResults = PdxReadProjection.doWith(resolvePdxReadProjection(queryMethod),
+			() -> getNonPagedQueryExecutor().execute(queryMethod, keysetQueryString, keysetQueryArguments));
+
+		List<Object> results = new ArrayList<Object>(toCollection(selectResults));
+
+		boolean hasNext = results.size() > pageRequest.getPageSize();
+
+		List<Object> content = hasNext ? new ArrayList<>(results.subList(0, pageRequest.getPageSize())) : results;
+
+		Object[] nextKeyset = hasNext ? resolveKeyset(content.get(content.size() - 1), sort) : null;
+
+		KeysetSlice<Object> slice = new KeysetSlice<>(content, pageRequest, hasNext, nextKeyset);
+
+		return queryMethod.isSliceQuery() ? slice : slice.getContent();
+	}
+
+	private String newKeysetPredicate(Sort sort, int firstParameterIndex) {
+
+		List<Sort.Order> orders = sort.toList();
+
+		StringBuilder predicate = new StringBuilder();
+
+		for (int index = 0; index < orders.size(); index++) {
+
+			predicate.append(index > 0 ? " OR " : "").append("(");
+
+			for (int equalIndex = 0; equalIndex < index; equalIndex++) {
+				predicate.append(String.format("%1$s = $%2$d AND ", orders.get(equalIndex).getProperty(),
+					firstParameterIndex + equalIndex));
+			}
+
+			Sort.Order order = orders.get(index);
+
+			predicate.append(String.format("%1$s %2$s $%3$d", order.getProperty(), order.isAscending() ? ">" : "<",
+				firstParameterIndex + index));
+
+			predicate.append(")");
+		}
+
+		return predicate.toString();
+	}
+
+	/**
+	 * Resolves the values of the {@link Sort} properties from the last result of a {@link Slice}, which are used as
+	 * the keyset of the next {@link Slice}.
+	 *
+	 * The result may be a {@link Map}, a {@link PdxInstance}, an interface or DTO projection, or an entity,
+	 * in which case the property values are read with getters, falling back to fields.
+	 *
+	 * @param result last result of a {@link Slice}.
+	 * @param sort {@link Sort} ordering the query results.
+	 * @return the keyset of the next {@link Slice}.
+	 * @throws IllegalStateException if a {@link Sort} property value is {@literal null}.
+	 * @see #validateKeyset(Object[], Sort)
+	 */
+	private Object[] resolveKeyset(Object result, Sort sort) {
+
+		Object source = PdxInstanceEntityProxy.unwrap(result);
+
+		return validateKeyset(sort.stream()
+			.map(Sort.Order::getProperty)
+			.map(property -> resolveKeysetValue(source, property))
+			.toArray(), sort);
+	}
+
+	private @Nullable Object resolveKeysetValue(@NonNull Object source, @NonNull String property) {
+
+		if (source instanceof Map) {
+			return ((Map<?, ?>) source).get(property);
+		}
+		else if (source instanceof PdxInstance) {
+			return ((PdxInstance) source).getField(property);
+		}
+
+		BeanWrapper beanWrapper = PropertyAccessorFactory.forBeanPropertyAccess(source);
+
+		return beanWrapper.isReadableProperty(property)
+			? beanWrapper.getPropertyValue(property)
+			: new DirectFieldAccessor(source).getPropertyValue(property);
+	}
+
+	/**
+	 * Keyset pagination compares the {@link Sort} property values of the last result with {@literal >}
+	 * and {@literal <}, which never match a {@literal null} (or {@literal UNDEFINED}) value in OQL, and would
+	 * therefore silently skip the remaining results. A {@literal null} {@link Sort} property value is rejected.
+	 */
+	private Object[] validateKeyset(Object[] keyset, Sort sort) {
+
+		List<Sort.Order> orders = sort.toList();
+
+		for (int index = 0; index < keyset.length; index++) {
+			if (keyset[index] == null) {
+				throw newIllegalStateException("Keyset pagination requires non-null values for the Sort properties;"
+					+ " the value of property [%s] was null", index < orders.size() ? orders.get(index).getProperty()
+					: String.valueOf(index));
+			}
+		}
+
+		return keyset;
+	}
+
+	/**
+	 * Executes the OQL query for a {@link Stream}-returning {@link QueryMethod}.
+	 *
+	 * The query results are streamed by {@link GemfireTemplate#stream(String, Object[], int)} in chunks of
+	 * at most {@link #getStreamingChunkSize()} results, which for {@literal client} {@link Region Regions}
+	 * are transferred from the server by the {@link StreamingOqlQueryFunction} as the returned {@link Stream}
+	 * is consumed. The {@link Stream} should be closed, which discards the chunks the server still sends;
+	 * see {@link GemfireTemplate#stream(String, Object[], int)}.
+	 *
+	 * @param queryMethod {@link QueryMethod} modeling the OQL query.
+	 * @param preparedQuery {@link String OQL query} to execute.
+	 * @param arguments array of {@link Object} values containing the arguments for the OQL query bind parameters.
+	 * @return a {@link Stream} over the query results.
+	 * @see org.springframework.data.gemfire.GemfireTemplate#stream(String, Object[], int)
+	 * @see java.util.stream.Stream
+	 */
+	protected @NonNull Stream<Object> executeStreamQuery(@NonNull QueryMethod queryMethod,
+			@NonNull String preparedQuery, @NonNull Object[] arguments) {
+
+		return PdxReadProjection.doWith(resolvePdxReadProjection(queryMethod),
+			() -> getTemplate().stream(preparedQuery, arguments, getStreamingChunkSize()));
+	}
+
+	/**
+	 * Resolves the {@link PdxReadProjection} used to limit the PDX fields read from the query results
+	 * to only those required by the {@literal projection} returned by the given {@link QueryMethod}.
+	 *
+	 * The {@link PdxReadProjection} only applies to {@literal client} {@link org.apache.geode.cache.Region Regions}
+	 * where the query results are always deserialized from the bytes received from the server and are never
+	 * retained as the {@link org.apache.geode.cache.Region} value.
+	 *
+	 * @param queryMethod {@link QueryMethod} modeling the OQL query.
+	 * @return the resolved {@link PdxReadProjection} or {@literal null} if all PDX fields must be read.
+	 * @see org.springframework.data.gemfire.mapping.PdxReadProjection
+	 * @see GemfireQueryMethod#getPdxReadProjection()
+	 */
+	protected @Nullable PdxReadProjection resolvePdxReadProjection(@NonNull QueryMethod queryMethod) {
+
+		GemfireTemplate template = getTemplate();
+
+		return queryMethod instanceof GemfireQueryMethod && template != null
+			&& RegionUtils.isClient(template.getRegion())
+			? ((GemfireQueryMethod) queryMethod).getPdxReadProjection()
+			: null;
+	}
+
+	/**
+	 * Applies the interface-based {@literal projection} returned by the given {@link QueryMethod}, if any,
+	 * to the query results.
+	 *
+	 * @param queryMethod {@link QueryMethod} modeling the OQL query.
+	 * @param result processed OQL query results.
+	 * @return the projected query results.
+	 * @see org.springframework.data.repository.query.ResultProcessor#processResult(Object)
+	 */
+	protected @Nullable Object processProjection(@NonNull QueryMethod queryMethod, @Nullable Object result) {
+
+		ResultProcessor resultProcessor = queryMethod.getResultProcessor();
+
+		ReturnedType returnedType = resultProcessor != null ? resultProcessor.getReturnedType() : null;
+
+		return returnedType != null && returnedType.isProjecting() && returnedType.getReturnedType().isInterface()
+			? resultProcessor.processResult(result)
+			: result;
 	}
 
 	/**
 	 * Prepares the OQL query statement to execute.
 	 *
+	 * The OQL query with the resolved {@literal FROM} clause and {@literal IN} parameters is cached by
+	 * the {@link Class types} of the given arguments, since {@literal IN} parameter values are passed as
+	 * bind parameters and are no longer expanded into the OQL query. Registered
+	 * {@link QueryPostProcessor QueryPostProcessors} are invoked on every execution, since they may depend on
+	 * the argument values.
+	 *
 	 * @param queryMethod {@link QueryMethod} modeling the OQL query.
 	 * @param query {@link QueryString} containing the OQL query statement.
-	 * @param arguments array of {@link Object} values containing the arguments for the OQL query bind in parameters.
+	 * @param arguments array of {@link Object} values containing the arguments for the OQL query bind parameters.
 	 * @return the {@literal prepared} OQL query to execute.
 	 * @see org.springframework.data.gemfire.repository.query.QueryPostProcessor
 	 * @see org.springframework.data.gemfire.repository.query.QueryString
 	 * @see org.springframework.data.repository.query.QueryMethod
-	 * @see #bindInParameters(QueryMethod, QueryString, Object[])
+	 * @see #bindInArguments(QueryMethod, QueryString, Object[])
 	 * @see #resolveFromClause(QueryMethod, QueryString)
 	 * @see #getQueryPostProcessor()
 	 */
 	protected @NonNull String prepareQuery(@NonNull QueryMethod queryMethod, @NonNull QueryString query,
 			@NonNull Object[] arguments) {
 
-		query = bindInParameters(queryMethod, resolveFromClause(queryMethod, query), arguments);
+		String queryString = this.preparedQueries.computeIfAbsent(PreparedQueryKey.of(query, arguments),
+			key -> resolveFromClause(queryMethod, query).bindInAsParameters().toString());
 
-		String queryString = query.toString();
-		String processedQueryString = getQueryPostProcessor().postProcess(queryMethod, queryString, arguments);
-
-		return processedQueryString;
+		return getQueryPostProcessor().postProcess(queryMethod, queryString, arguments);
 	}
 
-	private QueryString bindInParameters(QueryMethod queryMethod, QueryString query, Object[] arguments) {
+	/**
+	 * Converts the arguments for the {@literal IN} parameters of the OQL query into {@link Collection Collections}
+	 * passed as bind parameters to the OQL query.
+	 *
+	 * @param queryMethod {@link QueryMethod} modeling the OQL query.
+	 * @param query {@link QueryString} containing the OQL query statement.
+	 * @param arguments array of {@link Object} values containing the arguments for the OQL query bind parameters.
+	 * @return the arguments for the OQL query bind parameters.
+	 * @see QueryString#bindInAsParameters()
+	 */
+	protected @NonNull Object[] bindInArguments(@NonNull QueryMethod queryMethod, @NonNull QueryString query,
+			@NonNull Object[] arguments) {
 
-		Parameters<?, ?> queryMethodParameters = queryMethod.getParameters();
+		Object[] queryArguments = arguments;
 
-		ParametersParameterAccessor parameterAccessor =
-			new ParametersParameterAccessor(queryMethodParameters, arguments);
+		Parameters<?, ?> queryMethodParameters = queryMethod.getParameters();
 
 		for (Integer index : query.getInParameterIndexes()) {
-			query = query.bindIn(toCollection(parameterAccessor.getBindableValue(index - 1)));
+
+			int argumentIndex = queryMethodParameters.getBindableParameter(index - 1).getIndex();
+
+			queryArguments = queryArguments == arguments ? arguments.clone() : queryArguments;
+			queryArguments[argumentIndex] = toCollection(arguments[argumentIndex]);
 		}
 
-		return query;
+		return queryArguments;
 	}
 
 	private QueryString resolveFromClause(QueryMethod queryMethod, QueryString query) {
@@ -381,6 +908,127 @@ public class StringBasedGemfireRepositoryQuery extends GemfireRepositoryQuery {
 			: Collections.singletonList(source);
 	}
 
+	/**
+	 * Key identifying a {@literal prepared} OQL query by the {@link String OQL query} and the {@link Class types}
+	 * of the arguments.
+	 */
+	static final class PreparedQueryKey {
+
+		static PreparedQueryKey of(@NonNull QueryString query, @Nullable Object[] arguments) {
+
+			List<Class<?>> argumentTypes = new ArrayList<>(arguments != null ? arguments.length : 0);
+
+			if (arguments != null) {
+				for (Object argument : arguments) {
+					argumentTypes.add(argument != null ? argument.getClass() : null);
+				}
+			}
+
+			return new PreparedQueryKey(query.toString(), argumentTypes);
+		}
+
+		private final List<Class<?>> argumentTypes;
+
+		private final String query;
+
+		private PreparedQueryKey(String query, List<Class<?>> argumentTypes) {
+			this.query = query;
+			this.argumentTypes = argumentTypes;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof PreparedQueryKey)) {
+				return false;
+			}
+
+			PreparedQueryKey that = (PreparedQueryKey) obj;
+
+			return this.query.equals(that.query)
+				&& this.argumentTypes.equals(that.argumentTypes);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * this.query.hashCode() + this.argumentTypes.hashCode();
+		}
+	}
+
+	/**
+	 * Key identifying a cached total number of results by the {@link String OQL count query}
+	 * and the query arguments, excluding the {@link Pageable} and {@link Sort} arguments.
+	 */
+	static final class CountCacheKey {
+
+		static CountCacheKey of(@NonNull String countQuery, @NonNull Object[] arguments) {
+
+			List<Object> countArguments = new ArrayList<>(arguments.length);
+
+			for (Object argument : arguments) {
+				if (!(argument instanceof Pageable || argument instanceof Sort)) {
+					countArguments.add(argument);
+				}
+			}
+
+			return new CountCacheKey(countQuery, countArguments);
+		}
+
+		private final List<Object> arguments;
+
+		private final String countQuery;
+
+		private CountCacheKey(String countQuery, List<Object> arguments) {
+			this.countQuery = countQuery;
+			this.arguments = arguments;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof CountCacheKey)) {
+				return false;
+			}
+
+			CountCacheKey that = (CountCacheKey) obj;
+
+			return this.countQuery.equals(that.countQuery)
+				&& this.arguments.equals(that.arguments);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * this.countQuery.hashCode() + this.arguments.hashCode();
+		}
+	}
+
+	static final class CountCacheEntry {
+
+		private final long count;
+		private final long expiresAt;
+
+		CountCacheEntry(long count, long timeToLive) {
+			this.count = count;
+			this.expiresAt = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeToLive);
+		}
+
+		long getCount() {
+			return this.count;
+		}
+
+		boolean isExpired() {
+			return System.nanoTime() - this.expiresAt >= 0L;
+		}
+	}
+
 	@SuppressWarnings("rawtypes")
 	enum ProvidedQueryPostProcessors implements QueryPostProcessor<Repository, String> {
 
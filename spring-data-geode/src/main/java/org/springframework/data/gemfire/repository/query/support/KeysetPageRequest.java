@@ -0,0 +1,378 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.repository.query.support;
+
+import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalArgumentException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Date;
+import java.util.UUID;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * {@link PageRequest} requesting a {@link org.springframework.data.domain.Slice} of query results using
+ * {@literal keyset} (or {@literal seek}) pagination.
+ *
+ * Rather than skipping an offset number of results, a keyset paged query continues after the values of
+ * the {@link Sort} properties of the last result from the previous {@link org.springframework.data.domain.Slice},
+ * adding a predicate (e.g. {@literal WHERE sortKey > $n}) to the OQL query. Therefore, the cost of retrieving
+ * a {@link org.springframework.data.domain.Slice} does not depend on how deep the {@link org.springframework.data.domain.Slice}
+ * is in the result set, when an Index exists on the {@link Sort} properties.
+ *
+ * The {@link Sort} must be {@link Sort#isSorted() sorted} and should uniquely order the query results, for example,
+ * by ending with the identifier. The {@link Sort} properties must not be {@literal null} in any result, since
+ * {@literal null} values never compare greater or less than the keyset in OQL, and an OQL query declaring its own
+ * {@literal ORDER BY} clause must order the results by the same {@link Sort}. The position in the result set is represented by an opaque
+ * {@link #getContinuationToken() continuation token}, which can be passed back by the caller to request
+ * the next {@link org.springframework.data.domain.Slice}.
+ *
+ * @author John Blum
+ * @see org.springframework.data.domain.PageRequest
+ * @see org.springframework.data.domain.Sort
+ * @see org.springframework.data.gemfire.repository.query.support.KeysetSlice
+ * @since 2.7.0
+ */
+public class KeysetPageRequest extends PageRequest {
+
+	private static final long serialVersionUID = -2739455466153702347L;
+
+	private static final byte NULL = 0;
+	private static final byte STRING = 1;
+	private static final byte LONG = 2;
+	private static final byte INTEGER = 3;
+	private static final byte SHORT = 4;
+	private static final byte BYTE = 5;
+	private static final byte DOUBLE = 6;
+	private static final byte FLOAT = 7;
+	private static final byte BOOLEAN = 8;
+	private static final byte CHARACTER = 9;
+	private static final byte BIG_DECIMAL = 10;
+	private static final byte BIG_INTEGER = 11;
+	private static final byte DATE = 12;
+	private static final byte INSTANT = 13;
+	private static final byte LOCAL_DATE = 14;
+	private static final byte LOCAL_DATE_TIME = 15;
+	private static final byte UUID_TYPE = 16;
+
+	/**
+	 * Factory method used to construct a new {@link KeysetPageRequest} for the first
+	 * {@link org.springframework.data.domain.Slice} of query results.
+	 *
+	 * @param size {@link Integer number} of results in the {@link org.springframework.data.domain.Slice}.
+	 * @param sort {@link Sort} ordering the query results; must be {@link Sort#isSorted() sorted}.
+	 * @return a new {@link KeysetPageRequest}.
+	 * @throws IllegalArgumentException if {@link Sort} is {@literal null} or not {@link Sort#isSorted() sorted},
+	 * or the size is less than 1.
+	 * @see #of(int, Sort, String)
+	 */
+	public static @NonNull KeysetPageRequest of(int size, @NonNull Sort sort) {
+		return new KeysetPageRequest(size, sort, null);
+	}
+
+	/**
+	 * Factory method used to construct a new {@link KeysetPageRequest} for the {@link org.springframework.data.domain.Slice}
+	 * of query results following the position identified by the given {@link String continuation token}.
+	 *
+	 * @param size {@link Integer number} of results in the {@link org.springframework.data.domain.Slice}.
+	 * @param sort {@link Sort} ordering the query results; must be {@link Sort#isSorted() sorted}.
+	 * @param continuationToken {@link String continuation token} returned by a previous
+	 * {@link KeysetSlice}; may be {@literal null} or empty to request the first {@link org.springframework.data.domain.Slice}.
+	 * @return a new {@link KeysetPageRequest}.
+	 * @throws IllegalArgumentException if {@link Sort} is {@literal null} or not {@link Sort#isSorted() sorted},
+	 * the size is less than 1 or the {@link String continuation token} is invalid.
+	 * @see KeysetSlice#getContinuationToken()
+	 */
+	public static @NonNull KeysetPageRequest of(int size, @NonNull Sort sort, @Nullable String continuationToken) {
+
+		Object[] keyset = StringUtils.hasText(continuationToken) ? decode(continuationToken) : null;
+
+		Assert.isTrue(keyset == null || keyset.length == sort.stream().count(),
+			() -> String.format("Continuation token [%s] does not match Sort [%s]", continuationToken, sort));
+
+		return new KeysetPageRequest(size, sort, keyset);
+	}
+
+	private final Object[] keyset;
+
+	/**
+	 * Constructs a new {@link KeysetPageRequest} initialized with the given size, {@link Sort}
+	 * and {@literal keyset}.
+	 *
+	 * @param size {@link Integer number} of results in the {@link org.springframework.data.domain.Slice}.
+	 * @param sort {@link Sort} ordering the query results; must be {@link Sort#isSorted() sorted}.
+	 * @param keyset array of {@link Object values} of the {@link Sort} properties from the last result
+	 * of the previous {@link org.springframework.data.domain.Slice}; may be {@literal null}.
+	 */
+	protected KeysetPageRequest(int size, @NonNull Sort sort, @Nullable Object[] keyset) {
+
+		super(0, size, sort);
+
+		Assert.isTrue(sort.isSorted(), "Keyset pagination requires a Sort");
+
+		this.keyset = keyset != null ? keyset.clone() : null;
+	}
+
+	/**
+	 * Returns a new {@link KeysetPageRequest} requesting the {@link org.springframework.data.domain.Slice}
+	 * following the given {@literal keyset}.
+	 *
+	 * @param keyset array of {@link Object values} of the {@link Sort} properties from the last result
+	 * of the current {@link org.springframework.data.domain.Slice}.
+	 * @return a new {@link KeysetPageRequest} following the given {@literal keyset}.
+	 */
+	public @NonNull KeysetPageRequest after(@NonNull Object[] keyset) {
+		return new KeysetPageRequest(getPageSize(), getSort(), keyset);
+	}
+
+	/**
+	 * Determines whether this request continues after the last result of a previous
+	 * {@link org.springframework.data.domain.Slice}.
+	 *
+	 * @return a boolean value indicating whether this request continues after the last result
+	 * of a previous {@link org.springframework.data.domain.Slice}.
+	 */
+	public boolean hasKeyset() {
+		return this.keyset != null;
+	}
+
+	/**
+	 * Returns the values of the {@link Sort} properties from the last result of the previous
+	 * {@link org.springframework.data.domain.Slice}, in {@link Sort} order.
+	 *
+	 * @return the {@literal keyset}, or an empty array if this request is for the first
+	 * {@link org.springframework.data.domain.Slice}.
+	 */
+	public @NonNull Object[] getKeyset() {
+		return this.keyset != null ? this.keyset.clone() : new Object[0];
+	}
+
+	/**
+	 * Returns the opaque {@link String continuation token} representing the position of this request
+	 * in the query result set.
+	 *
+	 * @return the {@link String continuation token}, or {@literal null} if this request is for the first
+	 * {@link org.springframework.data.domain.Slice}.
+	 */
+	public @Nullable String getContinuationToken() {
+		return this.keyset != null ? encode(this.keyset) : null;
+	}
+
+	static @NonNull String encode(@NonNull Object[] keyset) {
+
+		try {
+
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			DataOutputStream out = new DataOutputStream(bytes);
+
+			out.writeByte(keyset.length);
+
+			for (Object value : keyset) {
+				write(value, out);
+			}
+
+			out.flush();
+
+			return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+		}
+		catch (IOException cause) {
+			throw newIllegalArgumentException(cause, "Failed to encode keyset %s", Arrays.toString(keyset));
+		}
+	}
+
+	static @NonNull Object[] decode(@NonNull String continuationToken) {
+
+		try {
+
+			DataInputStream in = new DataInputStream(
+				new ByteArrayInputStream(Base64.getUrlDecoder().decode(continuationToken)));
+
+			Object[] keyset = new Object[in.readUnsignedByte()];
+
+			for (int index = 0; index < keyset.length; index++) {
+				keyset[index] = read(in);
+			}
+
+			return keyset;
+		}
+		catch (IOException | RuntimeException cause) {
+			throw newIllegalArgumentException(cause, "Invalid continuation token [%s]", continuationToken);
+		}
+	}
+
+	private static void write(Object value, DataOutputStream out) throws IOException {
+
+		if (value == null) {
+			out.writeByte(NULL);
+		}
+		else if (value instanceof String) {
+			out.writeByte(STRING);
+			out.writeUTF((String) value);
+		}
+		else if (value instanceof Long) {
+			out.writeByte(LONG);
+			out.writeLong((Long) value);
+		}
+		else if (value instanceof Integer) {
+			out.writeByte(INTEGER);
+			out.writeInt((Integer) value);
+		}
+		else if (value instanceof Short) {
+			out.writeByte(SHORT);
+			out.writeShort((Short) value);
+		}
+		else if (value instanceof Byte) {
+			out.writeByte(BYTE);
+			out.writeByte((Byte) value);
+		}
+		else if (value instanceof Double) {
+			out.writeByte(DOUBLE);
+			out.writeDouble((Double) value);
+		}
+		else if (value instanceof Float) {
+			out.writeByte(FLOAT);
+			out.writeFloat((Float) value);
+		}
+		else if (value instanceof Boolean) {
+			out.writeByte(BOOLEAN);
+			out.writeBoolean((Boolean) value);
+		}
+		else if (value instanceof Character) {
+			out.writeByte(CHARACTER);
+			out.writeChar((Character) value);
+		}
+		else if (value instanceof BigDecimal) {
+			out.writeByte(BIG_DECIMAL);
+			out.writeUTF(value.toString());
+		}
+		else if (value instanceof BigInteger) {
+			out.writeByte(BIG_INTEGER);
+			out.writeUTF(value.toString());
+		}
+		else if (value instanceof Date) {
+			out.writeByte(DATE);
+			out.writeLong(((Date) value).getTime());
+		}
+		else if (value instanceof Instant) {
+			out.writeByte(INSTANT);
+			out.writeUTF(value.toString());
+		}
+		else if (value instanceof LocalDate) {
+			out.writeByte(LOCAL_DATE);
+			out.writeUTF(value.toString());
+		}
+		else if (value instanceof LocalDateTime) {
+			out.writeByte(LOCAL_DATE_TIME);
+			out.writeUTF(value.toString());
+		}
+		else if (value instanceof UUID) {
+			out.writeByte(UUID_TYPE);
+			out.writeUTF(value.toString());
+		}
+		else {
+			throw newIllegalArgumentException("Keyset value [%1$s] of type [%2$s] is not supported",
+				value, value.getClass().getName());
+		}
+	}
+
+	private static Object read(DataInputStream in) throws IOException {
+
+		byte type = in.readByte();
+
+		switch (type) {
+			case NULL:
+				return null;
+			case STRING:
+				return in.readUTF();
+			case LONG:
+				return in.readLong();
+			case INTEGER:
+				return in.readInt();
+			case SHORT:
+				return in.readShort();
+			case BYTE:
+				return in.readByte();
+			case DOUBLE:
+				return in.readDouble();
+			case FLOAT:
+				return in.readFloat();
+			case BOOLEAN:
+				return in.readBoolean();
+			case CHARACTER:
+				return in.readChar();
+			case BIG_DECIMAL:
+				return new BigDecimal(in.readUTF());
+			case BIG_INTEGER:
+				return new BigInteger(in.readUTF());
+			case DATE:
+				return new Date(in.readLong());
+			case INSTANT:
+				return Instant.parse(in.readUTF());
+			case LOCAL_DATE:
+				return LocalDate.parse(in.readUTF());
+			case LOCAL_DATE_TIME:
+				return LocalDateTime.parse(in.readUTF());
+			case UUID_TYPE:
+				return UUID.fromString(in.readUTF());
+			default:
+				throw new IOException(String.format("Unknown keyset value type [%d]", type));
+		}
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof KeysetPageRequest)) {
+			return false;
+		}
+
+		KeysetPageRequest that = (KeysetPageRequest) obj;
+
+		return super.equals(that)
+			&& Arrays.equals(this.keyset, that.keyset);
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * super.hashCode() + Arrays.hashCode(this.keyset);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("Keyset page request [size: %1$d, sort: %2$s, keyset: %3$s]",
+			getPageSize(), getSort(), Arrays.toString(this.keyset));
+	}
+}
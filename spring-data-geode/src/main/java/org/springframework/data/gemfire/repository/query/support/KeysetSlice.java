@@ -0,0 +1,90 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.repository.query.support;
+
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link Slice} of query results returned for a {@link KeysetPageRequest}, carrying the opaque
+ * {@link #getContinuationToken() continuation token} used to request the next {@link Slice}.
+ *
+ * @author John Blum
+ * @param <T> {@link Class type} of the query results.
+ * @see org.springframework.data.domain.SliceImpl
+ * @see org.springframework.data.gemfire.repository.query.support.KeysetPageRequest
+ * @since 2.7.0
+ */
+public class KeysetSlice<T> extends SliceImpl<T> {
+
+	private static final long serialVersionUID = 6104385724567023512L;
+
+	private final KeysetPageRequest pageRequest;
+
+	private final Object[] nextKeyset;
+
+	/**
+	 * Constructs a new {@link KeysetSlice} initialized with the given content, {@link KeysetPageRequest}
+	 * and {@literal keyset} of the last result in the content.
+	 *
+	 * @param content {@link List} of query results in this {@link Slice}; must not be {@literal null}.
+	 * @param pageRequest {@link KeysetPageRequest} for this {@link Slice}; must not be {@literal null}.
+	 * @param hasNext boolean value indicating whether more query results follow this {@link Slice}.
+	 * @param nextKeyset array of {@link Object values} of the {@link org.springframework.data.domain.Sort} properties
+	 * from the last result in the content; may be {@literal null} if there are no more query results.
+	 */
+	public KeysetSlice(@NonNull List<T> content, @NonNull KeysetPageRequest pageRequest, boolean hasNext,
+			@Nullable Object[] nextKeyset) {
+
+		super(content, pageRequest, hasNext && nextKeyset != null);
+
+		this.pageRequest = pageRequest;
+		this.nextKeyset = nextKeyset;
+	}
+
+	/**
+	 * Returns the opaque {@link String continuation token} used to request the next {@link Slice}
+	 * with {@link KeysetPageRequest#of(int, org.springframework.data.domain.Sort, String)}.
+	 *
+	 * @return the {@link String continuation token}, or {@literal null} if this is the last {@link Slice}.
+	 * @see KeysetPageRequest#of(int, org.springframework.data.domain.Sort, String)
+	 */
+	public @Nullable String getContinuationToken() {
+		return hasNext() ? KeysetPageRequest.encode(this.nextKeyset) : null;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public @NonNull Pageable nextPageable() {
+		return hasNext() ? this.pageRequest.after(this.nextKeyset) : Pageable.unpaged();
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public @NonNull <U> KeysetSlice<U> map(@NonNull Function<? super T, ? extends U> converter) {
+		return new KeysetSlice<>(getConvertedContent(converter), this.pageRequest, hasNext(), this.nextKeyset);
+	}
+}
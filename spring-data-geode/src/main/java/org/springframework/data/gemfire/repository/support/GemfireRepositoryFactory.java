@@ -21,11 +21,16 @@ import java.io.Serializable;
 import java.lang.reflect.Method;
 import java.util.Optional;
 
+import org.apache.geode.cache.GemFireCache;
 import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionService;
+import org.apache.geode.pdx.PdxSerializer;
 
 import org.springframework.data.gemfire.GemfireTemplate;
 import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
 import org.springframework.data.gemfire.mapping.GemfirePersistentProperty;
+import org.springframework.data.gemfire.mapping.MappingPdxSerializer;
+import org.springframework.data.gemfire.mapping.PdxInstanceEntityProxyFactory;
 import org.springframework.data.gemfire.mapping.Regions;
 import org.springframework.data.gemfire.repository.query.DefaultGemfireEntityInformation;
 import org.springframework.data.gemfire.repository.query.GemfireEntityInformation;
@@ -72,6 +77,8 @@ public class GemfireRepositoryFactory extends RepositoryFactorySupport {
 
 	private final MappingContext<? extends GemfirePersistentEntity<?>, GemfirePersistentProperty> mappingContext;
 
+	private PdxInstanceEntityProxyFactory pdxInstanceEntityProxyFactory;
+
 	private final Regions regions;
 
 	/**
@@ -97,6 +104,33 @@ public class GemfireRepositoryFactory extends RepositoryFactorySupport {
 		this.mappingContext = mappingContext;
 	}
 
+	/**
+	 * Configures whether {@link Repository Repositories} created by this factory return lazy,
+	 * {@link org.apache.geode.pdx.PdxInstance}-backed entity proxies when reading from {@link Region Regions}
+	 * configured to {@literal read-serialized}.
+	 *
+	 * @param lazyPdxReadsEnabled boolean value indicating whether lazy PDX reads are enabled.
+	 * @see org.springframework.data.gemfire.mapping.PdxInstanceEntityProxyFactory
+	 * @see org.springframework.data.gemfire.GemfireTemplate#setPdxInstanceEntityProxyFactory(PdxInstanceEntityProxyFactory)
+	 */
+	public void setLazyPdxReadsEnabled(boolean lazyPdxReadsEnabled) {
+
+		this.pdxInstanceEntityProxyFactory = lazyPdxReadsEnabled
+			? new PdxInstanceEntityProxyFactory(getMappingContext())
+			: null;
+	}
+
+	/**
+	 * Determines whether {@link Repository Repositories} created by this factory return lazy,
+	 * {@link org.apache.geode.pdx.PdxInstance}-backed entity proxies.
+	 *
+	 * @return a boolean value indicating whether lazy PDX reads are enabled.
+	 * @see #setLazyPdxReadsEnabled(boolean)
+	 */
+	public boolean isLazyPdxReadsEnabled() {
+		return this.pdxInstanceEntityProxyFactory != null;
+	}
+
 	/**
 	 * Returns a reference to the GemFire {@link MappingContext} used to provide mapping meta-data
 	 * between {@link Class entity types} and the data store.
@@ -170,7 +204,37 @@ public class GemfireRepositoryFactory extends RepositoryFactorySupport {
 
 		GemfirePersistentEntity<?> entity = resolvePersistentEntity(repositoryMetadata.getDomainType());
 
-		return new GemfireTemplate(validate(repositoryMetadata, entity, resolveRegion(repositoryMetadata, entity)));
+		GemfireTemplate template =
+			new GemfireTemplate(validate(repositoryMetadata, entity, resolveRegion(repositoryMetadata, entity)));
+
+		template.setPdxInstanceEntityProxyFactory(resolvePdxInstanceEntityProxyFactory(template.getRegion()));
+
+		return template;
+	}
+
+	/**
+	 * Resolves the {@link PdxInstanceEntityProxyFactory} used by the {@link GemfireTemplate} of a {@link Repository}
+	 * when lazy PDX reads are enabled, decoding PDX fields with the {@link MappingPdxSerializer} configured on
+	 * the cache, if any, so that the same custom {@link PdxSerializer PdxSerializers} and conversions apply.
+	 */
+	private @Nullable PdxInstanceEntityProxyFactory resolvePdxInstanceEntityProxyFactory(Region<?, ?> region) {
+
+		PdxInstanceEntityProxyFactory proxyFactory = this.pdxInstanceEntityProxyFactory;
+
+		RegionService regionService = proxyFactory != null ? region.getRegionService() : null;
+
+		if (regionService instanceof GemFireCache) {
+
+			PdxSerializer pdxSerializer = ((GemFireCache) regionService).getPdxSerializer();
+
+			if (pdxSerializer instanceof MappingPdxSerializer && pdxSerializer != proxyFactory.getPdxSerializer()) {
+
+				proxyFactory = new PdxInstanceEntityProxyFactory((MappingPdxSerializer) pdxSerializer);
+				this.pdxInstanceEntityProxyFactory = proxyFactory;
+			}
+		}
+
+		return proxyFactory;
 	}
 
 	@Nullable
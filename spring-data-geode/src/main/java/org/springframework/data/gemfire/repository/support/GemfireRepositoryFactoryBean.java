@@ -46,6 +46,7 @@ import org.springframework.data.gemfire.util.SpringUtils;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.RepositoryDefinition;
+import org.springframework.data.repository.core.support.AbstractRepositoryMetadata;
 import org.springframework.data.repository.core.support.QueryCreationListener;
 import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
 import org.springframework.data.repository.core.support.RepositoryFactorySupport;
@@ -83,6 +84,8 @@ public class GemfireRepositoryFactoryBean<T extends Repository<S, ID>, S, ID>
 
 	private ApplicationContext applicationContext;
 
+	private boolean lazyPdxReadsEnabled = false;
+
 	private GemFireCache cache;
 
 	private Iterable<Region<?, ?>> regions;
@@ -145,6 +148,28 @@ public class GemfireRepositoryFactoryBean<T extends Repository<S, ID>, S, ID>
 		return Optional.ofNullable(this.cache);
 	}
 
+	/**
+	 * Configures whether the {@link Repository} returns lazy, {@link org.apache.geode.pdx.PdxInstance}-backed
+	 * entity proxies when reading from a {@link Region} configured to {@literal read-serialized}.
+	 *
+	 * @param lazyPdxReadsEnabled boolean value indicating whether lazy PDX reads are enabled.
+	 * @see GemfireRepositoryFactory#setLazyPdxReadsEnabled(boolean)
+	 */
+	public void setLazyPdxReadsEnabled(boolean lazyPdxReadsEnabled) {
+		this.lazyPdxReadsEnabled = lazyPdxReadsEnabled;
+	}
+
+	/**
+	 * Determines whether the {@link Repository} returns lazy, {@link org.apache.geode.pdx.PdxInstance}-backed
+	 * entity proxies.
+	 *
+	 * @return a boolean value indicating whether lazy PDX reads are enabled.
+	 * @see #setLazyPdxReadsEnabled(boolean)
+	 */
+	protected boolean isLazyPdxReadsEnabled() {
+		return this.lazyPdxReadsEnabled;
+	}
+
 	/**
 	 * Configures the {@link MappingContext} used to perform application domain object type to data store mappings.
 	 *
@@ -237,8 +262,9 @@ public class GemfireRepositoryFactoryBean<T extends Repository<S, ID>, S, ID>
 	@Override
 	protected RepositoryFactorySupport createRepositoryFactory() {
 
-		GemfireRepositoryFactory repositoryFactory =
-			new GemfireRepositoryFactory(getRegions(), getGemfireMappingContext());
+		GemfireRepositoryFactory repositoryFactory = newRepositoryFactory(getRegions(), getGemfireMappingContext());
+
+		repositoryFactory.setLazyPdxReadsEnabled(isLazyPdxReadsEnabled());
 
 		getApplicationContext()
 			.map(applicationContext -> new QueryPostProcessorRegistrationOnQueryCreationListener(applicationContext))
@@ -247,6 +273,26 @@ public class GemfireRepositoryFactoryBean<T extends Repository<S, ID>, S, ID>
 		return repositoryFactory;
 	}
 
+	/**
+	 * Constructs a new instance of {@link GemfireRepositoryFactory} used to create the {@link Repository} proxy.
+	 *
+	 * Returns a {@link ReactiveGemfireRepositoryFactory} for {@link Repository Repositories} declaring
+	 * reactive return types, such as {@link org.springframework.data.gemfire.repository.ReactiveGemfireRepository}.
+	 *
+	 * @param regions {@link Iterable} collection of configured {@link Region Regions}.
+	 * @param mappingContext {@link MappingContext} used to map entities to the underlying data store.
+	 * @return a new {@link GemfireRepositoryFactory}.
+	 * @see org.springframework.data.gemfire.repository.support.ReactiveGemfireRepositoryFactory
+	 * @see org.springframework.data.gemfire.repository.support.GemfireRepositoryFactory
+	 */
+	protected GemfireRepositoryFactory newRepositoryFactory(Iterable<Region<?, ?>> regions,
+			MappingContext<? extends GemfirePersistentEntity<?>, GemfirePersistentProperty> mappingContext) {
+
+		return AbstractRepositoryMetadata.getMetadata(getObjectType()).isReactiveRepository()
+			? new ReactiveGemfireRepositoryFactory(regions, mappingContext)
+			: new GemfireRepositoryFactory(regions, mappingContext);
+	}
+
 	/**
 	 * Attempts to resolve the {@link MappingContext} used to map {@link GemfirePersistentEntity entities}
 	 * to Apache Geode.
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.repository.support;
+
+import java.util.Optional;
+
+import org.apache.geode.cache.Region;
+
+import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
+import org.springframework.data.gemfire.mapping.GemfirePersistentProperty;
+import org.springframework.data.gemfire.repository.ReactiveGemfireRepository;
+import org.springframework.data.gemfire.repository.query.GemfireRepositoryQuery;
+import org.springframework.data.gemfire.repository.query.ReactiveGemfireRepositoryQuery;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.data.repository.query.QueryLookupStrategy;
+import org.springframework.data.repository.query.QueryLookupStrategy.Key;
+import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
+import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.data.repository.util.ReactiveWrappers;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+/**
+ * {@link GemfireRepositoryFactory} creating {@link ReactiveGemfireRepository reactive Repository} proxies
+ * backed by {@link SimpleReactiveGemfireRepository}.
+ *
+ * Query methods return the results of the OQL query executed by the blocking
+ * {@link GemfireRepositoryQuery} as a {@link reactor.core.publisher.Mono} or {@link reactor.core.publisher.Flux}.
+ *
+ * @author John Blum
+ * @see org.springframework.data.gemfire.repository.ReactiveGemfireRepository
+ * @see org.springframework.data.gemfire.repository.query.ReactiveGemfireRepositoryQuery
+ * @see org.springframework.data.gemfire.repository.support.GemfireRepositoryFactory
+ * @see org.springframework.data.gemfire.repository.support.SimpleReactiveGemfireRepository
+ * @since 2.7.0
+ */
+public class ReactiveGemfireRepositoryFactory extends GemfireRepositoryFactory {
+
+	/**
+	 * Constructs a new instance of {@link ReactiveGemfireRepositoryFactory} initialized with the given collection
+	 * of configured {@link Region Regions} and the {@link MappingContext}.
+	 *
+	 * @param regions {@link Iterable} collection of configured {@link Region Regions} used by this application;
+	 * must not be {@literal null}.
+	 * @param mappingContext {@link MappingContext} used to map entities to the underlying data store,
+	 * must not be {@literal null}.
+	 * @throws IllegalArgumentException if either {@link Region Regions} or the {@link MappingContext}
+	 * is {@literal null}.
+	 * @see GemfireRepositoryFactory#GemfireRepositoryFactory(Iterable, MappingContext)
+	 */
+	public ReactiveGemfireRepositoryFactory(@NonNull Iterable<Region<?, ?>> regions,
+			@NonNull MappingContext<? extends GemfirePersistentEntity<?>, GemfirePersistentProperty> mappingContext) {
+
+		super(regions, mappingContext);
+	}
+
+	@Override
+	protected void validate(RepositoryMetadata repositoryMetadata) {
+
+		Assert.state(ReactiveWrappers.isAvailable(), () -> String.format(
+			"Cannot implement Repository [%s] without reactive library support",
+				repositoryMetadata.getRepositoryInterface().getName()));
+	}
+
+	@Override
+	protected Class<?> getRepositoryBaseClass(RepositoryMetadata metadata) {
+		return SimpleReactiveGemfireRepository.class;
+	}
+
+	@Override
+	protected Optional<QueryLookupStrategy> getQueryLookupStrategy(Key key,
+			QueryMethodEvaluationContextProvider evaluationContextProvider) {
+
+		return super.getQueryLookupStrategy(key, evaluationContextProvider).map(this::newReactiveQueryLookupStrategy);
+	}
+
+	private QueryLookupStrategy newReactiveQueryLookupStrategy(QueryLookupStrategy queryLookupStrategy) {
+
+		return (method, repositoryMetadata, projectionFactory, namedQueries) -> {
+
+			RepositoryQuery repositoryQuery =
+				queryLookupStrategy.resolveQuery(method, repositoryMetadata, projectionFactory, namedQueries);
+
+			return new ReactiveGemfireRepositoryQuery((GemfireRepositoryQuery) repositoryQuery);
+		};
+	}
+}
@@ -15,14 +15,21 @@
  */
 package org.springframework.data.gemfire.repository.support;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
@@ -30,9 +37,13 @@ import org.apache.geode.cache.CacheTransactionManager;
 import org.apache.geode.cache.DataPolicy;
 import org.apache.geode.cache.GemFireCache;
 import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
+import org.apache.geode.cache.partition.PartitionRegionHelper;
 import org.apache.geode.cache.query.SelectResults;
+import org.apache.geode.cache.query.Struct;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.gemfire.GemfireCallback;
@@ -47,11 +58,13 @@ import org.springframework.data.gemfire.util.SpringUtils;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.data.repository.core.EntityInformation;
+import org.springframework.data.repository.support.PageableExecutionUtils;
 import org.springframework.data.util.StreamUtils;
 import org.springframework.data.util.Streamable;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -74,8 +87,15 @@ import org.slf4j.LoggerFactory;
  */
 public class SimpleGemfireRepository<T, ID> implements GemfireRepository<T, ID> {
 
+	protected static final int DEFAULT_BULK_OPERATION_CHUNK_SIZE = 10000;
+
 	protected static final String SELECT_COUNT_OQL_QUERY = "SELECT count(*) FROM %s";
 
+	protected static final String SELECT_PAGE_KEYS_OQL_QUERY = "SELECT %1$s FROM %2$s.entrySet entry%3$s LIMIT %4$d";
+
+	private volatile int bulkOperationChunkSize = DEFAULT_BULK_OPERATION_CHUNK_SIZE;
+	private volatile int findAllByIdParallelism = 1;
+
 	private final EntityInformation<T, ID> entityInformation;
 
 	private final GemfireTemplate template;
@@ -103,6 +123,77 @@ public class SimpleGemfireRepository<T, ID> implements GemfireRepository<T, ID>
 		this.entityInformation = entityInformation;
 	}
 
+	/**
+	 * Sets the maximum number of keys sent to the {@link Region} in a single bulk operation,
+	 * such as {@link Region#removeAll(Collection)}.
+	 *
+	 * Larger inputs are split into multiple bulk operations of at most this number of keys, bounding the size
+	 * of each individual message sent to the servers or other members.
+	 *
+	 * @param bulkOperationChunkSize {@link Integer maximum number} of keys per bulk operation;
+	 * must be greater than {@literal 0}.
+	 * @throws IllegalArgumentException if the chunk size is less than {@literal 1}.
+	 * @see #getBulkOperationChunkSize()
+	 */
+	public void setBulkOperationChunkSize(int bulkOperationChunkSize) {
+
+		Assert.isTrue(bulkOperationChunkSize > 0,
+			String.format("Bulk operation chunk size [%d] must be greater than 0", bulkOperationChunkSize));
+
+		this.bulkOperationChunkSize = bulkOperationChunkSize;
+	}
+
+	/**
+	 * Returns the maximum number of keys sent to the {@link Region} in a single bulk operation.
+	 *
+	 * Defaults to {@link #DEFAULT_BULK_OPERATION_CHUNK_SIZE}.
+	 *
+	 * @return the {@link Integer maximum number} of keys per bulk operation.
+	 * @see #setBulkOperationChunkSize(int)
+	 */
+	public int getBulkOperationChunkSize() {
+		return this.bulkOperationChunkSize;
+	}
+
+	/**
+	 * Sets the maximum number of concurrent {@link Region#getAll(Collection)} operations used by
+	 * {@link #findAllById(Iterable)} to look up the entities in a {@literal partitioned} or {@literal client}
+	 * {@link Region}.
+	 *
+	 * When greater than {@literal 1}, the IDs are grouped and a {@link Region#getAll(Collection)} is sent for each group
+	 * concurrently on the {@link GemfireTemplate#getBulkOperationExecutor() bulk operation Executor}, merging the partial
+	 * results as they arrive. On a {@literal peer} {@literal PARTITION} {@link Region}, the IDs are
+	 * grouped by the primary member of their bucket, as determined by the configured
+	 * {@link org.apache.geode.cache.PartitionResolver}. On a {@literal client} {@link Region}, the bucket of an ID
+	 * is not known to the client, so the IDs are merely split into groups of equal size to spread the work; the groups
+	 * are not partition-aware, and each {@link Region#getAll(Collection)} may involve multiple servers.
+	 *
+	 * Default is {@literal 1}, sending a single {@link Region#getAll(Collection)} for all IDs.
+	 *
+	 * @param findAllByIdParallelism {@link Integer maximum number} of concurrent {@link Region#getAll(Collection)}
+	 * operations; must be greater than {@literal 0}.
+	 * @throws IllegalArgumentException if the parallelism is less than {@literal 1}.
+	 * @see #findAllById(Iterable)
+	 */
+	public void setFindAllByIdParallelism(int findAllByIdParallelism) {
+
+		Assert.isTrue(findAllByIdParallelism > 0,
+			String.format("findAllById parallelism [%d] must be greater than 0", findAllByIdParallelism));
+
+		this.findAllByIdParallelism = findAllByIdParallelism;
+	}
+
+	/**
+	 * Returns the maximum number of concurrent {@link Region#getAll(Collection)} operations used by
+	 * {@link #findAllById(Iterable)}.
+	 *
+	 * @return the {@link Integer maximum number} of concurrent {@link Region#getAll(Collection)} operations.
+	 * @see #setFindAllByIdParallelism(int)
+	 */
+	public int getFindAllByIdParallelism() {
+		return this.findAllByIdParallelism;
+	}
+
 	/**
 	 * Returns a reference to the {@link EntityInformation} type describing the entity.
 	 *
@@ -182,7 +273,15 @@ public class SimpleGemfireRepository<T, ID> implements GemfireRepository<T, ID>
 	}
 
 	/**
-	 * @inheritDoc
+	 * Saves the given entities to the {@link Region} with {@link GemfireTemplate#putAll(Map)}, which sends
+	 * a single {@link Region#putAll(Map)} unless {@link GemfireTemplate#setPutAllChunkSize(int) chunking}
+	 * was enabled on the {@link GemfireTemplate}.
+	 *
+	 * @param entities {@link Iterable} of entities to save.
+	 * @return the saved entities.
+	 * @throws org.springframework.data.gemfire.GemfireBulkOperationException if chunking is enabled
+	 * and one or more chunks failed.
+	 * @see org.springframework.data.gemfire.GemfireTemplate#putAll(Map)
 	 */
 	@Override
 	public <U extends T> Iterable<U> saveAll(@NonNull Iterable<U> entities) {
@@ -205,14 +304,35 @@ public class SimpleGemfireRepository<T, ID> implements GemfireRepository<T, ID>
 	/**
 	 * Counts the number of entities stored in the {@link Region}.
 	 *
-	 * This method executes a {@literal SELECT count(*) FROM /Region} OQL query.
+	 * This method uses {@link Region#sizeOnServer()} for client {@link Region Regions}
+	 * and {@link Region#size()} for peer {@link Region Regions} holding all the data
+	 * (i.e. {@literal REPLICATE} and {@literal PARTITION}), neither of which evaluate the values.
+	 * A peer {@link Region} holding only a subset of the data locally (e.g. {@literal PROXY} and {@literal NORMAL}),
+	 * or whose size cannot be determined, is counted by executing
+	 * a {@literal SELECT count(*) FROM /Region} OQL query.
 	 *
 	 * @return a count of the number of entities stored in the {@link Region}.
 	 */
 	@Override
 	public long count() {
 
-		String regionPath = getRegion().getFullPath();
+		Region<ID, T> region = getRegion();
+
+		return SpringUtils.safeGetValue(() -> countEntries(region), () -> countWithQuery(region));
+	}
+
+	long countEntries(@NonNull Region<?, ?> region) {
+
+		RegionAttributes<?, ?> regionAttributes = region.getAttributes();
+
+		return isClient(regionAttributes) ? region.sizeOnServer()
+			: isLocalDataPartial(regionAttributes) ? countWithQuery(region)
+			: region.size();
+	}
+
+	long countWithQuery(@NonNull Region<?, ?> region) {
+
+		String regionPath = region.getFullPath();
 		String countQuery = String.format(SELECT_COUNT_OQL_QUERY, regionPath);
 
 		SelectResults<Integer> results = getTemplate().find(countQuery);
@@ -228,13 +348,49 @@ public class SimpleGemfireRepository<T, ID> implements GemfireRepository<T, ID>
 	/**
 	 * Determines whether an entity with the given ID is stored in the {@link Region}.
 	 *
+	 * The entity is not deserialized. For peer {@link Region Regions} holding all the data
+	 * (i.e. {@literal REPLICATE} and {@literal PARTITION}), the entry is checked with
+	 * {@link Region#containsValueForKey(Object)}, which excludes invalidated entries. For client
+	 * {@link Region Regions}, the key is checked on the server with {@link Region#containsKeyOnServer(Object)},
+	 * which also includes entries invalidated on the server. A peer {@link Region} holding only a subset
+	 * of the data locally (e.g. {@literal PROXY} and {@literal NORMAL}) fetches the entity with {@link #findById(Object)}.
+	 *
 	 * @param id {@link Long} value identifying the entity.
 	 * @return a boolean value indicating whether an entity with the given ID is stored in the {@link Region}.
+	 * @see org.apache.geode.cache.Region#containsKeyOnServer(Object)
+	 * @see org.apache.geode.cache.Region#containsValueForKey(Object)
 	 * @see #findById(Object)
 	 */
 	@Override
 	public boolean existsById(ID id) {
-		return findById(id).isPresent();
+
+		if (id == null) {
+			return false;
+		}
+
+		GemfireTemplate template = getTemplate();
+
+		RegionAttributes<?, ?> regionAttributes = template.getRegion().getAttributes();
+
+		return isClient(regionAttributes) ? template.containsKeyOnServer(id)
+			: isLocalDataPartial(regionAttributes) ? findById(id).isPresent()
+			: template.containsValueForKey(id);
+	}
+
+	private boolean isClient(@Nullable RegionAttributes<?, ?> regionAttributes) {
+		return regionAttributes != null && StringUtils.hasText(regionAttributes.getPoolName());
+	}
+
+	/**
+	 * Determines whether a peer {@link Region} holds only a subset of the data locally, in which case
+	 * local operations like {@link Region#size()} and {@link Region#containsKey(Object)} do not reflect
+	 * the entire data set.
+	 */
+	boolean isLocalDataPartial(@Nullable RegionAttributes<?, ?> regionAttributes) {
+
+		DataPolicy dataPolicy = regionAttributes != null ? regionAttributes.getDataPolicy() : null;
+
+		return dataPolicy != null && !dataPolicy.withReplication() && !dataPolicy.withPartitioning();
 	}
 
 	/**
@@ -252,16 +408,36 @@ public class SimpleGemfireRepository<T, ID> implements GemfireRepository<T, ID>
 	}
 
 	/**
-	 * @inheritDoc
+	 * Returns the requested {@link Page} of entities stored in the {@link Region}.
+	 *
+	 * Rather than loading all entities in the {@link Region} and slicing the result, this method first queries
+	 * only the keys of the entities up to and including the requested {@link Page}, ordered by the {@link Sort}
+	 * of the {@link Pageable} (if any), and then gets the entities for the keys in the requested {@link Page}.
+	 * Therefore, the cost of fetching a {@link Page} is proportional to the {@link Page} size and offset rather than
+	 * the size of the {@link Region}.
+	 *
+	 * The keys are always ordered by the {@link Region} entry key, after the {@link Sort} (if any), so that
+	 * consecutive {@link Page Pages} neither overlap nor skip entities, even on {@literal PARTITION}
+	 * {@link Region Regions} where the order in which buckets are merged varies between query executions.
+	 * Therefore, the {@link Region} keys must be {@link Comparable}.
+	 *
+	 * @param pageable {@link Pageable} describing the requested {@link Page}; must not be {@literal null}.
+	 * @return the requested {@link Page} of entities.
+	 * @throws IllegalArgumentException if {@link Pageable} is {@literal null}.
+	 * @see #findPageKeys(Pageable)
 	 */
 	@Override
 	public Page<T> findAll(@NonNull Pageable pageable) {
 
 		Assert.notNull(pageable, "Pageable must not be null");
 
-		Iterable<T> results = findAll(pageable.getSort());
+		if (pageable.isUnpaged()) {
+			return new PageImpl<>(toList(findAll(pageable.getSort())));
+		}
+
+		List<T> content = findAllByKeysInOrder(findPageKeys(pageable));
 
-		return toPage(results, pageable);
+		return PageableExecutionUtils.getPage(content, pageable, this::count);
 	}
 
 	/**
@@ -280,7 +456,11 @@ public class SimpleGemfireRepository<T, ID> implements GemfireRepository<T, ID>
 	}
 
 	/**
-	 * @inheritDoc
+	 * Returns the entities with the given IDs stored in the {@link Region}.
+	 *
+	 * @param ids {@link Iterable} of IDs identifying the entities to find.
+	 * @return the entities with the given IDs.
+	 * @see #setFindAllByIdParallelism(int)
 	 */
 	@Override
 	public @NonNull Iterable<T> findAllById(@NonNull Iterable<ID> ids) {
@@ -290,7 +470,7 @@ public class SimpleGemfireRepository<T, ID> implements GemfireRepository<T, ID>
 			.collect(StreamUtils.toUnmodifiableList());
 
 		Map<ID, T> keysValues = !keys.isEmpty()
-			? getTemplate().getAll(keys)
+			? getAll(keys)
 			: Collections.emptyMap();
 
 		List<T> values = CollectionUtils.nullSafeMap(keysValues).values().stream()
@@ -341,15 +521,29 @@ public class SimpleGemfireRepository<T, ID> implements GemfireRepository<T, ID>
 	}
 
 	/**
-	 * @inheritDoc
+	 * Deletes the given entities from the {@link Region} using bulk {@link Region#removeAll(Collection)} operations
+	 * of at most {@link #getBulkOperationChunkSize()} keys each.
+	 *
+	 * @param entities {@link Iterable} of entities to delete.
+	 * @see #deleteAllById(Iterable)
 	 */
 	@Override
 	public void deleteAll(@NonNull Iterable<? extends T> entities) {
-		CollectionUtils.nullSafeIterable(entities).forEach(this::delete);
+
+		EntityInformation<T, ID> entityInformation = getEntityInformation();
+
+		deleteAllById(StreamSupport.stream(CollectionUtils.nullSafeIterable(entities).spliterator(), false)
+			.filter(Objects::nonNull)
+			.map(entityInformation::getRequiredId)
+			.collect(Collectors.toList()));
 	}
 
 	/**
-	 * @inheritDoc
+	 * Deletes the entities with the given IDs from the {@link Region} using bulk
+	 * {@link Region#removeAll(Collection)} operations of at most {@link #getBulkOperationChunkSize()} keys each.
+	 *
+	 * @param ids {@link Iterable} of IDs identifying the entities to delete.
+	 * @see #setBulkOperationChunkSize(int)
 	 */
 	@Override
 	public void deleteAllById(@NonNull Iterable<? extends ID> ids) {
@@ -359,9 +553,7 @@ public class SimpleGemfireRepository<T, ID> implements GemfireRepository<T, ID>
 				.filter(Objects::nonNull)
 				.collect(Collectors.toSet());
 
-		if (!keys.isEmpty()) {
-			getTemplate().removeAll(keys);
-		}
+		removeAllInChunks(keys, getTemplate()::removeAll);
 	}
 
 	/**
@@ -394,8 +586,124 @@ public class SimpleGemfireRepository<T, ID> implements GemfireRepository<T, ID>
 		return cacheTransactionManager != null && cacheTransactionManager.exists();
 	}
 
+	Map<ID, T> getAll(@NonNull List<ID> keys) {
+
+		int parallelism = getFindAllByIdParallelism();
+
+		if (parallelism > 1 && keys.size() > 1) {
+
+			Region<ID, T> region = getRegion();
+
+			Collection<List<ID>> keyGroups = !isTransactionPresent(region)
+				? groupKeys(region, keys, parallelism)
+				: Collections.emptyList();
+
+			if (keyGroups.size() > 1) {
+				return getAllInParallel(keys, keyGroups);
+			}
+		}
+
+		return getTemplate().getAll(keys);
+	}
+
+	private Map<ID, T> getAllInParallel(List<ID> keys, Collection<List<ID>> keyGroups) {
+
+		GemfireTemplate template = getTemplate();
+
+		Map<ID, T> partialResults = new ConcurrentHashMap<>(keys.size());
+
+		CompletableFuture<?>[] getAllOperations = keyGroups.stream()
+			.map(keyGroup -> CompletableFuture.runAsync(() ->
+				CollectionUtils.nullSafeMap(template.<ID, T>getAll(keyGroup)).forEach((key, value) -> {
+					if (key != null && value != null) {
+						partialResults.put(key, value);
+					}
+				}), template.getBulkOperationExecutor()))
+			.toArray(CompletableFuture[]::new);
+
+		try {
+			CompletableFuture.allOf(getAllOperations).join();
+		}
+		catch (CompletionException cause) {
+			throw cause.getCause() instanceof RuntimeException ? (RuntimeException) cause.getCause() : cause;
+		}
+
+		Map<ID, T> keysValues = new LinkedHashMap<>(keys.size());
+
+		keys.forEach(key -> keysValues.put(key, partialResults.get(key)));
+
+		return keysValues;
+	}
+
+	@NonNull Collection<List<ID>> groupKeys(@NonNull Region<ID, T> region, @NonNull List<ID> keys, int parallelism) {
+
+		Map<Object, List<ID>> keyGroups = new HashMap<>();
+
+		if (PartitionRegionHelper.isPartitionedRegion(region)) {
+			keys.forEach(key -> keyGroups.computeIfAbsent(PartitionRegionHelper.getPrimaryMemberForKey(region, key),
+				member -> new ArrayList<>()).add(key));
+		}
+		else if (RegionUtils.isClient(region)) {
+
+			int groupSize = (keys.size() + parallelism - 1) / parallelism;
+
+			for (int index = 0; index < keys.size(); index += groupSize) {
+				keyGroups.put(index, new ArrayList<>(keys.subList(index, Math.min(index + groupSize, keys.size()))));
+			}
+		}
+
+		if (keyGroups.size() > parallelism) {
+
+			List<List<ID>> mergedKeyGroups = new ArrayList<>(parallelism);
+
+			int index = 0;
+
+			for (List<ID> keyGroup : keyGroups.values()) {
+				if (mergedKeyGroups.size() < parallelism) {
+					mergedKeyGroups.add(new ArrayList<>(keyGroup));
+				}
+				else {
+					mergedKeyGroups.get(index++ % parallelism).addAll(keyGroup);
+				}
+			}
+
+			return mergedKeyGroups;
+		}
+
+		return keyGroups.values();
+	}
+
 	<K> void  doRegionClear(@NonNull Region<K, ?> region) {
-		region.removeAll(resolveRegionKeys(region));
+		removeAllInChunks(resolveRegionKeys(region), region::removeAll);
+	}
+
+	<K> void removeAllInChunks(@NonNull Collection<K> keys, @NonNull Consumer<Collection<K>> removeAll) {
+
+		int chunkSize = getBulkOperationChunkSize();
+
+		if (keys.size() <= chunkSize) {
+			if (!keys.isEmpty()) {
+				removeAll.accept(keys);
+			}
+		}
+		else {
+
+			List<K> chunk = new ArrayList<>(chunkSize);
+
+			for (K key : keys) {
+
+				chunk.add(key);
+
+				if (chunk.size() == chunkSize) {
+					removeAll.accept(chunk);
+					chunk = new ArrayList<>(chunkSize);
+				}
+			}
+
+			if (!chunk.isEmpty()) {
+				removeAll.accept(chunk);
+			}
+		}
 	}
 
 	@NonNull <K> Set<K> resolveRegionKeys(@NonNull Region<K, ?> region) {
@@ -405,6 +713,61 @@ public class SimpleGemfireRepository<T, ID> implements GemfireRepository<T, ID>
 			: Collections.emptySet();
 	}
 
+	@NonNull List<ID> findPageKeys(@NonNull Pageable pageable) {
+
+		PagingUtils.assertPageable(pageable);
+
+		SelectResults<Object> selectResults = getTemplate().find(newPageKeysQuery(pageable));
+
+		List<Object> rows = selectResults != null
+			? CollectionUtils.nullSafeList(selectResults.asList())
+			: Collections.emptyList();
+
+		return rows.stream()
+			.skip(PagingUtils.getQueryResultSetStartIndexForPage(pageable))
+			.map(this::toKey)
+			.collect(Collectors.toList());
+	}
+
+	@NonNull String newPageKeysQuery(@NonNull Pageable pageable) {
+
+		StringBuilder projection = new StringBuilder("DISTINCT entry.key");
+		StringBuilder orderBy = new StringBuilder(" ORDER BY ");
+
+		for (Sort.Order order : pageable.getSort()) {
+
+			String orderProperty = String.format("entry.value.%s", order.getProperty());
+
+			projection.append(", ").append(orderProperty);
+			orderBy.append(String.format("%1$s %2$s, ", orderProperty, order.getDirection()));
+		}
+
+		// the entry key makes the order total, so that pages are stable across query executions
+		orderBy.append("entry.key ASC");
+
+		return String.format(SELECT_PAGE_KEYS_OQL_QUERY, projection, getRegion().getFullPath(), orderBy,
+			PagingUtils.getQueryResultSetEndIndexForPage(pageable));
+	}
+
+	@SuppressWarnings("unchecked")
+	ID toKey(Object row) {
+		return (ID) (row instanceof Struct ? ((Struct) row).getFieldValues()[0] : row);
+	}
+
+	@NonNull List<T> findAllByKeysInOrder(@NonNull List<ID> keys) {
+
+		if (keys.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		Map<ID, T> keysValues = CollectionUtils.nullSafeMap(getTemplate().getAll(keys));
+
+		return keys.stream()
+			.map(keysValues::get)
+			.filter(Objects::nonNull)
+			.collect(Collectors.toList());
+	}
+
 	@NonNull List<T> toList(@Nullable Iterable<T> iterable) {
 
 		return iterable instanceof List ? (List<T>) iterable
@@ -414,9 +777,13 @@ public class SimpleGemfireRepository<T, ID> implements GemfireRepository<T, ID>
 
 	@NonNull List<T> toList(@Nullable SelectResults<T> selectResults) {
 
-		return selectResults != null
+		List<T> results = selectResults != null
 			? CollectionUtils.nullSafeList(selectResults.asList())
 			: Collections.emptyList();
+
+		return getTemplate().getPdxInstanceEntityProxyFactory() != null
+			? results.stream().map(getTemplate()::<T>resolveReadValue).collect(Collectors.toList())
+			: results;
 	}
 
 	@NonNull Page<T> toPage(@Nullable Iterable<T> iterable, @NonNull Pageable pageable) {
@@ -0,0 +1,312 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.repository.support;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+
+import org.apache.geode.cache.Region;
+
+import org.reactivestreams.Publisher;
+
+import org.springframework.data.gemfire.AsyncGemfireTemplate;
+import org.springframework.data.gemfire.GemfireTemplate;
+import org.springframework.data.gemfire.function.StreamingOqlQueryFunction;
+import org.springframework.data.gemfire.repository.ReactiveGemfireRepository;
+import org.springframework.data.repository.core.EntityInformation;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * {@link ReactiveGemfireRepository} implementation for Apache Geode, returning {@link Mono} and {@link Flux}
+ * from the {@link SimpleGemfireRepository} data access operations.
+ *
+ * The Apache Geode {@link Region} API is blocking, therefore operations are subscribed on a {@link Scheduler} backed by
+ * the {@link AsyncGemfireTemplate#defaultExecutor() default asynchronous Executor}, which uses virtual threads when
+ * supported by the Java runtime.
+ *
+ * {@link #findAll()} streams the entities in chunks of at most {@link #getFetchSize()} entities, fetching the next
+ * chunk only on demand, so that subscribers apply backpressure to the {@link Region}.
+ *
+ * @author John Blum
+ * @param <T> {@link Class type} of the entity.
+ * @param <ID> {@link Class type} of the entity identifier.
+ * @see org.springframework.data.gemfire.repository.ReactiveGemfireRepository
+ * @see org.springframework.data.gemfire.repository.support.SimpleGemfireRepository
+ * @see reactor.core.publisher.Flux
+ * @see reactor.core.publisher.Mono
+ * @since 2.7.0
+ */
+public class SimpleReactiveGemfireRepository<T, ID> implements ReactiveGemfireRepository<T, ID> {
+
+	protected static final int DEFAULT_FETCH_SIZE = StreamingOqlQueryFunction.DEFAULT_CHUNK_SIZE;
+
+	static final Scheduler SCHEDULER = Schedulers.fromExecutor(AsyncGemfireTemplate.defaultExecutor());
+
+	private volatile int fetchSize = DEFAULT_FETCH_SIZE;
+
+	private final SimpleGemfireRepository<T, ID> repository;
+
+	/**
+	 * Constructs a new instance of {@link SimpleReactiveGemfireRepository} initialized with the {@link GemfireTemplate}
+	 * and {@link EntityInformation}.
+	 *
+	 * @param template {@link GemfireTemplate} used to perform basic data access operations and simple OQL queries;
+	 * must not be {@literal null}.
+	 * @param entityInformation {@link EntityInformation} that describes the entity; must not be {@literal null}.
+	 * @throws IllegalArgumentException if {@link GemfireTemplate} or {@link EntityInformation} is {@literal null}.
+	 * @see org.springframework.data.gemfire.GemfireTemplate
+	 * @see org.springframework.data.repository.core.EntityInformation
+	 */
+	public SimpleReactiveGemfireRepository(@NonNull GemfireTemplate template,
+			@NonNull EntityInformation<T, ID> entityInformation) {
+
+		this.repository = new SimpleGemfireRepository<>(template, entityInformation);
+	}
+
+	/**
+	 * Sets the maximum number of entities fetched from the {@link Region} in a single chunk by {@link #findAll()}.
+	 *
+	 * @param fetchSize {@link Integer maximum number} of entities per chunk; must be greater than {@literal 0}.
+	 * @throws IllegalArgumentException if the fetch size is less than {@literal 1}.
+	 */
+	public void setFetchSize(int fetchSize) {
+
+		Assert.isTrue(fetchSize > 0, String.format("Fetch size [%d] must be greater than 0", fetchSize));
+
+		this.fetchSize = fetchSize;
+	}
+
+	/**
+	 * Returns the maximum number of entities fetched from the {@link Region} in a single chunk by {@link #findAll()}.
+	 *
+	 * @return the {@link Integer maximum number} of entities per chunk.
+	 */
+	public int getFetchSize() {
+		return this.fetchSize;
+	}
+
+	/**
+	 * Returns the blocking {@link SimpleGemfireRepository} performing the data access operations.
+	 *
+	 * @return the blocking {@link SimpleGemfireRepository} performing the data access operations.
+	 * @see org.springframework.data.gemfire.repository.support.SimpleGemfireRepository
+	 */
+	public @NonNull SimpleGemfireRepository<T, ID> getRepository() {
+		return this.repository;
+	}
+
+	private <R> Mono<R> mono(Callable<R> operation) {
+		return Mono.fromCallable(operation).subscribeOn(SCHEDULER);
+	}
+
+	private Mono<Void> run(Runnable operation) {
+		return Mono.<Void>fromRunnable(operation).subscribeOn(SCHEDULER);
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public <S extends T> Mono<S> save(@NonNull S entity) {
+		return mono(() -> getRepository().save(entity));
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public <S extends T> Flux<S> saveAll(@NonNull Iterable<S> entities) {
+		return mono(() -> getRepository().saveAll(entities)).flatMapIterable(savedEntities -> savedEntities);
+	}
+
+	/**
+	 * Saves the entities published by the given {@link Publisher} in chunks of at most
+	 * {@link SimpleGemfireRepository#getBulkOperationChunkSize()} entities.
+	 *
+	 * @param entityStream {@link Publisher} of entities to save.
+	 * @return a {@link Flux} of the saved entities.
+	 */
+	@Override
+	public <S extends T> Flux<S> saveAll(@NonNull Publisher<S> entityStream) {
+
+		return Flux.from(entityStream)
+			.buffer(getRepository().getBulkOperationChunkSize())
+			.concatMap(this::saveEntities);
+	}
+
+	private <S extends T> Flux<S> saveEntities(List<S> entities) {
+		return saveAll(entities);
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public Mono<T> findById(@NonNull ID id) {
+		return mono(() -> getRepository().findById(id).orElse(null));
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public Mono<T> findById(@NonNull Publisher<ID> id) {
+		return Mono.from(id).flatMap(this::findById);
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public Mono<Boolean> existsById(@NonNull ID id) {
+		return mono(() -> getRepository().existsById(id));
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public Mono<Boolean> existsById(@NonNull Publisher<ID> id) {
+		return Mono.from(id).flatMap(this::existsById);
+	}
+
+	/**
+	 * Streams all entities stored in the {@link Region} in chunks of at most {@link #getFetchSize()} entities.
+	 *
+	 * Only the keys are read up front; the entities for the next chunk of keys are fetched
+	 * with {@link Region#getAll(java.util.Collection)} as the subscriber requests more entities.
+	 *
+	 * @return a {@link Flux} of all entities stored in the {@link Region}.
+	 * @see #setFetchSize(int)
+	 */
+	@Override
+	public Flux<T> findAll() {
+
+		SimpleGemfireRepository<T, ID> repository = getRepository();
+
+		return mono(() -> repository.resolveRegionKeys(repository.getRegion()))
+			.flatMapIterable(keys -> keys)
+			.buffer(getFetchSize())
+			.concatMap(this::findEntities, 1);
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public Flux<T> findAllById(@NonNull Iterable<ID> ids) {
+		return mono(() -> getRepository().findAllById(ids)).flatMapIterable(entities -> entities);
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public Flux<T> findAllById(@NonNull Publisher<ID> idStream) {
+
+		return Flux.from(idStream)
+			.buffer(getFetchSize())
+			.concatMap(this::findEntities);
+	}
+
+	private Flux<T> findEntities(List<ID> ids) {
+		return findAllById(ids);
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public Mono<Long> count() {
+		return mono(() -> getRepository().count());
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public Mono<Void> deleteById(@NonNull ID id) {
+		return run(() -> getRepository().deleteById(id));
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public Mono<Void> deleteById(@NonNull Publisher<ID> id) {
+		return Mono.from(id).flatMap(this::deleteById);
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public Mono<Void> delete(@NonNull T entity) {
+		return run(() -> getRepository().delete(entity));
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public Mono<Void> deleteAllById(@NonNull Iterable<? extends ID> ids) {
+		return run(() -> getRepository().deleteAllById(ids));
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public Mono<Void> deleteAll(@NonNull Iterable<? extends T> entities) {
+		return run(() -> getRepository().deleteAll(entities));
+	}
+
+	/**
+	 * Deletes the entities published by the given {@link Publisher} in chunks of at most
+	 * {@link SimpleGemfireRepository#getBulkOperationChunkSize()} entities.
+	 *
+	 * @param entityStream {@link Publisher} of entities to delete.
+	 * @return a {@link Mono} signaling completion.
+	 */
+	@Override
+	public Mono<Void> deleteAll(@NonNull Publisher<? extends T> entityStream) {
+
+		return Flux.from(entityStream)
+			.filter(Objects::nonNull)
+			.buffer(getRepository().getBulkOperationChunkSize())
+			.concatMap(this::deleteEntities)
+			.then();
+	}
+
+	private Mono<Void> deleteEntities(List<? extends T> entities) {
+		return deleteAll(entities);
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public Mono<Void> deleteAll() {
+		return run(() -> getRepository().deleteAll());
+	}
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.serialization;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.geode.DataSerializer;
+import org.apache.geode.internal.InternalDataSerializer;
+
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+/**
+ * {@link DataSerializer} for mapped entities, serializing each registered entity {@link Class type} with
+ * a {@link MappingDataSerializerCodec} derived from the mapping meta-data.
+ *
+ * Each entity {@link Class type} is written with a stable, user-assigned {@link Integer type identifier} followed by
+ * the property values in a fixed order, which is more compact than PDX and avoids the PDX type registry lookups.
+ * The format is suited for {@link org.apache.geode.cache.Region Regions} where every member and client is controlled
+ * by the application and shares the same entity {@link Class} definitions.
+ *
+ * Apache Geode creates the {@link DataSerializer} reflectively on every member, therefore the entity codecs are held
+ * in a static registry populated by the {@link MappingDataSerializerFactoryBean} at startup.
+ *
+ * The registry and the serializer id are shared by all Spring {@code ApplicationContexts} in the same JVM (class
+ * loader). Contexts registering the same entity {@link Class type} replace each other's codec, the last one wins,
+ * and a type identifier already assigned to a different entity {@link Class type} is rejected. Once the serializer
+ * is {@link #register() registered} with Apache Geode, its id can no longer be changed.
+ *
+ * @author John Blum
+ * @see java.io.Serializable
+ * @see org.apache.geode.DataSerializer
+ * @see org.springframework.data.gemfire.serialization.MappingDataSerializerCodec
+ * @see org.springframework.data.gemfire.serialization.MappingDataSerializerFactoryBean
+ * @since 2.7.0
+ */
+public class MappingDataSerializer extends DataSerializer implements Serializable {
+
+	public static final int DEFAULT_ID = 1025;
+
+	private static final long serialVersionUID = 4384213657931625842L;
+
+	private static final ConcurrentMap<Class<?>, MappingDataSerializerCodec> codecsByType = new ConcurrentHashMap<>();
+
+	private static final ConcurrentMap<Integer, MappingDataSerializerCodec> codecsByTypeId = new ConcurrentHashMap<>();
+
+	private static volatile int id = DEFAULT_ID;
+
+	private static Integer registeredId;
+
+	/**
+	 * Sets the id of this serializer. Default is {@value #DEFAULT_ID}.
+	 *
+	 * @param serializerId identifier to set on this serializer.
+	 * @throws IllegalStateException if this serializer was already {@link #register() registered}
+	 * with a different id.
+	 */
+	public static synchronized void setSerializerId(int serializerId) {
+
+		Assert.state(registeredId == null || registeredId == serializerId,
+			() -> String.format("MappingDataSerializer is already registered with id [%1$d];"
+				+ " cannot change id to [%2$d]", registeredId, serializerId));
+
+		id = serializerId;
+	}
+
+	/**
+	 * Registers the given {@link MappingDataSerializerCodec}.
+	 *
+	 * @param codec {@link MappingDataSerializerCodec} to register; must not be {@literal null}.
+	 * @throws IllegalArgumentException if {@link MappingDataSerializerCodec} is {@literal null} or the
+	 * {@link MappingDataSerializerCodec#getTypeId() type identifier} is already registered for a different
+	 * entity {@link Class type}.
+	 */
+	static synchronized void registerCodec(@NonNull MappingDataSerializerCodec codec) {
+
+		Assert.notNull(codec, "MappingDataSerializerCodec must not be null");
+
+		MappingDataSerializerCodec existingCodec = codecsByTypeId.get(codec.getTypeId());
+
+		Assert.isTrue(existingCodec == null || existingCodec.getEntityType().equals(codec.getEntityType()),
+			() -> String.format("Type ID [%1$d] for entity type [%2$s] is already registered for entity type [%3$s]",
+				codec.getTypeId(), codec.getEntityType().getName(), existingCodec.getEntityType().getName()));
+
+		MappingDataSerializerCodec existingTypeCodec = codecsByType.get(codec.getEntityType());
+
+		if (existingTypeCodec != null) {
+			codecsByTypeId.remove(existingTypeCodec.getTypeId());
+		}
+
+		codecsByType.put(codec.getEntityType(), codec);
+		codecsByTypeId.put(codec.getTypeId(), codec);
+	}
+
+	/**
+	 * Registers this {@link DataSerializer} with Apache Geode, re-registering the {@link DataSerializer} if it was
+	 * already registered so that the {@link #getSupportedClasses() supported classes} are propagated.
+	 */
+	static synchronized void register() {
+		unregister(registeredId != null ? registeredId : id);
+		DataSerializer.register(MappingDataSerializer.class);
+		registeredId = id;
+	}
+
+	/**
+	 * Unregisters the {@link DataSerializer} registered with the given id, if any.
+	 *
+	 * Apache Geode only reads the {@link #getSupportedClasses() supported classes} when a {@link DataSerializer}
+	 * is registered and has no public API to unregister a {@link DataSerializer}, therefore this is the only place
+	 * the internal {@link InternalDataSerializer} API is used.
+	 *
+	 * @param serializerId id of the {@link DataSerializer} to unregister.
+	 */
+	private static void unregister(int serializerId) {
+
+		if (InternalDataSerializer.getSerializer(serializerId) != null) {
+			InternalDataSerializer.unregister(serializerId);
+		}
+	}
+
+	@Override
+	public boolean toData(Object obj, DataOutput out) throws IOException {
+
+		MappingDataSerializerCodec codec = obj != null ? codecsByType.get(obj.getClass()) : null;
+
+		if (codec != null) {
+			out.writeInt(codec.getTypeId());
+			codec.write(obj, out);
+			return true;
+		}
+
+		return false;
+	}
+
+	@Override
+	public Object fromData(DataInput in) throws IOException, ClassNotFoundException {
+
+		int typeId = in.readInt();
+
+		MappingDataSerializerCodec codec = codecsByTypeId.get(typeId);
+
+		if (codec == null) {
+			throw new IOException(String.format("No entity type registered for type ID [%d]", typeId));
+		}
+
+		return codec.read(in);
+	}
+
+	@Override
+	public int getId() {
+		return id;
+	}
+
+	@Override
+	public Class<?>[] getSupportedClasses() {
+		return codecsByType.keySet().toArray(new Class<?>[0]);
+	}
+}
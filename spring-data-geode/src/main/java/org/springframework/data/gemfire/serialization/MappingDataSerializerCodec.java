@@ -0,0 +1,649 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.serialization;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.apache.geode.DataSerializer;
+
+import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
+import org.springframework.data.gemfire.mapping.GemfirePersistentProperty;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.mapping.model.EntityInstantiators;
+import org.springframework.data.mapping.model.PersistentEntityParameterValueProvider;
+import org.springframework.data.mapping.model.PropertyValueProvider;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Codec used by the {@link MappingDataSerializer} to write and read a single {@link GemfirePersistentEntity entity}
+ * {@link Class type} to and from the {@link DataSerializer} wire format.
+ *
+ * The codec is derived once from the mapping meta-data. Persistent properties are written in a fixed order
+ * (by property name) without field names. Properties of {@literal primitive}, {@literal primitive wrapper} and
+ * {@link String} types are written with the typed {@link DataOutput} methods. The {@literal null} state of all
+ * non-{@literal primitive} properties is written up front as a compact bitmap, so {@literal null} values take
+ * a single bit on the wire.
+ *
+ * Since the format carries no meta-data, every member reading or writing the entity must use the same entity
+ * {@link Class} definition.
+ *
+ * @author John Blum
+ * @see java.io.DataInput
+ * @see java.io.DataOutput
+ * @see org.apache.geode.DataSerializer
+ * @see org.springframework.data.gemfire.mapping.GemfirePersistentEntity
+ * @see org.springframework.data.gemfire.serialization.MappingDataSerializer
+ * @since 2.7.0
+ */
+class MappingDataSerializerCodec {
+
+	private static final PropertyValueProvider<GemfirePersistentProperty> NO_PROPERTY_VALUES =
+		new PropertyValueProvider<GemfirePersistentProperty>() {
+
+			@Override
+			public <T> T getPropertyValue(GemfirePersistentProperty property) {
+				return null;
+			}
+		};
+
+	/**
+	 * Factory method used to construct a new {@link MappingDataSerializerCodec} for the given
+	 * {@link GemfirePersistentEntity entity}.
+	 *
+	 * @param entity {@link GemfirePersistentEntity} to serialize; must not be {@literal null}.
+	 * @param typeId stable {@link Integer identifier} written to the stream to identify the entity {@link Class type}.
+	 * @param entityInstantiators {@link EntityInstantiators} used to create entity instances on read;
+	 * must not be {@literal null}.
+	 * @return a new {@link MappingDataSerializerCodec}.
+	 * @throws IllegalArgumentException if the {@link GemfirePersistentEntity} or {@link EntityInstantiators}
+	 * is {@literal null}.
+	 */
+	static @NonNull MappingDataSerializerCodec from(@NonNull GemfirePersistentEntity<?> entity, int typeId,
+			@NonNull EntityInstantiators entityInstantiators) {
+
+		Assert.notNull(entity, "Entity must not be null");
+		Assert.notNull(entityInstantiators, "EntityInstantiators must not be null");
+
+		List<GemfirePersistentProperty> persistentProperties = new ArrayList<>();
+
+		entity.doWithProperties((PropertyHandler<GemfirePersistentProperty>) persistentProperty -> {
+			if (!persistentProperty.isTransient()) {
+				persistentProperties.add(persistentProperty);
+			}
+		});
+
+		persistentProperties.sort(Comparator.comparing(GemfirePersistentProperty::getName));
+
+		PropertyCodec[] properties = new PropertyCodec[persistentProperties.size()];
+
+		int nullableCount = 0;
+
+		for (int index = 0; index < properties.length; index++) {
+
+			GemfirePersistentProperty property = persistentProperties.get(index);
+
+			boolean primitive = property.getType().isPrimitive();
+			boolean writable = isWritable(entity, property);
+
+			properties[index] = new PropertyCodec(property, FieldType.from(property.getType()),
+				primitive ? -1 : nullableCount++, writable, primitive ? resolvePrimitiveField(property, writable) : null);
+		}
+
+		return new MappingDataSerializerCodec(entity, typeId, properties, nullableCount, entityInstantiators);
+	}
+
+	private static boolean isWritable(GemfirePersistentEntity<?> entity, GemfirePersistentProperty property) {
+		return !entity.isConstructorArgument(property) && property.isWritable();
+	}
+
+	/**
+	 * Resolves the {@link Field} used to read and write a {@literal primitive} property without boxing,
+	 * or {@literal null} if the property uses property access or is not backed by a writable {@link Field}.
+	 */
+	private static @Nullable Field resolvePrimitiveField(GemfirePersistentProperty property, boolean writable) {
+
+		Field field = property.getField();
+
+		if (field == null || property.usePropertyAccess() || !writable || Modifier.isFinal(field.getModifiers())) {
+			return null;
+		}
+
+		ReflectionUtils.makeAccessible(field);
+
+		return field;
+	}
+
+	private final boolean constructorArguments;
+
+	private final int nullableCount;
+	private final int nullBitmapLength;
+	private final int typeId;
+
+	private final EntityInstantiators entityInstantiators;
+
+	private final GemfirePersistentEntity<?> entity;
+
+	private final PropertyCodec[] properties;
+
+	private MappingDataSerializerCodec(GemfirePersistentEntity<?> entity, int typeId, PropertyCodec[] properties,
+			int nullableCount, EntityInstantiators entityInstantiators) {
+
+		this.entity = entity;
+		this.typeId = typeId;
+		this.properties = properties;
+		this.nullableCount = nullableCount;
+		this.nullBitmapLength = (nullableCount + 7) / 8;
+		this.entityInstantiators = entityInstantiators;
+		this.constructorArguments = entity.getPersistenceConstructor() != null
+			&& entity.getPersistenceConstructor().hasParameters();
+	}
+
+	/**
+	 * Returns the {@link GemfirePersistentEntity} serialized by this codec.
+	 *
+	 * @return the {@link GemfirePersistentEntity} serialized by this codec.
+	 */
+	@NonNull GemfirePersistentEntity<?> getEntity() {
+		return this.entity;
+	}
+
+	/**
+	 * Returns the {@link Class type} of the entity serialized by this codec.
+	 *
+	 * @return the {@link Class type} of the entity serialized by this codec.
+	 */
+	@NonNull Class<?> getEntityType() {
+		return getEntity().getType();
+	}
+
+	/**
+	 * Returns the stable {@link Integer identifier} of the entity {@link Class type} written to the stream.
+	 *
+	 * @return the stable {@link Integer identifier} of the entity {@link Class type}.
+	 */
+	int getTypeId() {
+		return this.typeId;
+	}
+
+	/**
+	 * Writes the persistent properties of the given entity to the {@link DataOutput}.
+	 *
+	 * Values of {@literal primitive} properties backed by a {@link Field} are written without boxing.
+	 *
+	 * @param target entity to write.
+	 * @param out {@link DataOutput} to write to.
+	 * @throws IOException if writing to the {@link DataOutput} fails.
+	 */
+	void write(@NonNull Object target, @NonNull DataOutput out) throws IOException {
+
+		PersistentPropertyAccessor<?> propertyAccessor = getEntity().getPropertyAccessor(target);
+
+		PropertyCodec[] properties = this.properties;
+
+		// only values of non-primitive properties, which are not boxed, are held until the null bitmap is written
+		Object[] nullableValues = new Object[this.nullableCount];
+
+		byte[] nullBitmap = new byte[this.nullBitmapLength];
+
+		for (PropertyCodec property : properties) {
+			if (property.isNullable()) {
+
+				Object value = propertyAccessor.getProperty(property.getProperty());
+
+				if (value == null) {
+					nullBitmap[property.nullableIndex >>> 3] |= (byte) (1 << (property.nullableIndex & 7));
+				}
+
+				nullableValues[property.nullableIndex] = value;
+			}
+		}
+
+		out.write(nullBitmap);
+
+		for (PropertyCodec property : properties) {
+			if (property.isNullable()) {
+
+				Object value = nullableValues[property.nullableIndex];
+
+				if (value != null) {
+					property.fieldType.write(value, out);
+				}
+			}
+			else if (property.primitiveField != null) {
+				property.writePrimitiveField(target, out);
+			}
+			else {
+				property.fieldType.write(propertyAccessor.getProperty(property.getProperty()), out);
+			}
+		}
+	}
+
+	/**
+	 * Reads an entity from the {@link DataInput}.
+	 *
+	 * Unless the entity is created with constructor arguments, property values are set on the entity as they are read
+	 * and values of {@literal primitive} properties backed by a {@link Field} are set without boxing.
+	 *
+	 * @param in {@link DataInput} to read from.
+	 * @return the entity read from the {@link DataInput}.
+	 * @throws IOException if reading from the {@link DataInput} fails.
+	 * @throws ClassNotFoundException if the {@link Class type} of a property value cannot be resolved.
+	 */
+	@NonNull Object read(@NonNull DataInput in) throws IOException, ClassNotFoundException {
+
+		byte[] nullBitmap = new byte[this.nullBitmapLength];
+
+		in.readFully(nullBitmap);
+
+		return this.constructorArguments
+			? readWithConstructorArguments(in, nullBitmap)
+			: readIntoInstance(in, nullBitmap);
+	}
+
+	private Object readIntoInstance(DataInput in, byte[] nullBitmap) throws IOException, ClassNotFoundException {
+
+		GemfirePersistentEntity<?> entity = getEntity();
+
+		Object instance = this.entityInstantiators.getInstantiatorFor(entity)
+			.createInstance(entity, new PersistentEntityParameterValueProvider<>(entity, NO_PROPERTY_VALUES, null));
+
+		PersistentPropertyAccessor<?> propertyAccessor = entity.getPropertyAccessor(instance);
+
+		for (PropertyCodec property : this.properties) {
+			if (property.primitiveField != null) {
+				property.readPrimitiveField(propertyAccessor.getBean(), in);
+			}
+			else {
+
+				Object value = isNull(property, nullBitmap) ? null : property.fieldType.read(in);
+
+				if (property.writable) {
+					propertyAccessor.setProperty(property.getProperty(), value);
+				}
+			}
+		}
+
+		return propertyAccessor.getBean();
+	}
+
+	private Object readWithConstructorArguments(DataInput in, byte[] nullBitmap)
+			throws IOException, ClassNotFoundException {
+
+		PropertyCodec[] properties = this.properties;
+
+		Object[] values = new Object[properties.length];
+
+		for (int index = 0; index < properties.length; index++) {
+			PropertyCodec property = properties[index];
+			values[index] = isNull(property, nullBitmap) ? null : property.fieldType.read(in);
+		}
+
+		GemfirePersistentEntity<?> entity = getEntity();
+
+		PropertyValueProvider<GemfirePersistentProperty> propertyValueProvider =
+			new PropertyValueProvider<GemfirePersistentProperty>() {
+
+				@Override
+				@SuppressWarnings("unchecked")
+				public <T> T getPropertyValue(GemfirePersistentProperty property) {
+
+					int index = indexOf(property);
+
+					return index >= 0 ? (T) values[index] : null;
+				}
+			};
+
+		Object instance = this.entityInstantiators.getInstantiatorFor(entity)
+			.createInstance(entity, new PersistentEntityParameterValueProvider<>(entity, propertyValueProvider, null));
+
+		PersistentPropertyAccessor<?> propertyAccessor = entity.getPropertyAccessor(instance);
+
+		for (int index = 0; index < properties.length; index++) {
+			if (properties[index].writable) {
+				propertyAccessor.setProperty(properties[index].getProperty(), values[index]);
+			}
+		}
+
+		return propertyAccessor.getBean();
+	}
+
+	private int indexOf(GemfirePersistentProperty property) {
+
+		PropertyCodec[] properties = this.properties;
+
+		for (int index = 0; index < properties.length; index++) {
+			if (properties[index].getName().equals(property.getName())) {
+				return index;
+			}
+		}
+
+		return -1;
+	}
+
+	private static boolean isNull(PropertyCodec property, byte[] nullBitmap) {
+
+		return property.isNullable()
+			&& (nullBitmap[property.nullableIndex >>> 3] & (1 << (property.nullableIndex & 7))) != 0;
+	}
+
+	static final class PropertyCodec {
+
+		private final boolean writable;
+
+		private final int nullableIndex;
+
+		private final Field primitiveField;
+
+		private final FieldType fieldType;
+
+		private final GemfirePersistentProperty property;
+
+		PropertyCodec(GemfirePersistentProperty property, FieldType fieldType, int nullableIndex, boolean writable,
+				@Nullable Field primitiveField) {
+
+			this.property = property;
+			this.fieldType = fieldType;
+			this.nullableIndex = nullableIndex;
+			this.writable = writable;
+			this.primitiveField = primitiveField;
+		}
+
+		boolean isNullable() {
+			return this.nullableIndex >= 0;
+		}
+
+		String getName() {
+			return this.property.getName();
+		}
+
+		GemfirePersistentProperty getProperty() {
+			return this.property;
+		}
+
+		void readPrimitiveField(Object target, DataInput in) throws IOException {
+
+			try {
+				this.fieldType.readField(this.primitiveField, target, in);
+			}
+			catch (IllegalAccessException cause) {
+				ReflectionUtils.handleReflectionException(cause);
+			}
+		}
+
+		void writePrimitiveField(Object target, DataOutput out) throws IOException {
+
+			try {
+				this.fieldType.writeField(this.primitiveField, target, out);
+			}
+			catch (IllegalAccessException cause) {
+				ReflectionUtils.handleReflectionException(cause);
+			}
+		}
+	}
+
+	enum FieldType {
+
+		BOOLEAN {
+
+			@Override
+			void write(Object value, DataOutput out) throws IOException {
+				out.writeBoolean((Boolean) value);
+			}
+
+			@Override
+			Object read(DataInput in) throws IOException {
+				return in.readBoolean();
+			}
+
+			@Override
+			void readField(Field field, Object target, DataInput in) throws IOException, IllegalAccessException {
+				field.setBoolean(target, in.readBoolean());
+			}
+
+			@Override
+			void writeField(Field field, Object target, DataOutput out) throws IOException, IllegalAccessException {
+				out.writeBoolean(field.getBoolean(target));
+			}
+		},
+
+		BYTE {
+
+			@Override
+			void write(Object value, DataOutput out) throws IOException {
+				out.writeByte((Byte) value);
+			}
+
+			@Override
+			Object read(DataInput in) throws IOException {
+				return in.readByte();
+			}
+
+			@Override
+			void readField(Field field, Object target, DataInput in) throws IOException, IllegalAccessException {
+				field.setByte(target, in.readByte());
+			}
+
+			@Override
+			void writeField(Field field, Object target, DataOutput out) throws IOException, IllegalAccessException {
+				out.writeByte(field.getByte(target));
+			}
+		},
+
+		CHAR {
+
+			@Override
+			void write(Object value, DataOutput out) throws IOException {
+				out.writeChar((Character) value);
+			}
+
+			@Override
+			Object read(DataInput in) throws IOException {
+				return in.readChar();
+			}
+
+			@Override
+			void readField(Field field, Object target, DataInput in) throws IOException, IllegalAccessException {
+				field.setChar(target, in.readChar());
+			}
+
+			@Override
+			void writeField(Field field, Object target, DataOutput out) throws IOException, IllegalAccessException {
+				out.writeChar(field.getChar(target));
+			}
+		},
+
+		SHORT {
+
+			@Override
+			void write(Object value, DataOutput out) throws IOException {
+				out.writeShort((Short) value);
+			}
+
+			@Override
+			Object read(DataInput in) throws IOException {
+				return in.readShort();
+			}
+
+			@Override
+			void readField(Field field, Object target, DataInput in) throws IOException, IllegalAccessException {
+				field.setShort(target, in.readShort());
+			}
+
+			@Override
+			void writeField(Field field, Object target, DataOutput out) throws IOException, IllegalAccessException {
+				out.writeShort(field.getShort(target));
+			}
+		},
+
+		INT {
+
+			@Override
+			void write(Object value, DataOutput out) throws IOException {
+				out.writeInt((Integer) value);
+			}
+
+			@Override
+			Object read(DataInput in) throws IOException {
+				return in.readInt();
+			}
+
+			@Override
+			void readField(Field field, Object target, DataInput in) throws IOException, IllegalAccessException {
+				field.setInt(target, in.readInt());
+			}
+
+			@Override
+			void writeField(Field field, Object target, DataOutput out) throws IOException, IllegalAccessException {
+				out.writeInt(field.getInt(target));
+			}
+		},
+
+		LONG {
+
+			@Override
+			void write(Object value, DataOutput out) throws IOException {
+				out.writeLong((Long) value);
+			}
+
+			@Override
+			Object read(DataInput in) throws IOException {
+				return in.readLong();
+			}
+
+			@Override
+			void readField(Field field, Object target, DataInput in) throws IOException, IllegalAccessException {
+				field.setLong(target, in.readLong());
+			}
+
+			@Override
+			void writeField(Field field, Object target, DataOutput out) throws IOException, IllegalAccessException {
+				out.writeLong(field.getLong(target));
+			}
+		},
+
+		FLOAT {
+
+			@Override
+			void write(Object value, DataOutput out) throws IOException {
+				out.writeFloat((Float) value);
+			}
+
+			@Override
+			Object read(DataInput in) throws IOException {
+				return in.readFloat();
+			}
+
+			@Override
+			void readField(Field field, Object target, DataInput in) throws IOException, IllegalAccessException {
+				field.setFloat(target, in.readFloat());
+			}
+
+			@Override
+			void writeField(Field field, Object target, DataOutput out) throws IOException, IllegalAccessException {
+				out.writeFloat(field.getFloat(target));
+			}
+		},
+
+		DOUBLE {
+
+			@Override
+			void write(Object value, DataOutput out) throws IOException {
+				out.writeDouble((Double) value);
+			}
+
+			@Override
+			Object read(DataInput in) throws IOException {
+				return in.readDouble();
+			}
+
+			@Override
+			void readField(Field field, Object target, DataInput in) throws IOException, IllegalAccessException {
+				field.setDouble(target, in.readDouble());
+			}
+
+			@Override
+			void writeField(Field field, Object target, DataOutput out) throws IOException, IllegalAccessException {
+				out.writeDouble(field.getDouble(target));
+			}
+		},
+
+		STRING {
+
+			@Override
+			void write(Object value, DataOutput out) throws IOException {
+				DataSerializer.writeString((String) value, out);
+			}
+
+			@Override
+			Object read(DataInput in) throws IOException {
+				return DataSerializer.readString(in);
+			}
+		},
+
+		OBJECT {
+
+			@Override
+			void write(Object value, DataOutput out) throws IOException {
+				DataSerializer.writeObject(value, out);
+			}
+
+			@Override
+			Object read(DataInput in) throws IOException, ClassNotFoundException {
+				return DataSerializer.readObject(in);
+			}
+		};
+
+		static FieldType from(Class<?> type) {
+
+			Class<?> resolvedType = ClassUtils.resolvePrimitiveIfNecessary(type);
+
+			return Boolean.class.equals(resolvedType) ? BOOLEAN
+				: Byte.class.equals(resolvedType) ? BYTE
+				: Character.class.equals(resolvedType) ? CHAR
+				: Short.class.equals(resolvedType) ? SHORT
+				: Integer.class.equals(resolvedType) ? INT
+				: Long.class.equals(resolvedType) ? LONG
+				: Float.class.equals(resolvedType) ? FLOAT
+				: Double.class.equals(resolvedType) ? DOUBLE
+				: String.class.equals(resolvedType) ? STRING
+				: OBJECT;
+		}
+
+		abstract void write(Object value, DataOutput out) throws IOException;
+
+		abstract Object read(DataInput in) throws IOException, ClassNotFoundException;
+
+		void readField(Field field, Object target, DataInput in) throws IOException, IllegalAccessException {
+			throw new UnsupportedOperationException(String.format("Field type [%s] is not primitive", name()));
+		}
+
+		void writeField(Field field, Object target, DataOutput out) throws IOException, IllegalAccessException {
+			throw new UnsupportedOperationException(String.format("Field type [%s] is not primitive", name()));
+		}
+	}
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.serialization;
+
+import java.util.Map;
+
+import org.apache.geode.DataSerializer;
+
+import org.springframework.beans.factory.FactoryBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.data.gemfire.mapping.GemfireMappingContext;
+import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
+import org.springframework.data.gemfire.mapping.GemfirePersistentProperty;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.mapping.model.EntityInstantiators;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link FactoryBean} that registers the {@link MappingDataSerializer} with Apache Geode for a set of
+ * mapped entity {@link Class types}, inside the Spring container.
+ *
+ * Each entity {@link Class type} is assigned a stable {@link Integer type identifier}, which must be the same
+ * on every member and client exchanging the entity. By default, the {@link MappingDataSerializer} is registered
+ * with Apache Geode at startup.
+ *
+ * @author John Blum
+ * @see org.apache.geode.DataSerializer
+ * @see org.springframework.beans.factory.FactoryBean
+ * @see org.springframework.beans.factory.InitializingBean
+ * @see org.springframework.data.gemfire.mapping.GemfireMappingContext
+ * @see org.springframework.data.gemfire.serialization.MappingDataSerializer
+ * @since 2.7.0
+ */
+public class MappingDataSerializerFactoryBean implements FactoryBean<DataSerializer>, InitializingBean {
+
+	private boolean autoRegister = true;
+
+	private int serializerId = MappingDataSerializer.DEFAULT_ID;
+
+	private DataSerializer dataSerializer;
+
+	private EntityInstantiators entityInstantiators = new EntityInstantiators();
+
+	private Map<Class<?>, Integer> types;
+
+	private MappingContext<? extends GemfirePersistentEntity<?>, GemfirePersistentProperty> mappingContext;
+
+	@Override
+	public void afterPropertiesSet() {
+
+		Assert.notEmpty(this.types, "No entity types for generating DataSerializer codecs");
+
+		MappingContext<? extends GemfirePersistentEntity<?>, GemfirePersistentProperty> mappingContext =
+			this.mappingContext != null ? this.mappingContext : new GemfireMappingContext();
+
+		MappingDataSerializer.setSerializerId(this.serializerId);
+
+		this.types.forEach((type, typeId) -> {
+
+			Assert.notNull(type, "Invalid/Null class given as entity type");
+			Assert.notNull(typeId, "Invalid/Null int given as type id");
+
+			MappingDataSerializer.registerCodec(MappingDataSerializerCodec
+				.from(mappingContext.getRequiredPersistentEntity(type), typeId, this.entityInstantiators));
+		});
+
+		if (this.autoRegister) {
+			MappingDataSerializer.register();
+		}
+
+		this.dataSerializer = new MappingDataSerializer();
+	}
+
+	@Override
+	public @Nullable DataSerializer getObject() {
+		return this.dataSerializer;
+	}
+
+	@Override
+	public @NonNull Class<?> getObjectType() {
+		return this.dataSerializer != null ? this.dataSerializer.getClass() : MappingDataSerializer.class;
+	}
+
+	@Override
+	public boolean isSingleton() {
+		return true;
+	}
+
+	/**
+	 * Sets the auto-registration of the {@link MappingDataSerializer} during the container startup.
+	 * Default is {@literal true}, meaning the registration will occur once this factory is initialized.
+	 *
+	 * @param autoRegister boolean value indicating whether to register the {@link MappingDataSerializer}.
+	 * @see DataSerializer#register(Class)
+	 */
+	public void setAutoRegister(boolean autoRegister) {
+		this.autoRegister = autoRegister;
+	}
+
+	/**
+	 * Sets the {@link EntityInstantiators} used to create entity instances when reading entities from the stream.
+	 *
+	 * @param entityInstantiators {@link EntityInstantiators} used to create entity instances;
+	 * must not be {@literal null}.
+	 * @throws IllegalArgumentException if {@link EntityInstantiators} is {@literal null}.
+	 * @see org.springframework.data.mapping.model.EntityInstantiators
+	 */
+	public void setEntityInstantiators(@NonNull EntityInstantiators entityInstantiators) {
+
+		Assert.notNull(entityInstantiators, "EntityInstantiators must not be null");
+
+		this.entityInstantiators = entityInstantiators;
+	}
+
+	/**
+	 * Sets the entity {@link Class types} and associated stable type ids serialized by the
+	 * {@link MappingDataSerializer}.
+	 *
+	 * @param types {@link Map} containing as keys the entity {@link Class types} and as values the associated type ids.
+	 */
+	public void setEntityTypes(Map<Class<?>, Integer> types) {
+		this.types = types;
+	}
+
+	/**
+	 * Sets the {@link MappingContext} providing the entity mapping meta-data. Defaults to
+	 * a new {@link GemfireMappingContext}.
+	 *
+	 * @param mappingContext {@link MappingContext} providing the entity mapping meta-data.
+	 * @see org.springframework.data.gemfire.mapping.GemfireMappingContext
+	 */
+	public void setMappingContext(
+			@Nullable MappingContext<? extends GemfirePersistentEntity<?>, GemfirePersistentProperty> mappingContext) {
+
+		this.mappingContext = mappingContext;
+	}
+
+	/**
+	 * Sets the id of the {@link MappingDataSerializer}. Default is {@value MappingDataSerializer#DEFAULT_ID}.
+	 *
+	 * The id is shared by all factories in the same JVM and cannot change once the {@link MappingDataSerializer}
+	 * is registered, therefore every factory must use the same id.
+	 *
+	 * @param serializerId identifier of the {@link MappingDataSerializer}.
+	 * @see DataSerializer#getId()
+	 */
+	public void setSerializerId(int serializerId) {
+		this.serializerId = serializerId;
+	}
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import org.junit.Test;
+
+import org.apache.geode.cache.CacheTransactionManager;
+import org.apache.geode.cache.EntryNotFoundException;
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.Region;
+
+import org.springframework.dao.DataRetrievalFailureException;
+
+/**
+ * Unit Tests for {@link AsyncGemfireTemplate}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.data.gemfire.AsyncGemfireTemplate
+ * @see org.springframework.data.gemfire.GemfireTemplate
+ * @since 2.7.0
+ */
+@SuppressWarnings("unchecked")
+public class AsyncGemfireTemplateUnitTests {
+
+	@Test
+	public void constructWithNullTemplateThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new AsyncGemfireTemplate(null))
+			.withMessage("GemfireTemplate must not be null");
+	}
+
+	@Test
+	public void constructWithNullExecutorUsesDefaultExecutor() {
+
+		AsyncGemfireTemplate template = new AsyncGemfireTemplate(new GemfireTemplate(mock(Region.class)), null);
+
+		assertThat(template.getExecutor()).isSameAs(AsyncGemfireTemplate.defaultExecutor());
+	}
+
+	@Test
+	public void getCompletesWithValue() {
+
+		Region<Object, Object> mockRegion = mock(Region.class);
+
+		doReturn("test").when(mockRegion).get(eq(1));
+
+		AsyncGemfireTemplate template = new AsyncGemfireTemplate(new GemfireTemplate(mockRegion));
+
+		CompletableFuture<Object> value = template.get(1);
+
+		assertThat(value.join()).isEqualTo("test");
+
+		verify(mockRegion).get(eq(1));
+	}
+
+	@Test
+	public void getRunsOnConfiguredExecutor() {
+
+		Region<Object, Object> mockRegion = mock(Region.class);
+
+		Executor mockExecutor = mock(Executor.class);
+
+		AsyncGemfireTemplate template = new AsyncGemfireTemplate(new GemfireTemplate(mockRegion), mockExecutor);
+
+		assertThat(template.getExecutor()).isSameAs(mockExecutor);
+		assertThat(template.get(1).isDone()).isFalse();
+
+		verify(mockExecutor).execute(any(Runnable.class));
+	}
+
+	@Test
+	public void getCompletesExceptionallyWithTranslatedException() {
+
+		Region<Object, Object> mockRegion = mock(Region.class);
+
+		doThrow(new EntryNotFoundException("TEST")).when(mockRegion).get(eq(1));
+
+		AsyncGemfireTemplate template = new AsyncGemfireTemplate(new GemfireTemplate(mockRegion), Runnable::run);
+
+		assertThatThrownBy(() -> template.get(1).join())
+			.isInstanceOf(CompletionException.class)
+			.hasCauseInstanceOf(DataRetrievalFailureException.class)
+			.hasRootCauseInstanceOf(EntryNotFoundException.class);
+	}
+
+	@Test
+	public void operationWithinTransactionCompletesExceptionally() {
+
+		Region<Object, Object> mockRegion = mock(Region.class);
+		GemFireCache mockCache = mock(GemFireCache.class);
+		CacheTransactionManager mockCacheTransactionManager = mock(CacheTransactionManager.class);
+		Executor mockExecutor = mock(Executor.class);
+
+		doReturn(mockCache).when(mockRegion).getRegionService();
+		doReturn("/Example").when(mockRegion).getFullPath();
+		doReturn(mockCacheTransactionManager).when(mockCache).getCacheTransactionManager();
+		doReturn(true).when(mockCacheTransactionManager).exists();
+
+		AsyncGemfireTemplate template = new AsyncGemfireTemplate(new GemfireTemplate(mockRegion), mockExecutor);
+
+		assertThatThrownBy(() -> template.get(1).join())
+			.isInstanceOf(CompletionException.class)
+			.hasCauseInstanceOf(IllegalStateException.class);
+
+		verify(mockExecutor, never()).execute(any(Runnable.class));
+		verify(mockRegion, never()).get(any());
+	}
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import org.apache.geode.cache.Region;
+
+/**
+ * Unit Tests for {@link BufferedRegionWriter}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.data.gemfire.BufferedRegionWriter
+ * @see org.springframework.data.gemfire.GemfireTemplate
+ * @since 2.7.0
+ */
+@SuppressWarnings("unchecked")
+public class BufferedRegionWriterUnitTests {
+
+	private BufferedRegionWriter<Integer, String> newWriter(Region<Integer, String> region, int batchSize,
+			int capacity, Executor flushExecutor) {
+
+		return new BufferedRegionWriter<>(new GemfireTemplate(region), batchSize, capacity, null, flushExecutor);
+	}
+
+	@Test
+	public void constructWithCapacityLessThanBatchSizeThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> newWriter(mock(Region.class), 10, 5, Runnable::run))
+			.withMessage("Capacity [5] must be greater than or equal to batch size [10]");
+	}
+
+	@Test
+	public void coalescesWritesToTheSameKey() {
+
+		Region<Integer, String> mockRegion = mock(Region.class);
+
+		BufferedRegionWriter<Integer, String> writer = newWriter(mockRegion, 10, 10, Runnable::run);
+
+		writer.put(1, "one");
+		writer.put(2, "two");
+		writer.put(1, "uno");
+		writer.remove(2);
+		writer.put(3, "three");
+
+		assertThat(writer.getBufferedWriteCount()).isEqualTo(3);
+
+		verify(mockRegion, never()).putAll(anyMap());
+
+		writer.flush();
+
+		Map<Integer, String> expectedPuts = new LinkedHashMap<>();
+
+		expectedPuts.put(1, "uno");
+		expectedPuts.put(3, "three");
+
+		verify(mockRegion).putAll(eq(expectedPuts));
+		verify(mockRegion).removeAll(eq(Collections.singletonList(2)));
+
+		assertThat(writer.getBufferedWriteCount()).isZero();
+		assertThat(writer.getWriteCount()).isEqualTo(5);
+		assertThat(writer.getCoalescedWriteCount()).isEqualTo(2);
+		assertThat(writer.getFlushCount()).isEqualTo(1);
+		assertThat(writer.getFlushedPutCount()).isEqualTo(2);
+		assertThat(writer.getFlushedRemoveCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void flushesWhenBatchSizeIsReached() {
+
+		Region<Integer, String> mockRegion = mock(Region.class);
+
+		BufferedRegionWriter<Integer, String> writer = newWriter(mockRegion, 2, 4, Runnable::run);
+
+		writer.put(1, "one");
+
+		verify(mockRegion, never()).putAll(anyMap());
+
+		writer.put(2, "two");
+
+		Map<Integer, String> expectedPuts = new LinkedHashMap<>();
+
+		expectedPuts.put(1, "one");
+		expectedPuts.put(2, "two");
+
+		verify(mockRegion).putAll(eq(expectedPuts));
+		verify(mockRegion, never()).removeAll(anyCollection());
+
+		assertThat(writer.getBufferedWriteCount()).isZero();
+	}
+
+	@Test
+	public void writeBlocksWhileBufferIsFull() throws Exception {
+
+		Region<Integer, String> mockRegion = mock(Region.class);
+
+		BufferedRegionWriter<Integer, String> writer = newWriter(mockRegion, 2, 2, runnable -> { });
+
+		writer.put(1, "one");
+		writer.put(2, "two");
+		writer.put(1, "uno");
+
+		Thread producer = new Thread(() -> writer.put(3, "three"));
+
+		producer.start();
+
+		long timeout = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+
+		while (writer.getBlockedWriteCount() == 0 && System.nanoTime() < timeout) {
+			Thread.sleep(10L);
+		}
+
+		assertThat(writer.getBlockedWriteCount()).isEqualTo(1);
+		assertThat(producer.isAlive()).isTrue();
+
+		writer.flush();
+
+		producer.join(TimeUnit.SECONDS.toMillis(5));
+
+		assertThat(producer.isAlive()).isFalse();
+		assertThat(writer.getBufferedWriteCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void closeFlushesBufferedWritesAndRejectsFurtherWrites() {
+
+		Region<Integer, String> mockRegion = mock(Region.class);
+
+		BufferedRegionWriter<Integer, String> writer = newWriter(mockRegion, 10, 10, Runnable::run);
+
+		writer.remove(1);
+		writer.close();
+
+		verify(mockRegion).removeAll(eq(Collections.singletonList(1)));
+
+		assertThat(writer.isClosed()).isTrue();
+
+		assertThatIllegalStateException()
+			.isThrownBy(() -> writer.put(2, "two"))
+			.withMessage("BufferedRegionWriter is closed");
+	}
+
+	@Test
+	public void destroyClosesAndFlushesBufferedWrites() {
+
+		Region<Integer, String> mockRegion = mock(Region.class);
+
+		BufferedRegionWriter<Integer, String> writer = newWriter(mockRegion, 10, 10, Runnable::run);
+
+		writer.remove(1);
+		writer.destroy();
+
+		verify(mockRegion).removeAll(eq(Collections.singletonList(1)));
+
+		assertThat(writer.isClosed()).isTrue();
+	}
+
+	@Test
+	public void scheduledFlushDoesNotPreventGarbageCollectionOfUnreachableWriter() throws Exception {
+
+		WeakReference<BufferedRegionWriter<Integer, String>> writerReference =
+			new WeakReference<>(new BufferedRegionWriter<>(new GemfireTemplate(mock(Region.class)), 10, 10,
+				Duration.ofMillis(1), Runnable::run));
+
+		for (int attempt = 0; attempt < 50 && writerReference.get() != null; attempt++) {
+			System.gc();
+			TimeUnit.MILLISECONDS.sleep(20);
+		}
+
+		assertThat(writerReference.get()).isNull();
+	}
+}
@@ -16,10 +16,13 @@
 package org.springframework.data.gemfire;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -27,14 +30,30 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
@@ -43,11 +62,15 @@ import org.apache.geode.cache.RegionAttributes;
 import org.apache.geode.cache.RegionService;
 import org.apache.geode.cache.Scope;
 import org.apache.geode.cache.client.ClientCache;
+import org.apache.geode.cache.execute.Execution;
+import org.apache.geode.cache.execute.FunctionException;
 import org.apache.geode.cache.query.Query;
 import org.apache.geode.cache.query.QueryService;
 import org.apache.geode.cache.query.SelectResults;
 
+import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.gemfire.function.StreamingResultCollector;
 import org.springframework.data.gemfire.tests.integration.IntegrationTestsSupport;
 
 /**
@@ -187,6 +210,126 @@ public class GemfireTemplateUnitTests extends IntegrationTestsSupport {
 		verifyNoMoreInteractions(mockSelectResults);
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void streamOnNonClientRegionStreamsFindResults() throws Exception {
+
+		String expectedQuery = "SELECT * FROM /Example WHERE id > $1";
+
+		SelectResults<Object> mockSelectResults = mock(SelectResults.class);
+
+		when(mockQuery.execute(any(Object.class))).thenReturn(mockSelectResults);
+		when(mockSelectResults.asList()).thenReturn(Arrays.asList("one", "two"));
+
+		try (Stream<Object> results = template.stream(expectedQuery, 0)) {
+			assertThat(results).containsExactly("one", "two");
+		}
+
+		verify(mockQueryService, times(1)).newQuery(eq(expectedQuery));
+		verify(mockQuery, times(1)).execute(eq(0));
+	}
+
+	@Test
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public void streamThrowsDataAccessExceptionAndClosesCollectorWhenStreamingQueryExecutorRejectsExecution() {
+
+		Region<Object, Object> mockClientRegion = mock(Region.class);
+		RegionAttributes<Object, Object> mockRegionAttributes = mock(RegionAttributes.class);
+		Execution mockExecution = mock(Execution.class, Answers.RETURNS_SELF);
+
+		when(mockClientRegion.getAttributes()).thenReturn(mockRegionAttributes);
+		when(mockRegionAttributes.getPoolName()).thenReturn("TestPool");
+
+		GemfireTemplate clientTemplate = new GemfireTemplate(mockClientRegion) {
+
+			@Override
+			Execution newStreamingQueryExecution(Region<?, ?> region) {
+				return mockExecution;
+			}
+		};
+
+		clientTemplate.setStreamingQueryExecutor(runnable -> {
+			throw new RejectedExecutionException("TEST");
+		});
+
+		assertThatExceptionOfType(DataAccessResourceFailureException.class)
+			.isThrownBy(() -> clientTemplate.stream("SELECT * FROM /Example"))
+			.withMessageStartingWith("Streaming query [SELECT * FROM /Example] was rejected")
+			.withCauseInstanceOf(RejectedExecutionException.class);
+
+		ArgumentCaptor<StreamingResultCollector> resultCollector =
+			ArgumentCaptor.forClass(StreamingResultCollector.class);
+
+		verify(mockExecution, times(1)).withCollector(resultCollector.capture());
+		verify(mockExecution, never()).execute(anyString());
+
+		assertThat(resultCollector.getValue().isClosed()).isTrue();
+	}
+
+	@Test
+	public void isFunctionNotRegisteredMatchesOnlyUnregisteredFunctionFailures() {
+
+		String functionId = "example.StreamingFunction";
+
+		FunctionException notRegistered =
+			new FunctionException(String.format("Function named %s is not registered to FunctionService", functionId));
+
+		assertThat(GemfireTemplate.isFunctionNotRegistered(notRegistered, functionId)).isTrue();
+		assertThat(GemfireTemplate.isFunctionNotRegistered(new RuntimeException(notRegistered), functionId)).isTrue();
+		assertThat(GemfireTemplate.isFunctionNotRegistered(new FunctionException("Server unavailable"), functionId))
+			.isFalse();
+		assertThat(GemfireTemplate.isFunctionNotRegistered(
+			new IllegalStateException(functionId + " is not registered"), functionId)).isFalse();
+		assertThat(GemfireTemplate.isFunctionNotRegistered(null, functionId)).isFalse();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void streamWithInvalidFetchSizeThrowsIllegalArgumentException() {
+
+		try {
+			template.stream("SELECT * FROM /Example", new Object[0], 0);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Fetch size [0] must be greater than 0");
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void findReusesCompiledQuery() throws Exception {
+
+		String expectedQuery = "SELECT * FROM /Example WHERE id = $1";
+
+		SelectResults<?> mockSelectResults = mock(SelectResults.class);
+
+		when(mockQuery.execute(any(Object.class))).thenReturn(mockSelectResults);
+
+		assertThat(template.find(expectedQuery, 1)).isEqualTo(mockSelectResults);
+		assertThat(template.find(expectedQuery, 2)).isEqualTo(mockSelectResults);
+
+		verify(mockQueryService, times(1)).newQuery(eq(expectedQuery));
+		verify(mockQuery, times(1)).execute(eq(1));
+		verify(mockQuery, times(1)).execute(eq(2));
+	}
+
+	@Test
+	public void findWithCompiledQueryCacheDisabledCompilesQueryEachTime() throws Exception {
+
+		String expectedQuery = "SELECT * FROM /Example WHERE id = $1";
+
+		SelectResults<?> mockSelectResults = mock(SelectResults.class);
+
+		when(mockQuery.execute(any(Object.class))).thenReturn(mockSelectResults);
+
+		template.setCompiledQueryCacheSize(0);
+		template.find(expectedQuery, 1);
+		template.find(expectedQuery, 2);
+
+		verify(mockQueryService, times(2)).newQuery(eq(expectedQuery));
+	}
+
 	@Test(expected = InvalidDataAccessApiUsageException.class)
 	public void findWithSingleResultQueryThrowsInvalidDataAccessApiUsageException() throws Exception {
 
@@ -271,6 +414,231 @@ public class GemfireTemplateUnitTests extends IntegrationTestsSupport {
 		}
 	}
 
+	@Test
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public void putAllSendsSingleMapByDefault() {
+
+		Map<Integer, String> map = new HashMap<>();
+
+		for (int key = 0; key < 10; key++) {
+			map.put(key, "value" + key);
+		}
+
+		assertThat(this.template.getPutAllChunkSize()).isZero();
+
+		this.template.putAll(map);
+
+		verify((Region) this.mockRegion, times(1)).putAll(eq(map));
+	}
+
+	@Test
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public void putAllSplitsLargeMapIntoChunks() {
+
+		List<Map> chunks = Collections.synchronizedList(new ArrayList<>());
+
+		doAnswer(invocation -> chunks.add(invocation.getArgument(0))).when((Region) this.mockRegion).putAll(any(Map.class));
+
+		Map<Integer, String> map = new HashMap<>();
+
+		for (int key = 0; key < 10; key++) {
+			map.put(key, "value" + key);
+		}
+
+		this.template.setPutAllChunkSize(3);
+		this.template.putAll(map);
+
+		assertThat(chunks).hasSize(4);
+		assertThat(chunks.stream().mapToInt(Map::size).sum()).isEqualTo(10);
+		assertThat(chunks.stream().mapToInt(Map::size).max().orElse(0)).isEqualTo(3);
+
+		Map<Object, Object> puts = new HashMap<>();
+
+		chunks.forEach(puts::putAll);
+
+		assertThat(puts).isEqualTo(map);
+	}
+
+	@Test
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public void putAllReportsFailedChunks() {
+
+		doAnswer(invocation -> {
+
+			Map<Integer, ?> chunk = invocation.getArgument(0);
+
+			if (chunk.containsKey(3)) {
+				throw new IllegalStateException("TEST");
+			}
+
+			return null;
+
+		}).when((Region) this.mockRegion).putAll(any(Map.class));
+
+		Map<Integer, String> map = new LinkedHashMap<>();
+
+		for (int key = 1; key <= 5; key++) {
+			map.put(key, "value" + key);
+		}
+
+		this.template.setBulkOperationExecutor(Runnable::run);
+		this.template.setPutAllChunkSize(2);
+
+		try {
+			this.template.putAll(map);
+			fail("Expected GemfireBulkOperationException");
+		}
+		catch (GemfireBulkOperationException expected) {
+
+			assertThat(expected.getFailures()).hasSize(1);
+			assertThat(expected.getFailedKeys()).containsExactly(3, 4);
+			assertThat(expected).hasCauseInstanceOf(IllegalStateException.class);
+		}
+
+		verify((Region) this.mockRegion, times(3)).putAll(any(Map.class));
+	}
+
+	@Test
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public void getCollapsesConcurrentReadsOfTheSameKey() throws Exception {
+
+		CountDownLatch readStarted = new CountDownLatch(1);
+		CountDownLatch readReleased = new CountDownLatch(1);
+
+		doAnswer(invocation -> {
+			readStarted.countDown();
+			readReleased.await(5, TimeUnit.SECONDS);
+			return "one";
+		}).when((Region) this.mockRegion).get(eq(1));
+
+		this.template.setReadCollapsingEnabled(true);
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+
+		CompletableFuture<Object> firstRead = CompletableFuture.supplyAsync(() -> this.template.get(1), executor);
+
+		assertThat(readStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+		CompletableFuture<Object> secondRead = CompletableFuture.supplyAsync(() -> this.template.get(1), executor);
+
+		long timeout = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+
+		while (this.template.getCollapsedReadCount() == 0 && System.nanoTime() < timeout) {
+			Thread.sleep(10L);
+		}
+
+		readReleased.countDown();
+
+		assertThat(firstRead.get(5, TimeUnit.SECONDS)).isEqualTo("one");
+		assertThat(secondRead.get(5, TimeUnit.SECONDS)).isEqualTo("one");
+		assertThat(this.template.getCollapsedReadCount()).isEqualTo(1L);
+
+		verify((Region) this.mockRegion, times(1)).get(eq(1));
+
+		executor.shutdown();
+	}
+
+	@Test
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public void getRethrowsErrorFromCollapsedReadAndReleasesTheKey() {
+
+		when(((Region) this.mockRegion).get(eq(1))).thenThrow(new NoClassDefFoundError("TEST")).thenReturn("one");
+
+		this.template.setReadCollapsingEnabled(true);
+
+		try {
+			this.template.get(1);
+			fail("Expected NoClassDefFoundError");
+		}
+		catch (NoClassDefFoundError expected) {
+			assertThat(expected).hasMessage("TEST");
+		}
+
+		assertThat(this.template.<Object, Object>get(1)).isEqualTo("one");
+
+		verify((Region) this.mockRegion, times(2)).get(eq(1));
+	}
+
+	@Test
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public void getAfterPutDoesNotShareReadStartedBeforeThePut() throws Exception {
+
+		CountDownLatch readStarted = new CountDownLatch(1);
+		CountDownLatch readReleased = new CountDownLatch(1);
+
+		AtomicInteger reads = new AtomicInteger();
+
+		doAnswer(invocation -> {
+
+			if (reads.incrementAndGet() == 1) {
+				readStarted.countDown();
+				readReleased.await(5, TimeUnit.SECONDS);
+				return "one";
+			}
+
+			return "two";
+
+		}).when((Region) this.mockRegion).get(eq(1));
+
+		this.template.setReadCollapsingEnabled(true);
+
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+
+		CompletableFuture<Object> staleRead = CompletableFuture.supplyAsync(() -> this.template.get(1), executor);
+
+		assertThat(readStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+		this.template.put(1, "two");
+
+		assertThat(this.template.<Object, Object>get(1)).isEqualTo("two");
+		assertThat(this.template.getCollapsedReadCount()).isZero();
+
+		readReleased.countDown();
+
+		assertThat(staleRead.get(5, TimeUnit.SECONDS)).isEqualTo("one");
+
+		verify((Region) this.mockRegion, times(2)).get(eq(1));
+
+		executor.shutdown();
+	}
+
+	@Test
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public void getBatchesReadsOfDifferentKeysWithinTheBatchingWindow() throws Exception {
+
+		Map<Object, Object> values = new HashMap<>();
+
+		values.put(1, "one");
+		values.put(2, "two");
+
+		doAnswer(invocation -> {
+
+			Map<Object, Object> results = new HashMap<>();
+
+			invocation.<Collection<?>>getArgument(0).forEach(key -> results.put(key, values.get(key)));
+
+			return results;
+
+		}).when((Region) this.mockRegion).getAll(any(Collection.class));
+
+		this.template.setReadCollapsingEnabled(true);
+		this.template.setReadBatchingWindow(Duration.ofMillis(500));
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+
+		CompletableFuture<Object> firstRead = CompletableFuture.supplyAsync(() -> this.template.get(1), executor);
+		CompletableFuture<Object> secondRead = CompletableFuture.supplyAsync(() -> this.template.get(2), executor);
+
+		assertThat(firstRead.get(5, TimeUnit.SECONDS)).isEqualTo("one");
+		assertThat(secondRead.get(5, TimeUnit.SECONDS)).isEqualTo("two");
+		assertThat(this.template.getBatchedReadCount()).isEqualTo(2L);
+
+		verify((Region) this.mockRegion, times(1)).getAll(any(Collection.class));
+		verify((Region) this.mockRegion, never()).get(any());
+
+		executor.shutdown();
+	}
+
 	@Test
 	@SuppressWarnings({ "rawtypes", "unchecked" })
 	public void removeAllCallsRegionRemoveAll() {
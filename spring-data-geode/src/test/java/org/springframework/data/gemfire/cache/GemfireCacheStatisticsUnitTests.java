@@ -0,0 +1,174 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import org.apache.geode.StatisticDescriptor;
+import org.apache.geode.Statistics;
+import org.apache.geode.StatisticsFactory;
+import org.apache.geode.StatisticsType;
+import org.apache.geode.cache.Region;
+
+/**
+ * Unit Tests for {@link GemfireCacheStatistics}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.apache.geode.StatisticsFactory
+ * @see org.springframework.data.gemfire.cache.GemfireCache
+ * @see org.springframework.data.gemfire.cache.GemfireCacheStatistics
+ * @since 2.7.0
+ */
+@SuppressWarnings({ "rawtypes", "unchecked" })
+public class GemfireCacheStatisticsUnitTests {
+
+	@Test
+	public void recordLoadCountsLoadInLatencyBucket() {
+
+		GemfireCacheStatistics statistics = new GemfireCacheStatistics();
+
+		statistics.recordLoad(TimeUnit.MICROSECONDS.toNanos(500L), true);
+		statistics.recordLoad(TimeUnit.MILLISECONDS.toNanos(30L), true);
+		statistics.recordLoad(TimeUnit.MILLISECONDS.toNanos(50L), false);
+		statistics.recordLoad(TimeUnit.SECONDS.toNanos(20L), true);
+
+		GemfireCacheStatistics.Snapshot snapshot = statistics.snapshot();
+
+		assertThat(snapshot.getLoadCount()).isEqualTo(4L);
+		assertThat(snapshot.getLoadSuccessCount()).isEqualTo(3L);
+		assertThat(snapshot.getLoadFailureCount()).isEqualTo(1L);
+		assertThat(snapshot.getLoadTimeHistogram())
+			.hasSize(GemfireCacheStatistics.getLoadTimeBucketBounds().length + 1);
+		assertThat(snapshot.getLoadTimeHistogram().get(1L)).isEqualTo(1L);
+		assertThat(snapshot.getLoadTimeHistogram().get(50L)).isEqualTo(1L);
+		assertThat(snapshot.getLoadTimeHistogram().get(100L)).isEqualTo(1L);
+		assertThat(snapshot.getLoadTimeHistogram().get(Long.MAX_VALUE)).isEqualTo(1L);
+		assertThat(snapshot.getAverageLoadTimeNanos()).isEqualTo(snapshot.getTotalLoadTimeNanos() / 4.0d);
+	}
+
+	@Test
+	public void loadTimeBucketBoundsCannotBeModified() {
+
+		long[] loadTimeBucketBounds = GemfireCacheStatistics.getLoadTimeBucketBounds();
+
+		loadTimeBucketBounds[0] = 1000L;
+
+		assertThat(GemfireCacheStatistics.getLoadTimeBucketBounds()[0]).isEqualTo(1L);
+	}
+
+	@Test
+	public void gemfireCacheRecordsStatistics() throws Exception {
+
+		Region mockRegion = mock(Region.class);
+
+		Callable<Object> mockCallable = mock(Callable.class);
+
+		doReturn("test").when(mockRegion).get(eq("hit"));
+		when(mockCallable.call()).thenReturn("mockValue");
+
+		GemfireCache cache = GemfireCache.wrap(mockRegion);
+
+		cache.get("hit");
+		cache.get("miss", String.class);
+		cache.get("load", mockCallable);
+		cache.put("key", "value");
+		cache.evict("key");
+		cache.clear();
+
+		GemfireCacheStatistics.Snapshot snapshot = cache.getStatistics().snapshot();
+
+		assertThat(snapshot.getHitCount()).isEqualTo(1L);
+		assertThat(snapshot.getMissCount()).isEqualTo(2L);
+		assertThat(snapshot.getHitRatio()).isEqualTo(1.0d / 3.0d);
+		assertThat(snapshot.getLoadSuccessCount()).isEqualTo(1L);
+		assertThat(snapshot.getPutCount()).isEqualTo(2L);
+		assertThat(snapshot.getExplicitEvictionCount()).isEqualTo(1L);
+		assertThat(snapshot.getClearCount()).isEqualTo(1L);
+	}
+
+	@Test
+	public void registerCreatesStatisticsSampledFromCounters() {
+
+		StatisticsFactory mockStatisticsFactory = mock(StatisticsFactory.class);
+
+		StatisticsType mockStatisticsType = mock(StatisticsType.class);
+
+		Statistics mockStatistics = mock(Statistics.class);
+
+		doReturn(mockStatisticsType).when(mockStatisticsFactory)
+			.createType(eq(GemfireCacheStatistics.STATISTICS_TYPE_NAME), anyString(), any(StatisticDescriptor[].class));
+		doReturn(mockStatistics).when(mockStatisticsFactory)
+			.createAtomicStatistics(eq(mockStatisticsType), eq("Example"));
+		doReturn(1).when(mockStatistics).nameToId(anyString());
+		doReturn(0).when(mockStatistics).nameToId(eq("hits"));
+
+		GemfireCacheStatistics statistics = new GemfireCacheStatistics();
+
+		statistics.recordHit();
+
+		assertThat(statistics.register(mockStatisticsFactory, "Example")).isSameAs(mockStatistics);
+		assertThat(statistics.getStatistics()).isSameAs(mockStatistics);
+
+		ArgumentCaptor<LongSupplier> hitsSupplier = ArgumentCaptor.forClass(LongSupplier.class);
+
+		verify(mockStatistics).setLongSupplier(eq(0), hitsSupplier.capture());
+		verify(mockStatistics, times(2 + 8 + GemfireCacheStatistics.getLoadTimeBucketBounds().length))
+			.setLongSupplier(anyInt(), any(LongSupplier.class));
+
+		assertThat(hitsSupplier.getValue().getAsLong()).isEqualTo(1L);
+
+		statistics.close();
+
+		verify(mockStatistics).close();
+
+		assertThat(statistics.getStatistics()).isNull();
+	}
+
+	@Test
+	public void registerReusesExistingStatisticsType() {
+
+		StatisticsFactory mockStatisticsFactory = mock(StatisticsFactory.class);
+
+		StatisticsType mockStatisticsType = mock(StatisticsType.class);
+
+		doReturn(mockStatisticsType).when(mockStatisticsFactory)
+			.findType(eq(GemfireCacheStatistics.STATISTICS_TYPE_NAME));
+		doReturn(mock(Statistics.class)).when(mockStatisticsFactory).createAtomicStatistics(any(), any());
+
+		new GemfireCacheStatistics().register(mockStatisticsFactory, "Example");
+
+		verify(mockStatisticsFactory, never()).createType(any(), any(), any(StatisticDescriptor[].class));
+		verify(mockStatisticsFactory).createAtomicStatistics(eq(mockStatisticsType), eq("Example"));
+	}
+}
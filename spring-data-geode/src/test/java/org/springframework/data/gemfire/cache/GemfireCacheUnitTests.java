@@ -17,24 +17,48 @@
 package org.springframework.data.gemfire.cache;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
+import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import org.apache.geode.cache.AttributesMutator;
+import org.apache.geode.cache.CacheListener;
+import org.apache.geode.cache.EntryEvent;
+import org.apache.geode.cache.ExpirationAttributes;
+import org.apache.geode.cache.Operation;
 import org.apache.geode.cache.Region;
+import org.apache.geode.distributed.DistributedLockService;
 
 import org.springframework.cache.Cache;
 
@@ -249,6 +273,387 @@ public class GemfireCacheUnitTests {
 		}
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void getWithValueLoaderRethrowsErrorAndReleasesTheKey() throws Exception {
+
+		when(mockCallable.call()).thenThrow(new NoClassDefFoundError("test")).thenReturn("mockValue");
+
+		GemfireCache cache = GemfireCache.wrap(mockRegion);
+
+		assertThatThrownBy(() -> cache.get("key", mockCallable))
+			.isInstanceOf(NoClassDefFoundError.class)
+			.hasMessage("test");
+
+		assertThat(cache.get("key", mockCallable)).isEqualTo("mockValue");
+
+		verify(mockCallable, times(2)).call();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void getWithValueLoaderLoadsValueOnceForConcurrentCallsWithSameKey() throws Exception {
+
+		Map<Object, Object> store = new ConcurrentHashMap<>();
+
+		doAnswer(invocation -> store.get(invocation.getArgument(0))).when(mockRegion).get(any());
+		doAnswer(invocation -> store.put(invocation.getArgument(0), invocation.getArgument(1)))
+			.when(mockRegion).put(any(), any());
+
+		AtomicInteger loadCount = new AtomicInteger(0);
+
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		Callable<String> valueLoader = () -> {
+			loadCount.incrementAndGet();
+			loading.countDown();
+			release.await(5, TimeUnit.SECONDS);
+			return "test";
+		};
+
+		GemfireCache cache = GemfireCache.wrap(mockRegion);
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+
+		try {
+
+			Future<String> one = executor.submit(() -> cache.get("key", valueLoader));
+
+			assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+			Future<String> two = executor.submit(() -> cache.get("key", valueLoader));
+
+			release.countDown();
+
+			assertThat(one.get(5, TimeUnit.SECONDS)).isEqualTo("test");
+			assertThat(two.get(5, TimeUnit.SECONDS)).isEqualTo("test");
+			assertThat(loadCount.get()).isEqualTo(1);
+
+			verify(mockRegion, times(1)).put(eq("key"), eq("test"));
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void getWithValueLoaderLoadsValuesForDifferentKeysInParallel() throws Exception {
+
+		CountDownLatch loading = new CountDownLatch(2);
+
+		Callable<String> valueLoader = () -> {
+			loading.countDown();
+			return loading.await(5, TimeUnit.SECONDS) ? "test" : "timeout";
+		};
+
+		GemfireCache cache = GemfireCache.wrap(mockRegion);
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+
+		try {
+
+			Future<String> one = executor.submit(() -> cache.get("keyOne", valueLoader));
+			Future<String> two = executor.submit(() -> cache.get("keyTwo", valueLoader));
+
+			assertThat(one.get(10, TimeUnit.SECONDS)).isEqualTo("test");
+			assertThat(two.get(10, TimeUnit.SECONDS)).isEqualTo("test");
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void getWithValueLoaderLocksKeyWithDistributedLockService() throws Exception {
+
+		DistributedLockService mockDistributedLockService = mock(DistributedLockService.class);
+
+		when(mockDistributedLockService.lock(eq("key"), anyLong(), anyLong())).thenReturn(true);
+		when(mockCallable.call()).thenReturn("mockValue");
+
+		GemfireCache cache = GemfireCache.wrap(mockRegion);
+
+		cache.setDistributedLockService(mockDistributedLockService);
+		cache.setDistributedLockLeaseTimeout(1000L);
+		cache.setDistributedLockWaitTimeout(500L);
+
+		assertThat(cache.isDistributedLockingEnabled()).isTrue();
+		assertThat(cache.get("key", mockCallable)).isEqualTo("mockValue");
+
+		verify(mockDistributedLockService, times(1)).lock(eq("key"), eq(500L), eq(1000L));
+		verify(mockDistributedLockService, times(1)).unlock(eq("key"));
+		verify(mockRegion, times(3)).get(eq("key"));
+		verify(mockRegion, times(1)).put(eq("key"), eq("mockValue"));
+		verify(mockCallable, times(1)).call();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void getWithValueLoaderLoadsValueWhenDistributedLockIsNotAcquired() throws Exception {
+
+		DistributedLockService mockDistributedLockService = mock(DistributedLockService.class);
+
+		when(mockDistributedLockService.lock(eq("key"), anyLong(), anyLong())).thenReturn(false);
+		when(mockCallable.call()).thenReturn("mockValue");
+
+		GemfireCache cache = GemfireCache.wrap(mockRegion);
+
+		cache.setDistributedLockService(mockDistributedLockService);
+
+		assertThat(cache.get("key", mockCallable)).isEqualTo("mockValue");
+
+		verify(mockDistributedLockService, never()).unlock(any());
+		verify(mockCallable, times(1)).call();
+	}
+
+	@Test
+	public void retrieveReturnsValueForKeyUsingExecutor() {
+
+		when(mockRegion.get(eq("key"))).thenReturn("test");
+
+		AtomicInteger executionCount = new AtomicInteger(0);
+
+		GemfireCache cache = GemfireCache.wrap(mockRegion);
+
+		cache.setExecutor(runnable -> {
+			executionCount.incrementAndGet();
+			runnable.run();
+		});
+
+		assertThat(cache.retrieve("key").join()).isEqualTo("test");
+		assertThat(executionCount.get()).isEqualTo(1);
+
+		verify(mockRegion, times(1)).get(eq("key"));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void retrieveWithValueLoaderReturnsCachedValueWithoutLoading() {
+
+		when(mockRegion.get(eq("key"))).thenReturn("test");
+
+		Supplier<CompletableFuture<String>> mockValueLoader = mock(Supplier.class);
+
+		GemfireCache cache = GemfireCache.wrap(mockRegion);
+
+		cache.setExecutor(Runnable::run);
+
+		assertThat(cache.retrieve("key", mockValueLoader).join()).isEqualTo("test");
+
+		verifyNoInteractions(mockValueLoader);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void retrieveWithValueLoaderLoadsAndCachesValueOnceForConcurrentRetrievals() {
+
+		AtomicInteger loadCount = new AtomicInteger(0);
+
+		CompletableFuture<String> load = new CompletableFuture<>();
+
+		Supplier<CompletableFuture<String>> valueLoader = () -> {
+			loadCount.incrementAndGet();
+			return load;
+		};
+
+		GemfireCache cache = GemfireCache.wrap(mockRegion);
+
+		cache.setExecutor(Runnable::run);
+
+		CompletableFuture<String> one = cache.retrieve("key", valueLoader);
+		CompletableFuture<String> two = cache.retrieve("key", valueLoader);
+
+		assertThat(one.isDone()).isFalse();
+		assertThat(two.isDone()).isFalse();
+
+		load.complete("mockValue");
+
+		assertThat(one.join()).isEqualTo("mockValue");
+		assertThat(two.join()).isEqualTo("mockValue");
+		assertThat(loadCount.get()).isEqualTo(1);
+
+		verify(mockRegion, times(1)).get(eq("key"));
+		verify(mockRegion, times(1)).put(eq("key"), eq("mockValue"));
+	}
+
+	@Test
+	public void retrieveWithValueLoaderCompletesExceptionallyWithValueRetrievalException() {
+
+		CompletableFuture<String> load = new CompletableFuture<>();
+
+		load.completeExceptionally(new IllegalStateException("test"));
+
+		GemfireCache cache = GemfireCache.wrap(mockRegion);
+
+		cache.setExecutor(Runnable::run);
+
+		assertThatThrownBy(() -> cache.retrieve("key", () -> load).join())
+			.isInstanceOf(CompletionException.class)
+			.hasCauseInstanceOf(Cache.ValueRetrievalException.class)
+			.hasRootCauseInstanceOf(IllegalStateException.class);
+
+		verify(mockRegion, never()).put(any(), any());
+	}
+
+	@Test
+	public void setRefreshAheadFactorWithInvalidFactorThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> GemfireCache.wrap(mockRegion).setRefreshAheadFactor(1.5d))
+			.withMessage("Refresh-ahead factor [1.5] must be between 0.0 and 1.0");
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void getWithValueLoaderRefreshesValueReadNearTimeToLive() throws Exception {
+
+		when(mockRegion.get(eq("key"))).thenReturn("test");
+		when(mockCallable.call()).thenReturn("mockValue");
+
+		GemfireCache cache = GemfireCache.wrap(mockRegion);
+
+		cache.setRefreshAheadFactor(0.00001d);
+		cache.setRefreshExecutor(Runnable::run);
+		cache.setTimeToLive(new ExpirationAttributes(60));
+		cache.put("key", "test");
+
+		Thread.sleep(10L);
+
+		assertThat(cache.get("key", mockCallable)).isEqualTo("test");
+		assertThat(cache.getRefreshCount()).isEqualTo(1L);
+
+		verify(mockCallable, times(1)).call();
+		verify(mockRegion, times(1)).put(eq("key"), eq("mockValue"));
+	}
+
+	@Test
+	public void getWithValueLoaderReturnsStaleValueWhileRefreshing() throws Exception {
+
+		AtomicInteger refreshCount = new AtomicInteger(0);
+
+		GemfireCache cache = GemfireCache.wrap(mockRegion);
+
+		cache.setRefreshAheadFactor(0.8d);
+		cache.setRefreshExecutor(refresh -> refreshCount.incrementAndGet());
+		cache.setStaleGracePeriod(Duration.ofSeconds(30));
+		cache.setTimeToLive(new ExpirationAttributes(1));
+		cache.put("key", "test");
+
+		Thread.sleep(1100L);
+
+		assertThat(cache.get("key", mockCallable)).isEqualTo("test");
+		assertThat(cache.getStaleReadCount()).isEqualTo(1L);
+		assertThat(cache.getStatistics().snapshot().getHitCount()).isEqualTo(1L);
+		assertThat(cache.getStatistics().snapshot().getMissCount()).isZero();
+		assertThat(refreshCount.get()).isEqualTo(1);
+
+		verifyNoInteractions(mockCallable);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void getWithValueLoaderDoesNotReturnStaleValueStoredWithoutGracePeriod() throws Exception {
+
+		when(mockCallable.call()).thenReturn("mockValue");
+
+		GemfireCache cache = GemfireCache.wrap(mockRegion);
+
+		cache.setRefreshAheadFactor(0.8d);
+		cache.setRefreshExecutor(refresh -> {});
+		cache.setTimeToLive(new ExpirationAttributes(1));
+		cache.put("key", "test");
+		cache.setStaleGracePeriod(Duration.ofSeconds(30));
+
+		Thread.sleep(1100L);
+
+		assertThat(cache.get("key", mockCallable)).isEqualTo("mockValue");
+		assertThat(cache.getStaleReadCount()).isZero();
+
+		verify(mockCallable, times(1)).call();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void getWithValueLoaderDoesNotReturnStaleValueAfterEvict() throws Exception {
+
+		when(mockCallable.call()).thenReturn("mockValue");
+
+		GemfireCache cache = GemfireCache.wrap(mockRegion);
+
+		cache.setRefreshAheadFactor(0.8d);
+		cache.setStaleGracePeriod(Duration.ofSeconds(30));
+		cache.setTimeToLive(new ExpirationAttributes(60));
+		cache.put("key", "test");
+		cache.evict("key");
+
+		assertThat(cache.get("key", mockCallable)).isEqualTo("mockValue");
+		assertThat(cache.getStaleReadCount()).isZero();
+
+		verify(mockCallable, times(1)).call();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void getWithValueLoaderDoesNotReturnStaleValueRemovedBeforeTimeToLive() throws Exception {
+
+		when(mockCallable.call()).thenReturn("mockValue");
+
+		GemfireCache cache = GemfireCache.wrap(mockRegion);
+
+		cache.setRefreshAheadFactor(0.8d);
+		cache.setStaleGracePeriod(Duration.ofSeconds(30));
+		cache.setTimeToLive(new ExpirationAttributes(60));
+		cache.put("key", "test");
+
+		assertThat(cache.get("key", mockCallable)).isEqualTo("mockValue");
+		assertThat(cache.getStaleReadCount()).isZero();
+
+		verify(mockCallable, times(1)).call();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void getWithValueLoaderDoesNotReturnStaleValueDestroyedInRegion() throws Exception {
+
+		AttributesMutator mockAttributesMutator = mock(AttributesMutator.class);
+
+		when(mockRegion.getAttributesMutator()).thenReturn(mockAttributesMutator);
+		when(mockCallable.call()).thenReturn("mockValue");
+
+		GemfireCache cache = GemfireCache.wrap(mockRegion);
+
+		cache.setRefreshAheadFactor(0.8d);
+		cache.setRefreshExecutor(refresh -> {});
+		cache.setStaleGracePeriod(Duration.ofSeconds(30));
+		cache.setTimeToLive(new ExpirationAttributes(1));
+		cache.put("key", "test");
+		cache.put("expired", "test");
+
+		ArgumentCaptor<CacheListener> cacheListener = ArgumentCaptor.forClass(CacheListener.class);
+
+		verify(mockAttributesMutator, times(1)).addCacheListener(cacheListener.capture());
+
+		EntryEvent mockDestroyEvent = mock(EntryEvent.class);
+		EntryEvent mockExpireEvent = mock(EntryEvent.class);
+
+		when(mockDestroyEvent.getKey()).thenReturn("key");
+		when(mockDestroyEvent.getOperation()).thenReturn(Operation.DESTROY);
+		when(mockExpireEvent.getOperation()).thenReturn(Operation.EXPIRE_DESTROY);
+
+		cacheListener.getValue().afterDestroy(mockDestroyEvent);
+		cacheListener.getValue().afterDestroy(mockExpireEvent);
+
+		Thread.sleep(1100L);
+
+		assertThat(cache.get("key", mockCallable)).isEqualTo("mockValue");
+		assertThat(cache.get("expired", mockCallable)).isEqualTo("test");
+		assertThat(cache.getStaleReadCount()).isEqualTo(1L);
+
+		verify(mockCallable, times(1)).call();
+	}
+
 	@Test
 	@SuppressWarnings("unchecked")
 	public void putCachesValue() {
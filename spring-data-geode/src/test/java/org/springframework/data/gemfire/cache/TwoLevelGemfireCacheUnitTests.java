@@ -0,0 +1,318 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import org.apache.geode.cache.AttributesMutator;
+import org.apache.geode.cache.CacheListener;
+import org.apache.geode.cache.EntryEvent;
+import org.apache.geode.cache.ExpirationAttributes;
+import org.apache.geode.cache.InterestResultPolicy;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
+import org.apache.geode.cache.RegionEvent;
+
+/**
+ * Unit Tests for {@link TwoLevelGemfireCache}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.data.gemfire.cache.TwoLevelGemfireCache
+ * @since 2.7.0
+ */
+@SuppressWarnings({ "rawtypes", "unchecked" })
+public class TwoLevelGemfireCacheUnitTests {
+
+	private AttributesMutator mockAttributesMutator;
+
+	private Region mockRegion;
+
+	@Before
+	public void setup() {
+
+		this.mockAttributesMutator = mock(AttributesMutator.class);
+		this.mockRegion = mock(Region.class);
+
+		doReturn(this.mockAttributesMutator).when(this.mockRegion).getAttributesMutator();
+	}
+
+	private CacheListener<Object, Object> registeredCacheListener() {
+
+		ArgumentCaptor<CacheListener> cacheListener = ArgumentCaptor.forClass(CacheListener.class);
+
+		verify(this.mockAttributesMutator).addCacheListener(cacheListener.capture());
+
+		return cacheListener.getValue();
+	}
+
+	@Test
+	public void constructWithInvalidMaximumSizeThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new TwoLevelGemfireCache(this.mockRegion, 0))
+			.withMessage("Maximum size [0] must be greater than 0");
+	}
+
+	@Test
+	public void getServesRepeatedReadsFromLocalCache() {
+
+		doReturn("test").when(this.mockRegion).get(eq("key"));
+
+		TwoLevelGemfireCache cache = new TwoLevelGemfireCache(this.mockRegion, 10);
+
+		assertThat(cache.get("key").get()).isEqualTo("test");
+		assertThat(cache.get("key", String.class)).isEqualTo("test");
+		assertThat(cache.get("missing")).isNull();
+
+		verify(this.mockRegion, times(1)).get(eq("key"));
+
+		assertThat(cache.getL1HitCount()).isEqualTo(1L);
+		assertThat(cache.getL2HitCount()).isEqualTo(1L);
+		assertThat(cache.getMissCount()).isEqualTo(1L);
+		assertThat(cache.getL1HitRatio()).isEqualTo(1.0d / 3.0d);
+		assertThat(cache.getL2HitRatio()).isEqualTo(0.5d);
+	}
+
+	@Test
+	public void localCacheEvictsLeastRecentlyUsedEntry() {
+
+		doReturn("one").when(this.mockRegion).get(eq(1));
+		doReturn("two").when(this.mockRegion).get(eq(2));
+		doReturn("three").when(this.mockRegion).get(eq(3));
+
+		TwoLevelGemfireCache cache = new TwoLevelGemfireCache(this.mockRegion, 2);
+
+		cache.get(1);
+		cache.get(2);
+		cache.get(1);
+		cache.get(3);
+
+		assertThat(cache.getLocalCacheSize()).isEqualTo(2);
+		assertThat(cache.getL1EvictionCount()).isEqualTo(1L);
+
+		cache.get(1);
+		cache.get(2);
+
+		verify(this.mockRegion, times(1)).get(eq(1));
+		verify(this.mockRegion, times(2)).get(eq(2));
+	}
+
+	@Test
+	public void localCacheEntryExpiresAfterLocalTimeToLive() throws Exception {
+
+		doReturn("test").when(this.mockRegion).get(eq("key"));
+
+		TwoLevelGemfireCache cache = new TwoLevelGemfireCache(this.mockRegion, 10);
+
+		cache.setLocalTimeToLive(Duration.ofMillis(10));
+		cache.get("key");
+		cache.get("key");
+
+		verify(this.mockRegion, times(1)).get(eq("key"));
+
+		Thread.sleep(50L);
+
+		cache.get("key");
+
+		verify(this.mockRegion, times(2)).get(eq("key"));
+
+		assertThat(cache.getL1HitCount()).isEqualTo(1L);
+		assertThat(cache.getL2HitCount()).isEqualTo(2L);
+	}
+
+	@Test
+	public void localTimeToLiveIsBoundedByRegionTimeToLive() {
+
+		TwoLevelGemfireCache cache = new TwoLevelGemfireCache(this.mockRegion, 10);
+
+		assertThat(cache.getLocalTimeToLive()).isEqualTo(TwoLevelGemfireCache.DEFAULT_LOCAL_TIME_TO_LIVE);
+
+		cache.setTimeToLive(new ExpirationAttributes(5));
+
+		assertThat(cache.getLocalTimeToLive()).isEqualTo(Duration.ofSeconds(5));
+
+		cache.setLocalTimeToLive(Duration.ofSeconds(2));
+
+		assertThat(cache.getLocalTimeToLive()).isEqualTo(Duration.ofSeconds(2));
+	}
+
+	@Test
+	public void setLocalTimeToLiveWithInvalidDurationThrowsIllegalArgumentException() {
+
+		TwoLevelGemfireCache cache = new TwoLevelGemfireCache(this.mockRegion, 10);
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> cache.setLocalTimeToLive(Duration.ZERO))
+			.withMessage("Local time-to-live [PT0S] must be positive");
+	}
+
+	@Test
+	public void putAndEvictInvalidateLocalCache() {
+
+		doReturn("test").when(this.mockRegion).get(eq("key"));
+
+		TwoLevelGemfireCache cache = new TwoLevelGemfireCache(this.mockRegion, 10);
+
+		cache.get("key");
+		cache.put("key", "mockValue");
+		cache.get("key");
+		cache.evict("key");
+		cache.get("key");
+
+		verify(this.mockRegion, times(3)).get(eq("key"));
+		verify(this.mockRegion).put(eq("key"), eq("mockValue"));
+		verify(this.mockRegion).remove(eq("key"));
+	}
+
+	@Test
+	public void regionEventsInvalidateLocalCache() {
+
+		doReturn("test").when(this.mockRegion).get(any());
+
+		TwoLevelGemfireCache cache = new TwoLevelGemfireCache(this.mockRegion, 10);
+
+		CacheListener<Object, Object> cacheListener = registeredCacheListener();
+
+		EntryEvent<Object, Object> mockEntryEvent = mock(EntryEvent.class);
+
+		doReturn("keyOne").when(mockEntryEvent).getKey();
+
+		cache.get("keyOne");
+		cache.get("keyTwo");
+
+		cacheListener.afterUpdate(mockEntryEvent);
+
+		assertThat(cache.getLocalCacheSize()).isEqualTo(1);
+
+		cacheListener.afterRegionClear(mock(RegionEvent.class));
+
+		assertThat(cache.getLocalCacheSize()).isZero();
+	}
+
+	@Test
+	public void invalidationOfAnotherKeyDuringRegionReadDoesNotPreventCachingLocally() {
+
+		TwoLevelGemfireCache cache = new TwoLevelGemfireCache(this.mockRegion, 10);
+
+		CacheListener<Object, Object> cacheListener = registeredCacheListener();
+
+		EntryEvent<Object, Object> mockEntryEvent = mock(EntryEvent.class);
+
+		doReturn("otherKey").when(mockEntryEvent).getKey();
+
+		doAnswer(invocation -> {
+			cacheListener.afterUpdate(mockEntryEvent);
+			return "test";
+		}).when(this.mockRegion).get(eq("key"));
+
+		assertThat(cache.get("key").get()).isEqualTo("test");
+		assertThat(cache.get("key").get()).isEqualTo("test");
+		assertThat(cache.getLocalCacheSize()).isEqualTo(1);
+
+		verify(this.mockRegion, times(1)).get(eq("key"));
+	}
+
+	@Test
+	public void invalidationOfKeyDuringRegionReadPreventsCachingLocally() {
+
+		TwoLevelGemfireCache cache = new TwoLevelGemfireCache(this.mockRegion, 10);
+
+		CacheListener<Object, Object> cacheListener = registeredCacheListener();
+
+		EntryEvent<Object, Object> mockEntryEvent = mock(EntryEvent.class);
+
+		doReturn("key").when(mockEntryEvent).getKey();
+
+		doAnswer(invocation -> {
+			cacheListener.afterUpdate(mockEntryEvent);
+			return "test";
+		}).when(this.mockRegion).get(eq("key"));
+
+		assertThat(cache.get("key").get()).isEqualTo("test");
+		assertThat(cache.getLocalCacheSize()).isZero();
+		assertThat(cache.get("key").get()).isEqualTo("test");
+
+		verify(this.mockRegion, times(2)).get(eq("key"));
+	}
+
+	@Test
+	public void getWithValueLoaderRecordsSingleMiss() {
+
+		TwoLevelGemfireCache cache = new TwoLevelGemfireCache(this.mockRegion, 10);
+
+		assertThat(cache.get("key", () -> "loaded")).isEqualTo("loaded");
+
+		assertThat(cache.getMissCount()).isEqualTo(1L);
+		assertThat(cache.getL2HitCount()).isZero();
+		assertThat(cache.getLocalCacheSize()).isZero();
+
+		verify(this.mockRegion, times(2)).get(eq("key"));
+		verify(this.mockRegion).put(eq("key"), eq("loaded"));
+	}
+
+	@Test
+	public void registersInterestInAllKeysForClientRegion() {
+
+		RegionAttributes mockRegionAttributes = mock(RegionAttributes.class);
+
+		doReturn("TestPool").when(mockRegionAttributes).getPoolName();
+		doReturn(mockRegionAttributes).when(this.mockRegion).getAttributes();
+
+		new TwoLevelGemfireCache(this.mockRegion, 10, true);
+
+		verify(this.mockRegion).registerInterestForAllKeys(eq(InterestResultPolicy.NONE));
+	}
+
+	@Test
+	public void doesNotRegisterInterestForPeerRegion() {
+
+		new TwoLevelGemfireCache(this.mockRegion, 10, true);
+
+		verify(this.mockRegion, never()).registerInterestForAllKeys(any(InterestResultPolicy.class));
+	}
+
+	@Test
+	public void closeRemovesCacheListenerAndClearsLocalCache() {
+
+		doReturn("test").when(this.mockRegion).get(eq("key"));
+
+		TwoLevelGemfireCache cache = new TwoLevelGemfireCache(this.mockRegion, 10);
+
+		cache.get("key");
+		cache.close();
+
+		verify(this.mockAttributesMutator).removeCacheListener(eq(registeredCacheListener()));
+
+		assertThat(cache.getLocalCacheSize()).isZero();
+	}
+}
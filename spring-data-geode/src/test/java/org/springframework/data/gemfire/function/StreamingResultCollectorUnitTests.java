@@ -0,0 +1,196 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+import org.mockito.InOrder;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.execute.FunctionContext;
+import org.apache.geode.cache.execute.ResultSender;
+import org.apache.geode.cache.query.Query;
+import org.apache.geode.cache.query.QueryService;
+import org.apache.geode.cache.query.SelectResults;
+
+/**
+ * Unit Tests for {@link StreamingResultCollector} and {@link StreamingOqlQueryFunction}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.function.StreamingOqlQueryFunction
+ * @see org.springframework.data.gemfire.function.StreamingResultCollector
+ * @since 2.7.0
+ */
+public class StreamingResultCollectorUnitTests {
+
+	@Test
+	public void streamsChunksInOrder() {
+
+		StreamingResultCollector<Object> resultCollector = new StreamingResultCollector<>(4);
+
+		resultCollector.addResult(null, Arrays.asList(1, 2));
+		resultCollector.addResult(null, Collections.emptyList());
+		resultCollector.addResult(null, Arrays.asList(3, 4));
+		resultCollector.endResults();
+
+		assertThat(resultCollector.stream().collect(Collectors.toList())).containsExactly(1, 2, 3, 4);
+		assertThat(resultCollector.hasNext()).isFalse();
+	}
+
+	@Test
+	public void failureIsRethrownToConsumer() {
+
+		StreamingResultCollector<Object> resultCollector = new StreamingResultCollector<>(4);
+
+		resultCollector.addResult(null, Collections.singletonList(1));
+		resultCollector.addFailure(new IllegalStateException("TEST"));
+
+		assertThat(resultCollector.next()).isEqualTo(1);
+
+		assertThatIllegalStateException()
+			.isThrownBy(resultCollector::hasNext)
+			.withMessage("TEST");
+	}
+
+	@Test
+	public void closingStreamReleasesBlockedProducer() throws Exception {
+
+		StreamingResultCollector<Object> resultCollector = new StreamingResultCollector<>(1);
+
+		CountDownLatch producerDone = new CountDownLatch(1);
+
+		Thread producer = new Thread(() -> {
+			for (int chunk = 0; chunk < 10; chunk++) {
+				resultCollector.addResult(null, Collections.singletonList(chunk));
+			}
+			resultCollector.endResults();
+			producerDone.countDown();
+		});
+
+		producer.setDaemon(true);
+		producer.start();
+
+		try (Stream<Object> stream = resultCollector.stream()) {
+			assertThat(stream.findFirst()).hasValue(0);
+		}
+
+		assertThat(resultCollector.isClosed()).isTrue();
+		assertThat(producerDone.await(5, TimeUnit.SECONDS)).isTrue();
+	}
+
+	@Test
+	public void unconsumedCollectorIsAbandonedAndReleasesProducer() throws Exception {
+
+		StreamingResultCollector<Object> resultCollector = new StreamingResultCollector<>(1, Duration.ofMillis(200L));
+
+		CountDownLatch producerDone = new CountDownLatch(1);
+
+		Thread producer = new Thread(() -> {
+			for (int chunk = 0; chunk < 10; chunk++) {
+				resultCollector.addResult(null, Collections.singletonList(chunk));
+			}
+			resultCollector.endResults();
+			producerDone.countDown();
+		});
+
+		producer.setDaemon(true);
+		producer.start();
+
+		assertThat(producerDone.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(resultCollector.isAbandoned()).isTrue();
+		assertThat(resultCollector.isClosed()).isTrue();
+
+		assertThatIllegalStateException()
+			.isThrownBy(resultCollector::hasNext)
+			.withMessageContaining("were not consumed within [200] ms");
+	}
+
+	@Test
+	public void consumerWaitingLongerThanAbandonTimeoutFailsAndClosesCollector() {
+
+		StreamingResultCollector<Object> resultCollector = new StreamingResultCollector<>(1, Duration.ofMillis(200L));
+
+		assertThatIllegalStateException()
+			.isThrownBy(resultCollector::hasNext)
+			.withMessage("No query results were received within [200] ms");
+
+		assertThat(resultCollector.isClosed()).isTrue();
+
+		resultCollector.addResult(null, Collections.singletonList(1));
+
+		assertThatIllegalStateException()
+			.isThrownBy(resultCollector::hasNext)
+			.withMessage("No query results were received within [200] ms");
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void functionSendsResultsInChunks() throws Exception {
+
+		Cache mockCache = mock(Cache.class);
+		FunctionContext<Object[]> mockFunctionContext = mock(FunctionContext.class);
+		Query mockQuery = mock(Query.class);
+		QueryService mockQueryService = mock(QueryService.class);
+		ResultSender<Object> mockResultSender = mock(ResultSender.class);
+		SelectResults<Object> mockSelectResults = mock(SelectResults.class);
+
+		List<Object> results = Arrays.asList(1, 2, 3, 4, 5);
+		Object[] queryArguments = { "test" };
+
+		doReturn(new Object[] { "SELECT * FROM /Example", queryArguments, 2 }).when(mockFunctionContext).getArguments();
+		doReturn(mockResultSender).when(mockFunctionContext).getResultSender();
+		doReturn(mockQueryService).when(mockCache).getQueryService();
+		doReturn(mockQuery).when(mockQueryService).newQuery("SELECT * FROM /Example");
+		doReturn(mockSelectResults).when(mockQuery).execute(queryArguments);
+		doReturn(results.iterator()).when(mockSelectResults).iterator();
+
+		StreamingOqlQueryFunction function = new StreamingOqlQueryFunction() {
+
+			@Override
+			Cache getCache() {
+				return mockCache;
+			}
+		};
+
+		function.execute(mockFunctionContext);
+
+		InOrder order = inOrder(mockResultSender);
+
+		order.verify(mockResultSender).sendResult(Arrays.asList(1, 2));
+		order.verify(mockResultSender).sendResult(Arrays.asList(3, 4));
+		order.verify(mockResultSender).lastResult(Collections.singletonList(5));
+
+		verify(mockResultSender, never()).sendException(any());
+	}
+}
@@ -16,7 +16,9 @@
 package org.springframework.data.gemfire.mapping;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
@@ -33,6 +35,7 @@ import static org.mockito.Mockito.when;
 import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalArgumentException;
 
 import java.security.Principal;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -55,6 +58,7 @@ import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.support.DefaultConversionService;
 import org.springframework.core.convert.support.GenericConversionService;
 import org.springframework.core.type.ClassMetadata;
+import org.springframework.data.annotation.Id;
 import org.springframework.data.domain.Page;
 import org.springframework.data.gemfire.GemfireTemplate;
 import org.springframework.data.gemfire.repository.sample.Account;
@@ -466,6 +470,89 @@ public class MappingPdxSerializerUnitTests {
 		assertThat(this.pdxSerializer.resolveCustomPdxSerializer(addressProperty)).isEqualTo(mockTypedSerializer);
 	}
 
+	@Test
+	public void getSerializationPlanIsCachedPerEntityType() {
+
+		GemfirePersistentEntity<?> personEntity = this.mappingContext.getPersistentEntity(Person.class);
+
+		PdxSerializationPlan serializationPlan = this.pdxSerializer.getSerializationPlan(personEntity);
+
+		assertThat(serializationPlan).isNotNull();
+		assertThat(serializationPlan.getEntity()).isSameAs(personEntity);
+		assertThat(serializationPlan.getIdentityFieldName()).isEqualTo("id");
+		assertThat(serializationPlan.getReadableProperties()).isNotEmpty();
+		assertThat(this.pdxSerializer.getSerializationPlan(personEntity)).isSameAs(serializationPlan);
+
+		verify(this.pdxSerializer, times(1)).newSerializationPlan(eq(personEntity));
+	}
+
+	@Test
+	public void getSerializationPlanResolvesCustomPdxSerializersOnce() {
+
+		PdxSerializer mockAddressSerializer = mock(PdxSerializer.class);
+
+		GemfirePersistentEntity<?> personEntity = this.mappingContext.getPersistentEntity(Person.class);
+
+		this.pdxSerializer.setCustomPdxSerializers(Collections.singletonMap(Address.class, mockAddressSerializer));
+
+		PdxSerializationPlan serializationPlan = this.pdxSerializer.getSerializationPlan(personEntity);
+
+		this.pdxSerializer.getSerializationPlan(personEntity);
+
+		assertThat(serializationPlan.getReadableProperties())
+			.filteredOn(propertyPlan -> "address".equals(propertyPlan.getName()))
+			.extracting(PdxSerializationPlan.PropertyPlan::getCustomPdxSerializer)
+			.containsExactly(mockAddressSerializer);
+
+		assertThat(serializationPlan.getReadableProperties())
+			.filteredOn(PdxSerializationPlan.PropertyPlan::isIdentity)
+			.extracting(PdxSerializationPlan.PropertyPlan::getName)
+			.containsExactly("id");
+
+		verify(this.pdxSerializer, times(1))
+			.resolveCustomPdxSerializer(eq(personEntity.getPersistentProperty("address")));
+	}
+
+	@Test
+	public void setCustomPdxSerializersInvalidatesSerializationPlans() {
+
+		PdxSerializer mockAddressSerializer = mock(PdxSerializer.class);
+
+		GemfirePersistentEntity<?> personEntity = this.mappingContext.getPersistentEntity(Person.class);
+
+		PdxSerializationPlan serializationPlan = this.pdxSerializer.getSerializationPlan(personEntity);
+
+		this.pdxSerializer.setCustomPdxSerializers(Collections.singletonMap(Address.class, mockAddressSerializer));
+
+		PdxSerializationPlan newSerializationPlan = this.pdxSerializer.getSerializationPlan(personEntity);
+
+		assertThat(newSerializationPlan).isNotSameAs(serializationPlan);
+		assertThat(newSerializationPlan.getReadableProperties())
+			.extracting(PdxSerializationPlan.PropertyPlan::getCustomPdxSerializer)
+			.contains(mockAddressSerializer);
+	}
+
+	@Test
+	public void registerPdxSerializerResolverInvalidatesSerializationPlans() {
+
+		PdxSerializer mockPdxSerializer = mock(PdxSerializer.class);
+
+		GemfirePersistentEntity<?> personEntity = this.mappingContext.getPersistentEntity(Person.class);
+
+		PdxSerializationPlan serializationPlan = this.pdxSerializer.getSerializationPlan(personEntity);
+
+		this.pdxSerializer.register((customPdxSerializers, property) ->
+			"lastname".equals(property.getName()) ? mockPdxSerializer : null);
+
+		PdxSerializationPlan newSerializationPlan = this.pdxSerializer.getSerializationPlan(personEntity);
+
+		assertThat(newSerializationPlan).isNotSameAs(serializationPlan);
+		assertThat(newSerializationPlan.getReadableProperties())
+			.filteredOn(propertyPlan -> "lastname".equals(propertyPlan.getName()))
+			.extracting(PdxSerializationPlan.PropertyPlan::getCustomPdxSerializer)
+			.containsExactly(mockPdxSerializer);
+	}
+
 	@Test
 	@SuppressWarnings("rawtypes")
 	public void resolveEntityInstantiatorForManagedPersistentEntityWithEntityInstantiator() {
@@ -646,6 +733,85 @@ public class MappingPdxSerializerUnitTests {
 			.fromData(eq(Address.class), any(PdxReader.class));
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void fromDataWithInterfaceReadProjectionReadsOnlyProjectedFieldsWithoutInstantiatingEntity() {
+
+		when(this.mockReader.readField(eq("firstname"))).thenReturn("Jon");
+		when(this.mockReader.readField(eq("lastname"))).thenReturn("Doe");
+
+		this.pdxSerializer.setEntityInstantiators(Collections.singletonMap(Person.class, this.mockEntityInstantiator));
+		this.pdxSerializer.setIncludeTypeFilters(type -> Person.class.equals(type));
+
+		PdxReadProjection readProjection =
+			PdxReadProjection.of(Person.class, Arrays.asList("firstname", "lastname", "nonExistingField"), true);
+
+		Object obj = PdxReadProjection.doWith(readProjection,
+			() -> this.pdxSerializer.fromData(Person.class, this.mockReader));
+
+		assertThat(obj).isInstanceOf(Map.class);
+		assertThat((Map<String, Object>) obj).containsOnly(entry("firstname", "Jon"), entry("lastname", "Doe"));
+		assertThat(PdxReadProjection.current(Person.class)).isNull();
+
+		verify(this.mockReader, times(1)).readField(eq("firstname"));
+		verify(this.mockReader, times(1)).readField(eq("lastname"));
+		verify(this.mockReader, never()).readField(eq("id"));
+		verify(this.mockReader, never()).readField(eq("address"));
+		verifyNoInteractions(this.mockEntityInstantiator);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void fromDataWithReadProjectionSetsOnlyProjectedProperties() {
+
+		Address address = new Address();
+
+		address.city = "Portland";
+
+		PdxSerializer mockAddressSerializer = mock(PdxSerializer.class);
+
+		when(this.mockEntityInstantiator.createInstance(any(GemfirePersistentEntity.class), any(ParameterValueProvider.class)))
+			.thenReturn(new Person(1L, "Jon", "Doe"));
+		when(mockAddressSerializer.fromData(eq(Address.class), eq(this.mockReader))).thenReturn(address);
+
+		this.pdxSerializer.setCustomPdxSerializers(Collections.singletonMap(Address.class, mockAddressSerializer));
+		this.pdxSerializer.setEntityInstantiators(Collections.singletonMap(Person.class, this.mockEntityInstantiator));
+		this.pdxSerializer.setIncludeTypeFilters(type -> Person.class.equals(type));
+
+		PdxReadProjection readProjection =
+			PdxReadProjection.of(Person.class, Collections.singletonList("address"), false);
+
+		Object obj = PdxReadProjection.doWith(readProjection,
+			() -> this.pdxSerializer.fromData(Person.class, this.mockReader));
+
+		assertThat(obj).isInstanceOf(Person.class);
+		assertThat(((Person) obj).getAddress()).isEqualTo(address);
+
+		verify(mockAddressSerializer, times(1)).fromData(eq(Address.class), eq(this.mockReader));
+		verify(this.mockReader, never()).readField(anyString());
+	}
+
+	@Test
+	public void fromDataWithReadProjectionForDifferentTypeReadsAllFields() {
+
+		when(this.mockEntityInstantiator.createInstance(any(GemfirePersistentEntity.class), any(ParameterValueProvider.class)))
+			.thenReturn(new Person(null, null, null));
+
+		this.pdxSerializer.setEntityInstantiators(Collections.singletonMap(Person.class, this.mockEntityInstantiator));
+		this.pdxSerializer.setIncludeTypeFilters(type -> Person.class.equals(type));
+
+		PdxReadProjection readProjection =
+			PdxReadProjection.of(Customer.class, Collections.singletonList("firstname"), true);
+
+		Object obj = PdxReadProjection.doWith(readProjection,
+			() -> this.pdxSerializer.fromData(Person.class, this.mockReader));
+
+		assertThat(obj).isInstanceOf(Person.class);
+
+		verify(this.mockReader, times(1)).readField(eq("id"));
+		verify(this.mockReader, times(1)).readField(eq("address"));
+	}
+
 	@Test
 	public void fromDataWithTypeFilterAcceptsDeclaredEntityTypes() {
 
@@ -721,6 +887,51 @@ public class MappingPdxSerializerUnitTests {
 		assertThat(this.pdxSerializer.fromData(ApplicationDomainType.class, this.mockReader)).isNull();
 	}
 
+	@Test
+	public void isTypeAcceptedMemoizesTypeFilterDecisions() {
+
+		assertThat(this.pdxSerializer.isTypeAccepted(String.class)).isFalse();
+		assertThat(this.pdxSerializer.isTypeAccepted(String.class)).isFalse();
+		assertThat(this.pdxSerializer.isTypeAccepted(String.class)).isFalse();
+		assertThat(this.pdxSerializer.getTypeFilterCacheMisses()).isEqualTo(1L);
+		assertThat(this.pdxSerializer.getTypeFilterCacheHits()).isEqualTo(2L);
+
+		verify(this.pdxSerializer, times(1)).getTypeFilters();
+	}
+
+	@Test
+	public void isTypeAcceptedRejectsNullTypeWithoutCaching() {
+
+		assertThat(this.pdxSerializer.isTypeAccepted(null)).isFalse();
+		assertThat(this.pdxSerializer.getTypeFilterCacheHits()).isZero();
+		assertThat(this.pdxSerializer.getTypeFilterCacheMisses()).isZero();
+	}
+
+	@Test
+	public void setIncludeTypeFiltersInvalidatesTypeFilterDecisions() {
+
+		assertThat(this.pdxSerializer.isTypeAccepted(Person.class)).isFalse();
+
+		this.pdxSerializer.setIncludeTypeFilters(type -> Person.class.equals(type));
+
+		assertThat(this.pdxSerializer.isTypeAccepted(Person.class)).isTrue();
+		assertThat(this.pdxSerializer.getTypeFilterCacheMisses()).isEqualTo(2L);
+	}
+
+	@Test
+	public void setExcludeTypeFiltersInvalidatesTypeFilterDecisions() {
+
+		this.pdxSerializer.setIncludeTypeFilters(type -> Person.class.equals(type));
+
+		assertThat(this.pdxSerializer.isTypeAccepted(Person.class)).isTrue();
+
+		this.pdxSerializer.setExcludeTypeFilters(type -> !Person.class.equals(type));
+
+		assertThat(this.pdxSerializer.isTypeAccepted(Person.class)).isTrue();
+		assertThat(this.pdxSerializer.isTypeAccepted(Customer.class)).isFalse();
+		assertThat(this.pdxSerializer.getTypeFilterCacheMisses()).isEqualTo(3L);
+	}
+
 	@Test
 	public void toDataSerializesEntityToPdxBytes() {
 
@@ -886,6 +1097,148 @@ public class MappingPdxSerializerUnitTests {
 		assertThat(this.pdxSerializer.toData(new ApplicationDomainType(), this.mockWriter)).isFalse();
 	}
 
+	@Test
+	public void toDataWithTypedPrimitiveFieldAccessWritesTypedPdxFields() {
+
+		PrimitiveEntity entity = new PrimitiveEntity();
+
+		entity.setId(1L);
+		entity.setCount(42);
+		entity.setRatio(0.5d);
+		entity.setName("test");
+
+		this.pdxSerializer.setIncludeTypeFilters(type -> PrimitiveEntity.class.equals(type));
+		this.pdxSerializer.setTypedPrimitiveFieldAccessEnabled(true);
+
+		assertThat(this.pdxSerializer.isTypedPrimitiveFieldAccessEnabled()).isTrue();
+		assertThat(this.pdxSerializer.toData(entity, this.mockWriter)).isTrue();
+
+		verify(this.mockWriter, times(1)).writeLong(eq("id"), eq(1L));
+		verify(this.mockWriter, times(1)).writeInt(eq("count"), eq(42));
+		verify(this.mockWriter, times(1)).writeDouble(eq("ratio"), eq(0.5d));
+		verify(this.mockWriter, times(1)).writeField(eq("name"), eq("test"), eq(String.class));
+		verify(this.mockWriter, never()).writeField(eq("count"), any(), any());
+		verify(this.mockWriter, times(1)).markIdentityField(eq("id"));
+	}
+
+	@Test
+	public void fromDataWithTypedPrimitiveFieldAccessReadsTypedPdxFields() {
+
+		when(this.mockReader.readLong(eq("id"))).thenReturn(2L);
+		when(this.mockReader.readInt(eq("count"))).thenReturn(16);
+		when(this.mockReader.readDouble(eq("ratio"))).thenReturn(0.25d);
+		when(this.mockReader.readField(eq("name"))).thenReturn("test");
+
+		this.pdxSerializer.setIncludeTypeFilters(type -> PrimitiveEntity.class.equals(type));
+		this.pdxSerializer.setTypedPrimitiveFieldAccessEnabled(true);
+
+		Object obj = this.pdxSerializer.fromData(PrimitiveEntity.class, this.mockReader);
+
+		assertThat(obj).isInstanceOf(PrimitiveEntity.class);
+
+		PrimitiveEntity entity = (PrimitiveEntity) obj;
+
+		assertThat(entity.getId()).isEqualTo(2L);
+		assertThat(entity.getCount()).isEqualTo(16);
+		assertThat(entity.getRatio()).isEqualTo(0.25d);
+		assertThat(entity.getName()).isEqualTo("test");
+
+		verify(this.mockReader, never()).readField(eq("count"));
+	}
+
+	@Test
+	public void toDataWithoutTypedPrimitiveFieldAccessWritesFields() {
+
+		PrimitiveEntity entity = new PrimitiveEntity();
+
+		entity.setId(1L);
+		entity.setCount(42);
+
+		this.pdxSerializer.setIncludeTypeFilters(type -> PrimitiveEntity.class.equals(type));
+
+		assertThat(this.pdxSerializer.isTypedPrimitiveFieldAccessEnabled()).isFalse();
+		assertThat(this.pdxSerializer.toData(entity, this.mockWriter)).isTrue();
+
+		verify(this.mockWriter, times(1)).writeField(eq("id"), eq(1L), eq(long.class));
+		verify(this.mockWriter, times(1)).writeField(eq("count"), eq(42), eq(int.class));
+		verify(this.mockWriter, never()).writeInt(anyString(), anyInt());
+	}
+
+	@Test
+	public void toDataWithTypedPrimitiveFieldAccessUsesFieldAccessLikeDefaultMapping() {
+
+		LogicalGetterEntity entity = new LogicalGetterEntity();
+
+		entity.count = 42;
+
+		this.pdxSerializer.setIncludeTypeFilters(type -> LogicalGetterEntity.class.equals(type));
+		this.pdxSerializer.setTypedPrimitiveFieldAccessEnabled(true);
+
+		assertThat(this.pdxSerializer.toData(entity, this.mockWriter)).isTrue();
+
+		verify(this.mockWriter, times(1)).writeInt(eq("count"), eq(42));
+	}
+
 	private static class ApplicationDomainType { }
 
+	public static class LogicalGetterEntity {
+
+		@Id
+		private long id;
+
+		private int count;
+
+		public int getCount() {
+			return this.count * 10;
+		}
+
+		public void setCount(int count) {
+			this.count = count / 10;
+		}
+	}
+
+	public static class PrimitiveEntity {
+
+		@Id
+		private long id;
+
+		private int count;
+
+		private double ratio;
+
+		private String name;
+
+		public long getId() {
+			return this.id;
+		}
+
+		public void setId(long id) {
+			this.id = id;
+		}
+
+		public int getCount() {
+			return this.count;
+		}
+
+		public void setCount(int count) {
+			this.count = count;
+		}
+
+		public double getRatio() {
+			return this.ratio;
+		}
+
+		public void setRatio(double ratio) {
+			this.ratio = ratio;
+		}
+
+		public String getName() {
+			return this.name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+
 }
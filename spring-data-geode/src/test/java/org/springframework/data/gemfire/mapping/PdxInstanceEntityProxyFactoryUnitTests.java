@@ -0,0 +1,359 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.mapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Objects;
+
+import org.apache.geode.pdx.PdxInstance;
+import org.apache.geode.pdx.PdxReader;
+import org.apache.geode.pdx.PdxSerializer;
+
+import org.springframework.data.annotation.Id;
+
+/**
+ * Unit Tests for {@link PdxInstanceEntityProxyFactory}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mock
+ * @see org.mockito.junit.MockitoJUnitRunner
+ * @see org.apache.geode.pdx.PdxInstance
+ * @see org.springframework.data.gemfire.mapping.PdxInstanceEntityProxyFactory
+ * @since 2.7.0
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class PdxInstanceEntityProxyFactoryUnitTests {
+
+	@Mock
+	private PdxInstance mockPdxInstance;
+
+	private PdxInstanceEntityProxyFactory proxyFactory;
+
+	@Before
+	public void setup() {
+		this.proxyFactory = new PdxInstanceEntityProxyFactory();
+	}
+
+	@Test
+	public void proxyIfNecessaryReturnsNonPdxInstanceValuesAsIs() {
+
+		Object value = new Object();
+
+		assertThat(this.proxyFactory.<Object>proxyIfNecessary(value)).isSameAs(value);
+		assertThat(this.proxyFactory.<Object>proxyIfNecessary(null)).isNull();
+	}
+
+	@Test
+	public void proxyIfNecessaryReturnsPdxInstanceWhenTypeCannotBeResolved() {
+
+		when(this.mockPdxInstance.getClassName()).thenReturn("example.app.model.NonExistingType");
+
+		assertThat(this.proxyFactory.<Object>proxyIfNecessary(this.mockPdxInstance)).isSameAs(this.mockPdxInstance);
+	}
+
+	@Test
+	public void getterDecodesPdxFieldOnceWithoutDeserializingEntity() {
+
+		when(this.mockPdxInstance.getClassName()).thenReturn(Customer.class.getName());
+		when(this.mockPdxInstance.hasField("id")).thenReturn(true);
+		when(this.mockPdxInstance.hasField("name")).thenReturn(true);
+		when(this.mockPdxInstance.getField("id")).thenReturn(1L);
+		when(this.mockPdxInstance.getField("name")).thenReturn("Jon Doe");
+
+		Customer customer = this.proxyFactory.proxyIfNecessary(this.mockPdxInstance);
+
+		assertThat(customer).isInstanceOf(PdxInstanceEntityProxy.class);
+		assertThat(customer.getName()).isEqualTo("Jon Doe");
+		assertThat(customer.getName()).isEqualTo("Jon Doe");
+		assertThat(((PdxInstanceEntityProxy) customer).isMaterialized()).isFalse();
+		assertThat(PdxInstanceEntityProxy.unwrap(customer)).isSameAs(this.mockPdxInstance);
+
+		verify(this.mockPdxInstance, times(1)).getField("name");
+		verify(this.mockPdxInstance, never()).getObject();
+	}
+
+	@Test
+	public void setterMaterializesEntity() {
+
+		Customer entity = new Customer();
+
+		entity.setId(1L);
+		entity.setName("Jon Doe");
+
+		when(this.mockPdxInstance.getClassName()).thenReturn(Customer.class.getName());
+		when(this.mockPdxInstance.getObject()).thenReturn(entity);
+
+		Customer customer = this.proxyFactory.proxyIfNecessary(this.mockPdxInstance);
+
+		customer.setName("Jane Doe");
+
+		assertThat(((PdxInstanceEntityProxy) customer).isMaterialized()).isTrue();
+		assertThat(customer.getName()).isEqualTo("Jane Doe");
+		assertThat(customer.getId()).isEqualTo(1L);
+		assertThat(PdxInstanceEntityProxy.unwrap(customer)).isSameAs(entity);
+		assertThat(entity.getName()).isEqualTo("Jane Doe");
+
+		verify(this.mockPdxInstance, times(1)).getObject();
+		verify(this.mockPdxInstance, never()).getField("name");
+	}
+
+	@Test
+	public void getterConvertsPdxFieldToPropertyType() {
+
+		when(this.mockPdxInstance.getClassName()).thenReturn(Customer.class.getName());
+		when(this.mockPdxInstance.hasField("id")).thenReturn(true);
+		when(this.mockPdxInstance.hasField("name")).thenReturn(true);
+		when(this.mockPdxInstance.getField("id")).thenReturn(1);
+
+		Customer customer = this.proxyFactory.proxyIfNecessary(this.mockPdxInstance);
+
+		assertThat(customer.getId()).isEqualTo(1L);
+		assertThat(((PdxInstanceEntityProxy) customer).isMaterialized()).isFalse();
+	}
+
+	@Test
+	public void getterDecodesPdxFieldWithCustomPdxSerializer() {
+
+		PdxSerializer mockPdxSerializer = mock(PdxSerializer.class);
+
+		when(mockPdxSerializer.fromData(eq(String.class), any(PdxReader.class))).thenReturn("Jane Doe");
+		when(this.mockPdxInstance.getClassName()).thenReturn(Customer.class.getName());
+		when(this.mockPdxInstance.hasField("id")).thenReturn(true);
+		when(this.mockPdxInstance.hasField("name")).thenReturn(true);
+
+		MappingPdxSerializer pdxSerializer = MappingPdxSerializer.newMappingPdxSerializer();
+
+		pdxSerializer.setCustomPdxSerializers(
+			Collections.singletonMap(Customer.class.getName().concat(".name"), mockPdxSerializer));
+
+		Customer customer = new PdxInstanceEntityProxyFactory(pdxSerializer).proxyIfNecessary(this.mockPdxInstance);
+
+		assertThat(customer.getName()).isEqualTo("Jane Doe");
+
+		verify(mockPdxSerializer, times(1)).fromData(eq(String.class), any(PdxReader.class));
+		verify(this.mockPdxInstance, never()).getObject();
+	}
+
+	@Test
+	public void getterLogicAppliesToDecodedPdxField() {
+
+		when(this.mockPdxInstance.getClassName()).thenReturn(Product.class.getName());
+		when(this.mockPdxInstance.hasField("name")).thenReturn(true);
+		when(this.mockPdxInstance.getField("name")).thenReturn("widget");
+
+		Product product = this.proxyFactory.proxyIfNecessary(this.mockPdxInstance);
+
+		assertThat(product.getName()).isEqualTo("WIDGET");
+
+		verify(this.mockPdxInstance, never()).getObject();
+	}
+
+	@Test
+	public void getterReadingFieldOfAnotherPropertySeesDecodedValue() {
+
+		when(this.mockPdxInstance.getClassName()).thenReturn(Item.class.getName());
+		when(this.mockPdxInstance.hasField("name")).thenReturn(true);
+		when(this.mockPdxInstance.hasField("sku")).thenReturn(true);
+		when(this.mockPdxInstance.getField("name")).thenReturn("widget");
+		when(this.mockPdxInstance.getField("sku")).thenReturn("W-1");
+
+		Item item = this.proxyFactory.proxyIfNecessary(this.mockPdxInstance);
+
+		assertThat(item.getName()).isEqualTo("widget (W-1)");
+
+		verify(this.mockPdxInstance, never()).getObject();
+	}
+
+	@Test
+	public void getterMaterializesEntityWhenPdxFieldIsMissing() {
+
+		Item entity = new Item();
+
+		entity.setName("widget");
+
+		when(this.mockPdxInstance.getClassName()).thenReturn(Item.class.getName());
+		when(this.mockPdxInstance.hasField("name")).thenReturn(true);
+		when(this.mockPdxInstance.getObject()).thenReturn(entity);
+
+		Item item = this.proxyFactory.proxyIfNecessary(this.mockPdxInstance);
+
+		assertThat(item.getName()).isEqualTo("widget (null)");
+		assertThat(((PdxInstanceEntityProxy) item).isMaterialized()).isTrue();
+
+		verify(this.mockPdxInstance, never()).getField(any());
+	}
+
+	@Test
+	public void proxiesOfEqualEntitiesAreEqual() {
+
+		PdxInstance mockPdxInstanceTwo = mock(PdxInstance.class);
+
+		when(this.mockPdxInstance.getClassName()).thenReturn(Item.class.getName());
+		when(this.mockPdxInstance.getObject()).thenReturn(newItem("W-1"));
+		when(mockPdxInstanceTwo.getClassName()).thenReturn(Item.class.getName());
+		when(mockPdxInstanceTwo.getObject()).thenReturn(newItem("W-1"));
+
+		Item proxyOne = this.proxyFactory.proxyIfNecessary(this.mockPdxInstance);
+		Item proxyTwo = this.proxyFactory.proxyIfNecessary(mockPdxInstanceTwo);
+
+		assertThat(proxyOne).isEqualTo(proxyTwo);
+		assertThat(proxyTwo).isEqualTo(proxyOne);
+		assertThat(proxyOne.hashCode()).isEqualTo(proxyTwo.hashCode());
+		assertThat(new HashSet<>(Collections.singleton(proxyOne))).contains(proxyTwo);
+	}
+
+	@Test
+	public void proxyAndPlainEntityAreEqual() {
+
+		Item plainItem = newItem("W-1");
+
+		when(this.mockPdxInstance.getClassName()).thenReturn(Item.class.getName());
+		when(this.mockPdxInstance.getObject()).thenReturn(newItem("W-1"));
+
+		Item proxy = this.proxyFactory.proxyIfNecessary(this.mockPdxInstance);
+
+		assertThat(proxy).isEqualTo(plainItem);
+		assertThat(proxy.hashCode()).isEqualTo(plainItem.hashCode());
+		assertThat(proxy).isNotEqualTo(newItem("W-2"));
+	}
+
+	private static Item newItem(String sku) {
+
+		Item item = new Item();
+
+		item.setName("widget");
+		item.setSku(sku);
+
+		return item;
+	}
+
+	@Test
+	public void proxyClassIsGeneratedOncePerEntityType() {
+
+		when(this.mockPdxInstance.getClassName()).thenReturn(Customer.class.getName());
+
+		PdxInstance mockPdxInstanceTwo = mock(PdxInstance.class);
+
+		when(mockPdxInstanceTwo.getClassName()).thenReturn(Customer.class.getName());
+
+		Object proxyOne = this.proxyFactory.proxyIfNecessary(this.mockPdxInstance);
+		Object proxyTwo = this.proxyFactory.proxyIfNecessary(mockPdxInstanceTwo);
+
+		assertThat(proxyOne).isNotSameAs(proxyTwo);
+		assertThat(proxyOne.getClass()).isSameAs(proxyTwo.getClass());
+		assertThat(proxyOne.getClass()).isSameAs(this.proxyFactory.getProxyClass(Customer.class));
+		assertThat(((PdxInstanceEntityProxy) proxyTwo).getSourcePdxInstance()).isSameAs(mockPdxInstanceTwo);
+	}
+
+	public static class Customer {
+
+		@Id
+		private Long id;
+
+		private String name;
+
+		public Long getId() {
+			return this.id;
+		}
+
+		public void setId(Long id) {
+			this.id = id;
+		}
+
+		public String getName() {
+			return this.name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+
+	public static class Product {
+
+		private String name;
+
+		public String getName() {
+			return this.name != null ? this.name.toUpperCase() : null;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+
+	public static class Item {
+
+		private String name;
+
+		@Id
+		private String sku;
+
+		public String getName() {
+			return String.format("%s (%s)", this.name, this.sku);
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public String getSku() {
+			return this.sku;
+		}
+
+		public void setSku(String sku) {
+			this.sku = sku;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+
+			if (this == obj) {
+				return true;
+			}
+
+			if (obj == null || getClass() != obj.getClass()) {
+				return false;
+			}
+
+			Item that = (Item) obj;
+
+			return Objects.equals(this.sku, that.sku);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hashCode(this.sku);
+		}
+	}
+}
@@ -45,9 +45,11 @@ import org.springframework.core.env.Environment;
 import org.springframework.core.io.ResourceLoader;
 import org.springframework.data.gemfire.mapping.annotation.Region;
 import org.springframework.data.gemfire.repository.GemfireRepository;
+import org.springframework.data.gemfire.repository.ReactiveGemfireRepository;
 import org.springframework.data.gemfire.repository.support.GemfireRepositoryFactoryBean;
 import org.springframework.data.repository.config.AnnotationRepositoryConfigurationSource;
 import org.springframework.data.repository.config.XmlRepositoryConfigurationSource;
+import org.springframework.data.repository.core.RepositoryMetadata;
 
 import org.w3c.dom.Element;
 import org.w3c.dom.NodeList;
@@ -139,6 +141,27 @@ public class GemfireRepositoryConfigurationExtensionUnitTests {
 		assertThat(identifyingTypes).contains(GemfireRepository.class);
 	}
 
+	@Test
+	public void identifyingTypesIncludesReactiveGemfireRepositoryType() {
+		assertThat(this.repositoryConfigurationExtension.getIdentifyingTypes())
+			.contains(ReactiveGemfireRepository.class);
+	}
+
+	@Test
+	public void usesRepositoryConfigurationForBlockingAndReactiveRepositories() {
+
+		RepositoryMetadata mockBlockingRepositoryMetadata = mock(RepositoryMetadata.class);
+		RepositoryMetadata mockReactiveRepositoryMetadata = mock(RepositoryMetadata.class);
+
+		doReturn(false).when(mockBlockingRepositoryMetadata).isReactiveRepository();
+		doReturn(true).when(mockReactiveRepositoryMetadata).isReactiveRepository();
+
+		assertThat(this.repositoryConfigurationExtension.useRepositoryConfiguration(mockBlockingRepositoryMetadata))
+			.isTrue();
+		assertThat(this.repositoryConfigurationExtension.useRepositoryConfiguration(mockReactiveRepositoryMetadata))
+			.isTrue();
+	}
+
 	@Test
 	public void modulePrefixIsGemFire() {
 		assertThat(this.repositoryConfigurationExtension.getModulePrefix()).isEqualTo("gemfire");
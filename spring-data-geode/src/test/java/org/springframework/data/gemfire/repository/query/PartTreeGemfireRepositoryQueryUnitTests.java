@@ -0,0 +1,95 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.repository.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.gemfire.GemfireTemplate;
+import org.springframework.data.gemfire.mapping.GemfireMappingContext;
+import org.springframework.data.gemfire.repository.sample.Person;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
+
+/**
+ * Unit Tests for {@link PartTreeGemfireRepositoryQuery}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.repository.query.PartTreeGemfireRepositoryQuery
+ * @since 2.7.0
+ */
+public class PartTreeGemfireRepositoryQueryUnitTests {
+
+	private PartTreeGemfireRepositoryQuery repositoryQuery;
+
+	@Before
+	public void setup() throws Exception {
+
+		GemfireQueryMethod queryMethod = new GemfireQueryMethod(
+			PersonRepository.class.getMethod("findByLastname", String.class, Sort.class),
+			new DefaultRepositoryMetadata(PersonRepository.class), new SpelAwareProxyProjectionFactory(),
+			new GemfireMappingContext());
+
+		this.repositoryQuery = new PartTreeGemfireRepositoryQuery(queryMethod, mock(GemfireTemplate.class));
+	}
+
+	@Test
+	public void resolveRepositoryQueryReusesQueryForEqualSort() {
+
+		GemfireRepositoryQuery query = this.repositoryQuery.resolveRepositoryQuery(Sort.by("firstname"));
+
+		assertThat(this.repositoryQuery.resolveRepositoryQuery(Sort.by("firstname"))).isSameAs(query);
+		assertThat(this.repositoryQuery.resolveRepositoryQuery(Sort.unsorted()))
+			.isSameAs(this.repositoryQuery.resolveRepositoryQuery(Sort.unsorted()));
+	}
+
+	@Test
+	public void resolveRepositoryQueryCreatesQueryPerSort() {
+
+		GemfireRepositoryQuery ascending = this.repositoryQuery.resolveRepositoryQuery(Sort.by("firstname"));
+		GemfireRepositoryQuery descending = this.repositoryQuery.resolveRepositoryQuery(Sort.by("firstname").descending());
+
+		assertThat(ascending).isNotSameAs(descending);
+		assertThat(((StringBasedGemfireRepositoryQuery) ascending).getQuery().toString()).contains("ASC");
+		assertThat(((StringBasedGemfireRepositoryQuery) descending).getQuery().toString()).contains("DESC");
+	}
+
+	@Test
+	public void resolveRepositoryQueryEvictsLeastRecentlyUsedSort() {
+
+		GemfireRepositoryQuery query = this.repositoryQuery.resolveRepositoryQuery(Sort.by("firstname"));
+
+		for (int index = 0; index < PartTreeGemfireRepositoryQuery.REPOSITORY_QUERY_CACHE_SIZE; index++) {
+			this.repositoryQuery.resolveRepositoryQuery(Sort.by("property" + index));
+		}
+
+		assertThat(this.repositoryQuery.resolveRepositoryQuery(Sort.by("firstname"))).isNotSameAs(query);
+	}
+
+	interface PersonRepository extends Repository<Person, Long> {
+
+		List<Person> findByLastname(String lastname, Sort sort);
+
+	}
+}
@@ -125,7 +125,7 @@ public class QueryPostProcessorIntegrationTests extends IntegrationTestsSupport
 		assertThat(this.recordingQueryPostProcessor.queries).hasSize(2);
 		assertThat(this.recordingQueryPostProcessor.queries).containsExactly(
 			"SELECT DISTINCT * FROM /Users x WHERE x.username LIKE $1",
-			"SELECT * FROM /simple x WHERE x.firstname IN SET ('Cookie', 'Pie', 'Sour')"
+			"SELECT * FROM /simple x WHERE x.firstname IN $1"
 		);
 
 		Collection<Person> jacks = this.personRepository.findByFirstname("Jack");
@@ -136,7 +136,7 @@ public class QueryPostProcessorIntegrationTests extends IntegrationTestsSupport
 		assertThat(this.recordingQueryPostProcessor.queries).hasSize(3);
 		assertThat(this.recordingQueryPostProcessor.queries).containsExactly(
 			"SELECT DISTINCT * FROM /Users x WHERE x.username LIKE $1",
-			"SELECT * FROM /simple x WHERE x.firstname IN SET ('Cookie', 'Pie', 'Sour')",
+			"SELECT * FROM /simple x WHERE x.firstname IN $1",
 			"SELECT DISTINCT * FROM /simple x WHERE x.firstname = $1 ORDER BY lastname DESC LIMIT 1"
 		);
 	}
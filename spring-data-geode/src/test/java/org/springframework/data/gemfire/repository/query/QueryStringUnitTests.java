@@ -431,6 +431,89 @@ public class QueryStringUnitTests {
 			.isEqualTo("SELECT * FROM /Collection WHERE elements IN SET (1, 2, 3)");
 	}
 
+	@Test
+	public void bindsInValuesAsParameters() {
+
+		QueryString query = QueryString.of("SELECT * FROM /Example WHERE id IN SET $1 AND name NOT IN LIST $2");
+
+		assertThat(query.bindInAsParameters().toString())
+			.isEqualTo("SELECT * FROM /Example WHERE id IN $1 AND name NOT IN $2");
+	}
+
+	@Test
+	public void bindInAsParametersWithoutInParametersReturnsSameQueryString() {
+
+		QueryString query = QueryString.of("SELECT * FROM /Example WHERE id = $1");
+
+		assertThat(query.bindInAsParameters()).isSameAs(query);
+	}
+
+	@Test
+	public void andCombinesPredicateWithExistingWhereClause() {
+
+		QueryString query = QueryString.of("SELECT DISTINCT * FROM /People x WHERE x.age > $1 OR x.name = $2 ORDER BY id ASC");
+
+		assertThat(query.and("id > $3").toString())
+			.isEqualTo("SELECT DISTINCT * FROM /People x WHERE (x.age > $1 OR x.name = $2) AND (id > $3) ORDER BY id ASC");
+	}
+
+	@Test
+	public void andAddsWhereClauseBeforeLimit() {
+
+		QueryString query = QueryString.of("SELECT * FROM /People LIMIT 10");
+
+		assertThat(query.and("id > $1").toString()).isEqualTo("SELECT * FROM /People WHERE (id > $1) LIMIT 10");
+		assertThat(QueryString.of("SELECT * FROM /People").and("id > $1").toString())
+			.isEqualTo("SELECT * FROM /People WHERE (id > $1)");
+	}
+
+	@Test
+	public void asCountQueryReplacesProjectionAndRemovesOrderByAndLimit() {
+
+		QueryString query = QueryString.of(
+			"<HINT 'IdIdx'> SELECT DISTINCT * FROM /People x WHERE x.lastName = $1 ORDER BY firstName ASC LIMIT 20");
+
+		assertThat(query.asCountQuery().toString())
+			.isEqualTo("<HINT 'IdIdx'> SELECT count(*) FROM /People x WHERE x.lastName = $1");
+	}
+
+	@Test
+	public void asCountQueryHandlesMultilineQuery() {
+
+		QueryString query = QueryString.of("SELECT x.firstName,\n x.lastName\nFROM /People x\nWHERE x.age > $1"
+			+ "\nORDER BY x.lastName ASC,\n x.firstName ASC");
+
+		assertThat(query.asCountQuery().toString()).isEqualTo("SELECT count(*) FROM /People x\nWHERE x.age > $1");
+		assertThat(query.asCountQuery().isCountQuery()).isTrue();
+	}
+
+	@Test
+	public void asCountQueryCountsDistinctValuesOfSingleProjection() {
+
+		QueryString query =
+			QueryString.of("SELECT DISTINCT x.lastName FROM /People x ORDER BY x.lastName DESC LIMIT 5");
+
+		assertThat(query.asCountQuery().toString()).isEqualTo("SELECT count(DISTINCT x.lastName) FROM /People x");
+		assertThat(query.asCountQuery().isCountQuery()).isTrue();
+	}
+
+	@Test
+	public void asCountQueryKeepsDistinctProjectionOfSeveralExpressions() {
+
+		QueryString query =
+			QueryString.of("SELECT DISTINCT x.firstName, x.lastName FROM /People x ORDER BY x.lastName ASC LIMIT 5");
+
+		assertThat(query.asCountQuery().toString()).isEqualTo("SELECT DISTINCT x.firstName, x.lastName FROM /People x");
+		assertThat(query.asCountQuery().isCountQuery()).isFalse();
+	}
+
+	@Test
+	public void withoutLimitRemovesLimit() {
+
+		assertThat(QueryString.of("SELECT * FROM /People LIMIT 10").withoutLimit().toString())
+			.isEqualTo("SELECT * FROM /People");
+	}
+
 	@Test
 	public void detectsInParameterIndexesCorrectly() {
 
@@ -468,6 +551,37 @@ public class QueryStringUnitTests {
 			.isEqualTo("SELECT DISTINCT p.lastName FROM /People p WHERE p.firstName = $1 ORDER BY lastName ASC");
 	}
 
+	@Test
+	public void isOrderedByMatchingSort() {
+
+		Sort sort = newSort(newSortOrder("lastName", Sort.Direction.DESC), newSortOrder("id"));
+
+		assertThat(QueryString.of("SELECT DISTINCT * FROM /People p ORDER BY lastName DESC, id ASC")
+			.isOrderedBy(sort)).isTrue();
+
+		assertThat(QueryString.of("SELECT DISTINCT * FROM /People p ORDER BY p.lastName desc, p.id LIMIT 10")
+			.isOrderedBy(sort)).isTrue();
+
+		assertThat(QueryString.of("SELECT * FROM /People p").isOrderedBy(Sort.unsorted())).isTrue();
+	}
+
+	@Test
+	public void isNotOrderedByMismatchedSort() {
+
+		Sort sort = newSort(newSortOrder("lastName", Sort.Direction.DESC), newSortOrder("id"));
+
+		assertThat(QueryString.of("SELECT DISTINCT * FROM /People p ORDER BY lastName ASC, id ASC")
+			.isOrderedBy(sort)).isFalse();
+
+		assertThat(QueryString.of("SELECT DISTINCT * FROM /People p ORDER BY id ASC, lastName DESC")
+			.isOrderedBy(sort)).isFalse();
+
+		assertThat(QueryString.of("SELECT DISTINCT * FROM /People p ORDER BY lastName DESC")
+			.isOrderedBy(sort)).isFalse();
+
+		assertThat(QueryString.of("SELECT * FROM /People p").isOrderedBy(sort)).isFalse();
+	}
+
 	@Test
 	public void withHints() {
 
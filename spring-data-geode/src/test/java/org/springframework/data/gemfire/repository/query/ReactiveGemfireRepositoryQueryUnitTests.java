@@ -0,0 +1,176 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.repository.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+import org.springframework.data.repository.Repository;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Unit Tests for {@link ReactiveGemfireRepositoryQuery}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.data.gemfire.repository.query.ReactiveGemfireRepositoryQuery
+ * @see reactor.core.publisher.Flux
+ * @see reactor.core.publisher.Mono
+ * @since 2.7.0
+ */
+public class ReactiveGemfireRepositoryQueryUnitTests {
+
+	private static final Object[] ARGUMENTS = { "Doe" };
+
+	private GemfireQueryMethod mockQueryMethod(boolean reactiveStreamQuery) {
+
+		GemfireQueryMethod mockQueryMethod = mock(GemfireQueryMethod.class);
+
+		doReturn(reactiveStreamQuery).when(mockQueryMethod).isReactiveStreamQuery();
+
+		return mockQueryMethod;
+	}
+
+	private <T extends GemfireRepositoryQuery> T mockDelegate(Class<T> type, GemfireQueryMethod queryMethod,
+			Object result) {
+
+		T mockDelegate = mock(type);
+
+		doReturn(queryMethod).when(mockDelegate).getGemfireQueryMethod();
+		doReturn(result).when(mockDelegate).execute(any(Object[].class));
+
+		return mockDelegate;
+	}
+
+	@Test
+	public void constructWithNullDelegateThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new ReactiveGemfireRepositoryQuery(null))
+			.withMessage("GemfireRepositoryQuery must not be null");
+	}
+
+	@Test
+	public void derivedFluxQueryMethodEmitsStreamedResults() {
+
+		PartTreeGemfireRepositoryQuery mockDelegate = mockDelegate(PartTreeGemfireRepositoryQuery.class,
+			mockQueryMethod(true), Stream.of("Jon", "Jane", "Pie"));
+
+		Object result = new ReactiveGemfireRepositoryQuery(mockDelegate).execute(ARGUMENTS);
+
+		assertThat(result).isInstanceOf(Flux.class);
+		assertThat(((Flux<?>) result).collectList().block()).containsExactly("Jon", "Jane", "Pie");
+
+		verify(mockDelegate, times(1)).execute(ARGUMENTS);
+	}
+
+	@Test
+	public void userDefinedFluxQueryMethodEmitsIterableResults() {
+
+		StringBasedGemfireRepositoryQuery mockDelegate = mockDelegate(StringBasedGemfireRepositoryQuery.class,
+			mockQueryMethod(true), Arrays.asList("Jon", "Jane"));
+
+		Object result = new ReactiveGemfireRepositoryQuery(mockDelegate).execute(ARGUMENTS);
+
+		assertThat(result).isInstanceOf(Flux.class);
+		assertThat(((Flux<?>) result).collectList().block()).containsExactly("Jon", "Jane");
+	}
+
+	@Test
+	public void cancelledFluxClosesStream() {
+
+		AtomicBoolean closed = new AtomicBoolean(false);
+
+		StringBasedGemfireRepositoryQuery mockDelegate = mockDelegate(StringBasedGemfireRepositoryQuery.class,
+			mockQueryMethod(true), Stream.of("Jon", "Jane", "Pie").onClose(() -> closed.set(true)));
+
+		Flux<?> result = (Flux<?>) new ReactiveGemfireRepositoryQuery(mockDelegate).execute(ARGUMENTS);
+
+		assertThat(result.take(1).collectList().block()).containsExactly("Jon");
+		assertThat(closed).isTrue();
+	}
+
+	@Test
+	public void derivedMonoQueryMethodEmitsSingleResult() {
+
+		PartTreeGemfireRepositoryQuery mockDelegate =
+			mockDelegate(PartTreeGemfireRepositoryQuery.class, mockQueryMethod(false), "Jon");
+
+		Object result = new ReactiveGemfireRepositoryQuery(mockDelegate).execute(ARGUMENTS);
+
+		assertThat(result).isInstanceOf(Mono.class);
+		assertThat(((Mono<?>) result).block()).isEqualTo("Jon");
+	}
+
+	@Test
+	public void userDefinedMonoQueryMethodUnwrapsOptionalResult() {
+
+		StringBasedGemfireRepositoryQuery mockDelegate = mockDelegate(StringBasedGemfireRepositoryQuery.class,
+			mockQueryMethod(false), Optional.empty());
+
+		Object result = new ReactiveGemfireRepositoryQuery(mockDelegate).execute(ARGUMENTS);
+
+		assertThat(result).isInstanceOf(Mono.class);
+		assertThat(((Mono<?>) result).blockOptional()).isEmpty();
+	}
+
+	@Test
+	public void queryExecutesOnSubscription() {
+
+		PartTreeGemfireRepositoryQuery mockDelegate =
+			mockDelegate(PartTreeGemfireRepositoryQuery.class, mockQueryMethod(false), "Jon");
+
+		Mono<?> result = (Mono<?>) new ReactiveGemfireRepositoryQuery(mockDelegate).execute(ARGUMENTS);
+
+		verify(mockDelegate, never()).execute(any(Object[].class));
+
+		assertThat(result.block()).isEqualTo("Jon");
+
+		verify(mockDelegate, times(1)).execute(ARGUMENTS);
+	}
+
+	@Test
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public void registerDelegatesQueryPostProcessor() {
+
+		StringBasedGemfireRepositoryQuery mockDelegate =
+			mockDelegate(StringBasedGemfireRepositoryQuery.class, mockQueryMethod(false), null);
+
+		QueryPostProcessor<Repository, String> mockQueryPostProcessor = mock(QueryPostProcessor.class);
+
+		ReactiveGemfireRepositoryQuery repositoryQuery = new ReactiveGemfireRepositoryQuery(mockDelegate);
+
+		assertThat(repositoryQuery.register(mockQueryPostProcessor)).isSameAs(repositoryQuery);
+
+		verify(mockDelegate, times(1)).register(mockQueryPostProcessor);
+	}
+}
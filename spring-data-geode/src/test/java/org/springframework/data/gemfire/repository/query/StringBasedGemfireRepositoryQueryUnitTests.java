@@ -16,6 +16,9 @@
 package org.springframework.data.gemfire.repository.query;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -26,11 +29,19 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import org.junit.Test;
 
+import org.apache.geode.cache.CacheTransactionManager;
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.Region;
 import org.apache.geode.cache.query.SelectResults;
 
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.gemfire.GemfireTemplate;
+
 /**
  * Unit Tests for {@link StringBasedGemfireRepositoryQuery}
  *
@@ -201,4 +212,143 @@ public class StringBasedGemfireRepositoryQueryUnitTests {
 		verify(mockQueryMethod, never()).getLimit();
 		verify(mockQueryMethod, times(1)).hasTrace();
 	}
+
+	@Test
+	public void prepareQueryPostProcessesCachedQueryOnEveryExecution() {
+
+		GemfireQueryMethod mockQueryMethod = mock(GemfireQueryMethod.class, "MockGemfireQueryMethod");
+
+		when(mockQueryMethod.hasLimit()).thenReturn(true);
+		when(mockQueryMethod.getLimit()).thenReturn(10);
+
+		StringBasedGemfireRepositoryQuery repositoryQuery = new StringBasedGemfireRepositoryQuery().asUserDefinedQuery();
+
+		repositoryQuery.register((queryMethod, queryString, arguments) ->
+			String.format("%1$s /* %2$s */", queryString, arguments[0]));
+
+		QueryString query = QueryString.of("SELECT * FROM /Example WHERE name IN SET $1");
+
+		assertThat(repositoryQuery.prepareQuery(mockQueryMethod, query, new Object[] { "Jon" }))
+			.isEqualTo("SELECT * FROM /Example WHERE name IN $1 LIMIT 10 /* Jon */");
+		assertThat(repositoryQuery.prepareQuery(mockQueryMethod, query, new Object[] { "Jane" }))
+			.isEqualTo("SELECT * FROM /Example WHERE name IN $1 LIMIT 10 /* Jane */");
+
+		verify(mockQueryMethod, times(2)).hasLimit();
+	}
+
+	@Test
+	public void countCacheKeyIgnoresPageableAndSortArguments() {
+
+		StringBasedGemfireRepositoryQuery.CountCacheKey keyOne = StringBasedGemfireRepositoryQuery.CountCacheKey
+			.of("SELECT count(*) FROM /Example WHERE name = $1", new Object[] { "Jon", PageRequest.of(0, 10) });
+
+		StringBasedGemfireRepositoryQuery.CountCacheKey keyTwo = StringBasedGemfireRepositoryQuery.CountCacheKey
+			.of("SELECT count(*) FROM /Example WHERE name = $1", new Object[] { "Jon", PageRequest.of(5, 10) });
+
+		StringBasedGemfireRepositoryQuery.CountCacheKey keyThree = StringBasedGemfireRepositoryQuery.CountCacheKey
+			.of("SELECT count(*) FROM /Example WHERE name = $1", new Object[] { "Jane", PageRequest.of(0, 10) });
+
+		assertThat(keyOne).isEqualTo(keyTwo);
+		assertThat(keyOne).hasSameHashCodeAs(keyTwo);
+		assertThat(keyOne).isNotEqualTo(keyThree);
+	}
+
+	@Test
+	public void countCacheEntryExpires() {
+
+		assertThat(new StringBasedGemfireRepositoryQuery.CountCacheEntry(42L, 60000L).isExpired()).isFalse();
+		assertThat(new StringBasedGemfireRepositoryQuery.CountCacheEntry(42L, 0L).isExpired()).isTrue();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void countAsyncRunsCountQueryOnCallingThreadWithinTransaction() {
+
+		GemfireQueryMethod mockQueryMethod = mock(GemfireQueryMethod.class);
+		GemfireTemplate mockTemplate = mock(GemfireTemplate.class);
+		Region<Object, Object> mockRegion = mock(Region.class);
+		GemFireCache mockCache = mock(GemFireCache.class);
+		CacheTransactionManager mockCacheTransactionManager = mock(CacheTransactionManager.class);
+		SelectResults<Object> mockSelectResults = mock(SelectResults.class);
+		Executor mockExecutor = mock(Executor.class);
+
+		when(mockTemplate.getRegion()).thenReturn(mockRegion);
+		when(mockRegion.getRegionService()).thenReturn(mockCache);
+		when(mockCache.getCacheTransactionManager()).thenReturn(mockCacheTransactionManager);
+		when(mockCacheTransactionManager.exists()).thenReturn(true);
+		when(mockSelectResults.isEmpty()).thenReturn(false);
+		when(mockSelectResults.iterator()).thenReturn(Collections.<Object>singletonList(42).iterator());
+		when(mockTemplate.find(eq("SELECT count(*) FROM /Example WHERE name = $1"), eq("Jon")))
+			.thenReturn(mockSelectResults);
+
+		StringBasedGemfireRepositoryQuery repositoryQuery =
+			new StringBasedGemfireRepositoryQuery("SELECT * FROM /Example WHERE name = $1", mockQueryMethod, mockTemplate);
+
+		repositoryQuery.setCountQueryExecutor(mockExecutor);
+
+		CompletableFuture<Long> total = repositoryQuery.countAsync(mockQueryMethod,
+			"SELECT * FROM /Example WHERE name = $1", new Object[] { "Jon" });
+
+		assertThat(total).isCompletedWithValue(42L);
+
+		verify(mockExecutor, never()).execute(any(Runnable.class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void countAsyncCountsResultsOfDistinctProjectionOfSeveralExpressions() {
+
+		GemfireQueryMethod mockQueryMethod = mock(GemfireQueryMethod.class);
+		GemfireTemplate mockTemplate = mock(GemfireTemplate.class);
+		Region<Object, Object> mockRegion = mock(Region.class);
+		GemFireCache mockCache = mock(GemFireCache.class);
+		CacheTransactionManager mockCacheTransactionManager = mock(CacheTransactionManager.class);
+		SelectResults<Object> mockSelectResults = mock(SelectResults.class);
+
+		when(mockTemplate.getRegion()).thenReturn(mockRegion);
+		when(mockRegion.getRegionService()).thenReturn(mockCache);
+		when(mockCache.getCacheTransactionManager()).thenReturn(mockCacheTransactionManager);
+		when(mockCacheTransactionManager.exists()).thenReturn(true);
+		when(mockSelectResults.size()).thenReturn(3);
+		when(mockTemplate.find(eq("SELECT DISTINCT x.name, x.age FROM /Example x"))).thenReturn(mockSelectResults);
+
+		StringBasedGemfireRepositoryQuery repositoryQuery =
+			new StringBasedGemfireRepositoryQuery("SELECT * FROM /Example", mockQueryMethod, mockTemplate);
+
+		CompletableFuture<Long> total = repositoryQuery.countAsync(mockQueryMethod,
+			"SELECT DISTINCT x.name, x.age FROM /Example x ORDER BY x.name ASC", new Object[0]);
+
+		assertThat(total).isCompletedWithValue(3L);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void countAsyncFailsWhenCountQueryReturnsNonNumber() {
+
+		GemfireQueryMethod mockQueryMethod = mock(GemfireQueryMethod.class);
+		GemfireTemplate mockTemplate = mock(GemfireTemplate.class);
+		Region<Object, Object> mockRegion = mock(Region.class);
+		GemFireCache mockCache = mock(GemFireCache.class);
+		CacheTransactionManager mockCacheTransactionManager = mock(CacheTransactionManager.class);
+		SelectResults<Object> mockSelectResults = mock(SelectResults.class);
+
+		when(mockTemplate.getRegion()).thenReturn(mockRegion);
+		when(mockRegion.getRegionService()).thenReturn(mockCache);
+		when(mockCache.getCacheTransactionManager()).thenReturn(mockCacheTransactionManager);
+		when(mockCacheTransactionManager.exists()).thenReturn(true);
+		when(mockSelectResults.isEmpty()).thenReturn(false);
+		when(mockSelectResults.iterator()).thenReturn(Collections.<Object>singletonList("42").iterator());
+		when(mockTemplate.find(eq("SELECT count(*) FROM /Example"))).thenReturn(mockSelectResults);
+
+		StringBasedGemfireRepositoryQuery repositoryQuery =
+			new StringBasedGemfireRepositoryQuery("SELECT * FROM /Example", mockQueryMethod, mockTemplate);
+
+		CompletableFuture<Long> total =
+			repositoryQuery.countAsync(mockQueryMethod, "SELECT * FROM /Example", new Object[0]);
+
+		assertThat(total).isCompletedExceptionally();
+		assertThatThrownBy(total::join)
+			.hasCauseInstanceOf(IllegalStateException.class)
+			.hasRootCauseMessage("Count query [SELECT count(*) FROM /Example] returned [42] instead of a number");
+	}
 }
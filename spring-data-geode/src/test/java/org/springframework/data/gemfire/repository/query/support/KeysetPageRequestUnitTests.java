@@ -0,0 +1,113 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.repository.query.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Unit Tests for {@link KeysetPageRequest} and {@link KeysetSlice}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.repository.query.support.KeysetPageRequest
+ * @see org.springframework.data.gemfire.repository.query.support.KeysetSlice
+ * @since 2.7.0
+ */
+public class KeysetPageRequestUnitTests {
+
+	@Test
+	public void firstPageRequestHasNoKeyset() {
+
+		KeysetPageRequest pageRequest = KeysetPageRequest.of(20, Sort.by("lastName", "id"));
+
+		assertThat(pageRequest.hasKeyset()).isFalse();
+		assertThat(pageRequest.getKeyset()).isEmpty();
+		assertThat(pageRequest.getContinuationToken()).isNull();
+		assertThat(pageRequest.getPageNumber()).isZero();
+		assertThat(pageRequest.getPageSize()).isEqualTo(20);
+	}
+
+	@Test
+	public void continuationTokenRoundTripsKeyset() {
+
+		Sort sort = Sort.by("lastName", "birthDate", "id");
+
+		KeysetPageRequest pageRequest = KeysetPageRequest.of(10, sort)
+			.after(new Object[] { "Doe", LocalDate.of(2000, 1, 1), 42L });
+
+		KeysetPageRequest resolvedPageRequest = KeysetPageRequest.of(10, sort, pageRequest.getContinuationToken());
+
+		assertThat(resolvedPageRequest.getKeyset()).containsExactly("Doe", LocalDate.of(2000, 1, 1), 42L);
+		assertThat(resolvedPageRequest).isEqualTo(pageRequest);
+	}
+
+	@Test
+	public void invalidContinuationTokenThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> KeysetPageRequest.of(10, Sort.by("id"), "not-a-token"))
+			.withMessageContaining("Invalid continuation token");
+	}
+
+	@Test
+	public void continuationTokenNotMatchingSortThrowsIllegalArgumentException() {
+
+		String continuationToken = KeysetPageRequest.of(10, Sort.by("id")).after(new Object[] { 1L })
+			.getContinuationToken();
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> KeysetPageRequest.of(10, Sort.by("name", "id"), continuationToken))
+			.withMessageContaining("does not match Sort");
+	}
+
+	@Test
+	public void unsortedKeysetPageRequestThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> KeysetPageRequest.of(10, Sort.unsorted()))
+			.withMessage("Keyset pagination requires a Sort");
+	}
+
+	@Test
+	public void keysetSliceProvidesNextPageRequest() {
+
+		KeysetPageRequest pageRequest = KeysetPageRequest.of(2, Sort.by("id"));
+
+		KeysetSlice<Long> slice = new KeysetSlice<>(Arrays.asList(1L, 2L), pageRequest, true, new Object[] { 2L });
+
+		assertThat(slice.hasNext()).isTrue();
+		assertThat(slice.getContinuationToken()).isNotNull();
+		assertThat(slice.nextPageable()).isEqualTo(pageRequest.after(new Object[] { 2L }));
+		assertThat(slice.map(String::valueOf).getContinuationToken()).isEqualTo(slice.getContinuationToken());
+
+		KeysetSlice<Long> lastSlice = new KeysetSlice<>(Collections.singletonList(3L), pageRequest, false,
+			new Object[] { 3L });
+
+		assertThat(lastSlice.hasNext()).isFalse();
+		assertThat(lastSlice.getContinuationToken()).isNull();
+		assertThat(lastSlice.nextPageable()).isEqualTo(Pageable.unpaged());
+	}
+}
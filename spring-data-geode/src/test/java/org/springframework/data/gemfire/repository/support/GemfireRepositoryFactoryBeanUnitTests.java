@@ -29,6 +29,8 @@ import org.apache.geode.cache.RegionAttributes;
 
 import org.springframework.context.ApplicationContext;
 import org.springframework.data.gemfire.mapping.GemfireMappingContext;
+import org.springframework.data.gemfire.repository.ReactiveGemfireRepository;
+import org.springframework.data.gemfire.repository.sample.Person;
 import org.springframework.data.gemfire.repository.sample.PersonRepository;
 
 /**
@@ -88,4 +90,28 @@ public class GemfireRepositoryFactoryBeanUnitTests {
 
 		assertThat(repositoryFactoryBean.getObject()).isNotNull();
 	}
+
+	@Test
+	public void newRepositoryFactoryForBlockingRepository() {
+
+		GemfireRepositoryFactory repositoryFactory =
+			repositoryFactoryBean.newRepositoryFactory(Collections.emptyList(), new GemfireMappingContext());
+
+		assertThat(repositoryFactory).isExactlyInstanceOf(GemfireRepositoryFactory.class);
+	}
+
+	@Test
+	public void newRepositoryFactoryForReactiveRepository() {
+
+		GemfireRepositoryFactoryBean<ReactivePersonRepository, Person, Long> reactiveRepositoryFactoryBean =
+			new GemfireRepositoryFactoryBean<>(ReactivePersonRepository.class);
+
+		GemfireRepositoryFactory repositoryFactory =
+			reactiveRepositoryFactoryBean.newRepositoryFactory(Collections.emptyList(), new GemfireMappingContext());
+
+		assertThat(repositoryFactory).isExactlyInstanceOf(ReactiveGemfireRepositoryFactory.class);
+	}
+
+	interface ReactivePersonRepository extends ReactiveGemfireRepository<Person, Long> { }
+
 }
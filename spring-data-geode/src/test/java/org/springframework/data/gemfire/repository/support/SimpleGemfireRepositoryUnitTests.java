@@ -20,6 +20,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
@@ -62,6 +63,7 @@ import org.apache.geode.cache.query.SelectResults;
 
 import org.springframework.data.annotation.Id;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.gemfire.GemfireTemplate;
@@ -195,6 +197,19 @@ public class SimpleGemfireRepositoryUnitTests {
 		return mockRegion;
 	}
 
+	private Region mockClientRegion(String name) {
+
+		Region mockRegion = mockRegion(name);
+
+		RegionAttributes mockRegionAttributes = mock(RegionAttributes.class,
+			String.format("%s.MockRegionAttributes", name));
+
+		doReturn(mockRegionAttributes).when(mockRegion).getAttributes();
+		doReturn("TestPool").when(mockRegionAttributes).getPoolName();
+
+		return mockRegion;
+	}
+
 	private Region mockRegion(String name, Cache mockCache, DataPolicy dataPolicy) {
 
 		Region mockRegion = mockRegion(name);
@@ -405,12 +420,76 @@ public class SimpleGemfireRepositoryUnitTests {
 	}
 
 	@Test
-	public void countReturnsNumberOfRegionEntries() {
+	public void countReturnsRegionSizeForServerRegion() {
+
+		Region mockRegion = mockRegion("Example");
+
+		GemfireTemplate template = spy(newGemfireTemplate(mockRegion));
+
+		doReturn(21).when(mockRegion).size();
+
+		SimpleGemfireRepository<Animal, Long> repository =
+			new SimpleGemfireRepository<>(template, mockEntityInformation());
+
+		assertThat(repository.count()).isEqualTo(21L);
+
+		verify(template, times(1)).getRegion();
+		verify(mockRegion, times(1)).getAttributes();
+		verify(mockRegion, times(1)).size();
+		verify(template, never()).find(anyString());
+		verifyNoMoreInteractions(mockRegion);
+	}
+
+	@Test
+	public void countQueriesPeerProxyRegion() {
+
+		Region mockRegion = mockRegion("Example", mock(Cache.class), DataPolicy.EMPTY);
+
+		SelectResults mockSelectResults = mock(SelectResults.class);
+
+		GemfireTemplate template = spy(newGemfireTemplate(mockRegion));
+
+		doReturn(mockSelectResults).when(template).find(eq("SELECT count(*) FROM /Example"));
+		doReturn(Collections.singletonList(12).iterator()).when(mockSelectResults).iterator();
+
+		SimpleGemfireRepository<Animal, Long> repository =
+			new SimpleGemfireRepository<>(template, mockEntityInformation());
+
+		assertThat(repository.count()).isEqualTo(12L);
+
+		verify(template, times(1)).find(eq("SELECT count(*) FROM /Example"));
+		verify(mockRegion, never()).size();
+		verify(mockRegion, never()).sizeOnServer();
+	}
+
+	@Test
+	public void countReturnsRegionSizeOnServerForClientRegion() {
+
+		Region mockRegion = mockClientRegion("Example");
+
+		GemfireTemplate template = spy(newGemfireTemplate(mockRegion));
+
+		doReturn(42).when(mockRegion).sizeOnServer();
+
+		SimpleGemfireRepository<Animal, Long> repository =
+			new SimpleGemfireRepository<>(template, mockEntityInformation());
+
+		assertThat(repository.count()).isEqualTo(42L);
+
+		verify(mockRegion, times(1)).sizeOnServer();
+		verify(mockRegion, never()).size();
+		verify(template, never()).find(anyString());
+	}
+
+	@Test
+	public void countFallsBackToQueryWhenRegionSizeFails() {
 
 		SelectResults mockSelectResults = mock(SelectResults.class);
 
 		Region mockRegion = mockRegion("Example");
 
+		doThrow(new UnsupportedOperationException("TEST")).when(mockRegion).size();
+
 		GemfireTemplate template = spy(newGemfireTemplate(mockRegion));
 
 		doReturn(mockSelectResults).when(template).find(eq("SELECT count(*) FROM /Example"));
@@ -423,6 +502,8 @@ public class SimpleGemfireRepositoryUnitTests {
 		assertThat(repository.count()).isEqualTo(21L);
 
 		verify(template, times(1)).getRegion();
+		verify(mockRegion, times(1)).getAttributes();
+		verify(mockRegion, times(1)).size();
 		verify(mockRegion, times(1)).getFullPath();
 		verify(template, times(1)).find(eq("SELECT count(*) FROM /Example"));
 		verify(mockSelectResults, times(1)).iterator();
@@ -434,6 +515,8 @@ public class SimpleGemfireRepositoryUnitTests {
 
 		Region mockRegion = mockRegion("Example");
 
+		doThrow(new UnsupportedOperationException("TEST")).when(mockRegion).size();
+
 		GemfireTemplate template = spy(newGemfireTemplate(mockRegion));
 
 		doReturn(null).when(template).find(anyString());
@@ -445,6 +528,8 @@ public class SimpleGemfireRepositoryUnitTests {
 		assertThat(repository.count()).isEqualTo(0L);
 
 		verify(template, times(1)).getRegion();
+		verify(mockRegion, times(1)).getAttributes();
+		verify(mockRegion, times(1)).size();
 		verify(mockRegion, times(1)).getFullPath();
 		verify(template, times(1)).find(eq("SELECT count(*) FROM /Example"));
 		verifyNoMoreInteractions(mockRegion, template);
@@ -457,6 +542,8 @@ public class SimpleGemfireRepositoryUnitTests {
 
 		Region mockRegion = mockRegion("Example");
 
+		doThrow(new UnsupportedOperationException("TEST")).when(mockRegion).size();
+
 		GemfireTemplate template = spy(newGemfireTemplate(mockRegion));
 
 		doReturn(mockSelectResults).when(template).find(anyString());
@@ -469,6 +556,8 @@ public class SimpleGemfireRepositoryUnitTests {
 		assertThat(repository.count()).isEqualTo(0L);
 
 		verify(template, times(1)).getRegion();
+		verify(mockRegion, times(1)).getAttributes();
+		verify(mockRegion, times(1)).size();
 		verify(mockRegion, times(1)).getFullPath();
 		verify(template, times(1)).find(eq("SELECT count(*) FROM /Example"));
 		verify(mockSelectResults, times(1)).iterator();
@@ -482,6 +571,8 @@ public class SimpleGemfireRepositoryUnitTests {
 
 		Region mockRegion = mockRegion("Example");
 
+		doThrow(new UnsupportedOperationException("TEST")).when(mockRegion).size();
+
 		GemfireTemplate template = spy(newGemfireTemplate(mockRegion));
 
 		doReturn(mockSelectResults).when(template).find(anyString());
@@ -494,6 +585,8 @@ public class SimpleGemfireRepositoryUnitTests {
 		assertThat(repository.count()).isEqualTo(0L);
 
 		verify(template, times(1)).getRegion();
+		verify(mockRegion, times(1)).getAttributes();
+		verify(mockRegion, times(1)).size();
 		verify(mockRegion, times(1)).getFullPath();
 		verify(template, times(1)).find(eq("SELECT count(*) FROM /Example"));
 		verify(mockSelectResults, times(1)).iterator();
@@ -507,6 +600,8 @@ public class SimpleGemfireRepositoryUnitTests {
 
 		Region mockRegion = mockRegion("Example");
 
+		doThrow(new UnsupportedOperationException("TEST")).when(mockRegion).size();
+
 		Iterator mockIterator = mock(Iterator.class);
 
 		GemfireTemplate template = spy(newGemfireTemplate(mockRegion));
@@ -523,6 +618,8 @@ public class SimpleGemfireRepositoryUnitTests {
 		assertThat(repository.count()).isEqualTo(0L);
 
 		verify(template, times(1)).getRegion();
+		verify(mockRegion, times(1)).getAttributes();
+		verify(mockRegion, times(1)).size();
 		verify(mockRegion, times(1)).getFullPath();
 		verify(template, times(1)).find(eq("SELECT count(*) FROM /Example"));
 		verify(mockSelectResults, times(1)).iterator();
@@ -532,29 +629,64 @@ public class SimpleGemfireRepositoryUnitTests {
 	}
 
 	@Test
-	public void existsByIdCallsFindById() {
-
-		Animal dog = newAnimal(1L, "dog");
+	public void existsByIdChecksValueForKeyInServerRegion() {
 
 		Region<Long, Animal> mockRegion = mockRegion();
 
-		doAnswer(invocation -> dog.getId().equals(invocation.getArgument(0)) ? dog : null)
-			.when(mockRegion).get(anyLong());
+		doAnswer(invocation -> Long.valueOf(1L).equals(invocation.getArgument(0)))
+			.when(mockRegion).containsValueForKey(anyLong());
 
 		SimpleGemfireRepository<Animal, Long> repository =
-			spy(new SimpleGemfireRepository<>(newGemfireTemplate(mockRegion), mockEntityInformation()));
+			new SimpleGemfireRepository<>(newGemfireTemplate(mockRegion), mockEntityInformation());
+
+		assertThat(repository.existsById(1L)).isTrue();
+		assertThat(repository.existsById(2L)).isFalse();
+		assertThat(repository.existsById(null)).isFalse();
+
+		verify(mockRegion, times(1)).containsValueForKey(eq(1L));
+		verify(mockRegion, times(1)).containsValueForKey(eq(2L));
+		verify(mockRegion, never()).containsKey(any());
+		verify(mockRegion, never()).containsKeyOnServer(any());
+		verify(mockRegion, never()).get(any());
+	}
+
+	@Test
+	public void existsByIdGetsValueFromPeerProxyRegion() {
+
+		Region<Long, Animal> mockRegion = mockRegion("Example", mock(Cache.class), DataPolicy.EMPTY);
+
+		doReturn(newAnimal(1L, "dog")).when(mockRegion).get(eq(1L));
+
+		SimpleGemfireRepository<Animal, Long> repository =
+			new SimpleGemfireRepository<>(newGemfireTemplate(mockRegion), mockEntityInformation());
 
 		assertThat(repository.existsById(1L)).isTrue();
 		assertThat(repository.existsById(2L)).isFalse();
-		assertThat(repository.existsById(10L)).isFalse();
 
-		verify(repository, times(1)).findById(eq(1L));
 		verify(mockRegion, times(1)).get(eq(1L));
-		verify(repository, times(1)).findById(eq(2L));
 		verify(mockRegion, times(1)).get(eq(2L));
-		verify(repository, times(1)).findById(eq(10L));
-		verify(mockRegion, times(1)).get(eq(10L));
-		verifyNoMoreInteractions(mockRegion);
+		verify(mockRegion, never()).containsKey(any());
+		verify(mockRegion, never()).containsValueForKey(any());
+	}
+
+	@Test
+	public void existsByIdChecksKeyOnServerForClientRegion() {
+
+		Region<Long, Animal> mockRegion = mockClientRegion("Example");
+
+		doAnswer(invocation -> Long.valueOf(1L).equals(invocation.getArgument(0)))
+			.when(mockRegion).containsKeyOnServer(anyLong());
+
+		SimpleGemfireRepository<Animal, Long> repository =
+			new SimpleGemfireRepository<>(newGemfireTemplate(mockRegion), mockEntityInformation());
+
+		assertThat(repository.existsById(1L)).isTrue();
+		assertThat(repository.existsById(2L)).isFalse();
+
+		verify(mockRegion, times(1)).containsKeyOnServer(eq(1L));
+		verify(mockRegion, times(1)).containsKeyOnServer(eq(2L));
+		verify(mockRegion, never()).containsKey(any());
+		verify(mockRegion, never()).get(any());
 	}
 
 	@Test
@@ -637,19 +769,20 @@ public class SimpleGemfireRepositoryUnitTests {
 
 		Sort orderBy = Sort.by("name");
 
-		Region mockRegion = mockRegion();
+		Region mockRegion = mockRegion("Example");
+
+		GemfireTemplate mockTemplate = mock(GemfireTemplate.class);
 
 		Pageable mockPageable = mock(Pageable.class);
 
 		doReturn(true).when(mockPageable).isPaged();
 		doReturn(0).when(mockPageable).getPageNumber(); // page 1
+		doReturn(0L).when(mockPageable).getOffset();
 		doReturn(5).when(mockPageable).getPageSize();
 		doReturn(orderBy).when(mockPageable).getSort();
 
-		EntityInformation mockEntityInformation = mockEntityInformation();
-
 		SimpleGemfireRepository repository =
-			spy(new SimpleGemfireRepository(newGemfireTemplate(mockRegion), mockEntityInformation));
+			spy(new SimpleGemfireRepository(mockTemplate, mockEntityInformation()));
 
 		List<User> users = Arrays.asList(
 			User.newUser("Jon Doe"),
@@ -661,7 +794,38 @@ public class SimpleGemfireRepositoryUnitTests {
 			User.newUser("Sour Doe")
 		);
 
-		doReturn(users).when(repository).findAll(eq(orderBy));
+		Map<String, User> usersByKey = new HashMap<>();
+
+		users.forEach(user -> usersByKey.put(user.getName(), user));
+
+		doReturn(mockRegion).when(mockTemplate).getRegion();
+
+		doAnswer(invocation -> {
+
+			String query = invocation.getArgument(0);
+
+			int limit = Integer.parseInt(query.substring(query.lastIndexOf(' ') + 1));
+
+			SelectResults mockSelectResults = mock(SelectResults.class);
+
+			doReturn(users.stream().limit(limit).map(User::getName).collect(Collectors.toList()))
+				.when(mockSelectResults).asList();
+
+			return mockSelectResults;
+
+		}).when(mockTemplate).find(anyString());
+
+		doAnswer(invocation -> {
+
+			Map<String, User> keysValues = new HashMap<>();
+
+			invocation.<Collection<String>>getArgument(0).forEach(key -> keysValues.put(key, usersByKey.get(key)));
+
+			return keysValues;
+
+		}).when(mockTemplate).getAll(any(Collection.class));
+
+		doReturn((long) users.size()).when(repository).count();
 
 		Page pageOne = repository.findAll(mockPageable);
 
@@ -673,7 +837,11 @@ public class SimpleGemfireRepositoryUnitTests {
 			User.newUser("Lan Doe")
 		);
 
+		verify(mockTemplate, times(1)).find(eq("SELECT DISTINCT entry.key, entry.value.name"
+			+ " FROM /Example.entrySet entry ORDER BY entry.value.name ASC, entry.key ASC LIMIT 5"));
+
 		doReturn(1).when(mockPageable).getPageNumber(); // page 2
+		doReturn(5L).when(mockPageable).getOffset();
 
 		Page pageTwo = repository.findAll(mockPageable);
 
@@ -682,12 +850,33 @@ public class SimpleGemfireRepositoryUnitTests {
 			User.newUser("Sour Doe")
 		);
 
-		doReturn(2).when(mockPageable).getPageNumber(); // page 2
+		verify(mockTemplate, times(1)).getAll(eq(Arrays.asList("Pie Doe", "Sour Doe")));
+
+		doReturn(2).when(mockPageable).getPageNumber(); // page 3
+		doReturn(10L).when(mockPageable).getOffset();
 
 		Page pageThree = repository.findAll(mockPageable);
 
 		assertThat(pageThree).isNotNull();
 		assertThat(pageThree).isEmpty();
+
+		verify(repository, times(2)).count();
+		verify(mockTemplate, never()).find(startsWith("SELECT DISTINCT *"));
+	}
+
+	@Test
+	public void newPageKeysQueryWithoutSortOrdersByKey() {
+
+		GemfireTemplate mockTemplate = mock(GemfireTemplate.class);
+
+		Region mockRegion = mockRegion("Example");
+
+		doReturn(mockRegion).when(mockTemplate).getRegion();
+
+		SimpleGemfireRepository repository = new SimpleGemfireRepository(mockTemplate, mockEntityInformation());
+
+		assertThat(repository.newPageKeysQuery(PageRequest.of(2, 10)))
+			.isEqualTo("SELECT DISTINCT entry.key FROM /Example.entrySet entry ORDER BY entry.key ASC LIMIT 30");
 	}
 
 	@Test(expected = IllegalArgumentException.class)
@@ -740,6 +929,61 @@ public class SimpleGemfireRepositoryUnitTests {
 		verifyNoMoreInteractions(mockRegion);
 	}
 
+	@Test
+	public void findAllByIdWithParallelismGetsKeyGroupsConcurrentlyForClientRegion() {
+
+		Map<Long, Animal> animals = Stream.of(
+			newAnimal(1L, "bird"),
+			newAnimal(2L, "cat"),
+			newAnimal(3L, "dog"),
+			newAnimal(4L, "fish")
+		).collect(Collectors.toMap(Animal::getId, Function.identity()));
+
+		Region<Long, Animal> mockRegion = mockClientRegion("Example");
+
+		doAnswer(invocation -> {
+
+			Collection<Long> keys = invocation.getArgument(0);
+
+			return animals.values().stream()
+				.filter((animal -> keys.contains(animal.getId())))
+				.collect(Collectors.toMap(Animal::getId, Function.identity()));
+
+		}).when(mockRegion).getAll(any(Collection.class));
+
+		SimpleGemfireRepository<Animal, Long> repository =
+			new SimpleGemfireRepository<>(newGemfireTemplate(mockRegion), mockEntityInformation());
+
+		repository.setFindAllByIdParallelism(2);
+
+		Iterable<Animal> animalsFound = repository.findAllById(Arrays.asList(4L, 1L, 5L, 2L, 3L));
+
+		assertThat(animalsFound).containsExactly(animals.get(4L), animals.get(1L), animals.get(2L), animals.get(3L));
+
+		verify(mockRegion, times(1)).getAll(eq(Arrays.asList(4L, 1L, 5L)));
+		verify(mockRegion, times(1)).getAll(eq(Arrays.asList(2L, 3L)));
+		verify(mockRegion, times(2)).getAll(any(Collection.class));
+	}
+
+	@Test
+	public void findAllByIdWithParallelismSendsSingleGetAllForReplicateRegion() {
+
+		Cache mockCache = mockCache("MockCache", false);
+
+		Region<Long, Animal> mockRegion = mockRegion("MockRegion", mockCache, DataPolicy.REPLICATE);
+
+		doReturn(Collections.emptyMap()).when(mockRegion).getAll(any(Collection.class));
+
+		SimpleGemfireRepository<Animal, Long> repository =
+			new SimpleGemfireRepository<>(newGemfireTemplate(mockRegion), mockEntityInformation());
+
+		repository.setFindAllByIdParallelism(4);
+
+		assertThat(repository.findAllById(Arrays.asList(1L, 2L, 3L))).isEmpty();
+
+		verify(mockRegion, times(1)).getAll(eq(Arrays.asList(1L, 2L, 3L)));
+	}
+
 	@Test
 	public void findAllByIdReturnsNoMatches() {
 
@@ -888,12 +1132,44 @@ public class SimpleGemfireRepositoryUnitTests {
 			newAnimal(3L, "dog")
 		));
 
-		verify(mockRegion, times(1)).remove(eq(1L));
-		verify(mockRegion, times(1)).remove(eq(2L));
-		verify(mockRegion, times(1)).remove(eq(3L));
+		verify(mockRegion, times(1)).removeAll(eq(CollectionUtils.asSet(1L, 2L, 3L)));
+		verify(mockRegion, never()).remove(any());
+		verifyNoMoreInteractions(mockRegion);
+	}
+
+	@Test
+	public void deleteAllByIdRemovesKeysInChunks() {
+
+		Region<Long, Animal> mockRegion = mockRegion();
+
+		List<Collection<Long>> removedChunks = new ArrayList<>();
+
+		doAnswer(invocation -> removedChunks.add(new ArrayList<>(invocation.<Collection<Long>>getArgument(0))))
+			.when(mockRegion).removeAll(any(Collection.class));
+
+		SimpleGemfireRepository<Animal, Long> repository =
+			new SimpleGemfireRepository<>(newGemfireTemplate(mockRegion), mockEntityInformation());
+
+		repository.setBulkOperationChunkSize(2);
+
+		repository.deleteAllById(Arrays.asList(1L, 2L, 3L, 4L, 5L));
+
+		assertThat(repository.getBulkOperationChunkSize()).isEqualTo(2);
+		assertThat(removedChunks).hasSize(3);
+		assertThat(removedChunks.stream().mapToInt(Collection::size)).containsExactly(2, 2, 1);
+		assertThat(removedChunks.stream().flatMap(Collection::stream)).containsExactlyInAnyOrder(1L, 2L, 3L, 4L, 5L);
+
+		verify(mockRegion, times(3)).removeAll(any(Collection.class));
 		verifyNoMoreInteractions(mockRegion);
 	}
 
+	@Test(expected = IllegalArgumentException.class)
+	public void setBulkOperationChunkSizeToZeroThrowsIllegalArgumentException() {
+
+		new SimpleGemfireRepository<>(newGemfireTemplate(mockRegion()), mockEntityInformation())
+			.setBulkOperationChunkSize(0);
+	}
+
 	@Test
 	public void deleteAllWithClear() {
 
@@ -0,0 +1,220 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.repository.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
+
+import org.springframework.data.gemfire.GemfireTemplate;
+import org.springframework.data.gemfire.repository.sample.Animal;
+import org.springframework.data.gemfire.util.RegionUtils;
+import org.springframework.data.repository.core.EntityInformation;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Unit Tests for {@link SimpleReactiveGemfireRepository}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.data.gemfire.repository.support.SimpleReactiveGemfireRepository
+ * @see reactor.core.publisher.Flux
+ * @see reactor.core.publisher.Mono
+ * @since 2.7.0
+ */
+@SuppressWarnings({ "rawtypes", "unchecked" })
+public class SimpleReactiveGemfireRepositoryUnitTests {
+
+	private Animal newAnimal(Long id, String name) {
+
+		Animal animal = new Animal();
+
+		animal.setId(id);
+		animal.setName(name);
+
+		return animal;
+	}
+
+	private EntityInformation<Animal, Long> mockEntityInformation() {
+
+		EntityInformation<Animal, Long> mockEntityInformation = mock(EntityInformation.class);
+
+		doAnswer(invocation -> invocation.<Animal>getArgument(0).getId())
+			.when(mockEntityInformation).getRequiredId(any(Animal.class));
+
+		return mockEntityInformation;
+	}
+
+	private Region mockClientRegion(String name) {
+
+		Region mockRegion = mock(Region.class, String.format("%s.MockRegion", name));
+
+		RegionAttributes mockRegionAttributes = mock(RegionAttributes.class,
+			String.format("%s.MockRegionAttributes", name));
+
+		doReturn(name).when(mockRegion).getName();
+		doReturn(RegionUtils.toRegionPath(name)).when(mockRegion).getFullPath();
+		doReturn(mockRegionAttributes).when(mockRegion).getAttributes();
+		doReturn("TestPool").when(mockRegionAttributes).getPoolName();
+
+		return mockRegion;
+	}
+
+	private void stubGetAll(Region mockRegion, Map<Long, Animal> animals) {
+
+		doAnswer(invocation -> {
+
+			Map<Long, Animal> results = new LinkedHashMap<>();
+
+			invocation.<Collection<Long>>getArgument(0).forEach(id -> results.put(id, animals.get(id)));
+
+			return results;
+
+		}).when(mockRegion).getAll(anyCollection());
+	}
+
+	private SimpleReactiveGemfireRepository<Animal, Long> newRepository(Region<Long, Animal> region) {
+		return new SimpleReactiveGemfireRepository<>(new GemfireTemplate(region), mockEntityInformation());
+	}
+
+	@Test
+	public void setFetchSizeToLessThanOneThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> newRepository(mockClientRegion("Animals")).setFetchSize(0))
+			.withMessage("Fetch size [0] must be greater than 0");
+	}
+
+	@Test
+	public void saveIsDeferredUntilSubscription() {
+
+		Animal dog = newAnimal(1L, "dog");
+
+		Region<Long, Animal> mockRegion = mockClientRegion("Animals");
+
+		Mono<Animal> savedAnimal = newRepository(mockRegion).save(dog);
+
+		verify(mockRegion, times(0)).put(any(), any());
+
+		assertThat(savedAnimal.block()).isEqualTo(dog);
+
+		verify(mockRegion, times(1)).put(eq(1L), eq(dog));
+	}
+
+	@Test
+	public void findByIdReturnsEmptyMonoWhenEntityIsNotFound() {
+
+		Region<Long, Animal> mockRegion = mockClientRegion("Animals");
+
+		assertThat(newRepository(mockRegion).findById(1L).blockOptional()).isEmpty();
+
+		verify(mockRegion, times(1)).get(eq(1L));
+	}
+
+	@Test
+	public void findAllFetchesEntitiesInChunks() {
+
+		Map<Long, Animal> animals = new LinkedHashMap<>();
+
+		animals.put(1L, newAnimal(1L, "bird"));
+		animals.put(2L, newAnimal(2L, "cat"));
+		animals.put(3L, newAnimal(3L, "dog"));
+
+		Region<Long, Animal> mockRegion = mockClientRegion("Animals");
+
+		doReturn(new LinkedHashSet<>(animals.keySet())).when(mockRegion).keySetOnServer();
+		stubGetAll(mockRegion, animals);
+
+		SimpleReactiveGemfireRepository<Animal, Long> repository = newRepository(mockRegion);
+
+		repository.setFetchSize(2);
+
+		List<Animal> foundAnimals = repository.findAll().collectList().block();
+
+		assertThat(foundAnimals).containsExactlyElementsOf(animals.values());
+
+		verify(mockRegion, times(1)).keySetOnServer();
+		verify(mockRegion, times(1)).getAll(eq(Arrays.asList(1L, 2L)));
+		verify(mockRegion, times(1)).getAll(eq(Arrays.asList(3L)));
+	}
+
+	@Test
+	public void findAllFetchesOnlyTheRequestedChunks() {
+
+		Map<Long, Animal> animals = new LinkedHashMap<>();
+
+		animals.put(1L, newAnimal(1L, "bird"));
+		animals.put(2L, newAnimal(2L, "cat"));
+		animals.put(3L, newAnimal(3L, "dog"));
+
+		Region<Long, Animal> mockRegion = mockClientRegion("Animals");
+
+		doReturn(new LinkedHashSet<>(animals.keySet())).when(mockRegion).keySetOnServer();
+		stubGetAll(mockRegion, animals);
+
+		SimpleReactiveGemfireRepository<Animal, Long> repository = newRepository(mockRegion);
+
+		repository.setFetchSize(2);
+
+		assertThat(repository.findAll().take(1).collectList().block()).containsExactly(animals.get(1L));
+
+		verify(mockRegion, times(1)).getAll(anyCollection());
+	}
+
+	@Test
+	public void findAllByIdPublisherFetchesEntitiesInChunks() {
+
+		Map<Long, Animal> animals = new LinkedHashMap<>();
+
+		animals.put(1L, newAnimal(1L, "bird"));
+		animals.put(2L, newAnimal(2L, "cat"));
+
+		Region<Long, Animal> mockRegion = mockClientRegion("Animals");
+
+		stubGetAll(mockRegion, animals);
+
+		SimpleReactiveGemfireRepository<Animal, Long> repository = newRepository(mockRegion);
+
+		repository.setFetchSize(1);
+
+		assertThat(repository.findAllById(Flux.just(1L, 2L)).collectList().block())
+			.containsExactlyElementsOf(animals.values());
+
+		verify(mockRegion, times(2)).getAll(anyCollection());
+	}
+}
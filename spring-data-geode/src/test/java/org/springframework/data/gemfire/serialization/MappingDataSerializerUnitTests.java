@@ -0,0 +1,253 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.serialization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.gemfire.mapping.GemfireMappingContext;
+import org.springframework.data.mapping.model.EntityInstantiators;
+
+/**
+ * Unit Tests for {@link MappingDataSerializer} and {@link MappingDataSerializerCodec}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.serialization.MappingDataSerializer
+ * @see org.springframework.data.gemfire.serialization.MappingDataSerializerCodec
+ * @since 2.7.0
+ */
+public class MappingDataSerializerUnitTests {
+
+	private GemfireMappingContext mappingContext;
+
+	@Before
+	public void setup() {
+		this.mappingContext = new GemfireMappingContext();
+	}
+
+	private MappingDataSerializerCodec newCodec(Class<?> type, int typeId) {
+		return MappingDataSerializerCodec.from(this.mappingContext.getRequiredPersistentEntity(type), typeId,
+			new EntityInstantiators());
+	}
+
+	@Test
+	public void codecWritesAndReadsEntity() throws Exception {
+
+		MappingDataSerializerCodec codec = newCodec(Customer.class, 1);
+
+		Customer customer = new Customer();
+
+		customer.setId(42L);
+		customer.setName("Jon Doe");
+		customer.setAge(21);
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+		codec.write(customer, new DataOutputStream(bytes));
+
+		// 1 byte null bitmap (id, name, score), 8 bytes id, 4 bytes age, plus the name
+		assertThat(bytes.size()).isLessThan(24);
+
+		Customer result = (Customer) codec.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+		assertThat(result).isNotSameAs(customer);
+		assertThat(result.getId()).isEqualTo(42L);
+		assertThat(result.getName()).isEqualTo("Jon Doe");
+		assertThat(result.getAge()).isEqualTo(21);
+		assertThat(result.getScore()).isNull();
+	}
+
+	@Test
+	public void codecWritesAndReadsEntityCreatedWithConstructorArguments() throws Exception {
+
+		MappingDataSerializerCodec codec = newCodec(Product.class, 2);
+
+		Product product = new Product(7L, "Widget");
+
+		product.setQuantity(3);
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+		codec.write(product, new DataOutputStream(bytes));
+
+		Product result = (Product) codec.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+		assertThat(result).isNotSameAs(product);
+		assertThat(result.getId()).isEqualTo(7L);
+		assertThat(result.getName()).isEqualTo("Widget");
+		assertThat(result.getQuantity()).isEqualTo(3);
+	}
+
+	@Test
+	public void serializerWritesTypeIdAndDispatchesToCodec() throws Exception {
+
+		MappingDataSerializer.registerCodec(newCodec(Customer.class, 7));
+
+		MappingDataSerializer dataSerializer = new MappingDataSerializer();
+
+		Customer customer = new Customer();
+
+		customer.setId(1L);
+		customer.setScore(99.5d);
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+		assertThat(dataSerializer.toData(customer, new DataOutputStream(bytes))).isTrue();
+		assertThat(dataSerializer.toData("test", new DataOutputStream(new ByteArrayOutputStream()))).isFalse();
+		assertThat(dataSerializer.getSupportedClasses()).contains(Customer.class);
+
+		Customer result = (Customer)
+			dataSerializer.fromData(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+		assertThat(result.getId()).isEqualTo(1L);
+		assertThat(result.getName()).isNull();
+		assertThat(result.getScore()).isEqualTo(99.5d);
+	}
+
+	@Test
+	public void registeringDuplicateTypeIdForDifferentTypeThrowsIllegalArgumentException() {
+
+		MappingDataSerializer.registerCodec(newCodec(Customer.class, 8));
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> MappingDataSerializer.registerCodec(newCodec(Order.class, 8)))
+			.withMessageContaining("Type ID [8]");
+	}
+
+	@Test
+	public void registeringCodecForRegisteredTypeReplacesCodec() throws Exception {
+
+		MappingDataSerializer.registerCodec(newCodec(Product.class, 11));
+		MappingDataSerializer.registerCodec(newCodec(Product.class, 12));
+
+		MappingDataSerializer dataSerializer = new MappingDataSerializer();
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+		assertThat(dataSerializer.toData(new Product(1L, "Widget"), new DataOutputStream(bytes))).isTrue();
+		assertThat(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())).readInt()).isEqualTo(12);
+
+		ByteArrayOutputStream staleTypeId = new ByteArrayOutputStream();
+
+		new DataOutputStream(staleTypeId).writeInt(11);
+
+		assertThatThrownBy(() ->
+				dataSerializer.fromData(new DataInputStream(new ByteArrayInputStream(staleTypeId.toByteArray()))))
+			.isInstanceOf(IOException.class)
+			.hasMessage("No entity type registered for type ID [11]");
+	}
+
+	public static class Customer {
+
+		@Id
+		private Long id;
+
+		private int age;
+
+		private Double score;
+
+		private String name;
+
+		public Long getId() {
+			return this.id;
+		}
+
+		public void setId(Long id) {
+			this.id = id;
+		}
+
+		public int getAge() {
+			return this.age;
+		}
+
+		public void setAge(int age) {
+			this.age = age;
+		}
+
+		public Double getScore() {
+			return this.score;
+		}
+
+		public void setScore(Double score) {
+			this.score = score;
+		}
+
+		public String getName() {
+			return this.name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+
+	public static class Order {
+
+		@Id
+		private Long id;
+
+		public Long getId() {
+			return this.id;
+		}
+
+		public void setId(Long id) {
+			this.id = id;
+		}
+	}
+
+	public static class Product {
+
+		@Id
+		private final Long id;
+
+		private final String name;
+
+		private int quantity;
+
+		public Product(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Long getId() {
+			return this.id;
+		}
+
+		public String getName() {
+			return this.name;
+		}
+
+		public int getQuantity() {
+			return this.quantity;
+		}
+
+		public void setQuantity(int quantity) {
+			this.quantity = quantity;
+		}
+	}
+}